@@ -0,0 +1,27 @@
+package com.sysmatic2.finalbe.admin.controller;
+
+import com.sysmatic2.finalbe.strategy.dto.SmScoreTop5SnapshotMetrics;
+import com.sysmatic2.finalbe.strategy.service.SmScoreTop5SnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/cache-metrics")
+@RequiredArgsConstructor
+@Tag(name = "Admin Cache Metrics Controller", description = "관리자 캐시 지표 조회 컨트롤러")
+public class CacheMetricsController {
+    private final SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+
+    //1. 홈 화면 SM-Score 상위 5개 위젯 스냅샷 지표 (생성 시간, 적중률)
+    @Operation(summary = "SM-Score 상위 5개 위젯 스냅샷 지표")
+    @GetMapping(value = "/sm-score-top5", produces = "application/json")
+    public ResponseEntity<SmScoreTop5SnapshotMetrics> getSmScoreTop5Metrics() {
+        return ResponseEntity.status(HttpStatus.OK).body(smScoreTop5SnapshotService.getMetrics());
+    }
+}
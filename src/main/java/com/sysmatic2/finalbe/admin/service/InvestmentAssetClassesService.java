@@ -8,6 +8,7 @@ import com.sysmatic2.finalbe.strategy.entity.StrategyIACEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyIACHistoryEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACHistoryRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -28,6 +29,7 @@ public class InvestmentAssetClassesService {
     private final InvestmentAssetClassesRepository iacRepository;
     private final StrategyIACRepository strategyIACRepository;
     private final StrategyIACHistoryRepository strategyIACHistoryRepository;
+    private final StrategyDataVersionService strategyDataVersionService;
 
     //1. 투자자산 분류 전체목록 메서드 페이지네이션, 소팅 적용
     @Transactional(readOnly = true)
@@ -122,6 +124,9 @@ public class InvestmentAssetClassesService {
             strategyIACHistoryRepository.save(historyEntity);
         }
 
+        //관련 전략의 데이터 버전 증가 (관계 데이터를 지우기 전에 대상 전략을 찾음)
+        strategyDataVersionService.incrementByInvestmentAssetClasses(id);
+
         //관계테이블에서 엔티티 삭제
         strategyIACRepository.deleteAll(relatedStrategyIACs);
 
@@ -153,6 +158,11 @@ public class InvestmentAssetClassesService {
         if(iacPayloadDto.getOrder() != null){
             iacEntity.setOrder(iacPayloadDto.getOrder());
         }
+        //이름, 아이콘이 바뀌면 관련 전략의 데이터 버전 증가 (전략 상세에 포함)
+        if(!Objects.equals(iacEntity.getInvestmentAssetClassesName(), iacPayloadDto.getInvestmentAssetClassesName())
+                || !Objects.equals(iacEntity.getInvestmentAssetClassesIcon(), iacPayloadDto.getInvestmentAssetClassesIcon())){
+            strategyDataVersionService.incrementByInvestmentAssetClasses(id);
+        }
         iacEntity.setInvestmentAssetClassesName(iacPayloadDto.getInvestmentAssetClassesName());
         iacEntity.setInvestmentAssetClassesIcon(iacPayloadDto.getInvestmentAssetClassesIcon());
 
@@ -5,12 +5,15 @@ import com.sysmatic2.finalbe.admin.entity.StrategyApprovalRequestsEntity;
 import com.sysmatic2.finalbe.admin.repository.StrategyApprovalRequestsRepository;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.member.service.TraderStatsService;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyHistoryEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyIACEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyHistoryRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyIACRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
+import com.sysmatic2.finalbe.strategy.service.StrategySearchIndexService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -33,6 +36,9 @@ public class StrategyApprovalRequestsService {
     private final MemberRepository memberRepository;
     private final StrategyHistoryRepository strategyHistoryRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategySearchIndexService strategySearchIndexService;
+    private final StrategyDataVersionService strategyDataVersionService;
+    private final TraderStatsService traderStatsService;
 
     //1. 전략 승인 요청 목록
     // 주기, 매매유형, 투자자산 분류, 전략명, 운용여부, 요청일시, 공개여부
@@ -88,6 +94,9 @@ public class StrategyApprovalRequestsService {
         strategyEntity.setIsApproved("Y");
         strategyEntity.setUpdaterId(adminId);
         strategyEntity.setUpdatedAt(LocalDateTime.now());
+        traderStatsService.refresh(strategyEntity.getWriterId()); // 작성자 전략 수/팔로워 수 집계 갱신
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //전략의 수정 이력을 기록한다.
         StrategyHistoryEntity strategyHistoryEntity = new StrategyHistoryEntity(strategyEntity, "STRATEGY_STATUS_UPDATED", changeStartDatetime);
@@ -118,6 +127,8 @@ public class StrategyApprovalRequestsService {
         strategyEntity.setUpdaterId(adminId);
         strategyEntity.setUpdatedAt(LocalDateTime.now());
         strategyRepository.save(strategyEntity);
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //해당 전략 수정 이력 저장
         StrategyHistoryEntity historyEntity = new StrategyHistoryEntity(strategyEntity, "STRATEGY_STATUS_UPDATED", changeStartDatetime);
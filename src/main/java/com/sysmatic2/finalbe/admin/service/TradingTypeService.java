@@ -9,6 +9,7 @@ import com.sysmatic2.finalbe.admin.repository.TradingTypeRepository;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.sysmatic2.finalbe.util.CreatePageResponse.createPageResponse;
 import static com.sysmatic2.finalbe.common.DtoEntityConversion.toDto;
@@ -30,6 +32,7 @@ import static com.sysmatic2.finalbe.common.DtoEntityConversion.toEntity;
 public class TradingTypeService {
     private final TradingTypeRepository tradingTypeRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategyDataVersionService strategyDataVersionService;
 
     @Transactional(readOnly = true)
     // 1. 매매유형 전체 목록을 가져오는 메서드
@@ -96,6 +99,9 @@ public class TradingTypeService {
         TradingTypeEntity tradingTypeEntity = tradingTypeRepository.findById(id)
                 .orElseThrow(() -> new TradingTypeNotFoundException(id));
 
+        // 1. 매매유형을 사용하는 전략의 데이터 버전 증가 (전략 상세의 매매유형 정보가 바뀜)
+        strategyDataVersionService.incrementByTradingType(id);
+
         // 2. 매매유형에 연결된 모든 전략 조회
         List<StrategyEntity> strategies = strategyRepository.findByTradingType(id);
 
@@ -141,6 +147,12 @@ public class TradingTypeService {
                     });
         }
 
+        // 이름, 아이콘이 바뀌면 매매유형을 사용하는 전략의 데이터 버전 증가 (전략 상세에 포함)
+        if (!Objects.equals(existingTradingTypeEntity.getTradingTypeName(), tradingTypeAdminRequestDto.getTradingTypeName())
+                || !Objects.equals(existingTradingTypeEntity.getTradingTypeIcon(), tradingTypeAdminRequestDto.getTradingTypeIcon())) {
+            strategyDataVersionService.incrementByTradingType(id);
+        }
+
         // 업데이트할 필드 설정
         existingTradingTypeEntity.setTradingTypeOrder(tradingTypeAdminRequestDto.getTradingTypeOrder());
         existingTradingTypeEntity.setTradingTypeName(tradingTypeAdminRequestDto.getTradingTypeName());
@@ -0,0 +1,146 @@
+package com.sysmatic2.finalbe.common;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회의 전체 개수(count 쿼리 결과) 캐시.
+ *
+ * - 키는 "네임스페이스:정규화된 필터" 형태의 시그니처이며, 같은 필터의 2페이지 이후 요청과 반복 요청은 count 쿼리를 다시 실행하지 않습니다.
+ * - 무효화는 네임스페이스 단위 세대(generation) 증가로 처리합니다. (전략 승인/공개/통계 변경 시 "strategies" 무효화)
+ * - 무효화되었거나 TTL이 지난 값은 한 요청만 다시 세고, 그동안 같은 필터의 다른 요청은 이전 값(근사치)을 받습니다.
+ *   단, 이전 값이 허용 최대 경과 시간보다 오래되었으면 근사치 대신 직접 다시 셉니다.
+ */
+@Component
+public class ListingCountCache {
+    public static final String STRATEGIES = "strategies"; // 전략 목록 네임스페이스
+    public static final String TRADERS = "traders";       // 트레이더 목록 네임스페이스
+
+    private final long ttlMillis;      // 무효화가 없을 때 값을 그대로 사용할 시간
+    private final long maxStaleMillis; // 다시 세는 동안 이전 값을 근사치로 내려줄 수 있는 최대 경과 시간
+    private final int maxEntries;      // 최대 시그니처 수 (초과 시 전체 비움)
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ListingCountCache(@Value("${listing.count-cache.ttl-millis:60000}") long ttlMillis,
+                             @Value("${listing.count-cache.max-stale-millis:300000}") long maxStaleMillis,
+                             @Value("${listing.count-cache.max-entries:10000}") int maxEntries) {
+        this(ttlMillis, maxStaleMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    public ListingCountCache(long ttlMillis, long maxStaleMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxStaleMillis = Math.max(ttlMillis, maxStaleMillis);
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 시그니처에 해당하는 전체 개수를 반환하고, 없거나 오래된 경우 counter로 다시 셉니다.
+     *
+     * @param namespace 네임스페이스 (무효화 단위)
+     * @param signature 정규화된 필터 시그니처
+     * @param counter   count 쿼리
+     * @return 전체 개수 (다른 요청이 다시 세는 중이면 이전 값)
+     */
+    public long getOrCount(String namespace, String signature, LongSupplier counter) {
+        String key = namespace + ":" + signature;
+        long generation = generation(namespace).get(); // 세는 도중 무효화되면 저장된 값은 바로 오래된 값이 됨
+        long now = clock.getAsLong();
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = now - entry.computedAt;
+            if (entry.generation == generation && age < ttlMillis) {
+                return entry.count;
+            }
+            if (age < maxStaleMillis && !entry.recounting.compareAndSet(false, true)) {
+                // 다른 요청이 다시 세는 중 - 근사치 반환
+                return entry.count;
+            }
+        }
+
+        long count;
+        try {
+            count = counter.getAsLong();
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                entry.recounting.set(false);
+            }
+            throw e;
+        }
+
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(count, generation, now));
+        return count;
+    }
+
+    /**
+     * 네임스페이스의 모든 개수를 무효화합니다. (다음 조회부터 다시 셈)
+     *
+     * @param namespace 네임스페이스
+     */
+    public void invalidate(String namespace) {
+        generation(namespace).incrementAndGet();
+    }
+
+    /**
+     * 네임스페이스의 모든 개수를 커밋 후 무효화합니다. (트랜잭션 밖에서는 즉시 무효화)
+     * - 커밋 전에 무효화하면 그 사이 다시 센 이전 개수가 새 값으로 저장될 수 있으므로 커밋 후에 처리합니다.
+     *
+     * @param namespace 네임스페이스
+     */
+    public void invalidateAfterCommit(String namespace) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(namespace);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(namespace);
+            }
+        });
+    }
+
+    /**
+     * 저장된 시그니처 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private AtomicLong generation(String namespace) {
+        return generations.computeIfAbsent(namespace, key -> new AtomicLong());
+    }
+
+    /**
+     * 캐시된 개수와 계산 시점
+     */
+    private static class Entry {
+        private final long count;
+        private final long generation;
+        private final long computedAt;
+        private final AtomicBoolean recounting = new AtomicBoolean(false);
+
+        private Entry(long count, long generation, long computedAt) {
+            this.count = count;
+            this.generation = generation;
+            this.computedAt = computedAt;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sysmatic2.finalbe.config;
+
+import com.sysmatic2.finalbe.strategy.common.ChartFrameHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 전략 차트 바이너리 프레임 컨버터 등록
+     * - 기본 컨버터 뒤에 추가하므로 Accept가 없거나 JSON/와일드카드이면 기존처럼 JSON으로 응답합니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ChartFrameHttpMessageConverter());
+    }
+}
@@ -10,7 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = { // 트레이더 목록 정렬용 (등급, 상태 조건 + 정렬 키)
+        @Index(name = "idx_member_trader_strategy_cnt", columnList = "member_grade_code, member_status_code, strategy_cnt"),
+        @Index(name = "idx_member_trader_total_followers_cnt", columnList = "member_grade_code, member_status_code, total_followers_cnt"),
+        @Index(name = "idx_member_total_followers_cnt", columnList = "total_followers_cnt") // 팔로우 랭킹용 (등급, 상태 조건 없음)
+})
 @Getter
 @Setter
 @ToString(exclude = "memberTermList")
@@ -76,6 +80,15 @@ public class MemberEntity extends Auditable {
     @Column(name = "notes")
     private String notes;  // 비고 (탈퇴사유 등 참고사항)
 
+    // 트레이더 집계 (공개·승인 전략 기준) - 엔티티 저장으로는 변경하지 않고 TraderStatsService의 일괄 UPDATE로만 갱신
+    @Column(name = "strategy_cnt", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "int not null default 0")
+    private Integer strategyCnt = 0;  // 공개·승인 전략 수
+
+    @Column(name = "total_followers_cnt", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private Long totalFollowersCnt = 0L;  // 공개·승인 전략 팔로워 수 합계
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MemberTermEntity> memberTermList = new ArrayList<>();
 
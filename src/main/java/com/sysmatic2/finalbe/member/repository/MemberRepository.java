@@ -7,6 +7,7 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -47,6 +48,47 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String>, M
             "AND m.memberStatusCode = 'ACTIVE' ")
     Page<MemberEntity> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    //활성 트레이더 ID, 닉네임 목록 (트레이더 닉네임 색인 적재용)
+    @Query("SELECT m.memberId, m.nickname FROM MemberEntity m " +
+            "WHERE m.memberGradeCode = 'MEMBER_ROLE_TRADER' " +
+            "AND m.memberStatusCode = 'ACTIVE' ")
+    List<Object[]> findActiveTraderNicknames();
+
+    //트레이더 팔로워 수 합계 증감 (공개·승인 전략의 팔로우/언팔로우)
+    @Modifying
+    @Query("UPDATE MemberEntity m SET m.totalFollowersCnt = m.totalFollowersCnt + :delta " +
+            "WHERE m.memberId = :memberId")
+    int addTotalFollowersCnt(@Param("memberId") String memberId, @Param("delta") long delta);
+
+    //트레이더 집계 재계산 (전략 승인/공개/삭제 등 집계 대상이 바뀐 경우)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberEntity m SET " +
+            "m.strategyCnt = (SELECT COUNT(s) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y'), " +
+            "m.totalFollowersCnt = (SELECT COALESCE(SUM(s.followersCount), 0) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y') " +
+            "WHERE m.memberId = :memberId")
+    int refreshTraderStats(@Param("memberId") String memberId);
+
+    //집계가 실제 전략과 다른 회원만 재계산 (정합성 보정 작업)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberEntity m SET " +
+            "m.strategyCnt = (SELECT COUNT(s) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y'), " +
+            "m.totalFollowersCnt = (SELECT COALESCE(SUM(s.followersCount), 0) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y') " +
+            "WHERE m.strategyCnt <> (SELECT COUNT(s) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y') " +
+            "OR m.totalFollowersCnt <> (SELECT COALESCE(SUM(s.followersCount), 0) FROM StrategyEntity s " +
+            "WHERE s.writerId = m.memberId AND s.isApproved = 'Y' AND s.isPosted = 'Y')")
+    int reconcileTraderStats();
+
+    //팔로워 수 합계 상위 작성자 (등급·상태와 관계없이 공개·승인 전략이 있는 회원, 집계 컬럼 인덱스로 정렬)
+    @Query("SELECT m FROM MemberEntity m " +
+            "WHERE m.strategyCnt > 0 " +
+            "ORDER BY m.totalFollowersCnt DESC, m.memberId ASC")
+    List<MemberEntity> findTopTradersByTotalFollowersCnt(Pageable pageable);
+
     //회원 등급별 인원수
     Long countBymemberGradeCode(String gradeCode);
 }
\ No newline at end of file
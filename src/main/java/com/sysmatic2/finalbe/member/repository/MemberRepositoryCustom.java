@@ -5,7 +5,12 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface MemberRepositoryCustom {
     // 트레이더 닉네임과 정렬조건으로 조회
     Page<TraderSearchResultDto> searchByKeywordWithSorting(String keyword, String sortOption, Pageable pageable);
+
+    // 회원 ID 목록(닉네임 색인 검색 결과)으로 정렬조건에 따라 조회 - "relevance"는 목록 순서 그대로
+    Page<TraderSearchResultDto> searchByMemberIdsWithSorting(List<String> memberIds, String sortOption, Pageable pageable);
 }
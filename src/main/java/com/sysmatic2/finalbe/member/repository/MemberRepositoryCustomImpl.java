@@ -1,10 +1,11 @@
 package com.sysmatic2.finalbe.member.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.querydsl.jpa.JPQLQuery;
+import com.sysmatic2.finalbe.common.ListingCountCache;
 import com.sysmatic2.finalbe.member.dto.TraderSearchResultDto;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.entity.QMemberEntity;
@@ -15,14 +16,22 @@ import org.springframework.data.domain.Pageable;
 import jakarta.persistence.EntityManager;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+    private static final String RELEVANCE_SORT_OPTION = "relevance"; // 닉네임 관련도순 (색인 검색 결과 순서)
 
     private final JPAQueryFactory queryFactory;
+    private final ListingCountCache listingCountCache;
 
     // EntityManager를 주입받아 JPAQueryFactory 초기화
-    public MemberRepositoryCustomImpl(EntityManager entityManager) {
+    public MemberRepositoryCustomImpl(EntityManager entityManager, ListingCountCache listingCountCache) {
         this.queryFactory = new JPAQueryFactory(entityManager);
+        this.listingCountCache = listingCountCache;
     }
 
     @Override
@@ -31,57 +40,103 @@ public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
         if(keyword == null) keyword = "";
 
-        // QueryDSL에서 정렬 조건 생성
-        OrderSpecifier<?> sortOrder;
-        if ("latestSignup".equalsIgnoreCase(sortOption)) {
-            // 최신 가입일순 정렬
-            sortOrder = member.signupAt.desc();
-        } else if("strategyCnt".equalsIgnoreCase(sortOption)){
-            // 기본: 전략 수가 많은 순 정렬
-            sortOrder = Expressions.numberTemplate(Integer.class,
-                    "(SELECT COUNT(s.strategyId) FROM StrategyEntity s WHERE s.writerId = {0} AND s.isApproved = 'Y')",
-                    member.memberId).desc();
-        } else {
-            sortOrder = Expressions.numberTemplate(Integer.class,
-                    "(SELECT COALESCE(SUM(s.followersCount), 0) " +
-                            "FROM StrategyEntity s " +
-                            "WHERE s.writerId = {0} AND s.isApproved = 'Y' AND s.isPosted = 'Y')",
-                    member.memberId).desc();
-        }
+        // 검색 조건 (목록 조회와 전체 개수 조회에 공통 사용)
+        BooleanExpression condition = member.nickname.containsIgnoreCase(keyword)
+                .and(member.memberGradeCode.eq("MEMBER_ROLE_TRADER"))
+                .and(member.memberStatusCode.eq("ACTIVE"));
 
         // QueryDSL 쿼리 작성
-        JPQLQuery<TraderSearchResultDto> query = queryFactory
+        JPQLQuery<TraderSearchResultDto> query = selectTraders(member)
+                .where(condition)
+                .orderBy(traderSortOrder(member, sortOption));
+
+        // 페이징 처리 - 전체 개수는 정렬/서브쿼리 없이 회원 테이블만 세고, 같은 키워드는 캐시된 개수 사용
+        long total = listingCountCache.getOrCount(ListingCountCache.TRADERS,
+                "keyword=" + keyword.toLowerCase(Locale.ROOT),
+                () -> queryFactory
+                        .select(member.count())
+                        .from(member)
+                        .where(condition)
+                        .fetchOne());
+        List<TraderSearchResultDto> content = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public Page<TraderSearchResultDto> searchByMemberIdsWithSorting(List<String> memberIds, String sortOption, Pageable pageable) {
+        QMemberEntity member = QMemberEntity.memberEntity;
+
+        if (memberIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        BooleanExpression traderCondition = member.memberGradeCode.eq("MEMBER_ROLE_TRADER")
+                .and(member.memberStatusCode.eq("ACTIVE"));
+
+        // 관련도순 - 전달받은 순서대로 현재 페이지의 회원만 조회
+        if (RELEVANCE_SORT_OPTION.equalsIgnoreCase(sortOption)) {
+            int from = (int) Math.min(memberIds.size(), pageable.getOffset());
+            int to = Math.min(memberIds.size(), from + pageable.getPageSize());
+            List<String> pageIds = memberIds.subList(from, to);
+            if (pageIds.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, memberIds.size());
+            }
+
+            Map<String, TraderSearchResultDto> traderMap = selectTraders(member)
+                    .where(member.memberId.in(pageIds).and(traderCondition))
+                    .fetch().stream()
+                    .collect(Collectors.toMap(TraderSearchResultDto::getMemberId, Function.identity()));
+            List<TraderSearchResultDto> content = pageIds.stream()
+                    .map(traderMap::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageable, memberIds.size());
+        }
+
+        // 그 외 - 기존 정렬 조건으로 조회 (전체 개수는 회원 ID 목록 크기)
+        List<TraderSearchResultDto> content = selectTraders(member)
+                .where(member.memberId.in(memberIds).and(traderCondition))
+                .orderBy(traderSortOrder(member, sortOption))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(content, pageable, memberIds.size());
+    }
+
+    /**
+     * 트레이더 검색 결과 DTO 조회 쿼리 (전략 수, 팔로워 수는 회원 테이블의 집계 컬럼 사용)
+     */
+    private JPQLQuery<TraderSearchResultDto> selectTraders(QMemberEntity member) {
+        return queryFactory
                 .select(Projections.constructor(
                         TraderSearchResultDto.class,
                         member.memberId,                          // 트레이더 ID
                         member.nickname,                          // 닉네임
                         member.introduction,                      // 자기소개
                         member.profilePath,                       // 프로필 이미지 링크
-                        Expressions.numberTemplate(Integer.class, // 전략 수 서브쿼리
-                                "(SELECT COUNT(s.strategyId) FROM StrategyEntity s WHERE s.writerId = {0} AND s.isApproved = 'Y' AND s.isPosted = 'Y')",
-                                member.memberId),
-                        Expressions.numberTemplate(Integer.class,
-                                "(SELECT COALESCE(SUM(s.followersCount), 0) " +
-                                        "FROM StrategyEntity s " +
-                                        "WHERE s.writerId = {0} AND s.isApproved = 'Y' AND s.isPosted = 'Y')",
-                                member.memberId)
-
+                        member.strategyCnt,                       // 공개·승인 전략 수
+                        member.totalFollowersCnt.intValue()       // 공개·승인 전략 팔로워 수 합계
                 ))
-                .from(member)
-                .where(
-                        member.nickname.containsIgnoreCase(keyword)
-                                .and(member.memberGradeCode.eq("MEMBER_ROLE_TRADER"))
-                                .and(member.memberStatusCode.eq("ACTIVE"))
-                )
-                .orderBy(sortOrder);
-
-        // 페이징 처리
-        long total = query.fetchCount();
-        List<TraderSearchResultDto> content = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .from(member);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    /**
+     * 정렬 옵션에 따른 정렬 조건 생성 (등급, 상태 + 집계 컬럼 인덱스로 정렬)
+     */
+    private OrderSpecifier<?> traderSortOrder(QMemberEntity member, String sortOption) {
+        if ("latestSignup".equalsIgnoreCase(sortOption)) {
+            // 최신 가입일순 정렬
+            return member.signupAt.desc();
+        } else if("strategyCnt".equalsIgnoreCase(sortOption)){
+            // 전략 수가 많은 순 정렬
+            return member.strategyCnt.desc();
+        }
+        // 기본: 팔로워 수가 많은 순 정렬
+        return member.totalFollowersCnt.desc();
     }
-}
\ No newline at end of file
+}
@@ -12,10 +12,12 @@ import com.sysmatic2.finalbe.member.repository.FollowingStrategyFolderRepository
 import com.sysmatic2.finalbe.member.repository.FollowingStrategyRepository;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
 import com.sysmatic2.finalbe.strategy.dto.AdvancedSearchResultDto;
-import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
-import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.entity.StrategyLatestStatsEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategyLatestStatsService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
+import com.sysmatic2.finalbe.strategy.service.StrategySearchIndexService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -36,8 +38,11 @@ public class FollowingStrategyService {
     private final FollowingStrategyRepository followingStrategyRepository;
     private final StrategyRepository strategyRepository;
     private final FollowingStrategyFolderRepository followingStrategyFolderRepository;
-    private final DailyStatisticsRepository dailyStatisticsRepository;
     private final MemberRepository memberRepository;
+    private final StrategyLatestStatsService strategyLatestStatsService;
+    private final StrategySearchIndexService strategySearchIndexService;
+    private final StrategyDataVersionService strategyDataVersionService;
+    private final TraderStatsService traderStatsService;
 
 
     //폴더별 관심전략 목록 조회 서비스
@@ -86,19 +91,10 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
     Page<StrategyEntity> strategyPage = strategyRepository.findByStrategyIdsOrderBySmScore(strategyIds, pageable);
 
     // 4. 각 전략의 최신 일간 통계 데이터 가져오기
-    List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-    Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-            .collect(Collectors.toMap(
-                    stat -> stat.getStrategyEntity().getStrategyId(),
-                    stat -> stat
-            ));
-
-    // 5. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-    Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-            .collect(Collectors.toMap(
-                    strategyId -> strategyId, // 전략 ID를 키로 사용
-                    strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-            ));
+    Map<Long, StrategyLatestStatsEntity> latestStatisticsMap = strategyLatestStatsService.getLatestStatisticsMap(strategyIds);
+
+    // 5. 누적 수익률 스파크라인 가져오기 (고정 크기로 다운샘플링된 데이터)
+    Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyLatestStatsService.getSparklineMap(strategyIds, latestStatisticsMap);
 
     // 6. DTO 생성
     List<AdvancedSearchResultDto> dtoList = strategyPage.stream()
@@ -120,7 +116,7 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
                 );
 
                 // 최신 일간 통계 데이터 추가
-                DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
+                StrategyLatestStatsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
                 if (latestStatistics != null) {
                     dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
                     dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
@@ -191,6 +187,9 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
         //관심전략 등록하면 전략의 follower_count 수 증가해줘야함
         strategyEntity.incrementFollowersCount();
         strategyRepository.save(strategyEntity);
+        traderStatsService.applyFollowerDelta(strategyEntity, 1);
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         ResponseDto.setFolderId(requestDto.getFolderId());
         ResponseDto.setStrategyId(requestDto.getStrategyId());
@@ -249,7 +248,11 @@ public Map<String, Object> getStrategiesByFolder(List<Long> strategyIds, Integer
         followingStrategyRepository.deleteByStrategyAndMember(strategyEntity,member);
 
         //관심전략 삭제하면 전략의 follower_count 수 감소시켜줘야함
+        long previousFollowersCount = strategyEntity.getFollowersCount();
         strategyEntity.decrementFollowersCount();
+        traderStatsService.applyFollowerDelta(strategyEntity, strategyEntity.getFollowersCount() - previousFollowersCount);
+        strategyDataVersionService.increment(strategyId);
+        strategySearchIndexService.markChanged(strategyId);
     }
 
 
@@ -3,15 +3,22 @@ package com.sysmatic2.finalbe.member.service;
 import com.sysmatic2.finalbe.exception.MemberNotFoundException;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.service.SmScoreTop5SnapshotService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MemberHelper {
 
     private final MemberRepository memberRepository;
+    private final SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+    private final StrategyDataVersionService strategyDataVersionService;
 
-    public MemberHelper(MemberRepository memberRepository) {
+    public MemberHelper(MemberRepository memberRepository, SmScoreTop5SnapshotService smScoreTop5SnapshotService,
+                        StrategyDataVersionService strategyDataVersionService) {
         this.memberRepository = memberRepository;
+        this.smScoreTop5SnapshotService = smScoreTop5SnapshotService;
+        this.strategyDataVersionService = strategyDataVersionService;
     }
 
     public void initMemberFileId(String uploaderId, String fileId, String filePath) {
@@ -20,5 +27,7 @@ public class MemberHelper {
         memberEntity.setFileId(fileId);
         memberEntity.setProfilePath(filePath);
         memberRepository.save(memberEntity);
+        smScoreTop5SnapshotService.onMemberChanged(uploaderId); // 홈 화면 위젯의 작성자 프로필 사진
+        strategyDataVersionService.incrementByWriter(uploaderId); // 전략 상세의 작성자 프로필 사진
     }
 }
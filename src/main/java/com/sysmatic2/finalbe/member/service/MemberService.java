@@ -8,9 +8,12 @@ import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.entity.MemberTermEntity;
 import com.sysmatic2.finalbe.member.enums.TermType;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.service.SmScoreTop5SnapshotService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import com.sysmatic2.finalbe.strategy.service.StrategyReviewService;
 import com.sysmatic2.finalbe.strategy.service.StrategyService;
 import com.sysmatic2.finalbe.common.DtoEntityConversion;
+import com.sysmatic2.finalbe.common.ListingCountCache;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -39,6 +42,12 @@ public class MemberService {
     private final ConsultationService consultationsService;
     private final FileService fileService;
     private final StrategyReviewService strategyReviewService;
+    private final ListingCountCache listingCountCache;
+    private final TraderNicknameIndexService traderNicknameIndexService;
+    private final SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+    private final StrategyDataVersionService strategyDataVersionService;
+
+    private static final int MAX_INDEXED_TRADER_IDS = 1000; // 닉네임 색인 결과를 IN 조건으로 넘길 최대 회원 수
 
     @Transactional
     public void signup(SignupDTO signupDTO) {
@@ -83,6 +92,12 @@ public class MemberService {
         if ("INVESTOR".equals(signupDTO.getMemberType())) {
             fsFolderService.createDefaultFolder(member);
         }
+
+        // 트레이더 가입 시 트레이더 목록 개수 무효화
+        if ("TRADER".equals(signupDTO.getMemberType())) {
+            listingCountCache.invalidateAfterCommit(ListingCountCache.TRADERS);
+            traderNicknameIndexService.markChanged(member.getMemberId());
+        }
     }
 
     // 확인 비밀번호 값이 일치하는지 확인하는 메소드
@@ -201,6 +216,10 @@ public class MemberService {
         if (!member.getNickname().equals(updateNickname)) {  // 현재 닉네임과 새로운 닉네임이 다르면 중복 검사 진행
             duplicateNicknameCheck(updateNickname);
             member.setNickname(updateNickname);
+            listingCountCache.invalidateAfterCommit(ListingCountCache.TRADERS); // 닉네임 검색 결과 개수 변경
+            traderNicknameIndexService.markChanged(memberId);
+            smScoreTop5SnapshotService.onMemberChanged(memberId); // 홈 화면 위젯의 작성자 닉네임
+            strategyDataVersionService.incrementByWriter(memberId); // 전략 상세의 작성자 닉네임
         }
 
         // 조회한 회원에 수정할 값 입력 후 저장
@@ -284,7 +303,7 @@ public class MemberService {
      * 키워드로 트레이더를 검색하고, 정렬 조건에 따라 결과 반환
      *
      * @param keyword    검색 키워드 (트레이더 닉네임의 일부 또는 전체)
-     * @param sortOption 정렬 옵션 ("latestSignup"이면 최신 가입일 순, 기본값은 전략 수 많은 순)
+     * @param sortOption 정렬 옵션 ("latestSignup"이면 최신 가입일 순, "relevance"면 닉네임 관련도 순, 기본값은 전략 수 많은 순)
      * @param page       현재 페이지 번호 (0부터 시작)
      * @param pageSize   페이지 크기 (한 페이지에 포함될 데이터 수)
      * @return 페이징된 트레이더 검색 결과를 Map 형식으로 반환
@@ -296,7 +315,11 @@ public class MemberService {
         Pageable pageable = PageRequest.of(page, pageSize);
 
         // 검색된 결과와 정렬 조건에 따라 DTO 페이지 가져오기
-        Page<TraderSearchResultDto> dtoPage = memberRepository.searchByKeywordWithSorting(keyword, sortOption, pageable);
+        // 키워드가 있으면 닉네임 색인으로 회원 ID를 찾고, 색인 적재 전이거나 결과가 너무 많으면 DB(LIKE)에서 조회
+        List<String> traderIds = keyword == null || keyword.isEmpty() ? null : traderNicknameIndexService.search(keyword);
+        Page<TraderSearchResultDto> dtoPage = traderIds != null && traderIds.size() <= MAX_INDEXED_TRADER_IDS
+                ? memberRepository.searchByMemberIdsWithSorting(traderIds, sortOption, pageable)
+                : memberRepository.searchByKeywordWithSorting(keyword, sortOption, pageable);
 
         // 결과를 페이징 응답 형식으로 반환
         return createPageResponse(dtoPage);
@@ -321,6 +344,8 @@ public class MemberService {
             // 회원 ID로 저장된 나의전략을 모두 삭제한다.
             // 연관된 테이블 : 전략이력, 전략제안서, 실계좌인증, 전략승인요청, 일간통계, 월간통계, 관심전략, 상담, 리뷰, 관계테이블, 관계테이블이력
             strategyService.deleteStrategiesByWriter(member);
+            listingCountCache.invalidateAfterCommit(ListingCountCache.TRADERS);
+            traderNicknameIndexService.markChanged(memberId);
         }
 
         // 3. 공통
@@ -0,0 +1,112 @@
+package com.sysmatic2.finalbe.member.service;
+
+import com.sysmatic2.finalbe.member.entity.MemberEntity;
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.util.NGramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 트레이더 닉네임 키워드 검색용 N-gram 색인({@link NGramIndex}) 관리 서비스.
+ *
+ * - 애플리케이션 시작 시 활성 트레이더 전체로 색인을 적재하고, 이후에는 가입/닉네임 변경/탈퇴한 회원만 커밋 후 반영합니다.
+ * - 색인은 인스턴스별 메모리에 있으므로 다른 인스턴스의 변경은 주기적인 전체 재적재로 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TraderNicknameIndexService {
+    private static final String TRADER_GRADE_CODE = "MEMBER_ROLE_TRADER";
+    private static final String ACTIVE_STATUS_CODE = "ACTIVE";
+
+    private final MemberRepository memberRepository;
+
+    private final NGramIndex<String> index = new NGramIndex<>();
+    private volatile boolean ready = false; // 최초 적재 완료 여부
+
+    /**
+     * 활성 트레이더 전체로 색인을 다시 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<String, String> nicknames = new HashMap<>();
+        for (Object[] row : memberRepository.findActiveTraderNicknames()) {
+            nicknames.put((String) row[0], (String) row[1]);
+        }
+        index.rebuild(nicknames);
+        ready = true;
+        log.info("trader nickname index loaded: {} traders", nicknames.size());
+    }
+
+    /**
+     * 주기적으로 전체 재적재하여 다른 인스턴스의 변경을 맞춥니다.
+     */
+    @Scheduled(initialDelayString = "${member.trader-index.rebuild-interval-millis:600000}",
+            fixedDelayString = "${member.trader-index.rebuild-interval-millis:600000}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 닉네임에 키워드가 포함된 활성 트레이더 ID를 관련도 순으로 반환합니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 관련도 순 회원 ID 목록 (색인 적재 전이면 null)
+     */
+    public List<String> search(String keyword) {
+        return ready ? index.search(keyword) : null;
+    }
+
+    /**
+     * 회원이 변경되었음을 표시합니다. (가입, 닉네임 변경, 탈퇴)
+     * - 트랜잭션 안에서는 커밋 후, 트랜잭션 밖에서는 즉시 회원을 다시 읽어 반영합니다.
+     *
+     * @param memberId 변경된 회원 ID
+     */
+    public void markChanged(String memberId) {
+        if (memberId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    refresh(memberId);
+                } catch (RuntimeException e) {
+                    // 커밋은 이미 끝났으므로 요청은 실패시키지 않고, 주기적인 전체 재적재에서 맞춥니다.
+                    log.error("trader nickname index refresh failed: {}", memberId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 회원을 다시 읽어 색인에 반영합니다. (활성 트레이더가 아니거나 없는 회원은 제거)
+     */
+    private void refresh(String memberId) {
+        MemberEntity member = memberRepository.findById(memberId).orElse(null);
+        if (member != null && TRADER_GRADE_CODE.equals(member.getMemberGradeCode())
+                && ACTIVE_STATUS_CODE.equals(member.getMemberStatusCode())) {
+            index.put(memberId, member.getNickname());
+        } else {
+            index.remove(memberId);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.sysmatic2.finalbe.member.service;
+
+import com.sysmatic2.finalbe.member.entity.MemberEntity;
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.dto.FollowingRankingResponseDto;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 트레이더 집계(회원 테이블의 strategy_cnt, total_followers_cnt) 관리 서비스.
+ *
+ * - 트레이더 목록의 전략 수/팔로워 수 정렬과 팔로워 랭킹을 회원별 서브쿼리 대신 인덱스 컬럼으로 처리하기 위한 비정규화 값입니다.
+ * - 집계 대상은 공개(Y) + 승인(Y) 전략입니다.
+ * - 팔로우/언팔로우는 증감 UPDATE(행 잠금으로 동시 요청도 누락 없음), 승인/공개/삭제처럼 집계 대상이 바뀌는 변경은
+ *   해당 트레이더만 다시 계산합니다. 둘 다 호출한 서비스의 트랜잭션 안에서 실행되므로 전략 변경과 함께 커밋/롤백됩니다.
+ * - 누락된 경로나 직접 수정된 데이터로 생긴 차이는 주기적인 정합성 보정 작업이 맞춥니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TraderStatsService {
+    private final MemberRepository memberRepository;
+    private final StrategyLatestStatsRepository strategyLatestStatsRepository;
+
+    /**
+     * 전략의 팔로워 수 변경을 작성자 집계에 반영합니다. (공개·승인 전략만)
+     *
+     * @param strategy 팔로워 수가 바뀐 전략
+     * @param delta    팔로워 수 변화량
+     */
+    @Transactional
+    public void applyFollowerDelta(StrategyEntity strategy, long delta) {
+        if (delta == 0 || strategy.getWriterId() == null
+                || !"Y".equals(strategy.getIsApproved()) || !"Y".equals(strategy.getIsPosted())) {
+            return;
+        }
+        memberRepository.addTotalFollowersCnt(strategy.getWriterId(), delta);
+    }
+
+    /**
+     * 트레이더의 집계를 전략 테이블 기준으로 다시 계산합니다. (대기 중인 전략 변경을 먼저 반영)
+     *
+     * @param writerId 트레이더 회원 ID
+     */
+    @Transactional
+    public void refresh(String writerId) {
+        if (writerId == null) {
+            return;
+        }
+        memberRepository.refreshTraderStats(writerId);
+    }
+
+    /**
+     * 팔로워 수 합계 기준 상위 트레이더 목록을 반환합니다.
+     * - 기존 랭킹과 같이 회원 등급·상태와 관계없이 공개·승인 전략이 있는 작성자 전체가 대상입니다.
+     * - 상위 size명은 집계 컬럼 인덱스로 조회하고, 누적손익 합계는 해당 트레이더의 최신 통계 스냅샷만 합산합니다.
+     *
+     * @param size 조회할 트레이더 수
+     * @return 상위 트레이더 목록(data)과 조회 시각(timestamp)을 담은 Map
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFollowerRanking(int size) {
+        // 1. 팔로워 수 합계 상위 size명
+        List<MemberEntity> traders = memberRepository.findTopTradersByTotalFollowersCnt(PageRequest.of(0, size));
+
+        // 2. 누적손익 합계 일괄 조회
+        Map<String, BigDecimal> profitLossMap = traders.isEmpty() ? Map.of()
+                : strategyLatestStatsRepository.sumCumulativeProfitLossByWriterIds(
+                        traders.stream().map(MemberEntity::getMemberId).toList()).stream()
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (BigDecimal) row[1]));
+
+        // 3. DTO 생성
+        List<FollowingRankingResponseDto> dtoList = traders.stream()
+                .map(member -> new FollowingRankingResponseDto(
+                        member.getMemberId(),
+                        member.getNickname(),
+                        member.getProfilePath(),
+                        member.getIntroduction(),
+                        member.getStrategyCnt(),
+                        Math.toIntExact(member.getTotalFollowersCnt()),
+                        profitLossMap.getOrDefault(member.getMemberId(), BigDecimal.ZERO)
+                ))
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", dtoList);
+        response.put("timestamp", Instant.now());
+        return response;
+    }
+
+    /**
+     * 집계가 실제 전략과 다른 트레이더를 찾아 보정합니다.
+     *
+     * @return 보정된 회원 수
+     */
+    @Scheduled(initialDelayString = "${member.trader-stats.reconcile-interval-millis:3600000}",
+            fixedDelayString = "${member.trader-stats.reconcile-interval-millis:3600000}")
+    @Transactional
+    public int reconcile() {
+        int repaired = memberRepository.reconcileTraderStats();
+        if (repaired > 0) {
+            log.info("trader stats reconciled: {} members repaired", repaired);
+        }
+        return repaired;
+    }
+}
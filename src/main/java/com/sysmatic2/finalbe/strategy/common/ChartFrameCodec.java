@@ -0,0 +1,291 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전략 상세 차트 응답({@link DailyStatisticsChartResponseDto})의 바이너리 프레임 인코더/디코더.
+ *
+ * - Accept: {@value #MEDIA_TYPE} 요청에 JSON 대신 내려주는 형식입니다. (정수는 빅엔디안)
+ * - 프레임 = 헤더 9바이트(매직 "CHRT" 4, 형식 버전 1, 본문 길이 int32 4) + 본문
+ * - 본문
+ *   1. 조회 시각 epoch millis (int64, 없으면 -1), 전체 데이터 수, 점 수 n, 계열 수 (varint)
+ *   2. 날짜: 첫 날짜의 epoch day (zigzag varint) + 이후 n - 1개의 직전 날짜와의 차이 (varint)
+ *   3. 계열마다: 이름 (varint 길이 + UTF-8), 값 인코딩 (1바이트), 값 없음 여부 (1바이트, 있으면 n비트 존재 비트맵),
+ *      값 열 (값이 있는 점만)
+ *      - SCALED: 모든 값을 10^scale배 한 정수(long)로 정확히 표현할 수 있으면 scale(1바이트) + 직전 값과의 차이 (zigzag varint)
+ *      - FLOAT64: 그 외에는 float64 (8바이트)
+ * - 디코딩한 값은 SCALED이면 원래 값과 같고(소수 자릿수는 최소로 줄어듦), FLOAT64이면 double 정밀도로 근사됩니다.
+ */
+public class ChartFrameCodec {
+    public static final String MEDIA_TYPE = "application/vnd.sysmatic2.chart-frame";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'H', 'R', 'T'};
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Integer.BYTES;
+    private static final int MAX_VARINT_BYTES = 10;
+    private static final int MAX_SCALE = 18; // SCALED 인코딩의 최대 소수 자릿수
+
+    private static final byte ENCODING_SCALED = 0;
+    private static final byte ENCODING_FLOAT64 = 1;
+
+    private ChartFrameCodec() {
+    }
+
+    /**
+     * 차트 응답을 바이너리 프레임으로 인코딩합니다.
+     *
+     * @param chart 차트 응답 (data의 값 리스트는 dates와 같은 길이)
+     * @return 바이너리 프레임
+     */
+    public static byte[] encode(DailyStatisticsChartResponseDto chart) {
+        List<LocalDate> dates = chart.getDates() == null ? List.of() : chart.getDates();
+        Map<String, List<?>> data = chart.getData() == null ? Map.of() : chart.getData();
+        int size = dates.size();
+
+        // 최대 크기로 한 번에 할당 (varint 최대 10바이트)
+        int capacity = HEADER_SIZE + Long.BYTES + 3 * MAX_VARINT_BYTES + size * MAX_VARINT_BYTES;
+        List<byte[]> names = new ArrayList<>(data.size());
+        for (String option : data.keySet()) {
+            byte[] name = option.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            capacity += MAX_VARINT_BYTES + name.length + 3 + (size + 7) / 8 + size * MAX_VARINT_BYTES;
+        }
+        ByteBuffer body = ByteBuffer.allocate(capacity);
+        body.put(MAGIC).put((byte) FORMAT_VERSION).putInt(0); // 본문 길이는 마지막에 기록
+
+        // 1. 조회 시각, 데이터 수
+        body.putLong(chart.getTimestamp() == null ? -1L : Instant.parse(chart.getTimestamp()).toEpochMilli());
+        writeVarint(body, chart.getTotalPoints());
+        writeVarint(body, size);
+        writeVarint(body, data.size());
+
+        // 2. 날짜 (차이 인코딩)
+        long previousDay = 0;
+        for (int i = 0; i < size; i++) {
+            long epochDay = dates.get(i).toEpochDay();
+            if (i == 0) {
+                writeVarint(body, zigzag(epochDay));
+            } else {
+                writeVarint(body, epochDay - previousDay);
+            }
+            previousDay = epochDay;
+        }
+
+        // 3. 계열
+        int seriesIndex = 0;
+        for (List<?> values : data.values()) {
+            byte[] name = names.get(seriesIndex++);
+            writeVarint(body, name.length);
+            body.put(name);
+            writeSeries(body, values, size);
+        }
+
+        // 4. 본문 길이
+        body.putInt(MAGIC.length + 1, body.position() - HEADER_SIZE);
+        return Arrays.copyOf(body.array(), body.position());
+    }
+
+    /**
+     * 바이너리 프레임을 차트 응답으로 디코딩합니다.
+     *
+     * @param frame 바이너리 프레임
+     * @return 차트 응답 (값은 BigDecimal, 값이 없던 점은 null)
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static DailyStatisticsChartResponseDto decode(byte[] frame) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(frame);
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            int version = buffer.get();
+            int length = buffer.getInt();
+            if (!Arrays.equals(magic, MAGIC) || version != FORMAT_VERSION || length != buffer.remaining()) {
+                throw new IllegalArgumentException("차트 프레임 형식이 올바르지 않습니다.");
+            }
+
+            long timestamp = buffer.getLong();
+            int totalPoints = (int) readVarint(buffer);
+            int size = (int) readVarint(buffer);
+            int seriesCount = (int) readVarint(buffer);
+
+            List<LocalDate> dates = new ArrayList<>(size);
+            long epochDay = 0;
+            for (int i = 0; i < size; i++) {
+                epochDay = i == 0 ? unzigzag(readVarint(buffer)) : epochDay + readVarint(buffer);
+                dates.add(LocalDate.ofEpochDay(epochDay));
+            }
+
+            Map<String, List<?>> data = new LinkedHashMap<>();
+            for (int s = 0; s < seriesCount; s++) {
+                byte[] name = new byte[(int) readVarint(buffer)];
+                buffer.get(name);
+                data.put(new String(name, StandardCharsets.UTF_8), readSeries(buffer, size));
+            }
+
+            return new DailyStatisticsChartResponseDto(data, dates, totalPoints,
+                    timestamp < 0 ? null : Instant.ofEpochMilli(timestamp).toString());
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("차트 프레임이 잘렸습니다.", e);
+        }
+    }
+
+    private static void writeSeries(ByteBuffer out, List<?> values, int size) {
+        // 값이 있는 점만 모음 (값 없음 비트맵)
+        byte[] presence = new byte[(size + 7) / 8];
+        BigDecimal[] present = new BigDecimal[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            BigDecimal value = decimal(values, i);
+            if (value != null) {
+                presence[i >> 3] |= (byte) (1 << (i & 7));
+                present[count++] = value;
+            }
+        }
+        boolean hasNulls = count < size;
+
+        long[] scaled = new long[count];
+        int scale = toScaled(present, count, scaled);
+        out.put(scale >= 0 ? ENCODING_SCALED : ENCODING_FLOAT64);
+        out.put((byte) (hasNulls ? 1 : 0));
+        if (hasNulls) {
+            out.put(presence);
+        }
+
+        if (scale >= 0) {
+            out.put((byte) scale);
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarint(out, zigzag(scaled[i] - previous));
+                previous = scaled[i];
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                out.putDouble(present[i].doubleValue());
+            }
+        }
+    }
+
+    private static List<BigDecimal> readSeries(ByteBuffer buffer, int size) {
+        byte encoding = buffer.get();
+        boolean hasNulls = buffer.get() != 0;
+        byte[] presence = null;
+        if (hasNulls) {
+            presence = new byte[(size + 7) / 8];
+            buffer.get(presence);
+        }
+
+        int scale = encoding == ENCODING_SCALED ? buffer.get() : -1;
+        if (encoding != ENCODING_SCALED && encoding != ENCODING_FLOAT64) {
+            throw new IllegalArgumentException("알 수 없는 값 인코딩입니다: " + encoding);
+        }
+
+        List<BigDecimal> values = new ArrayList<>(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (presence != null && (presence[i >> 3] & (1 << (i & 7))) == 0) {
+                values.add(null);
+            } else if (scale >= 0) {
+                previous += unzigzag(readVarint(buffer));
+                values.add(BigDecimal.valueOf(previous, scale));
+            } else {
+                values.add(BigDecimal.valueOf(buffer.getDouble()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 모든 값을 10^scale배 한 long으로 정확히 표현할 수 있는 최소 scale을 구하고, 변환한 값을 scaled에 채웁니다.
+     * - BigDecimal 연산 대신 (unscaled long, scale) 쌍으로 계산합니다. (DB 값은 소수 10자리라 끝자리 0 제거가 대부분)
+     * - 값 또는 직전 값과의 차이가 long 범위를 넘으면 -1 (FLOAT64 인코딩)
+     */
+    private static int toScaled(BigDecimal[] values, int count, long[] scaled) {
+        int[] scales = new int[count];
+        int maxScale = 0;
+        for (int i = 0; i < count; i++) {
+            BigDecimal value = values[i];
+            BigInteger unscaledValue = value.unscaledValue();
+            if (unscaledValue.bitLength() > 63) {
+                return -1;
+            }
+            long unscaled = unscaledValue.longValue();
+            int valueScale = value.scale();
+            while (valueScale > 0 && unscaled % 10 == 0) {
+                unscaled /= 10;
+                valueScale--;
+            }
+            if (valueScale > MAX_SCALE) {
+                return -1;
+            }
+            scaled[i] = unscaled;
+            scales[i] = valueScale;
+            maxScale = Math.max(maxScale, valueScale);
+        }
+
+        try {
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                for (int s = scales[i]; s < maxScale; s++) { // 음수 scale(예: 1E+3)도 함께 처리
+                    scaled[i] = Math.multiplyExact(scaled[i], 10L);
+                }
+                Math.subtractExact(scaled[i], previous);
+                previous = scaled[i];
+            }
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+        return maxScale;
+    }
+
+    private static BigDecimal decimal(List<?> values, int index) {
+        if (index >= values.size() || values.get(index) == null) {
+            return null;
+        }
+        Object value = values.get(index);
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    /**
+     * 부호 없는 LEB128 varint (7비트씩, 상위 비트는 이어짐 표시)
+     */
+    private static void writeVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint가 너무 깁니다.");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
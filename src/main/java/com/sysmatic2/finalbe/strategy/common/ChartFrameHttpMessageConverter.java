@@ -0,0 +1,84 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 전략 상세 차트 응답을 바이너리 프레임({@link ChartFrameCodec})으로 읽고 쓰는 메시지 컨버터.
+ * - Accept에서 {@value ChartFrameCodec#MEDIA_TYPE}이 JSON보다 우선하는 요청에만 사용되고({@link #isPreferred(String)}), 그 외에는 기존 JSON 응답을 유지합니다.
+ */
+public class ChartFrameHttpMessageConverter extends AbstractHttpMessageConverter<DailyStatisticsChartResponseDto> {
+    public static final MediaType CHART_FRAME = MediaType.parseMediaType(ChartFrameCodec.MEDIA_TYPE);
+
+    public ChartFrameHttpMessageConverter() {
+        super(CHART_FRAME);
+    }
+
+    /**
+     * Accept 헤더로 바이너리 프레임을 응답할지 결정합니다. (응답 형식과 ETag 구분에 같은 결과를 사용)
+     * - q 값이 높은 순서(같으면 와일드카드가 아닌 형식, 헤더 순서)로 보고, 처음 맞는 형식이 프레임이면 true입니다.
+     * - q=0은 받지 않겠다는 뜻이므로 제외하고, 와일드카드 형식은 JSON으로 봅니다.
+     *
+     * @param accept Accept 헤더 (없으면 null)
+     * @return 바이너리 프레임 응답 여부
+     */
+    public static boolean isPreferred(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        mediaTypes.removeIf(mediaType -> mediaType.getQualityValue() == 0);
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaType::isConcrete, Comparator.reverseOrder()));
+
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isConcrete() && mediaType.isCompatibleWith(CHART_FRAME)) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DailyStatisticsChartResponseDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected DailyStatisticsChartResponseDto readInternal(Class<? extends DailyStatisticsChartResponseDto> clazz,
+                                                           HttpInputMessage inputMessage) throws IOException {
+        try {
+            return ChartFrameCodec.decode(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(DailyStatisticsChartResponseDto chart, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(ChartFrameCodec.encode(chart));
+    }
+
+    @Override
+    protected Long getContentLength(DailyStatisticsChartResponseDto chart, MediaType contentType) {
+        return null; // 본문 길이는 인코딩 후에 정해짐
+    }
+}
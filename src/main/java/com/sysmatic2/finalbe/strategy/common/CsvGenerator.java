@@ -0,0 +1,209 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 통계 CSV 생성기.
+ *
+ * - 엑셀과 같은 컬럼 정의({@link StatisticsExportColumns})를 사용하며, 값은 서식 없이 DB에 저장된 숫자 그대로 씁니다.
+ *   (비율은 퍼센트 값으로 저장되어 있으므로 15.5%는 15.5로 씀)
+ * - 셀마다 문자열을 만들지 않고 숫자/날짜를 바이트 버퍼에 직접 씁니다. 버퍼가 차면 출력 스트림으로 내보내므로 행 수와 관계없이
+ *   메모리 사용량이 일정합니다.
+ * - 값이 없으면 빈 칸, 줄바꿈은 CRLF (RFC 4180), 문자셋은 UTF-8 입니다. 엑셀에서 열었을 때 한글 헤더가 깨지지 않도록
+ *   파일 앞에 UTF-8 BOM을 씁니다.
+ */
+@Component
+public class CsvGenerator {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_LONG_DIGITS = 19;
+  private static final byte[] LINE_SEPARATOR = {'\r', '\n'};
+  private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  /**
+   * 컬럼 정의에 따라 CSV를 씁니다. (출력 스트림은 닫지 않음)
+   *
+   * @param columns 컬럼 정의
+   * @param rows    데이터 (한 번만 순회)
+   * @param out     출력 스트림
+   * @return 쓴 데이터 행 수 (헤더 제외)
+   */
+  public <T> long writeCsv(List<ExportColumn<T>> columns, Iterable<T> rows, OutputStream out) throws IOException {
+    CsvBuffer buffer = new CsvBuffer(out);
+    buffer.put(UTF8_BOM);
+
+    // 헤더 행
+    for (int col = 0; col < columns.size(); col++) {
+      if (col > 0) {
+        buffer.put((byte) ',');
+      }
+      buffer.putText(columns.get(col).header());
+    }
+    buffer.put(LINE_SEPARATOR);
+
+    // 데이터 행
+    long rowCount = 0;
+    for (T item : rows) {
+      for (int col = 0; col < columns.size(); col++) {
+        if (col > 0) {
+          buffer.put((byte) ',');
+        }
+        buffer.putValue(columns.get(col).value().apply(item));
+      }
+      buffer.put(LINE_SEPARATOR);
+      rowCount++;
+    }
+    buffer.flush();
+    return rowCount;
+  }
+
+  /**
+   * 출력 스트림 앞의 바이트 버퍼
+   */
+  private static final class CsvBuffer {
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[MAX_LONG_DIGITS + 1]; // 숫자를 뒤에서부터 채우는 작업 공간
+    private int position;
+
+    CsvBuffer(OutputStream out) {
+      this.out = out;
+    }
+
+    void putValue(Object value) throws IOException {
+      if (value == null) {
+        return;
+      }
+      if (value instanceof BigDecimal decimal) {
+        putDecimal(decimal);
+      } else if (value instanceof Integer || value instanceof Long) {
+        putDecimal(((Number) value).longValue(), 0);
+      } else if (value instanceof LocalDate date && date.getYear() >= 0 && date.getYear() <= 9999) {
+        putPadded(date.getYear(), 4);
+        put((byte) '-');
+        putPadded(date.getMonthValue(), 2);
+        put((byte) '-');
+        putPadded(date.getDayOfMonth(), 2);
+      } else if (value instanceof YearMonth month && month.getYear() >= 0 && month.getYear() <= 9999) {
+        putPadded(month.getYear(), 4);
+        put((byte) '-');
+        putPadded(month.getMonthValue(), 2);
+      } else {
+        putText(value.toString());
+      }
+    }
+
+    /**
+     * BigDecimal을 소수점 아래 끝자리 0 없이 씁니다. (예: 150.0000000000 -> 150, 0.0150000000 -> 0.015)
+     * - 18자리 이하이고 소수 자릿수가 18 이하면 long으로 바꿔 직접 쓰고, 그 외에는 문자열로 씁니다. (1E-25 등)
+     */
+    void putDecimal(BigDecimal value) throws IOException {
+      int scale = value.scale();
+      if (scale < 0 || scale >= MAX_LONG_DIGITS || value.precision() > 18) {
+        putAscii(value.stripTrailingZeros().toPlainString());
+        return;
+      }
+      putDecimal(value.unscaledValue().longValue(), scale);
+    }
+
+    /**
+     * unscaled / 10^scale 값을 씁니다. (scale < MAX_LONG_DIGITS, 숫자 작업 공간 크기)
+     */
+    void putDecimal(long unscaled, int scale) throws IOException {
+      if (unscaled == Long.MIN_VALUE) {
+        putAscii(BigDecimal.valueOf(unscaled, scale).toPlainString());
+        return;
+      }
+      long abs = Math.abs(unscaled);
+      while (scale > 0 && abs % 10 == 0) {
+        abs /= 10;
+        scale--;
+      }
+      if (unscaled < 0 && abs != 0) {
+        put((byte) '-');
+      }
+
+      // 뒤에서부터 숫자를 채우고, 소수 자릿수보다 짧으면 앞을 0으로 채움 (0.015)
+      int length = 0;
+      do {
+        digits[length++] = (byte) ('0' + abs % 10);
+        abs /= 10;
+      } while (abs != 0);
+      while (length <= scale) {
+        digits[length++] = '0';
+      }
+      ensureCapacity(length + 1);
+      for (int i = length - 1; i >= 0; i--) {
+        buffer[position++] = digits[i];
+        if (i == scale && scale > 0) {
+          buffer[position++] = '.';
+        }
+      }
+    }
+
+    void putPadded(int value, int width) throws IOException {
+      ensureCapacity(width);
+      for (int i = width - 1; i >= 0; i--) {
+        buffer[position + i] = (byte) ('0' + value % 10);
+        value /= 10;
+      }
+      position += width;
+    }
+
+    /**
+     * 문자열을 UTF-8로 씁니다. (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈)
+     */
+    void putText(String text) throws IOException {
+      boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+      if (!quote) {
+        put(text.getBytes(StandardCharsets.UTF_8));
+        return;
+      }
+      put((byte) '"');
+      put(text.replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8));
+      put((byte) '"');
+    }
+
+    void putAscii(String text) throws IOException {
+      ensureCapacity(text.length());
+      for (int i = 0; i < text.length(); i++) {
+        buffer[position++] = (byte) text.charAt(i);
+      }
+    }
+
+    void put(byte value) throws IOException {
+      ensureCapacity(1);
+      buffer[position++] = value;
+    }
+
+    void put(byte[] bytes) throws IOException {
+      if (bytes.length > buffer.length) {
+        flush();
+        out.write(bytes);
+        return;
+      }
+      ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, buffer, position, bytes.length);
+      position += bytes.length;
+    }
+
+    void ensureCapacity(int length) throws IOException {
+      if (position + length > buffer.length) {
+        flush();
+      }
+    }
+
+    void flush() throws IOException {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 일간 통계 중 덧셈/비교만으로 계산되는 금액 지표.
+ *
+ * - {@link DailyStatisticsEngine}(BigDecimal)과 {@link FixedPointAmountKernel}(고정소수점 long)이 같은 형태로 반환합니다.
+ */
+@Getter
+@Builder
+class DailyStatisticsAmounts {
+    private final BigDecimal balance;                  // 잔고
+    private final BigDecimal cumulativeProfitLoss;     // 누적손익
+    private final BigDecimal totalProfit;              // 총 이익
+    private final BigDecimal totalLoss;                // 총 손실
+    private final BigDecimal averageProfit;            // 평균 이익
+    private final BigDecimal averageLoss;              // 평균 손실
+    private final BigDecimal averageProfitLoss;        // 평균 손익
+    private final BigDecimal maxCumulativeProfitLoss;  // 최대 누적손익
+    private final BigDecimal currentDrawdownAmount;    // 현재 자본인하 금액
+    private final BigDecimal maxDrawdownAmount;        // 최대 자본인하 금액
+    private final BigDecimal cumulativeDepWdPrice;     // 누적 입출금
+    private final BigDecimal depositAmount;            // 입금
+    private final BigDecimal cumulativeDepositAmount;  // 누적 입금
+    private final BigDecimal withdrawAmount;           // 출금
+    private final BigDecimal cumulativeWithdrawAmount; // 누적 출금
+    private final BigDecimal maxDailyProfit;           // 최대 일 이익
+    private final BigDecimal maxDailyLoss;             // 최대 일 손실
+    private final BigDecimal peak;                     // 누적손익의 최대값
+}
@@ -1,19 +1,18 @@
 package com.sysmatic2.finalbe.strategy.common;
 
 import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
-import com.sysmatic2.finalbe.strategy.dto.StrategyKpDto;
 import org.apache.commons.math3.distribution.NormalDistribution;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 public class DailyStatisticsCalculator {
+    private static final NormalDistribution STANDARD_NORMAL = new NormalDistribution(); // 표준정규분포 (평균 0, 표준편차 1)
+
     private DailyStatisticsCalculator() {
         // 유틸리티 클래스는 인스턴스화 금지
     }
@@ -52,6 +51,25 @@ public class DailyStatisticsCalculator {
                 .setScale(10, RoundingMode.HALF_UP); // 최종 결과는 10자리
     }
 
+    /**
+     * 이미 계산된 일손익 표준편차로 변동계수(Coefficient of Variation, CV)를 계산하는 메서드.
+     * - 같은 일자의 Sharp Ratio와 표준편차를 공유할 때 사용합니다.
+     *
+     * @param stdDevProfitLoss  일손익 표준편차 ({@link #calculateStdDevProfitLoss(int, BigDecimal, BigDecimal)})
+     * @param averageProfitLoss 기준일까지의 평균손익
+     * @return 변동계수 (단위: %, 소수점 10자리까지 표시)
+     */
+    public static BigDecimal calculateCoefficientOfVariation(BigDecimal stdDevProfitLoss, BigDecimal averageProfitLoss) {
+        if (averageProfitLoss.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        // 변동계수 계산
+        return stdDevProfitLoss.divide(averageProfitLoss, 11, RoundingMode.HALF_UP) // 비율 계산 중간 단계는 11자리
+                .multiply(BigDecimal.valueOf(100)) // 백분율로 변환
+                .setScale(10, RoundingMode.HALF_UP); // 최종 결과는 10자리
+    }
+
     /**
      * 승률 계산.
      * @param totalProfitDays 총 이익일수
@@ -133,6 +151,55 @@ public class DailyStatisticsCalculator {
                 : BigDecimal.ZERO;
     }
 
+    /**
+     * 이미 계산된 일손익 표준편차로 Sharp Ratio를 계산하는 메서드.
+     * - 같은 일자의 변동계수와 표준편차를 공유할 때 사용합니다.
+     *
+     * @param stdDevProfitLoss  일손익 표준편차 ({@link #calculateStdDevProfitLoss(int, BigDecimal, BigDecimal)})
+     * @param averageProfitLoss 평균손익
+     * @return Sharp Ratio (소수점 10자리까지 표시)
+     */
+    public static BigDecimal calculateSharpRatio(BigDecimal stdDevProfitLoss, BigDecimal averageProfitLoss) {
+        if (averageProfitLoss == null || averageProfitLoss.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO; // 평균손익이 0이면 Sharp Ratio는 0
+        }
+
+        // Sharp Ratio 계산: 평균손익 / 표준편차
+        return stdDevProfitLoss.compareTo(BigDecimal.ZERO) > 0
+                ? averageProfitLoss.divide(stdDevProfitLoss, 11, RoundingMode.HALF_UP) // Sharp Ratio 계산
+                .setScale(10, RoundingMode.HALF_UP) // 최종 결과 소수점 10자리
+                : BigDecimal.ZERO;
+    }
+
+    /**
+     * 누적 상태(개수, 합계, 제곱합)로 일손익 표준편차를 계산합니다.
+     *
+     * - 개수는 거래일수, 합계는 누적손익, 제곱합은 일간 통계에 함께 저장되므로 추가 시 O(1)로 갱신됩니다.
+     * - 평균은 리스트 버전과 같이 소수점 11자리로 반올림합니다.
+     * - ∑(X - 평균)^2 = ∑X^2 - 2 * 평균 * ∑X + n * 평균^2 은 BigDecimal 덧셈/곱셈만 사용하므로
+     *   두 번 순회하는 리스트 버전과 정확히 같은 값이 됩니다.
+     *   (Welford 방식의 평균/M2 갱신은 매 단계 나눗셈 반올림이 생겨 기존 결과와 달라지므로 사용하지 않습니다.)
+     *
+     * @param count     일손익 개수
+     * @param sum       일손익 합계
+     * @param squareSum 일손익 제곱합
+     * @return 표준편차 (소수점 10자리)
+     */
+    public static BigDecimal calculateStdDevProfitLoss(int count, BigDecimal sum, BigDecimal squareSum) {
+        BigDecimal n = BigDecimal.valueOf(count);
+        BigDecimal mean = sum.divide(n, 11, RoundingMode.HALF_UP); // 중간 계산은 11자리
+
+        BigDecimal squaredDeviationSum = squareSum
+                .subtract(mean.multiply(sum).multiply(BigDecimal.valueOf(2)))
+                .add(n.multiply(mean.pow(2)));
+        // 누적값이 이력과 맞지 않는 경우(음수)에도 계산이 깨지지 않도록 0 이상으로 보정
+        BigDecimal variance = squaredDeviationSum.max(BigDecimal.ZERO)
+                .divide(n, 11, RoundingMode.HALF_UP); // 중간 계산은 11자리
+
+        return BigDecimal.valueOf(Math.sqrt(variance.doubleValue()))
+                .setScale(10, RoundingMode.HALF_UP); // 표준편차 계산 후 소수점 10자리 반올림
+    }
+
     /**
      * 최대누적손익 계산.
      * @param cumulativeProfitLoss 현재 누적손익
@@ -345,6 +412,22 @@ public class DailyStatisticsCalculator {
                 .max(BigDecimal::compareTo)
                 .orElse(BigDecimal.ZERO); // 최대값 없으면 0 반환
 
+        return calculateCurrentDrawdownRate(referencePrice, maxReferencePriceSoFar);
+    }
+
+    /**
+     * 현재 자본인하율 계산 (백분율, 소수점 4자리까지).
+     *
+     * @param referencePrice         현재 기준가
+     * @param maxReferencePriceSoFar 이전 일자까지의 최대 기준가 (이전 데이터가 없으면 null)
+     * @return 현재 자본인하율 (백분율, 소수점 4자리까지)
+     */
+    public static BigDecimal calculateCurrentDrawdownRate(BigDecimal referencePrice, BigDecimal maxReferencePriceSoFar) {
+        // 기준가가 0 이하이거나 이전 기준가가 없는 경우 계산하지 않음
+        if (referencePrice.compareTo(BigDecimal.ZERO) <= 0 || maxReferencePriceSoFar == null) {
+            return BigDecimal.ZERO;
+        }
+
         // 기준가 - 1000이 0 이하인 경우
         if (referencePrice.subtract(BigDecimal.valueOf(1000)).compareTo(BigDecimal.ZERO) <= 0) {
             return BigDecimal.ZERO;
@@ -661,7 +744,18 @@ public class DailyStatisticsCalculator {
         // 리스트의 마지막 값 (가장 최신 기준가)
         BigDecimal latestReferencePrice = referencePrices.get(referencePrices.size() - 1);
 
-        if (oldestReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
+        return calculateRecentOneYearReturn(oldestReferencePrice, latestReferencePrice);
+    }
+
+    /**
+     * 최근 1년 수익률을 계산합니다.
+     *
+     * @param oldestReferencePrice 최근 1년 구간의 가장 오래된 기준가 (이전 데이터가 없으면 null)
+     * @param latestReferencePrice 오늘 기준가
+     * @return 최근 1년 수익률 (백분율, 소수점 둘째 자리까지 표현)
+     */
+    public static BigDecimal calculateRecentOneYearReturn(BigDecimal oldestReferencePrice, BigDecimal latestReferencePrice) {
+        if (oldestReferencePrice == null || oldestReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
             // 1년 전 기준가가 0 이하일 경우 계산 불가, 0 반환
             return BigDecimal.ZERO;
         }
@@ -734,13 +828,62 @@ public class DailyStatisticsCalculator {
         ddDaySum += prevDdDay;
         maxDdInRateSum = maxDdInRateSum.add(prevMaxDdInRate);
 
-        // ===== Step 2: 유효성 검사 =====
+        return calculateKPRatioFromDrawdownSums(ddDaySum, maxDdInRateSum, cumulativeProfitLossRate, tradingDays);
+    }
+
+    /**
+     * 오늘의 ddDay, maxDdInRate만으로 KP Ratio를 계산합니다.
+     *
+     * - 리스트 버전은 모든 행에 같은 현재 자본인하율을 적용하므로 마지막 행(오늘 값)만 합계에 남습니다.
+     * - 즉 종료된 DD 구간의 합계는 항상 0이고, 진행 중인 DD 구간의 상태는 오늘 행의 ddDay, maxDdInRate에 이미 저장되어 있습니다.
+     * - 따라서 이력 조회나 리스트 생성 없이 O(1)로 동일한 결과를 얻습니다.
+     *
+     * @param ddDay                    오늘의 DD 기간
+     * @param maxDdInRate              오늘의 DD 기간 내 최대 자본인하율
+     * @param currentDrawdownRate      현재 자본인하율
+     * @param cumulativeProfitLossRate 누적손익률
+     * @param tradingDays              총 거래일수
+     * @return KP Ratio (소수점 10자리까지 반올림)
+     */
+    public static BigDecimal calculateKPRatio(int ddDay,
+                                              BigDecimal maxDdInRate,
+                                              BigDecimal currentDrawdownRate,
+                                              BigDecimal cumulativeProfitLossRate,
+                                              int tradingDays) {
+        if (cumulativeProfitLossRate.compareTo(BigDecimal.ZERO) <= 0) {
+            // 누적손익률이 0 이하일 경우 KP Ratio는 0
+            return BigDecimal.ZERO;
+        }
+
+        // 현재 자본인하율이 0이면 진행 중인 DD 구간이 없으므로 합계도 0
+        if (currentDrawdownRate.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        // 진행 중인 DD 구간(오늘의 ddDay, maxDdInRate)만 합계에 포함
+        return calculateKPRatioFromDrawdownSums(ddDay, maxDdInRate, cumulativeProfitLossRate, tradingDays);
+    }
+
+    /**
+     * DD 기간 합계와 DD 기간 내 최대 자본인하율 합계로 KP Ratio를 계산합니다.
+     *
+     * @param ddDaySum                 DD 기간 합계
+     * @param maxDdInRateSum           DD 기간 내 최대 자본인하율 합계
+     * @param cumulativeProfitLossRate 누적손익률
+     * @param tradingDays              총 거래일수
+     * @return KP Ratio (소수점 10자리까지 반올림)
+     */
+    private static BigDecimal calculateKPRatioFromDrawdownSums(int ddDaySum,
+                                                               BigDecimal maxDdInRateSum,
+                                                               BigDecimal cumulativeProfitLossRate,
+                                                               int tradingDays) {
+        // 유효성 검사
         if (maxDdInRateSum.compareTo(BigDecimal.ZERO) == 0 || ddDaySum == 0 || tradingDays <= 0) {
             // maxDdInRateSum, ddDaySum, 또는 tradingDays가 0 이하일 경우 KP Ratio는 0
             return BigDecimal.ZERO;
         }
 
-        // ===== Step 3: KP Ratio 계산 =====
+        // KP Ratio 계산
         // ddDay 평균 계산: ddDaySum / tradingDays
         BigDecimal ddDayAverage = BigDecimal.valueOf(ddDaySum)
                 .divide(BigDecimal.valueOf(tradingDays), 10, RoundingMode.HALF_UP);
@@ -766,57 +909,45 @@ public class DailyStatisticsCalculator {
     }
 
     /**
-     * KP-RATIO 평균, 분산, 표준편차 및 SM-SCORE를 계산하고 갱신하는 메서드.
+     * 전체 전략의 KP-RATIO로 SM-SCORE를 한 번에 계산하는 메서드.
+     * - 평균과 분산을 한 번의 순회로 계산(Welford 방식)하므로 전략 수와 관계없이 전체 기준 Z-Score를 얻습니다.
+     * - 전략이 1개이거나 표준편차가 0이면 모든 SM-SCORE는 0입니다.
      *
-     * @param kpRatios 전략별 KP-RATIO 리스트
-     * @return 전략별 SM-SCORE 리스트 (전략 ID와 SM-SCORE를 매핑)
+     * @param kpRatios KP-RATIO 배열
+     * @param size     배열에서 사용할 데이터 개수
+     * @return 입력 순서와 같은 순서의 SM-SCORE 배열 (소수점 2자리까지 반올림)
      */
-    public static Map<Long, BigDecimal> calculateAndUpdateSmScores(List<StrategyKpDto> kpRatios) {
-        // 1. KP-RATIO 평균 계산
-        BigDecimal kpMean = kpRatios.stream()
-                .map(StrategyKpDto::getKpRatio)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(kpRatios.size()), 10, RoundingMode.HALF_UP);
+    public static BigDecimal[] calculateSmScores(double[] kpRatios, int size) {
+        BigDecimal[] smScores = new BigDecimal[size];
 
-        // 2. 분산 및 표준편차 계산
-        BigDecimal variance = kpRatios.stream()
-                .map(dto -> dto.getKpRatio().subtract(kpMean).pow(2)) // (KP - 평균)^2
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(kpRatios.size()), 10, RoundingMode.HALF_UP);
-
-        BigDecimal stdDev = BigDecimal.valueOf(Math.sqrt(variance.doubleValue()))
-                .setScale(10, RoundingMode.HALF_UP); // 소수점 10자리까지 반올림
-
-        // 3. 표준편차가 0인 경우 처리
-        if (stdDev.compareTo(BigDecimal.ZERO) == 0) {
-            // 모든 SM-SCORE를 0으로 설정
-            return kpRatios.stream().collect(Collectors.toMap(
-                    StrategyKpDto::getStrategyId,
-                    dto -> BigDecimal.ZERO
-            ));
+        // 1. 평균 및 편차 제곱합 계산 (단일 순회)
+        double mean = 0.0;
+        double squaredDeviationSum = 0.0;
+        for (int i = 0; i < size; i++) {
+            double delta = kpRatios[i] - mean;
+            mean += delta / (i + 1);
+            squaredDeviationSum += delta * (kpRatios[i] - mean);
         }
 
-        // 3. SM-SCORE 계산 및 갱신
-        Map<Long, BigDecimal> smScores = new HashMap<>();
-        for (StrategyKpDto dto : kpRatios) {
-            // Z-Score = (KP - 평균) / 표준편차
-            BigDecimal zScore = dto.getKpRatio().subtract(kpMean).divide(stdDev, 10, RoundingMode.HALF_UP);
+        // 2. 모표준편차 계산
+        double stdDev = size > 0 ? Math.sqrt(squaredDeviationSum / size) : 0.0;
 
-            // 표준정규누적분포값 계산
-            double normDist = calculateNormDist(zScore.doubleValue()); // 표준정규누적분포
-
-            // SM-SCORE = 표준정규누적분포값 * 100
-            BigDecimal smScore = BigDecimal.valueOf(normDist * 100).setScale(2, RoundingMode.HALF_UP);
+        // 3. 표준편차가 0인 경우 모든 SM-SCORE를 0으로 설정
+        if (size < 2 || stdDev == 0.0) {
+            Arrays.fill(smScores, BigDecimal.ZERO);
+            return smScores;
+        }
 
-            // SM-SCORE 저장
-            smScores.put(dto.getStrategyId(), smScore);
+        // 4. SM-SCORE = 표준정규누적분포(Z-Score) * 100
+        for (int i = 0; i < size; i++) {
+            double zScore = (kpRatios[i] - mean) / stdDev;
+            smScores[i] = BigDecimal.valueOf(calculateNormDist(zScore) * 100).setScale(2, RoundingMode.HALF_UP);
         }
 
-        return smScores; // 전략 ID와 SM-SCORE를 매핑한 결과 반환
+        return smScores;
     }
 
     public static double calculateNormDist(double zScore) {
-        NormalDistribution normalDist = new NormalDistribution(); // Apache Commons Math 라이브러리
-        return normalDist.cumulativeProbability(zScore);
+        return STANDARD_NORMAL.cumulativeProbability(zScore); // Apache Commons Math 라이브러리
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.ReferencePricePoint;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일간 통계 누적 상태(carry).
+ *
+ * - 다음 일자의 통계를 계산할 때 전체 이력을 다시 조회하지 않도록 직전까지의 누적값을 보관합니다.
+ * - 재계산처럼 여러 일자를 연속으로 계산할 때는 한 번 만든 상태를 {@link #advance(DailyStatisticsEntity)}로 이어서 사용합니다.
+ * - 상태는 날짜 오름차순으로만 진행해야 합니다.
+ */
+public class DailyStatisticsCarry {
+
+    private DailyStatisticsEntity previous; // 직전 일자의 통계 (없으면 첫 데이터)
+    private BigDecimal maxReferencePrice; // 직전 일자까지의 최대 기준가
+    private BigDecimal profitLossSquareSum; // 직전 일자까지의 일손익 제곱합
+    private LocalDate firstDate; // 최초 등록 일자
+    private final Deque<ReferencePricePoint> oneYearWindow; // 최근 1년 수익률 계산용 기준가 (날짜 오름차순)
+    private long[] fixedPointAmounts; // 직전 일자의 고정소수점 금액 지표 (없으면 직전 통계에서 다시 생성)
+    private long[] stagedFixedPointAmounts; // 계산 중인 일자의 고정소수점 금액 지표 (advance 시 반영)
+
+    private DailyStatisticsCarry(DailyStatisticsEntity previous,
+                                 BigDecimal maxReferencePrice,
+                                 BigDecimal profitLossSquareSum,
+                                 LocalDate firstDate,
+                                 List<ReferencePricePoint> oneYearWindow) {
+        this.previous = previous;
+        this.maxReferencePrice = maxReferencePrice;
+        this.profitLossSquareSum = profitLossSquareSum;
+        this.firstDate = firstDate;
+        this.oneYearWindow = new ArrayDeque<>(oneYearWindow);
+    }
+
+    /**
+     * 이전 데이터가 없는 전략(첫 번째 등록)의 상태를 생성합니다.
+     *
+     * @return 비어 있는 누적 상태
+     */
+    public static DailyStatisticsCarry empty() {
+        return new DailyStatisticsCarry(null, null, BigDecimal.ZERO, null, List.of());
+    }
+
+    /**
+     * 직전 일자의 통계와 누적값으로 상태를 생성합니다.
+     *
+     * @param previous            직전 일자의 통계
+     * @param maxReferencePrice   직전 일자까지의 최대 기준가
+     * @param profitLossSquareSum 직전 일자까지의 일손익 제곱합
+     * @param firstDate           최초 등록 일자
+     * @param oneYearWindow       다음 일자 기준 최근 1년 구간의 기준가 (날짜 오름차순)
+     * @return 누적 상태
+     */
+    public static DailyStatisticsCarry of(DailyStatisticsEntity previous,
+                                          BigDecimal maxReferencePrice,
+                                          BigDecimal profitLossSquareSum,
+                                          LocalDate firstDate,
+                                          List<ReferencePricePoint> oneYearWindow) {
+        return new DailyStatisticsCarry(previous, maxReferencePrice,
+                profitLossSquareSum == null ? BigDecimal.ZERO : profitLossSquareSum,
+                firstDate, oneYearWindow);
+    }
+
+    public Optional<DailyStatisticsEntity> getPrevious() {
+        return Optional.ofNullable(previous);
+    }
+
+    public BigDecimal getMaxReferencePrice() {
+        return maxReferencePrice;
+    }
+
+    public BigDecimal getProfitLossSquareSum() {
+        return profitLossSquareSum;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    /**
+     * 직전 일자까지의 데이터 개수 (거래일수는 등록마다 1씩 증가하므로 데이터 개수와 같음)
+     */
+    public int getCount() {
+        return previous == null || previous.getTradingDays() == null ? 0 : previous.getTradingDays();
+    }
+
+    /**
+     * 기준일 이후(포함) 가장 오래된 기준가를 반환합니다.
+     * - 기준일 이전 값은 이후 계산에서도 쓰이지 않으므로 제거합니다.
+     *
+     * @param fromDate 기준일 (오늘 - 1년)
+     * @return 가장 오래된 기준가 (없으면 null)
+     */
+    public BigDecimal oldestReferencePriceSince(LocalDate fromDate) {
+        while (!oneYearWindow.isEmpty() && oneYearWindow.peekFirst().getDate().isBefore(fromDate)) {
+            oneYearWindow.pollFirst();
+        }
+        return oneYearWindow.isEmpty() ? null : oneYearWindow.peekFirst().getReferencePrice();
+    }
+
+    /**
+     * 직전 일자의 고정소수점 금액 지표 ({@link FixedPointAmountKernel} 전용)
+     */
+    long[] getFixedPointAmounts() {
+        return fixedPointAmounts;
+    }
+
+    /**
+     * 계산 중인 일자의 고정소수점 금액 지표를 보관합니다. ({@link #advance(DailyStatisticsEntity)} 시 반영)
+     */
+    void stageFixedPointAmounts(long[] amounts) {
+        this.stagedFixedPointAmounts = amounts;
+    }
+
+    /**
+     * 계산이 끝난 일자의 통계를 반영하여 다음 일자 계산을 위한 상태로 진행합니다.
+     *
+     * @param current 방금 계산된 일자의 통계
+     */
+    public void advance(DailyStatisticsEntity current) {
+        this.previous = current;
+        this.maxReferencePrice = current.getMaxReferencePrice();
+        this.profitLossSquareSum = current.getDailyProfitLossSquareSum();
+        if (this.firstDate == null) {
+            this.firstDate = current.getDate();
+        }
+        this.oneYearWindow.addLast(new ReferencePricePoint(current.getDate(), current.getReferencePrice()));
+        // 고정소수점으로 계산되지 않은 일자이면 다음 계산 시 직전 통계에서 다시 생성
+        this.fixedPointAmounts = this.stagedFixedPointAmounts;
+        this.stagedFixedPointAmounts = null;
+    }
+}
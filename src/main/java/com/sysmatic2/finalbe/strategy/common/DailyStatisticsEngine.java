@@ -0,0 +1,453 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+/**
+ * 일간 통계 계산 엔진.
+ *
+ * - 직전 일자의 통계와 누적 상태({@link DailyStatisticsCarry})만으로 오늘의 통계를 계산합니다.
+ * - 계산 중 DB를 조회하지 않으므로 등록/재계산 시 일자당 계산 비용이 이력 길이와 무관합니다.
+ * - 계산이 끝나면 누적 상태를 오늘 기준으로 진행시킵니다.
+ */
+public class DailyStatisticsEngine {
+    private DailyStatisticsEngine() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * 누적 상태를 이용해 다음 일자의 통계를 계산합니다. (BigDecimal 계산)
+     *
+     * @param carry          직전 일자까지의 누적 상태 (계산 후 오늘 기준으로 진행됨)
+     * @param reqDto         요청 데이터
+     * @param strategyEntity 전략 엔티티
+     * @return 계산된 일일 통계 데이터 엔티티
+     */
+    public static DailyStatisticsEntity calculateNext(DailyStatisticsCarry carry,
+                                                      DailyStatisticsReqDto reqDto,
+                                                      StrategyEntity strategyEntity) {
+        return calculateNext(carry, reqDto, strategyEntity, DailyStatisticsKernel.BIG_DECIMAL);
+    }
+
+    /**
+     * 누적 상태를 이용해 다음 일자의 통계를 계산합니다.
+     *
+     * @param carry          직전 일자까지의 누적 상태 (계산 후 오늘 기준으로 진행됨)
+     * @param reqDto         요청 데이터
+     * @param strategyEntity 전략 엔티티
+     * @param kernel         금액 지표 계산 방식 (null이면 BigDecimal)
+     * @return 계산된 일일 통계 데이터 엔티티
+     */
+    public static DailyStatisticsEntity calculateNext(DailyStatisticsCarry carry,
+                                                      DailyStatisticsReqDto reqDto,
+                                                      StrategyEntity strategyEntity,
+                                                      DailyStatisticsKernel kernel) {
+        Optional<DailyStatisticsEntity> previousState = carry.getPrevious();
+        boolean firstEntry = previousState.isEmpty(); // 첫 번째 데이터 여부
+
+        // 이전 상태 가져오기
+        // ===== 첫 번째 데이터 초기화 처리 =====
+        BigDecimal previousBalance = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getBalance).orElse(BigDecimal.ZERO); // 이전 잔고
+        BigDecimal previousPrincipal = firstEntry ? reqDto.getDepWdPrice() : previousState.map(DailyStatisticsEntity::getPrincipal).orElse(BigDecimal.ZERO); // 이전 원금
+        BigDecimal previousReferencePrice = firstEntry ? BigDecimal.valueOf(1000) : previousState.map(DailyStatisticsEntity::getReferencePrice).orElse(BigDecimal.ZERO); // 이전 기준가
+        BigDecimal previousMaxCumulativeProfitLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getMaxCumulativeProfitLoss).orElse(BigDecimal.ZERO); // 이전 최대 누적손익
+        BigDecimal previousMaxCumulativeProfitLossRate = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getMaxCumulativeProfitLossRate).orElse(BigDecimal.ZERO); // 이전 최대 누적손익률
+        Integer previousTradingDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTradingDays).orElse(0); // 이전 거래일수
+        Integer previousProfitDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTotalProfitDays).orElse(0); // 이전 총 이익일수
+        Integer previousLossDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTotalLossDays).orElse(0); // 이전 총 손실일수
+        Integer previousCurrentConsecutivePlDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getCurrentConsecutivePlDays).orElse(0); // 이전 연속 손익일수
+        Integer previousMaxConsecutiveProfitDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveProfitDays).orElse(0); // 이전 최대 연속 수익일수
+        Integer previousMaxConsecutiveLossDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveLossDays).orElse(0); // 이전 최대 연속 손실일수
+        BigDecimal previousMaxDdInRate = previousState
+                .map(DailyStatisticsEntity::getMaxDdInRate)
+                .orElse(BigDecimal.ZERO); // 이전 maxDDInRate 값 가져오기
+
+        // 사용자 입력값
+        BigDecimal dailyProfitLoss = reqDto.getDailyProfitLoss(); // 오늘의 일손익
+        BigDecimal depWdPrice = reqDto.getDepWdPrice(); // 오늘의 입출금 금액
+
+        /**
+         * 계산된 지표들
+         */
+
+        // 거래일수 = 이전 거래일수 + 1
+        Integer tradingDays = previousTradingDays + 1;
+
+        // 손실일수 = 이전 손실일수 + (일손익 < 0 인 경우 1 증가)
+        Integer totalLossDays = previousLossDays + (dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0 ? 1 : 0);
+
+        // 이익일수 = 이전 이익일수 + (일손익 > 0 인 경우 1 증가)
+        Integer totalProfitDays = previousProfitDays + (dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0 ? 1 : 0);
+
+        // 금액 지표 (잔고, 누적손익, 총 이익/손실, 자본인하 금액, 입출금 누적 등)
+        // - 고정소수점 커널은 범위를 넘는 값이면 null을 반환하므로 BigDecimal 계산으로 대체
+        DailyStatisticsAmounts amounts = kernel == DailyStatisticsKernel.FIXED_POINT
+                ? FixedPointAmountKernel.calculate(carry, dailyProfitLoss, depWdPrice, tradingDays, totalProfitDays, totalLossDays)
+                : null;
+        if (amounts == null) {
+            amounts = calculateAmounts(carry, dailyProfitLoss, depWdPrice, tradingDays, totalProfitDays, totalLossDays);
+        }
+
+        BigDecimal balance = amounts.getBalance();
+        BigDecimal cumulativeProfitLoss = amounts.getCumulativeProfitLoss();
+        BigDecimal totalLoss = amounts.getTotalLoss();
+        BigDecimal totalProfit = amounts.getTotalProfit();
+        BigDecimal averageLoss = amounts.getAverageLoss();
+        BigDecimal averageProfit = amounts.getAverageProfit();
+        BigDecimal maxCumulativeProfitLoss = amounts.getMaxCumulativeProfitLoss();
+        BigDecimal currentDrawdownAmount = amounts.getCurrentDrawdownAmount();
+        BigDecimal maxDrawdownAmount = amounts.getMaxDrawdownAmount();
+
+        // 원금 = 이전 원금 + 입출금
+        BigDecimal principal;
+        if (firstEntry) {
+            // 첫 데이터일 경우 입출금 금액만 반영
+            principal = depWdPrice;
+        } else {
+            // 이전 원금 + 입출금 금액
+            principal = DailyStatisticsCalculator.calculatePrincipal(previousPrincipal, depWdPrice, previousBalance);
+        }
+
+        // 기준가 = (잔고 / 원금) * 1000
+        BigDecimal referencePrice = DailyStatisticsCalculator.calculateReferencePrice(balance, principal);
+
+        // 이전 기준가가 null이거나 0 이하인지 확인하여 첫 번째 등록 여부 판단
+        boolean isFirstEntry = previousReferencePrice == null || previousReferencePrice.compareTo(BigDecimal.ZERO) <= 0;
+
+        // 일손익률 = (오늘 기준가 - 이전 기준가) / 이전 기준가 (첫 번째 등록 시 (기준가 - 1000) / 1000)
+        BigDecimal dailyPlRate
+                = DailyStatisticsCalculator.calculateDailyPlRate(referencePrice,
+                previousReferencePrice == null ? BigDecimal.ZERO : previousReferencePrice,
+                isFirstEntry);
+
+        // 누적손익률 = (기준가 / 1000) - 1
+        BigDecimal cumulativeProfitLossRate = DailyStatisticsCalculator.calculateCumulativeProfitLossRate(referencePrice);
+
+        // 최대 누적 손익률 = max(현재 누적 손익률, 이전 최대 누적 손익률)
+        BigDecimal maxCumulativeProfitLossRate = cumulativeProfitLossRate.max(previousMaxCumulativeProfitLossRate);
+
+        // 현재 자본인하율 = (기준가 - 이전 최대 기준가) / 기준가
+        // - 기준가가 1000 초과인 경우 계산
+        // - 기준가가 1000 이하이거나 이전 데이터가 없는 경우 0 반환
+        BigDecimal currentDrawdownRate = DailyStatisticsCalculator.calculateCurrentDrawdownRate(referencePrice, carry.getMaxReferencePrice());
+
+        // 최대 자본인하율 = min(이전 최대 자본인하율, 현재 자본인하율, 0)
+        BigDecimal maxDrawdownRate = previousState.map(DailyStatisticsEntity::getMaxDrawdownRate).orElse(BigDecimal.ZERO)
+                .min(currentDrawdownRate)
+                .min(BigDecimal.ZERO)       // 결과가 0보다 크면 0 반환
+                .setScale(4, RoundingMode.HALF_UP); // 소수점 4자리까지 반올림
+
+        // 승률 = 이익일수 / 거래일수
+        BigDecimal winRate = DailyStatisticsCalculator.calculateWinRate(totalProfitDays, tradingDays);
+
+        // Profit Factor = 총 이익 / |총 손실|
+        BigDecimal profitFactor = DailyStatisticsCalculator.calculateProfitFactor(totalProfit, totalLoss);
+
+        // ROA = 누적손익 / 최대 자본인하 금액 * -1
+        BigDecimal roa = DailyStatisticsCalculator.calculateROA(cumulativeProfitLoss, maxDrawdownAmount);
+
+        // 평균 손익비 = 평균 이익 / |평균 손실|
+        BigDecimal averageProfitLossRatio = averageLoss.compareTo(BigDecimal.ZERO) != 0
+                ? averageProfit.divide(averageLoss.abs(), 11, RoundingMode.HALF_UP) // 11번째 자리까지 계산
+                .setScale(10, RoundingMode.HALF_UP) // 10번째 자리로 반올림
+                : BigDecimal.ZERO;
+
+        // 일손익 제곱합 = 이전 일손익 제곱합 + 오늘 일손익^2
+        BigDecimal dailyProfitLossSquareSum = carry.getProfitLossSquareSum().add(dailyProfitLoss.pow(2));
+
+        // 평가손익 = 원금 - 잔고
+        BigDecimal unrealizedProfitLoss = DailyStatisticsCalculator.calculateUnrealizedProfitLoss(principal, balance);
+
+        // 고점 후 경과일 = 현재 고점과 이전 고점 비교
+        Integer daysSincePeak = DailyStatisticsCalculator.calculateDaysSincePeak(maxCumulativeProfitLoss, previousMaxCumulativeProfitLoss, previousState.map(DailyStatisticsEntity::getDaysSincePeak).orElse(0));
+
+        // 최대 일 이익률 = max(이전 최대 일 이익률, 오늘 일손익률). 음수면 0
+        BigDecimal maxDailyProfitRate = previousState.map(DailyStatisticsEntity::getMaxDailyProfitRate).orElse(BigDecimal.ZERO)
+                .max(dailyPlRate)
+                .max(BigDecimal.ZERO)
+                .setScale(4, RoundingMode.HALF_UP);
+
+        // 최대 일 손실률 = min(이전 최대 일 손실률, 오늘 일손익률) (첫 데이터는 오늘 일손익률)
+        BigDecimal maxDailyLossRate = firstEntry
+                ? dailyPlRate
+                : previousState.map(DailyStatisticsEntity::getMaxDailyLossRate).orElse(dailyPlRate).min(dailyPlRate);
+
+        BigDecimal averageProfitLoss = amounts.getAverageProfitLoss();
+
+        // 평균 손익률 = (누적손익률 / 거래일수) * 100
+        BigDecimal averageProfitLossRate = tradingDays > 0
+                ? cumulativeProfitLossRate.divide(BigDecimal.valueOf(tradingDays), 10, RoundingMode.DOWN) // 중간 계산에서 높은 정밀도로 계산
+                .setScale(4, RoundingMode.DOWN) // 최종적으로 4자리까지 표현 (반올림 없이)
+                : BigDecimal.ZERO;
+
+        // 일손익 합산의 표준편차 (변동계수와 Sharp Ratio가 공유)
+        // - 일손익 개수 = 거래일수, 일손익 합계 = 누적손익
+        BigDecimal stdDevProfitLoss = DailyStatisticsCalculator.calculateStdDevProfitLoss(
+                tradingDays, cumulativeProfitLoss, dailyProfitLossSquareSum);
+
+        // 변동계수(Coefficient of Variation) 계산
+        // (일손익 합산의 표준편차) / 평균손익 * 100
+        BigDecimal coefficientOfVariation = DailyStatisticsCalculator.calculateCoefficientOfVariation(
+                stdDevProfitLoss, averageProfitLoss);
+
+        // Sharp Ratio = 평균손익 / (일손익 합산의 표준편차)
+        BigDecimal sharpRatio = DailyStatisticsCalculator.calculateSharpRatio(
+                stdDevProfitLoss, averageProfitLoss);
+
+        // 현재 연속 손익일수 계산
+        Integer currentConsecutivePlDays;
+
+        if (dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0) {
+            // 이익인 경우: 손실에서 이익으로 전환 시 1로 초기화, 이익이 지속되면 +1
+            currentConsecutivePlDays = previousCurrentConsecutivePlDays < 0 ? 1 : previousCurrentConsecutivePlDays + 1;
+        } else if (dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0) {
+            // 손실인 경우: 이익에서 손실로 전환 시 -1로 초기화, 손실이 지속되면 -1씩 감소
+            currentConsecutivePlDays = previousCurrentConsecutivePlDays > 0 ? -1 : previousCurrentConsecutivePlDays - 1;
+        } else {
+            // 손익이 0일 경우 연속 손익일수 초기화
+            currentConsecutivePlDays = 0;
+        }
+
+        // 최대 연속 수익일수 계산
+        Integer maxConsecutiveProfitDays = dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0
+                ? Math.max(previousMaxConsecutiveProfitDays, currentConsecutivePlDays)
+                : previousMaxConsecutiveProfitDays;
+
+        // 최대 연속 손실일수 계산 (음수로 누적된 값의 절대값이 가장 큰 음수 선택)
+        Integer maxConsecutiveLossDays = dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0
+                ? Math.min(previousMaxConsecutiveLossDays, currentConsecutivePlDays) // 음수에서 최솟값(더 작은 음수) 선택
+                : previousMaxConsecutiveLossDays;
+
+        // 총 전략 운용일수 = 최초 등록 일자부터 오늘까지 (첫 데이터는 1)
+        Integer strategyOperationDays = DailyStatisticsCalculator.calculateStrategyOperationDays(carry.getFirstDate(), reqDto.getDate());
+
+        // 최근 1년 수익률 = ((오늘 기준가 / 1년 전 기준가) - 1) * 100
+        BigDecimal recentOneYearReturn = DailyStatisticsCalculator.calculateRecentOneYearReturn(
+                carry.oldestReferencePriceSince(reqDto.getDate().minusYears(1)), referencePrice);
+
+        // 고점 이후 최대 하락 기간(dd_day) 계산
+        Integer ddDay = DailyStatisticsCalculator.calculateDdDay(
+                currentDrawdownRate, // 현재 자본인하율
+                previousState.map(DailyStatisticsEntity::getDdDay).orElse(0) // 이전 DD 기간
+        );
+
+        // maxDdInRate 계산
+        BigDecimal maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(
+                currentDrawdownRate,    // 현재 자본인하율
+                previousMaxDdInRate,    // 이전 maxDdInRate
+                ddDay                  // 현재 DD 기간
+        );
+
+        // KP-RATIO 계산
+        BigDecimal kpRatio = DailyStatisticsCalculator.calculateKPRatio(
+                ddDay,                    // 오늘 DD 기간
+                maxDdInRate,              // 오늘 DD 기간 내 최대 자본인하율
+                currentDrawdownRate,      // 현재자본인하율
+                cumulativeProfitLossRate, // 누적손익률
+                tradingDays               // 거래일수
+        );
+
+        // 누적손익률의 최대값 (Peak Rate) = max(이전 Peak Rate, 현재 누적손익률, 0)
+        BigDecimal peakRate = previousState.map(DailyStatisticsEntity::getPeakRate).orElse(BigDecimal.ZERO)
+                .max(cumulativeProfitLossRate)
+                .max(BigDecimal.ZERO);
+
+        // 최대 기준가 = max(이전 최대 기준가, 오늘 기준가)
+        BigDecimal maxReferencePrice = carry.getMaxReferencePrice() == null
+                ? referencePrice
+                : carry.getMaxReferencePrice().max(referencePrice);
+
+        // 빌더 패턴으로 결과 엔티티 생성
+        DailyStatisticsEntity dailyStatistics = DailyStatisticsEntity.builder()
+                .date(reqDto.getDate())
+                .depWdPrice(depWdPrice)
+                .dailyProfitLoss(dailyProfitLoss)
+                .tradingDays(tradingDays)
+                .balance(balance)
+                .principal(principal)
+                .cumulativeProfitLoss(cumulativeProfitLoss)
+                .unrealizedProfitLoss(unrealizedProfitLoss)
+                .kpRatio(kpRatio)
+                .referencePrice(referencePrice)
+                .dailyPlRate(dailyPlRate)
+                .cumulativeProfitLossRate(cumulativeProfitLossRate)
+                .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
+                .maxCumulativeProfitLossRate(maxCumulativeProfitLossRate)
+                .currentDrawdownAmount(currentDrawdownAmount)
+                .maxDrawdownAmount(maxDrawdownAmount)
+                .currentDrawdownRate(currentDrawdownRate)
+                .maxDrawdownRate(maxDrawdownRate)
+                .winRate(winRate)
+                .profitFactor(profitFactor)
+                .roa(roa)
+                .totalProfit(totalProfit)
+                .totalProfitDays(totalProfitDays)
+                .averageProfit(averageProfit)
+                .totalLoss(totalLoss)
+                .totalLossDays(totalLossDays)
+                .averageLoss(averageLoss)
+                .averageProfitLossRatio(averageProfitLossRatio)
+                .peak(amounts.getPeak())
+                .peakRate(peakRate)
+                .daysSincePeak(daysSincePeak)
+                .ddDay(ddDay)
+                .maxDdInRate(maxDdInRate)
+                .coefficientOfVariation(coefficientOfVariation)
+                .sharpRatio(sharpRatio)
+                .maxDailyProfit(amounts.getMaxDailyProfit())
+                .maxDailyProfitRate(maxDailyProfitRate)
+                .maxDailyLoss(amounts.getMaxDailyLoss())
+                .maxDailyLossRate(maxDailyLossRate)
+                .averageProfitLoss(averageProfitLoss)
+                .averageProfitLossRate(averageProfitLossRate)
+                .currentConsecutivePlDays(currentConsecutivePlDays)
+                .maxConsecutiveProfitDays(maxConsecutiveProfitDays)
+                .maxConsecutiveLossDays(maxConsecutiveLossDays)
+                .recentOneYearReturn(recentOneYearReturn)
+                .strategyOperationDays(strategyOperationDays)
+                .cumulativeDepWdPrice(amounts.getCumulativeDepWdPrice())
+                .depositAmount(amounts.getDepositAmount())
+                .cumulativeDepositAmount(amounts.getCumulativeDepositAmount())
+                .withdrawAmount(amounts.getWithdrawAmount())
+                .cumulativeWithdrawAmount(amounts.getCumulativeWithdrawAmount())
+                .maxReferencePrice(maxReferencePrice)
+                .dailyProfitLossSquareSum(dailyProfitLossSquareSum)
+                .strategyEntity(strategyEntity)
+                .build();
+
+        // 다음 일자 계산을 위해 누적 상태 진행
+        carry.advance(dailyStatistics);
+
+        return dailyStatistics;
+    }
+
+    /**
+     * 금액 지표를 BigDecimal로 계산합니다.
+     *
+     * @param carry           직전 일자까지의 누적 상태
+     * @param dailyProfitLoss 오늘의 일손익
+     * @param depWdPrice      오늘의 입출금 금액
+     * @param tradingDays     오늘까지의 거래일수
+     * @param totalProfitDays 오늘까지의 이익일수
+     * @param totalLossDays   오늘까지의 손실일수
+     * @return 금액 지표
+     */
+    private static DailyStatisticsAmounts calculateAmounts(DailyStatisticsCarry carry,
+                                                           BigDecimal dailyProfitLoss,
+                                                           BigDecimal depWdPrice,
+                                                           int tradingDays,
+                                                           int totalProfitDays,
+                                                           int totalLossDays) {
+        Optional<DailyStatisticsEntity> previousState = carry.getPrevious();
+        boolean firstEntry = previousState.isEmpty();
+
+        BigDecimal previousBalance = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getBalance).orElse(BigDecimal.ZERO); // 이전 잔고
+        BigDecimal previousCumulativeProfitLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getCumulativeProfitLoss).orElse(BigDecimal.ZERO); // 이전 누적손익
+        BigDecimal previousMaxCumulativeProfitLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getMaxCumulativeProfitLoss).orElse(BigDecimal.ZERO); // 이전 최대 누적손익
+        BigDecimal previousTotalProfit = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getTotalProfit).orElse(BigDecimal.ZERO); // 이전 총 이익
+        BigDecimal previousTotalLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getTotalLoss).orElse(BigDecimal.ZERO); // 이전 총 손실
+
+        // 잔고 = 이전 잔고 + 일손익 + 입출금
+        BigDecimal balance = DailyStatisticsCalculator.calculateBalance(previousBalance, dailyProfitLoss, depWdPrice);
+
+        // 잔고가 0보다 작으면 예외 발생
+        if (balance.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("잔고가 0보다 작을 수 없습니다. (계산된 잔고: " + balance + ")");
+        }
+
+        // 누적손익 = 이전 누적손익 + 일손익
+        BigDecimal cumulativeProfitLoss = DailyStatisticsCalculator.calculateCumulativeProfitLoss(previousCumulativeProfitLoss, dailyProfitLoss);
+
+        // 총 손실 = 이전 총 손실 + (일손익 < 0 인 경우 해당 일손익 추가)
+        BigDecimal totalLoss = previousTotalLoss.add(dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0 ? dailyProfitLoss : BigDecimal.ZERO);
+
+        // 총 이익 = 이전 총 이익 + (일손익 > 0 인 경우 해당 일손익 추가)
+        BigDecimal totalProfit = previousTotalProfit.add(dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0 ? dailyProfitLoss : BigDecimal.ZERO);
+
+        // 평균 손실 = 총 손실 / 손실일수
+        BigDecimal averageLoss = DailyStatisticsCalculator.calculateAverageLoss(totalLoss, totalLossDays);
+
+        // 평균 이익 = 총 이익 / 이익일수
+        BigDecimal averageProfit = DailyStatisticsCalculator.calculateAverageProfit(totalProfit, totalProfitDays);
+
+        // 평균 손익 = (총 이익 + 총 손실) / 거래일수
+        BigDecimal averageProfitLoss = tradingDays > 0
+                ? totalProfit.add(totalLoss)
+                .divide(BigDecimal.valueOf(tradingDays), 0, RoundingMode.HALF_UP) // 소수점 첫째 자리에서 반올림 후 정수 반환
+                : BigDecimal.ZERO;
+
+        // 최대 누적 손익 = max(현재 누적손익, 이전 최대 누적손익)
+        BigDecimal maxCumulativeProfitLoss = DailyStatisticsCalculator.calculateMaxCumulativeProfitLoss(cumulativeProfitLoss, previousMaxCumulativeProfitLoss);
+
+        // 현재 자본인하 금액 = max(누적손익 - 최대 누적손익, 0)
+        BigDecimal currentDrawdownAmount = cumulativeProfitLoss.compareTo(BigDecimal.ZERO) > 0
+                ? cumulativeProfitLoss.subtract(maxCumulativeProfitLoss) // 누적손익 - 최대 누적손익
+                : BigDecimal.ZERO; // 누적손익이 0보다 작거나 같으면 0
+
+        // 최대 자본인하 금액 = min(이전 최대 자본인하 금액, 현재 자본인하 금액, 0)
+        BigDecimal maxDrawdownAmount = previousState.map(DailyStatisticsEntity::getMaxDrawdownAmount).orElse(BigDecimal.ZERO)
+                .min(currentDrawdownAmount)
+                .min(BigDecimal.ZERO); // 결과가 0보다 크면 0 반환
+
+        // 누적 입출금 = 첫 번째 입출금 이후의 모든 입출금 합계
+        // - 이전 데이터가 1개 이하이면 0
+        // - 이전 데이터가 2개이면 두 번째 입출금 + 오늘 입출금
+        // - 그 외에는 이전 누적 입출금 + 오늘 입출금
+        int previousCount = carry.getCount();
+        BigDecimal cumulativeDepWdPrice;
+        if (previousCount <= 1) {
+            cumulativeDepWdPrice = BigDecimal.ZERO;
+        } else if (previousCount == 2) {
+            cumulativeDepWdPrice = previousState.map(DailyStatisticsEntity::getDepWdPrice).orElse(BigDecimal.ZERO).add(depWdPrice);
+        } else {
+            cumulativeDepWdPrice = previousState.map(DailyStatisticsEntity::getCumulativeDepWdPrice).orElse(BigDecimal.ZERO).add(depWdPrice);
+        }
+
+        BigDecimal depositAmount = DailyStatisticsCalculator.calculateDepositAmount(depWdPrice, firstEntry); // 입금 = 오늘 입출금 금액이 양수인 경우
+        BigDecimal cumulativeDepositAmount = DailyStatisticsCalculator.calculateCumulativeDeposit(
+                previousState.map(DailyStatisticsEntity::getCumulativeDepositAmount).orElse(BigDecimal.ZERO),
+                depositAmount); // 누적 입금 = 이전 누적 입금 + 오늘 입금 금액
+
+        BigDecimal withdrawAmount = DailyStatisticsCalculator.calculateWithdrawAmount(depWdPrice, firstEntry); // 출금 = 오늘 입출금 금액이 음수인 경우
+        BigDecimal cumulativeWithdrawAmount = DailyStatisticsCalculator.calculateCumulativeWithdraw(
+                previousState.map(DailyStatisticsEntity::getCumulativeWithdrawAmount).orElse(BigDecimal.ZERO),
+                withdrawAmount); // 누적 출금 = 이전 누적 출금 + 오늘 출금 금액
+
+        // 최대 일 이익 = max(이전 최대 일 이익, 오늘 일손익)
+        BigDecimal maxDailyProfit = previousState.map(DailyStatisticsEntity::getMaxDailyProfit).orElse(BigDecimal.ZERO).max(dailyProfitLoss);
+
+        // 최대 일 손실 = min(이전 최대 일 손실, 오늘 일손익)
+        BigDecimal maxDailyLoss = previousState.map(DailyStatisticsEntity::getMaxDailyLoss).orElse(BigDecimal.ZERO).min(dailyProfitLoss);
+
+        // 누적손익의 최대값 (Peak) = max(이전 Peak, 현재 누적손익, 0)
+        BigDecimal peak = previousState.map(DailyStatisticsEntity::getPeak).orElse(BigDecimal.ZERO)
+                .max(cumulativeProfitLoss)
+                .max(BigDecimal.ZERO);
+
+        return DailyStatisticsAmounts.builder()
+                .balance(balance)
+                .cumulativeProfitLoss(cumulativeProfitLoss)
+                .totalProfit(totalProfit)
+                .totalLoss(totalLoss)
+                .averageProfit(averageProfit)
+                .averageLoss(averageLoss)
+                .averageProfitLoss(averageProfitLoss)
+                .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
+                .currentDrawdownAmount(currentDrawdownAmount)
+                .maxDrawdownAmount(maxDrawdownAmount)
+                .cumulativeDepWdPrice(cumulativeDepWdPrice)
+                .depositAmount(depositAmount)
+                .cumulativeDepositAmount(cumulativeDepositAmount)
+                .withdrawAmount(withdrawAmount)
+                .cumulativeWithdrawAmount(cumulativeWithdrawAmount)
+                .maxDailyProfit(maxDailyProfit)
+                .maxDailyLoss(maxDailyLoss)
+                .peak(peak)
+                .build();
+    }
+}
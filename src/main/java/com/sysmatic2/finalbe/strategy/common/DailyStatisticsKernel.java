@@ -0,0 +1,11 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+/**
+ * 일간 통계 금액 지표 계산 방식.
+ *
+ * - 설정 키: {@code daily-statistics.calculation-kernel} (기본값: BIG_DECIMAL)
+ */
+public enum DailyStatisticsKernel {
+    BIG_DECIMAL, // 모든 값을 BigDecimal로 계산
+    FIXED_POINT  // 금액 지표를 소수점 10자리 고정소수점 long으로 계산하고, 저장 직전에만 BigDecimal로 변환
+}
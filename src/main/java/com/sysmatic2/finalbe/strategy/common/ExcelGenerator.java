@@ -3,7 +3,8 @@ package com.sysmatic2.finalbe.strategy.common;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -14,9 +15,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 
+/**
+ * 통계 엑셀 생성기.
+ *
+ * - SXSSF(스트리밍) 워크북을 사용하여 메모리에는 최근 ROW_ACCESS_WINDOW_SIZE개 행만 유지하고, 이전 행은 임시 파일로 내보냅니다.
+ *   따라서 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * - 셀 스타일은 워크북당 한 번만 만들어 재사용합니다. (셀마다 만들면 워크북의 스타일 수 제한(64,000개)에 걸리고 파일이 커짐)
+ */
 @Component
 public class ExcelGenerator {
 
+  // 메모리에 유지할 행 수 (초과분은 임시 파일로 내보냄)
+  public static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
   // 데이터 타입별 셀 설정 핸들러 맵
   private static final Map<Class<?>, BiConsumer<Cell, Object>> CELL_SETTERS = new HashMap<>();
 
@@ -34,345 +45,82 @@ public class ExcelGenerator {
   /**
    * 일간 통계 엑셀 파일 생성 메서드 (필요한 필드만 포함)
    *
-   * @param dailyStats 일간 통계 데이터 리스트
-   * @return Workbook 객체
+   * @param dailyStats 일간 통계 데이터 (리스트 또는 DB 스트림, 한 번만 순회)
+   * @return Workbook 객체 (SXSSF, 사용 후 close/dispose 필요)
    */
-  public Workbook generateDailyStatisticsExcel(List<DailyStatisticsEntity> dailyStats) {
-    Workbook workbook = new XSSFWorkbook();
-    Sheet sheet = workbook.createSheet("일간 통계");
-
-    // 헤더 스타일 설정
-    CellStyle headerStyle = getHeaderCellStyle(workbook);
-
-    // 필요한 칼럼 헤더 설정 (한글)
-    String[] headers = {
-            "일자", "원금", "입출금", "일손익", "일손익률", "누적손익", "누적수익률"
-    };
-
-    // 헤더 행 생성
-    createHeaderRow(workbook, sheet, sheet.createRow(0), headers);
-
-    // 데이터 행 추가
-    int rowIdx = 1;
-    for (DailyStatisticsEntity stat : dailyStats) {
-      Row row = sheet.createRow(rowIdx++);
-      int colIdx = 0;
-
-      // 일자
-      Cell dateCell = row.createCell(colIdx++);
-      dateCell.setCellValue(stat.getDate());
-      dateCell.setCellStyle(createDateCellStyle(workbook));
-
-      // 원금
-      Cell principalCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(principalCell, stat.getPrincipal(), createNumberCellStyle(workbook));
-
-      // 입출금
-      Cell depWdCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(depWdCell, stat.getDepWdPrice(), createNumberCellStyle(workbook));
-
-      // 일손익
-      Cell dailyPlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(dailyPlCell, stat.getDailyProfitLoss(), createNumberCellStyle(workbook));
-
-      // 일손익률
-      Cell dailyPlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(dailyPlRateCell, stat.getDailyPlRate(), createPercentageCellStyle(workbook));
-
-      // 누적손익
-      Cell cumulativePlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlCell, stat.getCumulativeProfitLoss(), createNumberCellStyle(workbook));
-
-      // 누적수익률
-      Cell cumulativePlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlRateCell, stat.getCumulativeProfitLossRate(), createPercentageCellStyle(workbook));
-    }
-
-    // 셀 너비 자동 조정
-    for (int i = 0; i < headers.length; i++) {
-      sheet.autoSizeColumn(i);
-    }
-
-    return workbook;
+  public Workbook generateDailyStatisticsExcel(Iterable<DailyStatisticsEntity> dailyStats) {
+    return generateExcel("일간 통계", StatisticsExportColumns.DAILY_STATISTICS, dailyStats);
   }
 
   /**
    * 월간 통계 엑셀 파일 생성 메서드 (필요한 필드만 포함)
    *
-   * @param monthlyStats 월간 통계 데이터 리스트
-   * @return Workbook 객체
+   * @param monthlyStats 월간 통계 데이터 (리스트 또는 DB 스트림, 한 번만 순회)
+   * @return Workbook 객체 (SXSSF, 사용 후 close/dispose 필요)
    */
-  public Workbook generateMonthlyStatisticsExcel(List<MonthlyStatisticsEntity> monthlyStats) {
-    Workbook workbook = new XSSFWorkbook();
-    Sheet sheet = workbook.createSheet("월간 통계");
-
-    // 헤더 스타일 설정
-    CellStyle headerStyle = getHeaderCellStyle(workbook);
-
-    // 월간 통계 칼럼 헤더 설정 (한글)
-    String[] headers = {
-            "월", "원금", "입출금", "월손익", "월손익률", "누적손익", "누적수익률"
-    };
-
-    // 헤더 행 생성
-    createHeaderRow(workbook, sheet, sheet.createRow(0), headers);
-
-    // 데이터 행 추가
-    int rowIdx = 1;
-    for (MonthlyStatisticsEntity stat : monthlyStats) {
-      Row row = sheet.createRow(rowIdx++);
-      int colIdx = 0;
-
-      // 월
-      Cell monthCell = row.createCell(colIdx++);
-      monthCell.setCellValue(stat.getAnalysisMonth().toString());
-      monthCell.setCellStyle(createDateCellStyle(workbook));
-
-      // 원금
-      Cell principalCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(principalCell, stat.getMonthlyAvgPrincipal(), createNumberCellStyle(workbook));
-
-      // 입출금
-      Cell depWdCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(depWdCell, stat.getMonthlyDepWdAmount(), createNumberCellStyle(workbook));
-
-      // 월손익
-      Cell monthlyPlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(monthlyPlCell, stat.getMonthlyProfitLoss(), createNumberCellStyle(workbook));
-
-      // 월손익률
-      Cell monthlyPlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(monthlyPlRateCell, stat.getMonthlyReturn(), createPercentageCellStyle(workbook));
-
-      // 누적손익
-      Cell cumulativePlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlCell, stat.getMonthlyCumulativeProfitLoss(), createNumberCellStyle(workbook));
-
-      // 누적수익률
-      Cell cumulativePlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlRateCell, stat.getMonthlyCumulativeReturn(), createPercentageCellStyle(workbook));
-    }
-
-    // 셀 너비 자동 조정
-    for (int i = 0; i < headers.length; i++) {
-      sheet.autoSizeColumn(i);
-    }
-
-    return workbook;
+  public Workbook generateMonthlyStatisticsExcel(Iterable<MonthlyStatisticsEntity> monthlyStats) {
+    return generateExcel("월간 통계", StatisticsExportColumns.MONTHLY_STATISTICS, monthlyStats);
   }
 
   /**
    * 일간 분석 지표 엑셀 파일 생성 메서드 (필요한 필드만 포함, 팔로워수 제외)
    *
-   * @param statistics 일간 통계 데이터 리스트
-   * @return Workbook 객체
+   * @param statistics 일간 통계 데이터 (리스트 또는 DB 스트림, 한 번만 순회)
+   * @return Workbook 객체 (SXSSF, 사용 후 close/dispose 필요)
    */
-  public Workbook generateDailyAnalysisIndicatorsExcel(List<DailyStatisticsEntity> statistics) {
-    Workbook workbook = new XSSFWorkbook();
-    Sheet sheet = workbook.createSheet("일간 분석 지표");
+  public Workbook generateDailyAnalysisIndicatorsExcel(Iterable<DailyStatisticsEntity> statistics) {
+    return generateExcel("일간 분석 지표", StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS, statistics);
+  }
 
-    // 헤더 스타일 설정
-    CellStyle headerStyle = getHeaderCellStyle(workbook);
+  /**
+   * 컬럼 정의에 따라 엑셀 파일 생성
+   *
+   * @param sheetName 시트 이름
+   * @param columns   컬럼 정의 ({@link StatisticsExportColumns})
+   * @param rows      데이터 (한 번만 순회)
+   * @return Workbook 객체 (SXSSF, 사용 후 close/dispose 필요)
+   */
+  public <T> Workbook generateExcel(String sheetName, List<ExportColumn<T>> columns, Iterable<T> rows) {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+    SXSSFSheet sheet = workbook.createSheet(sheetName);
 
-    // 필요한 칼럼 헤더 설정 (한글)
-    String[] headers = {
-            "일자", "원금", "입출금", "일손익", "일손익률", "누적손익", "누적수익률",
-            "최대일이익", "최대일이익률", "최대일손실", "최대일손실률", "총이익",
-            "총이익일수", "평균이익", "총손실", "총손실일수", "평균손실",
-            "누적손익", "누적손익률", "최대누적손익", "최대누적손익률",
-            "평균손익", "평균손익률", "Peak", "Peak(%)", "고점후경과일",
-            "현재자본인하금액", "현재자본인하율", "최대자본인하금액",
-            "최대자본인하율", "승률", "Profit Factor", "ROA",
-            "평균손익비", "변동계수", "Sharp Ratio",
-            "현재 연속 손익일수", "최대 연속 수익일수",
-            "최대 연속 손실일수", "최근 1년 수익률", "총전략운용일수",
-            "DD 기간", "DD기간 내 최대 자본인하율"
-    };
+    // 셀 스타일 (워크북당 한 번 생성)
+    CellStyles styles = CellStyles.of(workbook);
 
     // 헤더 행 생성
+    String[] headers = columns.stream().map(ExportColumn::header).toArray(String[]::new);
+    sheet.trackAllColumnsForAutoSizing();
     createHeaderRow(workbook, sheet, sheet.createRow(0), headers);
 
     // 데이터 행 추가
     int rowIdx = 1;
-    for (DailyStatisticsEntity stat : statistics) {
+    for (T item : rows) {
       Row row = sheet.createRow(rowIdx++);
       int colIdx = 0;
-
-      // 일자
-      Cell dateCell = row.createCell(colIdx++);
-      dateCell.setCellValue(stat.getDate());
-      dateCell.setCellStyle(createDateCellStyle(workbook));
-
-      // 원금
-      Cell principalCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(principalCell, stat.getPrincipal(), createNumberCellStyle(workbook));
-
-      // 입출금
-      Cell depWdCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(depWdCell, stat.getDepWdPrice(), createNumberCellStyle(workbook));
-
-      // 일손익
-      Cell dailyPlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(dailyPlCell, stat.getDailyProfitLoss(), createNumberCellStyle(workbook));
-
-      // 일손익률
-      Cell dailyPlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(dailyPlRateCell, stat.getDailyPlRate(), createPercentageCellStyle(workbook));
-
-      // 누적손익
-      Cell cumulativePlCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlCell, stat.getCumulativeProfitLoss(), createNumberCellStyle(workbook));
-
-      // 누적수익률
-      Cell cumulativePlRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativePlRateCell, stat.getCumulativeProfitLossRate(), createPercentageCellStyle(workbook));
-
-      // 최대일이익
-      Cell maxDailyProfitCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDailyProfitCell, stat.getMaxDailyProfit(), createNumberCellStyle(workbook));
-
-      // 최대일이익률
-      Cell maxDailyProfitRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDailyProfitRateCell, stat.getMaxDailyProfitRate(), createPercentageCellStyle(workbook));
-
-      // 최대일손실
-      Cell maxDailyLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDailyLossCell, stat.getMaxDailyLoss(), createNumberCellStyle(workbook));
-
-      // 최대일손실률
-      Cell maxDailyLossRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDailyLossRateCell, stat.getMaxDailyLossRate(), createPercentageCellStyle(workbook));
-
-      // 총이익
-      Cell totalProfitCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(totalProfitCell, stat.getTotalProfit(), createNumberCellStyle(workbook));
-
-      // 총이익일수
-      Cell totalProfitDaysCell = row.createCell(colIdx++);
-      totalProfitDaysCell.setCellValue(stat.getTotalProfitDays());
-
-      // 평균이익
-      Cell averageProfitCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(averageProfitCell, stat.getAverageProfit(), createNumberCellStyle(workbook));
-
-      // 총손실
-      Cell totalLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(totalLossCell, stat.getTotalLoss(), createNumberCellStyle(workbook));
-
-      // 총손실일수
-      Cell totalLossDaysCell = row.createCell(colIdx++);
-      totalLossDaysCell.setCellValue(stat.getTotalLossDays());
-
-      // 평균손실
-      Cell averageLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(averageLossCell, stat.getAverageLoss(), createNumberCellStyle(workbook));
-
-      // 누적손익
-      Cell cumulativeProfitLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativeProfitLossCell, stat.getCumulativeProfitLoss(), createNumberCellStyle(workbook));
-
-      // 누적수익률
-      Cell cumulativeProfitLossRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(cumulativeProfitLossRateCell, stat.getCumulativeProfitLossRate(), createPercentageCellStyle(workbook));
-
-      // 최대누적손익
-      Cell maxCumulativeProfitLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxCumulativeProfitLossCell, stat.getMaxCumulativeProfitLoss(), createNumberCellStyle(workbook));
-
-      // 최대누적손익률
-      Cell maxCumulativeProfitLossRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxCumulativeProfitLossRateCell, stat.getMaxCumulativeProfitLossRate(), createPercentageCellStyle(workbook));
-
-      // 평균손익
-      Cell averageProfitLossCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(averageProfitLossCell, stat.getAverageProfitLoss(), createNumberCellStyle(workbook));
-
-      // 평균손익률
-      Cell averageProfitLossRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(averageProfitLossRateCell, stat.getAverageProfitLossRate(), createPercentageCellStyle(workbook));
-
-      // Peak
-      Cell peakCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(peakCell, stat.getPeak(), createNumberCellStyle(workbook));
-
-      // Peak(%)
-      Cell peakRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(peakRateCell, stat.getPeakRate(), createPercentageCellStyle(workbook));
-
-      // 고점후경과일
-      Cell daysSincePeakCell = row.createCell(colIdx++);
-      daysSincePeakCell.setCellValue(stat.getDaysSincePeak());
-
-      // 현재자본인하금액
-      Cell currentDrawdownAmountCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(currentDrawdownAmountCell, stat.getCurrentDrawdownAmount(), createNumberCellStyle(workbook));
-
-      // 현재자본인하율
-      Cell currentDrawdownRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(currentDrawdownRateCell, stat.getCurrentDrawdownRate(), createPercentageCellStyle(workbook));
-
-      // 최대자본인하금액
-      Cell maxDrawdownAmountCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDrawdownAmountCell, stat.getMaxDrawdownAmount(), createNumberCellStyle(workbook));
-
-      // 최대자본인하율
-      Cell maxDrawdownRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDrawdownRateCell, stat.getMaxDrawdownRate(), createPercentageCellStyle(workbook));
-
-      // 승률
-      Cell winRateCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(winRateCell, stat.getWinRate(), createPercentageCellStyle(workbook));
-
-      // Profit Factor
-      Cell profitFactorCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(profitFactorCell, stat.getProfitFactor(), createNumberCellStyle(workbook));
-
-      // ROA
-      Cell roaCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(roaCell, stat.getRoa(), createNumberCellStyle(workbook));
-
-      // 평균손익비
-      Cell averageProfitLossRatioCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(averageProfitLossRatioCell, stat.getAverageProfitLossRatio(), createNumberCellStyle(workbook));
-
-      // 변동계수
-      Cell coefficientOfVariationCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(coefficientOfVariationCell, stat.getCoefficientOfVariation(), createNumberCellStyle(workbook));
-
-      // Sharp Ratio
-      Cell sharpRatioCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(sharpRatioCell, stat.getSharpRatio(), createNumberCellStyle(workbook));
-
-      // 현재 연속 손익일수
-      Cell currentConsecutivePlDaysCell = row.createCell(colIdx++);
-      currentConsecutivePlDaysCell.setCellValue(stat.getCurrentConsecutivePlDays());
-
-      // 최대 연속 수익일수
-      Cell maxConsecutiveProfitDaysCell = row.createCell(colIdx++);
-      maxConsecutiveProfitDaysCell.setCellValue(stat.getMaxConsecutiveProfitDays());
-
-      // 최대 연속 손실일수
-      Cell maxConsecutiveLossDaysCell = row.createCell(colIdx++);
-      maxConsecutiveLossDaysCell.setCellValue(stat.getMaxConsecutiveLossDays());
-
-      // 최근 1년 수익률
-      Cell recentOneYearReturnCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(recentOneYearReturnCell, stat.getRecentOneYearReturn(), createPercentageCellStyle(workbook));
-
-      // 총전략운용일수
-      Cell strategyOperationDaysCell = row.createCell(colIdx++);
-      strategyOperationDaysCell.setCellValue(stat.getStrategyOperationDays());
-
-      // DD 기간
-      Cell ddPeriodCell = row.createCell(colIdx++);
-      ddPeriodCell.setCellValue(stat.getDdDay());
-
-      // DD기간 내 최대 자본인하율
-      Cell maxDrawdownRateWithinDdPeriodCell = row.createCell(colIdx++);
-      setBigDecimalCellValue(maxDrawdownRateWithinDdPeriodCell, stat.getMaxDdInRate(), createPercentageCellStyle(workbook));
+      for (ExportColumn<T> column : columns) {
+        Cell cell = row.createCell(colIdx++);
+        Object value = column.value().apply(item);
+        switch (column.type()) {
+          case DATE -> {
+            if (value instanceof LocalDate date) {
+              cell.setCellValue(date);
+            } else if (value != null) {
+              cell.setCellValue(value.toString()); // 월(YearMonth)은 문자열
+            }
+            cell.setCellStyle(styles.date());
+          }
+          case NUMBER -> setBigDecimalCellValue(cell, (BigDecimal) value, styles.number());
+          case PERCENTAGE -> setBigDecimalCellValue(cell, (BigDecimal) value, styles.percentage());
+          case INTEGER -> {
+            if (value != null) {
+              cell.setCellValue(((Number) value).doubleValue());
+            }
+          }
+        }
+      }
     }
 
-    // 셀 너비 자동 조정
+    // 셀 너비 자동 조정 (행을 쓰는 동안 추적한 열 너비 사용)
     for (int i = 0; i < headers.length; i++) {
       sheet.autoSizeColumn(i);
     }
@@ -418,7 +166,7 @@ public class ExcelGenerator {
    * @param workbook Workbook 객체
    * @return 날짜 셀 스타일
    */
-  private CellStyle createDateCellStyle(Workbook workbook) {
+  private static CellStyle createDateCellStyle(Workbook workbook) {
     CellStyle dateStyle = workbook.createCellStyle();
     CreationHelper createHelper = workbook.getCreationHelper();
     dateStyle.setDataFormat(createHelper.createDataFormat().getFormat("yyyy-mm-dd"));
@@ -431,7 +179,7 @@ public class ExcelGenerator {
    * @param workbook Workbook 객체
    * @return 숫자 셀 스타일
    */
-  private CellStyle createNumberCellStyle(Workbook workbook) {
+  private static CellStyle createNumberCellStyle(Workbook workbook) {
     CellStyle numberStyle = workbook.createCellStyle();
     CreationHelper createHelper = workbook.getCreationHelper();
     numberStyle.setDataFormat(createHelper.createDataFormat().getFormat("#,##0.00"));
@@ -444,13 +192,22 @@ public class ExcelGenerator {
    * @param workbook Workbook 객체
    * @return 퍼센트 셀 스타일
    */
-  private CellStyle createPercentageCellStyle(Workbook workbook) {
+  private static CellStyle createPercentageCellStyle(Workbook workbook) {
     CellStyle percentageStyle = workbook.createCellStyle();
     CreationHelper createHelper = workbook.getCreationHelper();
     percentageStyle.setDataFormat(createHelper.createDataFormat().getFormat("0.00%"));
     return percentageStyle;
   }
 
+  /**
+   * 워크북당 한 번 만드는 데이터 셀 스타일
+   */
+  private record CellStyles(CellStyle date, CellStyle number, CellStyle percentage) {
+    static CellStyles of(Workbook workbook) {
+      return new CellStyles(createDateCellStyle(workbook), createNumberCellStyle(workbook), createPercentageCellStyle(workbook));
+    }
+  }
+
   /**
    * BigDecimal 값을 셀에 설정하는 헬퍼 메소드
    *
@@ -0,0 +1,24 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.util.function.Function;
+
+/**
+ * 통계 다운로드(엑셀, CSV) 컬럼 정의.
+ *
+ * @param header 컬럼 헤더 (한글)
+ * @param type   값 형식 (엑셀 셀 스타일 결정)
+ * @param value  행에서 값을 꺼내는 함수 (LocalDate, YearMonth, BigDecimal, Integer 등, 값이 없으면 null)
+ * @param <T>    행 타입
+ */
+public record ExportColumn<T>(String header, Type type, Function<T, ?> value) {
+
+  /**
+   * 값 형식
+   */
+  public enum Type {
+    DATE,       // 일자, 월
+    NUMBER,     // 금액 등 (#,##0.00)
+    PERCENTAGE, // 비율 (0.00%)
+    INTEGER     // 일수 등
+  }
+}
@@ -0,0 +1,47 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 통계 다운로드 파일 형식 (요청 파라미터 format)
+ */
+public enum ExportFormat {
+  XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+  CSV("csv", "text/csv;charset=UTF-8"),
+  CSV_GZ("csv.gz", "application/gzip");
+
+  private final String extension; // 파라미터 값이자 파일 확장자
+  private final MediaType mediaType;
+
+  ExportFormat(String extension, String mediaType) {
+    this.extension = extension;
+    this.mediaType = MediaType.parseMediaType(mediaType);
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * 파라미터 값(xlsx, csv, csv.gz)으로 형식을 찾습니다. (대소문자 무시)
+   *
+   * @param value 파라미터 값 (없으면 xlsx)
+   * @return 파일 형식
+   * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+   */
+  public static ExportFormat from(String value) {
+    if (value == null || value.isBlank()) {
+      return XLSX;
+    }
+    for (ExportFormat format : values()) {
+      if (format.extension.equalsIgnoreCase(value.trim())) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + value + " (xlsx, csv, csv.gz)");
+  }
+}
@@ -0,0 +1,167 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+
+import java.math.BigDecimal;
+
+import static com.sysmatic2.finalbe.strategy.common.FixedPointDecimal.divideToIntegralHalfUp;
+import static com.sysmatic2.finalbe.strategy.common.FixedPointDecimal.toBigDecimal;
+import static com.sysmatic2.finalbe.strategy.common.FixedPointDecimal.toScaled;
+
+/**
+ * 금액 지표 고정소수점 계산 커널.
+ *
+ * - 직전 일자의 금액 지표를 long 배열로 보관하고, 오늘 값을 long 연산(덧셈/비교)만으로 계산합니다.
+ * - BigDecimal 변환은 결과를 엔티티에 담을 때 한 번만 수행합니다.
+ * - 값이 고정소수점 범위를 넘거나 잔고가 음수가 되는 경우 null을 반환하며, 호출하는 쪽은 BigDecimal 계산으로 대체합니다.
+ */
+class FixedPointAmountKernel {
+    // 누적 상태 배열 인덱스
+    static final int BALANCE = 0;                    // 잔고
+    static final int CUMULATIVE_PROFIT_LOSS = 1;     // 누적손익
+    static final int TOTAL_PROFIT = 2;               // 총 이익
+    static final int TOTAL_LOSS = 3;                 // 총 손실
+    static final int MAX_CUMULATIVE_PROFIT_LOSS = 4; // 최대 누적손익
+    static final int MAX_DRAWDOWN_AMOUNT = 5;        // 최대 자본인하 금액
+    static final int DEP_WD_PRICE = 6;               // 입출금
+    static final int CUMULATIVE_DEP_WD_PRICE = 7;    // 누적 입출금
+    static final int CUMULATIVE_DEPOSIT_AMOUNT = 8;  // 누적 입금
+    static final int CUMULATIVE_WITHDRAW_AMOUNT = 9; // 누적 출금
+    static final int MAX_DAILY_PROFIT = 10;          // 최대 일 이익
+    static final int MAX_DAILY_LOSS = 11;            // 최대 일 손실
+    static final int PEAK = 12;                      // 누적손익의 최대값
+    static final int STATE_SIZE = 13;
+
+    private FixedPointAmountKernel() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * 오늘의 금액 지표를 고정소수점으로 계산합니다.
+     * - 계산된 long 상태는 누적 상태에 보관되어 다음 일자 계산에서 다시 변환 없이 사용됩니다.
+     *
+     * @param carry           직전 일자까지의 누적 상태
+     * @param dailyProfitLoss 오늘의 일손익
+     * @param depWdPrice      오늘의 입출금 금액
+     * @param tradingDays     오늘까지의 거래일수
+     * @param totalProfitDays 오늘까지의 이익일수
+     * @param totalLossDays   오늘까지의 손실일수
+     * @return 금액 지표 (고정소수점으로 계산할 수 없으면 null)
+     */
+    static DailyStatisticsAmounts calculate(DailyStatisticsCarry carry,
+                                            BigDecimal dailyProfitLoss,
+                                            BigDecimal depWdPrice,
+                                            int tradingDays,
+                                            int totalProfitDays,
+                                            int totalLossDays) {
+        try {
+            boolean firstEntry = carry.getPrevious().isEmpty();
+            long[] previous = carry.getFixedPointAmounts();
+            if (previous == null) {
+                previous = seed(carry.getPrevious().orElse(null));
+            }
+
+            long profitLoss = toScaled(dailyProfitLoss);
+            long depWd = toScaled(depWdPrice);
+            long[] current = new long[STATE_SIZE];
+
+            // 잔고 = 이전 잔고 + 일손익 + 입출금 (음수인 경우 BigDecimal 계산에서 예외 처리)
+            current[BALANCE] = Math.addExact(Math.addExact(previous[BALANCE], profitLoss), depWd);
+            if (current[BALANCE] < 0) {
+                return null;
+            }
+
+            // 누적손익, 총 이익, 총 손실
+            current[CUMULATIVE_PROFIT_LOSS] = Math.addExact(previous[CUMULATIVE_PROFIT_LOSS], profitLoss);
+            current[TOTAL_PROFIT] = Math.addExact(previous[TOTAL_PROFIT], Math.max(profitLoss, 0L));
+            current[TOTAL_LOSS] = Math.addExact(previous[TOTAL_LOSS], Math.min(profitLoss, 0L));
+
+            // 평균 이익/손실/손익 (정수로 반올림)
+            long averageProfit = totalProfitDays > 0 ? divideToIntegralHalfUp(current[TOTAL_PROFIT], totalProfitDays) : 0L;
+            long averageLoss = totalLossDays > 0 ? divideToIntegralHalfUp(current[TOTAL_LOSS], totalLossDays) : 0L;
+            long averageProfitLoss = tradingDays > 0
+                    ? divideToIntegralHalfUp(Math.addExact(current[TOTAL_PROFIT], current[TOTAL_LOSS]), tradingDays)
+                    : 0L;
+
+            // 최대 누적손익, 현재/최대 자본인하 금액
+            current[MAX_CUMULATIVE_PROFIT_LOSS] = Math.max(current[CUMULATIVE_PROFIT_LOSS], previous[MAX_CUMULATIVE_PROFIT_LOSS]);
+            long currentDrawdownAmount = current[CUMULATIVE_PROFIT_LOSS] > 0
+                    ? current[CUMULATIVE_PROFIT_LOSS] - current[MAX_CUMULATIVE_PROFIT_LOSS]
+                    : 0L;
+            current[MAX_DRAWDOWN_AMOUNT] = Math.min(Math.min(previous[MAX_DRAWDOWN_AMOUNT], currentDrawdownAmount), 0L);
+
+            // 누적 입출금 (첫 번째 입출금 이후의 합계)
+            int previousCount = carry.getCount();
+            current[DEP_WD_PRICE] = depWd;
+            if (previousCount <= 1) {
+                current[CUMULATIVE_DEP_WD_PRICE] = 0L;
+            } else if (previousCount == 2) {
+                current[CUMULATIVE_DEP_WD_PRICE] = Math.addExact(previous[DEP_WD_PRICE], depWd);
+            } else {
+                current[CUMULATIVE_DEP_WD_PRICE] = Math.addExact(previous[CUMULATIVE_DEP_WD_PRICE], depWd);
+            }
+
+            // 입금/출금 및 누적 입금/출금 (첫 번째 입력은 0)
+            long depositAmount = firstEntry ? 0L : Math.max(depWd, 0L);
+            long withdrawAmount = firstEntry ? 0L : Math.negateExact(Math.min(depWd, 0L));
+            current[CUMULATIVE_DEPOSIT_AMOUNT] = Math.addExact(previous[CUMULATIVE_DEPOSIT_AMOUNT], depositAmount);
+            current[CUMULATIVE_WITHDRAW_AMOUNT] = Math.addExact(previous[CUMULATIVE_WITHDRAW_AMOUNT], withdrawAmount);
+
+            // 최대 일 이익/손실, Peak
+            current[MAX_DAILY_PROFIT] = Math.max(previous[MAX_DAILY_PROFIT], profitLoss);
+            current[MAX_DAILY_LOSS] = Math.min(previous[MAX_DAILY_LOSS], profitLoss);
+            current[PEAK] = Math.max(Math.max(previous[PEAK], current[CUMULATIVE_PROFIT_LOSS]), 0L);
+
+            carry.stageFixedPointAmounts(current);
+
+            // 저장 경계에서만 BigDecimal로 변환
+            return DailyStatisticsAmounts.builder()
+                    .balance(toBigDecimal(current[BALANCE]))
+                    .cumulativeProfitLoss(toBigDecimal(current[CUMULATIVE_PROFIT_LOSS]))
+                    .totalProfit(toBigDecimal(current[TOTAL_PROFIT]))
+                    .totalLoss(toBigDecimal(current[TOTAL_LOSS]))
+                    .averageProfit(toBigDecimal(averageProfit))
+                    .averageLoss(toBigDecimal(averageLoss))
+                    .averageProfitLoss(toBigDecimal(averageProfitLoss))
+                    .maxCumulativeProfitLoss(toBigDecimal(current[MAX_CUMULATIVE_PROFIT_LOSS]))
+                    .currentDrawdownAmount(toBigDecimal(currentDrawdownAmount))
+                    .maxDrawdownAmount(toBigDecimal(current[MAX_DRAWDOWN_AMOUNT]))
+                    .cumulativeDepWdPrice(toBigDecimal(current[CUMULATIVE_DEP_WD_PRICE]))
+                    .depositAmount(toBigDecimal(depositAmount))
+                    .cumulativeDepositAmount(toBigDecimal(current[CUMULATIVE_DEPOSIT_AMOUNT]))
+                    .withdrawAmount(toBigDecimal(withdrawAmount))
+                    .cumulativeWithdrawAmount(toBigDecimal(current[CUMULATIVE_WITHDRAW_AMOUNT]))
+                    .maxDailyProfit(toBigDecimal(current[MAX_DAILY_PROFIT]))
+                    .maxDailyLoss(toBigDecimal(current[MAX_DAILY_LOSS]))
+                    .peak(toBigDecimal(current[PEAK]))
+                    .build();
+        } catch (ArithmeticException e) {
+            // 고정소수점 범위 초과: BigDecimal 계산으로 대체
+            return null;
+        }
+    }
+
+    /**
+     * 직전 일자의 통계로 long 상태를 생성합니다. (이전 데이터가 없으면 모두 0)
+     */
+    private static long[] seed(DailyStatisticsEntity previous) {
+        long[] state = new long[STATE_SIZE];
+        if (previous == null) {
+            return state;
+        }
+        state[BALANCE] = toScaled(previous.getBalance());
+        state[CUMULATIVE_PROFIT_LOSS] = toScaled(previous.getCumulativeProfitLoss());
+        state[TOTAL_PROFIT] = toScaled(previous.getTotalProfit());
+        state[TOTAL_LOSS] = toScaled(previous.getTotalLoss());
+        state[MAX_CUMULATIVE_PROFIT_LOSS] = toScaled(previous.getMaxCumulativeProfitLoss());
+        state[MAX_DRAWDOWN_AMOUNT] = toScaled(previous.getMaxDrawdownAmount());
+        state[DEP_WD_PRICE] = toScaled(previous.getDepWdPrice());
+        state[CUMULATIVE_DEP_WD_PRICE] = toScaled(previous.getCumulativeDepWdPrice());
+        state[CUMULATIVE_DEPOSIT_AMOUNT] = toScaled(previous.getCumulativeDepositAmount());
+        state[CUMULATIVE_WITHDRAW_AMOUNT] = toScaled(previous.getCumulativeWithdrawAmount());
+        state[MAX_DAILY_PROFIT] = toScaled(previous.getMaxDailyProfit());
+        state[MAX_DAILY_LOSS] = toScaled(previous.getMaxDailyLoss());
+        state[PEAK] = toScaled(previous.getPeak());
+        return state;
+    }
+}
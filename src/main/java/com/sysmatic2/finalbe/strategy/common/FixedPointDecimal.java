@@ -0,0 +1,69 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 소수점 10자리 고정소수점 연산 유틸리티.
+ *
+ * - 금액을 10^10배 한 long 값으로 표현합니다. (일간 통계 컬럼의 precision = 25, scale = 10과 같은 소수 자릿수)
+ * - long으로 표현할 수 있는 범위는 약 ±922,337,203.6854775807 이며, 범위를 넘거나 소수점 10자리를 넘는 값은
+ *   {@link ArithmeticException}을 발생시킵니다. 호출하는 쪽은 이 경우 BigDecimal 계산으로 대체해야 합니다.
+ * - 반올림 규칙은 BigDecimal의 {@link RoundingMode#HALF_UP}과 같습니다.
+ */
+public class FixedPointDecimal {
+    public static final int SCALE = 10; // 소수 자릿수
+    public static final long ONE = 10_000_000_000L; // 1.0000000000
+
+    private FixedPointDecimal() {
+        // 유틸리티 클래스는 인스턴스화 금지
+    }
+
+    /**
+     * BigDecimal 값을 고정소수점 long 값으로 변환합니다.
+     *
+     * @param value 변환할 값 (null이면 0)
+     * @return 10^10배 한 long 값
+     * @throws ArithmeticException 소수점 10자리를 넘거나 long 범위를 넘는 경우
+     */
+    public static long toScaled(BigDecimal value) {
+        if (value == null) {
+            return 0L;
+        }
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 고정소수점 long 값을 BigDecimal(소수점 10자리)로 변환합니다.
+     *
+     * @param scaled 10^10배 한 long 값
+     * @return BigDecimal 값
+     */
+    public static BigDecimal toBigDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+
+    /**
+     * 고정소수점 값을 정수로 나누고 소수점 이하를 HALF_UP으로 반올림합니다.
+     * - {@code value.divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)}와 같은 결과입니다.
+     *
+     * @param scaled  나눌 값 (10^10배 한 long 값)
+     * @param divisor 나누는 정수 (0보다 커야 함)
+     * @return 정수로 반올림된 결과 (10^10배 한 long 값)
+     * @throws ArithmeticException 결과가 long 범위를 넘는 경우
+     */
+    public static long divideToIntegralHalfUp(long scaled, int divisor) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("나누는 값은 0보다 커야 합니다.");
+        }
+        long scaledDivisor = Math.multiplyExact(ONE, divisor);
+        long quotient = scaled / scaledDivisor;
+        long remainder = Math.abs(scaled % scaledDivisor);
+
+        // 나머지가 나누는 값의 절반 이상이면 0에서 먼 쪽으로 반올림 (HALF_UP)
+        if (remainder >= scaledDivisor - remainder) {
+            quotient += Long.signum(scaled);
+        }
+        return Math.multiplyExact(quotient, ONE);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+/**
+ * 차트용 LTTB(Largest-Triangle-Three-Buckets) 다운샘플링.
+ *
+ * - 첫 점과 마지막 점은 항상 남기고, 나머지 구간을 (maxPoints - 2)개의 버킷으로 나눠 버킷마다 1개의 점을 고릅니다.
+ * - 버킷에서는 직전에 고른 점, 다음 버킷의 평균점과 만드는 삼각형 넓이가 가장 큰 점을 고르므로 봉우리/골짜기 모양이 유지됩니다.
+ * - 여러 계열을 함께 그리는 차트의 날짜가 어긋나지 않도록 모든 계열이 같은 위치(인덱스)를 공유합니다.
+ *   이때 계열마다 값의 범위가 다르므로 (최대 - 최소)로 정규화한 넓이의 합이 가장 큰 점을 고릅니다.
+ * - x축은 데이터 순서(인덱스)를 사용하고, 값이 없는 점(NaN)은 넓이 계산에서 제외합니다.
+ */
+public class LttbDownsampler {
+    public static final int MIN_POINTS = 3; // 첫 점, 마지막 점 + 버킷 1개
+
+    private LttbDownsampler() {
+    }
+
+    /**
+     * 남길 점의 인덱스를 오름차순으로 반환합니다.
+     *
+     * @param series    계열별 값 배열 (모든 배열의 앞 size개 사용, 값이 없으면 NaN)
+     * @param size      데이터 수
+     * @param maxPoints 남길 최대 점 수 ({@link #MIN_POINTS} 이상)
+     * @return 남길 점의 인덱스 (size가 maxPoints 이하이면 전체 인덱스)
+     */
+    public static int[] selectIndices(double[][] series, int size, int maxPoints) {
+        if (maxPoints < MIN_POINTS) {
+            throw new IllegalArgumentException("maxPoints는 " + MIN_POINTS + " 이상이어야 합니다: " + maxPoints);
+        }
+        if (size <= maxPoints) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        double[][] normalized = normalize(series, size);
+        int[] selected = new int[maxPoints];
+        int count = 0;
+        selected[count++] = 0;
+
+        double bucketWidth = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // 현재 버킷 [from, to), 다음 버킷 [nextFrom, nextTo) (마지막 버킷의 다음은 마지막 점)
+            int from = (int) (bucket * bucketWidth) + 1;
+            int to = bucket == maxPoints - 3 ? size - 1 : (int) ((bucket + 1) * bucketWidth) + 1;
+            int nextFrom = to;
+            int nextTo = Math.min((int) ((bucket + 2) * bucketWidth) + 1, size);
+            if (nextFrom >= size - 1) {
+                nextFrom = size - 1;
+                nextTo = size;
+            }
+
+            double averageX = (nextFrom + nextTo - 1) / 2.0;
+            double[] averageY = new double[normalized.length];
+            for (int s = 0; s < normalized.length; s++) {
+                averageY[s] = average(normalized[s], nextFrom, nextTo);
+            }
+
+            int best = from;
+            double bestArea = -1;
+            for (int i = from; i < to; i++) {
+                double area = 0;
+                for (int s = 0; s < normalized.length; s++) {
+                    double previousY = normalized[s][previous];
+                    double y = normalized[s][i];
+                    if (Double.isNaN(previousY) || Double.isNaN(y) || Double.isNaN(averageY[s])) {
+                        continue;
+                    }
+                    area += Math.abs((previous - averageX) * (y - previousY) - (previous - i) * (averageY[s] - previousY));
+                }
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = i;
+                }
+            }
+            selected[count++] = best;
+            previous = best;
+        }
+
+        selected[count] = size - 1;
+        return selected;
+    }
+
+    /**
+     * 계열별로 (값 - 최소) / (최대 - 최소)로 정규화합니다. (값이 모두 같으면 0)
+     */
+    private static double[][] normalize(double[][] series, int size) {
+        double[][] normalized = new double[series.length][];
+        for (int s = 0; s < series.length; s++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                double value = series[s][i];
+                if (!Double.isNaN(value)) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            double scale = max > min ? 1.0 / (max - min) : 0.0;
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                double value = series[s][i];
+                values[i] = Double.isNaN(value) ? Double.NaN : (value - min) * scale;
+            }
+            normalized[s] = values;
+        }
+        return normalized;
+    }
+
+    /**
+     * [from, to) 구간의 평균 (값이 없으면 NaN)
+     */
+    private static double average(double[] values, int from, int to) {
+        double sum = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+}
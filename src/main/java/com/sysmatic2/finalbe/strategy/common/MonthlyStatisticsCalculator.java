@@ -13,6 +13,7 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class MonthlyStatisticsCalculator {
 
@@ -143,18 +144,29 @@ public class MonthlyStatisticsCalculator {
         // 이전 월 마지막 기준가 가져오기
         BigDecimal previousReferencePrice = getPreviousMonthLastReferencePrice(strategyId, previousMonth, dsp);
 
+        return calculateMonthlyReturn(previousReferencePrice, dailyStatistics.getReferencePrice());
+    }
+
+    /**
+     * 이전 월 마지막 기준가와 현재 기준가로 월 손익률을 계산하는 메서드.
+     *
+     * @param previousReferencePrice 이전 월 마지막 기준가 (없으면 0)
+     * @param currentReferencePrice  현재 월 마지막 기준가
+     * @return 월 손익률 (계산할 수 없으면 0 반환)
+     */
+    public static BigDecimal calculateMonthlyReturn(BigDecimal previousReferencePrice, BigDecimal currentReferencePrice) {
         // 이전 기준가 검증: 0 이하일 경우 월 손익률 0 반환
-        if (previousReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
+        if (previousReferencePrice == null || previousReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
             return BigDecimal.ZERO;
         }
 
         // 현재 기준가 검증: 0 이하일 경우 월 손익률 0 반환
-        if (dailyStatistics.getReferencePrice() == null || dailyStatistics.getReferencePrice().compareTo(BigDecimal.ZERO) <= 0) {
+        if (currentReferencePrice == null || currentReferencePrice.compareTo(BigDecimal.ZERO) <= 0) {
             return BigDecimal.ZERO;
         }
 
         // 월 손익률 = (현재 기준가 - 이전 기준가) / 이전 기준가
-        return (dailyStatistics.getReferencePrice()).subtract(previousReferencePrice)
+        return currentReferencePrice.subtract(previousReferencePrice)
                 .divide(previousReferencePrice, 4, RoundingMode.HALF_UP);
     }
 
@@ -209,6 +221,107 @@ public class MonthlyStatisticsCalculator {
         return referencePrices == null || referencePrices.isEmpty() ? BigDecimal.ZERO : referencePrices.get(0);
     }
 
+    /**
+     * 월간 통계의 누적 상태를 초기화하는 메서드.
+     *
+     * @param monthlyStatistics           초기화할 월간 통계 데이터
+     * @param previousMonthReferencePrice 이전 월 마지막 기준가 (없으면 0)
+     */
+    public static void resetMonthlyCarry(MonthlyStatisticsEntity monthlyStatistics, BigDecimal previousMonthReferencePrice) {
+        monthlyStatistics.setDailyCount(0);
+        monthlyStatistics.setPrincipalSum(BigDecimal.ZERO);
+        monthlyStatistics.setDepWdAmountSum(BigDecimal.ZERO);
+        monthlyStatistics.setProfitLossSum(BigDecimal.ZERO);
+        monthlyStatistics.setPreviousMonthReferencePrice(
+                previousMonthReferencePrice == null ? BigDecimal.ZERO : previousMonthReferencePrice);
+    }
+
+    /**
+     * 일간 데이터 하나를 월간 통계의 누적 상태에 더하고 월간 지표를 계산하는 메서드.
+     *
+     * - 해당 월 일간 데이터를 다시 조회하지 않고 누적 합계와 개수만으로 계산합니다. (O(1))
+     * - 전달된 일간 데이터를 해당 월의 마지막 데이터로 보고 월 손익률, 월 누적 손익, 월 누적 손익률을 계산합니다.
+     *
+     * @param monthlyStatistics 누적 상태가 있는 월간 통계 데이터
+     * @param dailyStatistics   해당 월에 추가되는 일간 통계 데이터 (날짜 오름차순으로 전달)
+     */
+    public static void accumulateDailyStatistics(MonthlyStatisticsEntity monthlyStatistics, DailyStatisticsEntity dailyStatistics) {
+        // 누적 상태 갱신
+        int dailyCount = monthlyStatistics.getDailyCount() + 1;
+        BigDecimal principalSum = monthlyStatistics.getPrincipalSum().add(dailyStatistics.getPrincipal());
+        BigDecimal depWdAmountSum = monthlyStatistics.getDepWdAmountSum().add(dailyStatistics.getDepWdPrice());
+        BigDecimal profitLossSum = monthlyStatistics.getProfitLossSum().add(dailyStatistics.getDailyProfitLoss());
+        monthlyStatistics.setDailyCount(dailyCount);
+        monthlyStatistics.setPrincipalSum(principalSum);
+        monthlyStatistics.setDepWdAmountSum(depWdAmountSum);
+        monthlyStatistics.setProfitLossSum(profitLossSum);
+
+        // 월평균 원금, 월 입출금 총액, 월 손익
+        monthlyStatistics.setMonthlyAvgPrincipal(principalSum.divide(BigDecimal.valueOf(dailyCount), 4, RoundingMode.HALF_UP));
+        monthlyStatistics.setMonthlyDepWdAmount(depWdAmountSum);
+        monthlyStatistics.setMonthlyProfitLoss(profitLossSum);
+
+        // 월 손익률, 월 누적 손익, 월 누적 손익률 (해당 월 마지막 일간 데이터 기준)
+        monthlyStatistics.setMonthlyReturn(calculateMonthlyReturn(
+                monthlyStatistics.getPreviousMonthReferencePrice(), dailyStatistics.getReferencePrice()));
+        monthlyStatistics.setMonthlyCumulativeProfitLoss(calculateCumulativeProfitLoss(dailyStatistics));
+        monthlyStatistics.setMonthlyCumulativeReturn(calculateCumulativeReturn(dailyStatistics));
+    }
+
+    /**
+     * 날짜순 일간 데이터를 한 번 순회하여 여러 월의 월간 통계를 생성하는 메서드. (백필, 재계산용)
+     *
+     * - 월이 바뀔 때마다 누적 상태를 초기화하고, 직전 월의 마지막 기준가를 다음 월의 이전 기준가로 넘깁니다.
+     * - 직전 달력 월에 일간 데이터가 없으면 이전 기준가는 0입니다. (월 단위 조회 결과와 동일)
+     *
+     * @param sortedDailyStatistics            날짜 오름차순 일간 데이터 (첫 번째 월의 처음 데이터부터 포함)
+     * @param firstPreviousMonthReferencePrice 첫 번째 월의 이전 월 마지막 기준가 (없으면 0)
+     * @param existingByMonth                  기존 월간 통계 데이터 (년월 기준, 있으면 PK를 유지한 채 갱신)
+     * @return 월 오름차순 월간 통계 데이터 리스트
+     */
+    public static List<MonthlyStatisticsEntity> buildMonthlyStatistics(List<DailyStatisticsEntity> sortedDailyStatistics,
+                                                                       BigDecimal firstPreviousMonthReferencePrice,
+                                                                       Map<String, MonthlyStatisticsEntity> existingByMonth) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        List<MonthlyStatisticsEntity> monthlyStatisticsList = new ArrayList<>();
+        MonthlyStatisticsEntity monthlyStatistics = null;
+        YearMonth currentMonth = null;
+        BigDecimal lastReferencePrice = null; // 현재 월의 마지막 기준가
+
+        for (DailyStatisticsEntity dailyStatistics : sortedDailyStatistics) {
+            YearMonth month = YearMonth.from(dailyStatistics.getDate());
+
+            // 월이 바뀌면 새 월간 통계로 전환
+            if (!month.equals(currentMonth)) {
+                BigDecimal previousMonthReferencePrice;
+                if (currentMonth == null) {
+                    previousMonthReferencePrice = firstPreviousMonthReferencePrice;
+                } else if (currentMonth.plusMonths(1).equals(month)) {
+                    previousMonthReferencePrice = lastReferencePrice;
+                } else {
+                    previousMonthReferencePrice = BigDecimal.ZERO; // 직전 달력 월에 데이터 없음
+                }
+
+                String analysisMonth = month.format(formatter);
+                monthlyStatistics = existingByMonth.get(analysisMonth);
+                if (monthlyStatistics == null) {
+                    monthlyStatistics = MonthlyStatisticsEntity.builder()
+                            .strategyEntity(dailyStatistics.getStrategyEntity())
+                            .analysisMonth(analysisMonth)
+                            .build();
+                }
+                resetMonthlyCarry(monthlyStatistics, previousMonthReferencePrice);
+                monthlyStatisticsList.add(monthlyStatistics);
+                currentMonth = month;
+            }
+
+            accumulateDailyStatistics(monthlyStatistics, dailyStatistics);
+            lastReferencePrice = dailyStatistics.getReferencePrice();
+        }
+
+        return monthlyStatisticsList;
+    }
+
     /**
      * 주어진 월(yyyy-MM)에서 이전 월(yyyy-MM)을 계산하는 메서드.
      *
@@ -0,0 +1,69 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 전략 목록 필터의 정규화된 시그니처 생성기. (전체 개수 캐시 키)
+ *
+ * - 같은 결과를 내는 필터는 같은 문자열이 되도록 목록은 중복 제거 후 정렬하고, 숫자는 끝자리 0을 제거합니다.
+ * - 키워드는 대소문자를 구분하지 않는 검색이므로 소문자로 변환합니다.
+ */
+public class SearchOptionsSignature {
+
+    private SearchOptionsSignature() {
+    }
+
+    /**
+     * 투자주기, 투자자산 분류 필터의 시그니처
+     */
+    public static String of(Integer tradingCycleId, Integer investmentAssetClassesId) {
+        return "filters|cycle=" + format(tradingCycleId) + "|iac=" + format(investmentAssetClassesId);
+    }
+
+    /**
+     * 상세 검색 옵션의 시그니처
+     */
+    public static String of(SearchOptionsDto searchOptions) {
+        return "advanced"
+                + "|iac=" + join(searchOptions.getInvestmentAssetClassesIdList())
+                + "|status=" + join(searchOptions.getStrategyOperationStatusList())
+                + "|type=" + join(searchOptions.getTradingTypeIdList())
+                + "|days=" + join(searchOptions.getOperationDaysList())
+                + "|cycle=" + join(searchOptions.getTradingCylcleIdList())
+                + "|minInvest=" + format(searchOptions.getMinInvestmentAmount())
+                + "|principal=" + format(searchOptions.getMinPrincipal()) + "~" + format(searchOptions.getMaxPrincipal())
+                + "|sm=" + format(searchOptions.getMinSmscore()) + "~" + format(searchOptions.getMaxSmscore())
+                + "|mdd=" + format(searchOptions.getMinMdd()) + "~" + format(searchOptions.getMaxMdd())
+                + "|period=" + format(searchOptions.getStartDate()) + "~" + format(searchOptions.getEndDate())
+                + "|return=" + join(searchOptions.getReturnRateList())
+                + "|keyword=" + (searchOptions.getKeyword() == null ? "" : searchOptions.getKeyword().toLowerCase(Locale.ROOT));
+    }
+
+    private static String join(List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        return String.valueOf(value);
+    }
+}
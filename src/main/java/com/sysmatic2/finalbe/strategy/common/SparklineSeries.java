@@ -0,0 +1,256 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전략 목록 카드용 누적 수익률 스파크라인 (고정 크기 min/max 버킷 다운샘플링).
+ *
+ * - 시계열을 최대 {@link #MAX_BUCKETS}개의 버킷으로 나누고, 버킷마다 최소값/최대값 2개를 발생 순서대로 보관합니다.
+ * - 버킷이 가득 차면 인접한 두 버킷을 합치고 버킷 너비를 2배로 늘리므로, 데이터를 하나씩 추가해도(O(1)) 전체로 다시 만든 결과와 같습니다.
+ * - 값은 소수점 6자리 정수(long)로 저장하며, 직렬화 크기는 최대 {@link #MAX_ENCODED_SIZE}바이트입니다.
+ *   (누적 수익률은 % 단위이므로 int로는 약 ±2147%에서 잘림)
+ * - 직렬화 형식 = 형식 버전 1바이트 + 데이터 수, 버킷 너비 (int32) + 마지막 값 (int64) + 버킷별 극값 2개 (int64)
+ *   이전 형식(버전 바이트 없이 모든 값이 int32)도 읽을 수 있으며, 이전 형식은 {@link #needsRebuild(byte[])}로 구분합니다.
+ * - 화면에는 버킷 값과 마지막 값을 합쳐 최대 2 * {@link #MAX_BUCKETS} + 1개의 점을 내려줍니다.
+ */
+public class SparklineSeries {
+    public static final int MAX_BUCKETS = 64;       // 최대 버킷 수
+    private static final int SCALE = 6;              // 저장 소수점 자리수
+    private static final byte FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES * 2 + Long.BYTES; // 형식 버전, 데이터 수, 버킷 너비, 마지막 값
+    private static final int BUCKET_SIZE = Long.BYTES * 2;
+    private static final int LEGACY_HEADER_SIZE = Integer.BYTES * 3; // 이전 형식 (int32 값)
+    public static final int MAX_ENCODED_SIZE = HEADER_SIZE + MAX_BUCKETS * BUCKET_SIZE;
+    private static final long FIXED_POINT_DIVISOR = 10_000L;  // 고정소수점(소수점 10자리) -> 저장 소수점 6자리
+
+    private int count;        // 지금까지 추가된 데이터 수
+    private int bucketWidth;  // 버킷 하나가 담당하는 데이터 수
+    private long lastValue;   // 마지막 값
+    private final List<long[]> buckets; // 버킷별 [먼저 발생한 극값, 나중에 발생한 극값]
+
+    private SparklineSeries(int count, int bucketWidth, long lastValue, List<long[]> buckets) {
+        this.count = count;
+        this.bucketWidth = bucketWidth;
+        this.lastValue = lastValue;
+        this.buckets = buckets;
+    }
+
+    /**
+     * 빈 스파크라인을 생성합니다.
+     */
+    public static SparklineSeries empty() {
+        return new SparklineSeries(0, 1, 0, new ArrayList<>(MAX_BUCKETS));
+    }
+
+    /**
+     * 날짜 오름차순 전체 데이터로 스파크라인을 생성합니다.
+     *
+     * @param values 날짜 오름차순 누적 수익률 리스트
+     * @return 스파크라인
+     */
+    public static SparklineSeries of(List<BigDecimal> values) {
+        SparklineSeries series = empty();
+        values.forEach(series::append);
+        return series;
+    }
+
+    /**
+     * 날짜 오름차순 고정소수점 데이터로 스파크라인을 생성합니다.
+     *
+     * @param fixedPointValues 날짜 오름차순 누적 수익률 배열 ({@link FixedPointDecimal} 형식)
+     * @return 스파크라인
+     */
+    public static SparklineSeries of(long[] fixedPointValues) {
+        SparklineSeries series = empty();
+        for (long value : fixedPointValues) {
+            series.appendFixedPoint(value);
+        }
+        return series;
+    }
+
+    /**
+     * 저장된 바이트 배열에서 스파크라인을 복원합니다.
+     *
+     * @param encoded 직렬화된 스파크라인 (null이면 빈 스파크라인)
+     * @return 스파크라인
+     */
+    public static SparklineSeries decode(byte[] encoded) {
+        if (encoded == null) {
+            return empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        List<long[]> buckets = new ArrayList<>(MAX_BUCKETS);
+        if (!needsRebuild(encoded)) {
+            buffer.get(); // 형식 버전
+            int count = buffer.getInt();
+            int bucketWidth = buffer.getInt();
+            long lastValue = buffer.getLong();
+            while (buffer.remaining() >= BUCKET_SIZE) {
+                buckets.add(new long[]{buffer.getLong(), buffer.getLong()});
+            }
+            return new SparklineSeries(count, bucketWidth, lastValue, buckets);
+        }
+
+        // 이전 형식 (int32 값)
+        if (encoded.length < LEGACY_HEADER_SIZE) {
+            return empty();
+        }
+        int count = buffer.getInt();
+        int bucketWidth = buffer.getInt();
+        long lastValue = buffer.getInt();
+        while (buffer.remaining() >= Integer.BYTES * 2) {
+            buckets.add(new long[]{buffer.getInt(), buffer.getInt()});
+        }
+        return new SparklineSeries(count, bucketWidth, lastValue, buckets);
+    }
+
+    /**
+     * 현재 형식이 아닌(이전 int32 형식) 스파크라인인지 확인합니다.
+     * - 이전 형식은 int 범위를 넘는 값이 경계값으로 잘려 저장되었으므로 전체 이력으로 다시 만들어야 합니다.
+     * - 이전 형식의 길이는 12 + 8n 바이트이므로 현재 형식(17 + 16n 바이트)과 겹치지 않습니다.
+     *
+     * @param encoded 직렬화된 스파크라인 (null이면 false)
+     * @return 이전 형식이면 true
+     */
+    public static boolean needsRebuild(byte[] encoded) {
+        return encoded != null && !(encoded.length >= HEADER_SIZE
+                && encoded[0] == FORMAT_VERSION
+                && (encoded.length - HEADER_SIZE) % BUCKET_SIZE == 0);
+    }
+
+    /**
+     * 저장된 바이트 배열을 화면에 내려줄 점 리스트로 변환합니다.
+     *
+     * @param encoded 직렬화된 스파크라인 (null이면 빈 리스트)
+     * @return 날짜 오름차순 다운샘플링된 누적 수익률 리스트
+     */
+    public static List<BigDecimal> decodePoints(byte[] encoded) {
+        return decode(encoded).toPoints();
+    }
+
+    /**
+     * 다음 일자의 값을 추가합니다.
+     *
+     * @param value 누적 수익률 (null이면 0)
+     */
+    public void append(BigDecimal value) {
+        appendScaled(toScaled(value));
+    }
+
+    /**
+     * 다음 일자의 값을 고정소수점 값으로 추가합니다.
+     *
+     * @param fixedPointValue 누적 수익률 ({@link FixedPointDecimal} 형식)
+     */
+    public void appendFixedPoint(long fixedPointValue) {
+        // 소수점 10자리 -> 6자리 HALF_UP 반올림
+        long rounded = (Math.abs(fixedPointValue) + FIXED_POINT_DIVISOR / 2) / FIXED_POINT_DIVISOR;
+        appendScaled(fixedPointValue < 0 ? -rounded : rounded);
+    }
+
+    private void appendScaled(long scaled) {
+        int bucketIndex = count / bucketWidth;
+
+        // 버킷이 가득 찬 경우 인접 버킷을 합치고 너비를 2배로 확장
+        if (bucketIndex == MAX_BUCKETS) {
+            compact();
+            bucketIndex = count / bucketWidth;
+        }
+
+        if (bucketIndex == buckets.size()) {
+            buckets.add(new long[]{scaled, scaled});
+        } else {
+            long[] bucket = buckets.get(bucketIndex);
+            buckets.set(bucketIndex, extremes(bucket[0], bucket[1], scaled));
+        }
+        lastValue = scaled;
+        count++;
+    }
+
+    /**
+     * 바이트 배열로 직렬화합니다.
+     */
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + buckets.size() * BUCKET_SIZE);
+        buffer.put(FORMAT_VERSION).putInt(count).putInt(bucketWidth).putLong(lastValue);
+        buckets.forEach(bucket -> buffer.putLong(bucket[0]).putLong(bucket[1]));
+        return buffer.array();
+    }
+
+    /**
+     * 화면에 내려줄 점 리스트를 생성합니다.
+     * - 버킷의 두 극값이 같으면 한 번만 포함하고, 마지막 값이 빠졌으면 끝에 추가합니다.
+     *
+     * @return 날짜 오름차순 다운샘플링된 누적 수익률 리스트
+     */
+    public List<BigDecimal> toPoints() {
+        List<BigDecimal> points = new ArrayList<>(buckets.size() * 2 + 1);
+        long lastPoint = 0;
+        for (long[] bucket : buckets) {
+            points.add(toDecimal(bucket[0]));
+            lastPoint = bucket[0];
+            if (bucket[1] != bucket[0]) {
+                points.add(toDecimal(bucket[1]));
+                lastPoint = bucket[1];
+            }
+        }
+        if (count > 0 && lastPoint != lastValue) {
+            points.add(toDecimal(lastValue));
+        }
+        return points;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 인접한 두 버킷을 하나로 합칩니다. (버킷 수 절반, 너비 2배)
+     */
+    private void compact() {
+        List<long[]> merged = new ArrayList<>(MAX_BUCKETS);
+        for (int i = 0; i < buckets.size(); i += 2) {
+            long[] left = buckets.get(i);
+            long[] right = i + 1 < buckets.size() ? buckets.get(i + 1) : null;
+            merged.add(right == null ? left : extremes(left[0], left[1], right[0], right[1]));
+        }
+        buckets.clear();
+        buckets.addAll(merged);
+        bucketWidth *= 2;
+    }
+
+    /**
+     * 발생 순서대로 나열된 값 중 최소값과 최대값을 발생 순서대로 반환합니다.
+     */
+    private static long[] extremes(long... orderedValues) {
+        int minIndex = 0;
+        int maxIndex = 0;
+        for (int i = 1; i < orderedValues.length; i++) {
+            if (orderedValues[i] < orderedValues[minIndex]) {
+                minIndex = i;
+            }
+            if (orderedValues[i] > orderedValues[maxIndex]) {
+                maxIndex = i;
+            }
+        }
+        return minIndex <= maxIndex
+                ? new long[]{orderedValues[minIndex], orderedValues[maxIndex]}
+                : new long[]{orderedValues[maxIndex], orderedValues[minIndex]};
+    }
+
+    private static long toScaled(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        // long 범위(약 ±9.2조 %)를 넘으면 잘라 저장하지 않고 예외 발생 (고정소수점 값은 항상 범위 안)
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal toDecimal(long scaled) {
+        return BigDecimal.valueOf(scaled, SCALE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.common.ExportColumn.Type;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
+
+import java.util.List;
+
+/**
+ * 통계 다운로드 컬럼 정의 (엑셀과 CSV가 같은 컬럼, 같은 순서를 사용)
+ */
+public class StatisticsExportColumns {
+
+  /**
+   * 일간 통계 (필요한 필드만 포함)
+   */
+  public static final List<ExportColumn<DailyStatisticsEntity>> DAILY_STATISTICS = List.of(
+          new ExportColumn<>("일자", Type.DATE, DailyStatisticsEntity::getDate),
+          new ExportColumn<>("원금", Type.NUMBER, DailyStatisticsEntity::getPrincipal),
+          new ExportColumn<>("입출금", Type.NUMBER, DailyStatisticsEntity::getDepWdPrice),
+          new ExportColumn<>("일손익", Type.NUMBER, DailyStatisticsEntity::getDailyProfitLoss),
+          new ExportColumn<>("일손익률", Type.PERCENTAGE, DailyStatisticsEntity::getDailyPlRate),
+          new ExportColumn<>("누적손익", Type.NUMBER, DailyStatisticsEntity::getCumulativeProfitLoss),
+          new ExportColumn<>("누적수익률", Type.PERCENTAGE, DailyStatisticsEntity::getCumulativeProfitLossRate)
+  );
+
+  /**
+   * 월간 통계 (필요한 필드만 포함)
+   */
+  public static final List<ExportColumn<MonthlyStatisticsEntity>> MONTHLY_STATISTICS = List.of(
+          new ExportColumn<>("월", Type.DATE, MonthlyStatisticsEntity::getAnalysisMonth),
+          new ExportColumn<>("원금", Type.NUMBER, MonthlyStatisticsEntity::getMonthlyAvgPrincipal),
+          new ExportColumn<>("입출금", Type.NUMBER, MonthlyStatisticsEntity::getMonthlyDepWdAmount),
+          new ExportColumn<>("월손익", Type.NUMBER, MonthlyStatisticsEntity::getMonthlyProfitLoss),
+          new ExportColumn<>("월손익률", Type.PERCENTAGE, MonthlyStatisticsEntity::getMonthlyReturn),
+          new ExportColumn<>("누적손익", Type.NUMBER, MonthlyStatisticsEntity::getMonthlyCumulativeProfitLoss),
+          new ExportColumn<>("누적수익률", Type.PERCENTAGE, MonthlyStatisticsEntity::getMonthlyCumulativeReturn)
+  );
+
+  /**
+   * 일간 분석 지표 (필요한 필드만 포함, 팔로워수 제외)
+   */
+  public static final List<ExportColumn<DailyStatisticsEntity>> DAILY_ANALYSIS_INDICATORS = List.of(
+          new ExportColumn<>("일자", Type.DATE, DailyStatisticsEntity::getDate),
+          new ExportColumn<>("원금", Type.NUMBER, DailyStatisticsEntity::getPrincipal),
+          new ExportColumn<>("입출금", Type.NUMBER, DailyStatisticsEntity::getDepWdPrice),
+          new ExportColumn<>("일손익", Type.NUMBER, DailyStatisticsEntity::getDailyProfitLoss),
+          new ExportColumn<>("일손익률", Type.PERCENTAGE, DailyStatisticsEntity::getDailyPlRate),
+          new ExportColumn<>("누적손익", Type.NUMBER, DailyStatisticsEntity::getCumulativeProfitLoss),
+          new ExportColumn<>("누적수익률", Type.PERCENTAGE, DailyStatisticsEntity::getCumulativeProfitLossRate),
+          new ExportColumn<>("최대일이익", Type.NUMBER, DailyStatisticsEntity::getMaxDailyProfit),
+          new ExportColumn<>("최대일이익률", Type.PERCENTAGE, DailyStatisticsEntity::getMaxDailyProfitRate),
+          new ExportColumn<>("최대일손실", Type.NUMBER, DailyStatisticsEntity::getMaxDailyLoss),
+          new ExportColumn<>("최대일손실률", Type.PERCENTAGE, DailyStatisticsEntity::getMaxDailyLossRate),
+          new ExportColumn<>("총이익", Type.NUMBER, DailyStatisticsEntity::getTotalProfit),
+          new ExportColumn<>("총이익일수", Type.INTEGER, DailyStatisticsEntity::getTotalProfitDays),
+          new ExportColumn<>("평균이익", Type.NUMBER, DailyStatisticsEntity::getAverageProfit),
+          new ExportColumn<>("총손실", Type.NUMBER, DailyStatisticsEntity::getTotalLoss),
+          new ExportColumn<>("총손실일수", Type.INTEGER, DailyStatisticsEntity::getTotalLossDays),
+          new ExportColumn<>("평균손실", Type.NUMBER, DailyStatisticsEntity::getAverageLoss),
+          new ExportColumn<>("누적손익", Type.NUMBER, DailyStatisticsEntity::getCumulativeProfitLoss),
+          new ExportColumn<>("누적손익률", Type.PERCENTAGE, DailyStatisticsEntity::getCumulativeProfitLossRate),
+          new ExportColumn<>("최대누적손익", Type.NUMBER, DailyStatisticsEntity::getMaxCumulativeProfitLoss),
+          new ExportColumn<>("최대누적손익률", Type.PERCENTAGE, DailyStatisticsEntity::getMaxCumulativeProfitLossRate),
+          new ExportColumn<>("평균손익", Type.NUMBER, DailyStatisticsEntity::getAverageProfitLoss),
+          new ExportColumn<>("평균손익률", Type.PERCENTAGE, DailyStatisticsEntity::getAverageProfitLossRate),
+          new ExportColumn<>("Peak", Type.NUMBER, DailyStatisticsEntity::getPeak),
+          new ExportColumn<>("Peak(%)", Type.PERCENTAGE, DailyStatisticsEntity::getPeakRate),
+          new ExportColumn<>("고점후경과일", Type.INTEGER, DailyStatisticsEntity::getDaysSincePeak),
+          new ExportColumn<>("현재자본인하금액", Type.NUMBER, DailyStatisticsEntity::getCurrentDrawdownAmount),
+          new ExportColumn<>("현재자본인하율", Type.PERCENTAGE, DailyStatisticsEntity::getCurrentDrawdownRate),
+          new ExportColumn<>("최대자본인하금액", Type.NUMBER, DailyStatisticsEntity::getMaxDrawdownAmount),
+          new ExportColumn<>("최대자본인하율", Type.PERCENTAGE, DailyStatisticsEntity::getMaxDrawdownRate),
+          new ExportColumn<>("승률", Type.PERCENTAGE, DailyStatisticsEntity::getWinRate),
+          new ExportColumn<>("Profit Factor", Type.NUMBER, DailyStatisticsEntity::getProfitFactor),
+          new ExportColumn<>("ROA", Type.NUMBER, DailyStatisticsEntity::getRoa),
+          new ExportColumn<>("평균손익비", Type.NUMBER, DailyStatisticsEntity::getAverageProfitLossRatio),
+          new ExportColumn<>("변동계수", Type.NUMBER, DailyStatisticsEntity::getCoefficientOfVariation),
+          new ExportColumn<>("Sharp Ratio", Type.NUMBER, DailyStatisticsEntity::getSharpRatio),
+          new ExportColumn<>("현재 연속 손익일수", Type.INTEGER, DailyStatisticsEntity::getCurrentConsecutivePlDays),
+          new ExportColumn<>("최대 연속 수익일수", Type.INTEGER, DailyStatisticsEntity::getMaxConsecutiveProfitDays),
+          new ExportColumn<>("최대 연속 손실일수", Type.INTEGER, DailyStatisticsEntity::getMaxConsecutiveLossDays),
+          new ExportColumn<>("최근 1년 수익률", Type.PERCENTAGE, DailyStatisticsEntity::getRecentOneYearReturn),
+          new ExportColumn<>("총전략운용일수", Type.INTEGER, DailyStatisticsEntity::getStrategyOperationDays),
+          new ExportColumn<>("DD 기간", Type.INTEGER, DailyStatisticsEntity::getDdDay),
+          new ExportColumn<>("DD기간 내 최대 자본인하율", Type.PERCENTAGE, DailyStatisticsEntity::getMaxDdInRate)
+  );
+
+  private StatisticsExportColumns() {
+  }
+}
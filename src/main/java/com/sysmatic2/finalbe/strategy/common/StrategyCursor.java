@@ -0,0 +1,65 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * SM-Score 순 전략 목록의 무한 스크롤용 커서.
+ *
+ * - 마지막으로 내려준 전략의 (smScore, strategyId)를 담고, 다음 요청은 이 위치 뒤부터 조회합니다.
+ * - 정렬은 SM-Score 내림차순, 같은 점수는 전략 ID 오름차순입니다.
+ * - 클라이언트에는 내용을 해석할 필요가 없는 토큰 문자열(URL-safe Base64)로 내려줍니다.
+ */
+public class StrategyCursor {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = ":";
+
+    private final BigDecimal smScore;
+    private final Long strategyId;
+
+    public StrategyCursor(BigDecimal smScore, Long strategyId) {
+        this.smScore = smScore == null ? BigDecimal.ZERO : smScore;
+        this.strategyId = strategyId;
+    }
+
+    /**
+     * 토큰 문자열을 커서로 변환합니다.
+     *
+     * @param token 이전 응답의 nextCursor (null 또는 빈 문자열이면 처음부터)
+     * @return 커서 (처음부터면 null)
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static StrategyCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new StrategyCursor(new BigDecimal(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서를 토큰 문자열로 변환합니다.
+     */
+    public String encode() {
+        String raw = VERSION + DELIMITER + smScore.toPlainString() + DELIMITER + strategyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BigDecimal getSmScore() {
+        return smScore;
+    }
+
+    public Long getStrategyId() {
+        return strategyId;
+    }
+}
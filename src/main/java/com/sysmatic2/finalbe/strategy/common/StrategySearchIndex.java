@@ -0,0 +1,559 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import com.sysmatic2.finalbe.util.NGramIndex;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상세 검색용 인메모리 전략 인덱스.
+ *
+ * - 전략마다 고정된 슬롯 번호를 부여하고, 현재 지표(원금, MDD, 운용일수, 누적 수익률, SM-Score, 팔로워 수)를 슬롯 순서의 기본형 배열(컬럼)로 보관합니다.
+ * - 매매유형/매매주기/투자자산 분류/전략 상태/최소운용가능금액과 공개·승인 여부는 값별 BitSet으로 보관하고, 검색 시 BitSet 교집합으로 후보를 줄입니다.
+ * - 전략명 키워드는 슬롯 번호를 키로 하는 N-gram 색인({@link NGramIndex})으로 후보를 줄입니다.
+ * - 후보 중 지표 조건을 만족하는 전략을 SM-Score 내림차순(같으면 전략 ID 오름차순)으로 필요한 개수(offset + limit)만큼만 선택합니다.
+ * - 기간 검색(startDate, endDate)은 해당 기간의 일간 통계 전체가 필요하므로 지원하지 않습니다.
+ * - 읽기는 동시에, 변경은 하나씩 처리합니다.
+ */
+public class StrategySearchIndex {
+    private static final int INITIAL_CAPACITY = 256;
+
+    // 필터 구간 (StrategyRepositoryCustomImpl.findStrategiesByDetailSearchOptions와 동일)
+    private static final int ONE_YEAR_DAYS = 365;
+    private static final int TWO_YEARS_DAYS = 730;
+    private static final int THREE_YEARS_DAYS = 1095;
+    private static final double LOW_RETURN_RATE = 0.10;
+    private static final double HIGH_RETURN_RATE = 0.30;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 전략 ID <-> 슬롯
+    private final Map<Long, Integer> slotByStrategyId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    // 컬럼 (슬롯 순서)
+    private long[] strategyIds = new long[INITIAL_CAPACITY];
+    private double[] principals = new double[INITIAL_CAPACITY];
+    private double[] maxDrawdownRates = new double[INITIAL_CAPACITY];
+    private int[] operationDays = new int[INITIAL_CAPACITY];
+    private double[] cumulativeReturns = new double[INITIAL_CAPACITY];
+    private double[] smScores = new double[INITIAL_CAPACITY];
+    private long[] followersCounts = new long[INITIAL_CAPACITY];
+
+    // 슬롯별 현재 분류 값 (BitSet 갱신 시 이전 값 제거용)
+    private Integer[] tradingTypeIds = new Integer[INITIAL_CAPACITY];
+    private Integer[] tradingCycleIds = new Integer[INITIAL_CAPACITY];
+    private String[] statusCodes = new String[INITIAL_CAPACITY];
+    private String[] minInvestmentAmounts = new String[INITIAL_CAPACITY];
+    private int[][] iacIds = new int[INITIAL_CAPACITY][];
+
+    // BitSet
+    private final BitSet visible = new BitSet();        // 공개(Y) + 승인(Y)
+    private final BitSet hasStatistics = new BitSet();  // 최신 일간 통계 존재
+    private final Map<Integer, BitSet> tradingTypeBits = new HashMap<>();
+    private final Map<Integer, BitSet> tradingCycleBits = new HashMap<>();
+    private final Map<Integer, BitSet> iacBits = new HashMap<>();
+    private final Map<String, BitSet> statusBits = new HashMap<>();
+    private final Map<String, BitSet> minInvestmentAmountBits = new HashMap<>();
+
+    // 전략명 N-gram 색인 (키: 슬롯)
+    private final NGramIndex<Integer> titleIndex = new NGramIndex<>();
+
+    /**
+     * 인덱스를 비우고 전체 데이터로 다시 적재합니다.
+     *
+     * @param rows 전체 전략의 검색 인덱스 적재용 데이터
+     */
+    public void rebuild(Collection<StrategySearchIndexRow> rows) {
+        lock.writeLock().lock();
+        try {
+            slotByStrategyId.clear();
+            freeSlots.clear();
+            slotCount = 0;
+            visible.clear();
+            hasStatistics.clear();
+            tradingTypeBits.clear();
+            tradingCycleBits.clear();
+            iacBits.clear();
+            statusBits.clear();
+            minInvestmentAmountBits.clear();
+            titleIndex.clear();
+            rows.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전략 데이터를 추가하거나 갱신합니다.
+     *
+     * @param row 전략의 검색 인덱스 적재용 데이터
+     */
+    public void upsert(StrategySearchIndexRow row) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전략을 인덱스에서 제거합니다.
+     *
+     * @param strategyId 전략 ID
+     */
+    public void remove(Long strategyId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByStrategyId.remove(strategyId);
+            if (slot != null) {
+                clearSlot(slot);
+                titleIndex.remove(slot);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 전략의 SM-Score를 갱신합니다. (인덱스에 없는 전략은 무시)
+     *
+     * @param ids    전략 ID 배열
+     * @param scores ids와 같은 순서의 SM-SCORE 배열
+     * @param size   배열에서 사용할 데이터 개수
+     */
+    public void updateSmScores(long[] ids, BigDecimal[] scores, int size) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                Integer slot = slotByStrategyId.get(ids[i]);
+                if (slot != null) {
+                    smScores[slot] = toDouble(scores[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상세 검색 조건으로 전략 ID를 검색합니다.
+     *
+     * @param searchOptions 필터링 옵션 객체 (기간 검색 제외)
+     * @param offset        건너뛸 결과 수
+     * @param limit         반환할 최대 결과 수
+     * @return SM-Score 내림차순 전략 ID 배열과 전체 결과 수
+     */
+    public SearchResult search(SearchOptionsDto searchOptions, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            // 1~2. 조건에 맞는 상위 K개 선택
+            int k = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(0L, offset) + Math.max(0, limit));
+            TopSlots top = new TopSlots(k);
+            int total = collect(searchOptions, null, top);
+
+            // 3. 정렬 후 페이지 구간의 전략 ID 반환
+            int[] ordered = top.sorted();
+            int from = (int) Math.min(ordered.length, Math.max(0L, offset));
+            long[] ids = new long[ordered.length - from];
+            for (int i = from; i < ordered.length; i++) {
+                ids[i - from] = strategyIds[ordered[i]];
+            }
+            return new SearchResult(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상세 검색 조건으로 커서 다음 위치부터 전략 ID를 검색합니다. (무한 스크롤)
+     *
+     * @param searchOptions 필터링 옵션 객체 (기간 검색 제외)
+     * @param cursor        마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit         반환할 최대 결과 수
+     * @return SM-Score 내림차순 전략 ID 배열
+     */
+    public long[] searchAfter(SearchOptionsDto searchOptions, StrategyCursor cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            TopSlots top = new TopSlots(Math.max(0, limit));
+            collect(searchOptions, cursor, top);
+            return Arrays.stream(top.sorted()).mapToLong(slot -> strategyIds[slot]).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 적재된 전략 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByStrategyId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 슬롯을 상위 K개 힙에 넣고 조건에 맞는 전체 수를 반환합니다.
+     */
+    private int collect(SearchOptionsDto searchOptions, StrategyCursor cursor, TopSlots top) {
+        // 1. 공개/승인 + 분류 조건 BitSet 교집합
+        BitSet candidates = (BitSet) visible.clone();
+        intersectAny(candidates, tradingTypeBits, searchOptions.getTradingTypeIdList());
+        intersectAny(candidates, statusBits, searchOptions.getStrategyOperationStatusList());
+        intersectAny(candidates, tradingCycleBits, searchOptions.getTradingCylcleIdList());
+        intersectAny(candidates, iacBits, searchOptions.getInvestmentAssetClassesIdList());
+        if (searchOptions.getMinInvestmentAmount() != null) {
+            intersectAny(candidates, minInvestmentAmountBits, List.of(searchOptions.getMinInvestmentAmount()));
+        }
+        if (hasStatisticsFilter(searchOptions)) {
+            candidates.and(hasStatistics);
+        }
+        if (searchOptions.getKeyword() != null && !searchOptions.getKeyword().isEmpty()) {
+            BitSet titleMatches = new BitSet();
+            titleIndex.search(searchOptions.getKeyword()).forEach(titleMatches::set);
+            candidates.and(titleMatches);
+        }
+
+        // 2. 지표 조건(+ 커서 다음 위치) 확인
+        SlotFilter filter = new SlotFilter(searchOptions);
+        boolean hasCursor = cursor != null;
+        double cursorSmScore = hasCursor ? toDouble(cursor.getSmScore()) : 0d;
+        long cursorStrategyId = hasCursor ? cursor.getStrategyId() : 0L;
+        int total = 0;
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (hasCursor && !ranksAfter(slot, cursorSmScore, cursorStrategyId)) {
+                continue;
+            }
+            if (filter.matches(slot)) {
+                total++;
+                top.offer(slot);
+            }
+        }
+        return total;
+    }
+
+    private void upsertLocked(StrategySearchIndexRow row) {
+        Integer slot = slotByStrategyId.get(row.getStrategyId());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            slotByStrategyId.put(row.getStrategyId(), slot);
+        } else {
+            clearSlot(slot);
+        }
+
+        // 1. 컬럼 값
+        strategyIds[slot] = row.getStrategyId();
+        smScores[slot] = toDouble(row.getSmScore());
+        followersCounts[slot] = row.getFollowersCount() == null ? 0L : row.getFollowersCount();
+        titleIndex.put(slot, row.getStrategyTitle());
+        boolean statistics = row.getStrategyOperationDays() != null;
+        principals[slot] = toDouble(row.getPrincipal());
+        maxDrawdownRates[slot] = toDouble(row.getMaxDrawdownRate());
+        operationDays[slot] = statistics ? row.getStrategyOperationDays() : 0;
+        cumulativeReturns[slot] = toDouble(row.getCumulativeProfitLossRate());
+
+        // 2. BitSet
+        visible.set(slot, "Y".equals(row.getIsPosted()) && "Y".equals(row.getIsApproved()));
+        hasStatistics.set(slot, statistics);
+        tradingTypeIds[slot] = row.getTradingTypeId();
+        tradingCycleIds[slot] = row.getTradingCycleId();
+        statusCodes[slot] = row.getStrategyStatusCode();
+        minInvestmentAmounts[slot] = row.getMinInvestmentAmount();
+        iacIds[slot] = row.getInvestmentAssetClassesIds() == null ? new int[0]
+                : row.getInvestmentAssetClassesIds().stream().filter(Objects::nonNull).mapToInt(Integer::intValue).distinct().toArray();
+        setBit(tradingTypeBits, tradingTypeIds[slot], slot);
+        setBit(tradingCycleBits, tradingCycleIds[slot], slot);
+        setBit(statusBits, statusCodes[slot], slot);
+        setBit(minInvestmentAmountBits, minInvestmentAmounts[slot], slot);
+        for (int iacId : iacIds[slot]) {
+            setBit(iacBits, iacId, slot);
+        }
+    }
+
+    /**
+     * 슬롯의 BitSet 값을 모두 제거합니다.
+     */
+    private void clearSlot(int slot) {
+        visible.clear(slot);
+        hasStatistics.clear(slot);
+        clearBit(tradingTypeBits, tradingTypeIds[slot], slot);
+        clearBit(tradingCycleBits, tradingCycleIds[slot], slot);
+        clearBit(statusBits, statusCodes[slot], slot);
+        clearBit(minInvestmentAmountBits, minInvestmentAmounts[slot], slot);
+        if (iacIds[slot] != null) {
+            for (int iacId : iacIds[slot]) {
+                clearBit(iacBits, iacId, slot);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= strategyIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, strategyIds.length * 2);
+        strategyIds = Arrays.copyOf(strategyIds, newCapacity);
+        principals = Arrays.copyOf(principals, newCapacity);
+        maxDrawdownRates = Arrays.copyOf(maxDrawdownRates, newCapacity);
+        operationDays = Arrays.copyOf(operationDays, newCapacity);
+        cumulativeReturns = Arrays.copyOf(cumulativeReturns, newCapacity);
+        smScores = Arrays.copyOf(smScores, newCapacity);
+        followersCounts = Arrays.copyOf(followersCounts, newCapacity);
+        tradingTypeIds = Arrays.copyOf(tradingTypeIds, newCapacity);
+        tradingCycleIds = Arrays.copyOf(tradingCycleIds, newCapacity);
+        statusCodes = Arrays.copyOf(statusCodes, newCapacity);
+        minInvestmentAmounts = Arrays.copyOf(minInvestmentAmounts, newCapacity);
+        iacIds = Arrays.copyOf(iacIds, newCapacity);
+    }
+
+    /**
+     * 후보 BitSet을 값 목록 중 하나라도 해당하는 슬롯으로 줄입니다. (값 목록이 비어 있으면 조건 없음)
+     */
+    private static <K> void intersectAny(BitSet candidates, Map<K, BitSet> bitsByValue, List<K> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        BitSet union = new BitSet();
+        for (K value : values) {
+            BitSet bits = bitsByValue.get(value);
+            if (bits != null) {
+                union.or(bits);
+            }
+        }
+        candidates.and(union);
+    }
+
+    private static <K> void setBit(Map<K, BitSet> bitsByValue, K value, int slot) {
+        if (value != null) {
+            bitsByValue.computeIfAbsent(value, key -> new BitSet()).set(slot);
+        }
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitsByValue, K value, int slot) {
+        if (value == null) {
+            return;
+        }
+        BitSet bits = bitsByValue.get(value);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                bitsByValue.remove(value);
+            }
+        }
+    }
+
+    /**
+     * 최신 일간 통계가 필요한 조건(운용일수, 원금, MDD, 수익률)이 있는지 확인합니다.
+     * - DB 검색과 동일하게, 해당 조건이 있으면 일간 통계가 없는 전략은 제외됩니다.
+     */
+    private static boolean hasStatisticsFilter(SearchOptionsDto searchOptions) {
+        return (searchOptions.getOperationDaysList() != null && !searchOptions.getOperationDaysList().isEmpty())
+                || searchOptions.getMinPrincipal() != null || searchOptions.getMaxPrincipal() != null
+                || searchOptions.getMinMdd() != null || searchOptions.getMaxMdd() != null
+                || (searchOptions.getReturnRateList() != null && !searchOptions.getReturnRateList().isEmpty());
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value == null ? 0d : value.doubleValue();
+    }
+
+    /**
+     * SM-Score 내림차순, 같으면 전략 ID 오름차순
+     */
+    private boolean ranksBefore(int slot, int other) {
+        if (smScores[slot] != smScores[other]) {
+            return smScores[slot] > smScores[other];
+        }
+        return strategyIds[slot] < strategyIds[other];
+    }
+
+    /**
+     * 커서 위치보다 뒤 순위인지 확인합니다.
+     */
+    private boolean ranksAfter(int slot, double cursorSmScore, long cursorStrategyId) {
+        if (smScores[slot] != cursorSmScore) {
+            return smScores[slot] < cursorSmScore;
+        }
+        return strategyIds[slot] > cursorStrategyId;
+    }
+
+    /**
+     * 슬롯별 지표 조건 (검색 1회 동안 조건 값을 기본형으로 보관)
+     */
+    private class SlotFilter {
+        private final boolean[] operationDaysBuckets = new boolean[5]; // 1~4 구간 선택 여부
+        private final boolean operationDaysFilter;
+        private final boolean[] returnRateBuckets = new boolean[4];    // 1~3 구간 선택 여부
+        private final boolean returnRateFilter;
+        private final double minPrincipal;
+        private final double maxPrincipal;
+        private final double minMdd;
+        private final double maxMdd;
+        private final double minSmScore;
+        private final double maxSmScore;
+
+        private SlotFilter(SearchOptionsDto searchOptions) {
+            this.operationDaysFilter = markBuckets(operationDaysBuckets, searchOptions.getOperationDaysList());
+            this.returnRateFilter = markBuckets(returnRateBuckets, searchOptions.getReturnRateList());
+            this.minPrincipal = lowerBound(searchOptions.getMinPrincipal());
+            this.maxPrincipal = upperBound(searchOptions.getMaxPrincipal());
+            this.minMdd = lowerBound(searchOptions.getMinMdd());
+            this.maxMdd = upperBound(searchOptions.getMaxMdd());
+            this.minSmScore = searchOptions.getMinSmscore() == null ? Double.NEGATIVE_INFINITY : searchOptions.getMinSmscore();
+            this.maxSmScore = searchOptions.getMaxSmscore() == null ? Double.POSITIVE_INFINITY : searchOptions.getMaxSmscore();
+        }
+
+        private boolean matches(int slot) {
+            if (smScores[slot] < minSmScore || smScores[slot] > maxSmScore) {
+                return false;
+            }
+            if (principals[slot] < minPrincipal || principals[slot] > maxPrincipal) {
+                return false;
+            }
+            if (maxDrawdownRates[slot] < minMdd || maxDrawdownRates[slot] > maxMdd) {
+                return false;
+            }
+            if (operationDaysFilter && !matchesOperationDays(operationDays[slot])) {
+                return false;
+            }
+            return !returnRateFilter || matchesReturnRate(cumulativeReturns[slot]);
+        }
+
+        // 1: 1년 미만, 2: 1년 ~ 2년, 3: 2년 ~ 3년, 4: 3년 초과 (경계 포함 여부는 DB 검색과 동일)
+        private boolean matchesOperationDays(int days) {
+            return (operationDaysBuckets[1] && days < ONE_YEAR_DAYS)
+                    || (operationDaysBuckets[2] && days >= ONE_YEAR_DAYS && days <= TWO_YEARS_DAYS)
+                    || (operationDaysBuckets[3] && days >= TWO_YEARS_DAYS && days <= THREE_YEARS_DAYS)
+                    || (operationDaysBuckets[4] && days > THREE_YEARS_DAYS);
+        }
+
+        // 1: 10% 이하, 2: 10% 초과 ~ 30% 미만, 3: 30% 이상
+        private boolean matchesReturnRate(double rate) {
+            return (returnRateBuckets[1] && rate <= LOW_RETURN_RATE)
+                    || (returnRateBuckets[2] && rate > LOW_RETURN_RATE && rate < HIGH_RETURN_RATE)
+                    || (returnRateBuckets[3] && rate >= HIGH_RETURN_RATE);
+        }
+
+        /**
+         * 선택된 구간을 표시합니다. 알 수 없는 구간만 선택된 경우에도 DB 검색과 같이 조건이 있는 것으로 처리합니다.
+         */
+        private static boolean markBuckets(boolean[] buckets, List<Integer> selected) {
+            if (selected == null || selected.isEmpty()) {
+                return false;
+            }
+            for (Integer bucket : selected) {
+                if (bucket != null && bucket > 0 && bucket < buckets.length) {
+                    buckets[bucket] = true;
+                }
+            }
+            return true;
+        }
+
+        private static double lowerBound(BigDecimal value) {
+            return value == null ? Double.NEGATIVE_INFINITY : value.doubleValue();
+        }
+
+        private static double upperBound(BigDecimal value) {
+            return value == null ? Double.POSITIVE_INFINITY : value.doubleValue();
+        }
+    }
+
+    /**
+     * 순위가 가장 낮은 슬롯을 루트로 두는 크기 K의 힙 (상위 K개 슬롯 선택)
+     */
+    private class TopSlots {
+        private final int capacity;
+        private int[] heap;
+        private int size;
+
+        private TopSlots(int capacity) {
+            this.capacity = capacity;
+            this.heap = new int[Math.min(capacity, Math.max(slotCount, 1))];
+        }
+
+        private void offer(int slot) {
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, Math.min(capacity, heap.length * 2));
+                }
+                heap[size] = slot;
+                siftUp(size++);
+            } else if (ranksBefore(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 순위 순서로 정렬된 슬롯 배열
+         */
+        private int[] sorted() {
+            int[] result = new int[size];
+            int remaining = size;
+            while (remaining > 0) {
+                result[remaining - 1] = heap[0];
+                heap[0] = heap[--remaining];
+                size = remaining;
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!ranksBefore(heap[parent], heap[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = index * 2 + 1;
+                int right = left + 1;
+                int lowest = index;
+                if (left < size && ranksBefore(heap[lowest], heap[left])) {
+                    lowest = left;
+                }
+                if (right < size && ranksBefore(heap[lowest], heap[right])) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int temp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = temp;
+        }
+    }
+
+    /**
+     * 검색 결과 (페이지 구간의 전략 ID와 전체 결과 수)
+     */
+    public record SearchResult(long[] strategyIds, long totalCount) {
+    }
+}
@@ -2,13 +2,17 @@ package com.sysmatic2.finalbe.strategy.controller;
 
 import com.sysmatic2.finalbe.member.dto.CustomUserDetails;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.common.ChartFrameCodec;
+import com.sysmatic2.finalbe.strategy.common.ChartFrameHttpMessageConverter;
 import com.sysmatic2.finalbe.strategy.dto.*;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
 import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
 import com.sysmatic2.finalbe.strategy.service.MonthlyStatisticsService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import com.sysmatic2.finalbe.strategy.service.StrategyService;
 import com.sysmatic2.finalbe.util.CreatePageResponse;
+import com.sysmatic2.finalbe.util.ParseCsvToList;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,12 +20,17 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
@@ -40,6 +49,7 @@ public class StrategyController {
     private final MonthlyStatisticsService monthlyStatisticsService;
     private final MemberRepository memberRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategyDataVersionService strategyDataVersionService;
 
     // 1. 전략 생성페이지(GET)
     // 관리자와 트레이더만 전략을 생성할 수 있다.
@@ -111,6 +121,29 @@ public class StrategyController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * 3-1. 필터 조건에 따라 전략 목록을 커서 다음부터 반환 (무한 스크롤) - 랭킹
+     *
+     * @param tradingCycleId           투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor                   이전 응답의 nextCursor (없으면 처음부터)
+     * @param pageSize                 조회할 데이터 개수
+     * @return 전략 목록, 다음 데이터 여부, 다음 커서를 포함한 Map 객체
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "필터 조건으로 전략 목록 커서 조회 - 전략 랭킹 (무한 스크롤)",
+            description = "SM-Score 내림차순(같은 점수는 전략 ID 오름차순)으로 이전 응답의 nextCursor 다음부터 조회합니다. " +
+                    "전체 개수는 제공하지 않으며, hasNext가 false이면 마지막입니다.")
+    public ResponseEntity<Map<String, Object>> getStrategiesByCursor(
+            @RequestParam(required = false) @Positive(message = "tradingCycleId는 양수여야 합니다.") Integer tradingCycleId,
+            @RequestParam(required = false) @Positive(message = "investmentAssetClassesId는 양수여야 합니다.") Integer investmentAssetClassesId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") @Min(1) @Max(100) int pageSize) {
+
+        Map<String, Object> response = strategyService.getStrategiesByCursor(tradingCycleId, investmentAssetClassesId, cursor, pageSize);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * 3. 승인 받은 전략의 갯수와 트레이더 수를 반환 - 메인페이지
      *
@@ -136,49 +169,64 @@ public class StrategyController {
     @Operation(summary = "전략 상세")
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<Map> getStrategyById(@PathVariable("id") Long strategyId,
-                                               @AuthenticationPrincipal CustomUserDetails userDetails) throws Exception{
+                                               @AuthenticationPrincipal CustomUserDetails userDetails,
+                                               WebRequest webRequest) throws Exception{
         //팔로워 조회용 - 미로그인시 null
         String memberId = userDetails != null ? userDetails.getMemberId() : null;
 
-        //전략 기본정보 데이터를 가져온다.
-        StrategyResponseDto strategyResponseDto = strategyService.getStrategyDetails(strategyId, memberId);
+        // 비공개·미승인 전략은 304 응답 전에 조회 권한 확인 (버전과 함께 읽은 공개·승인 여부와 작성자 사용)
+        StrategyDataVersionDto dataVersion = strategyDataVersionService.getVersion(strategyId);
+        if (dataVersion != null) {
+            checkStrategyReadPermission(dataVersion.getIsPosted(), dataVersion.getIsApproved(), dataVersion.getWriterId(), userDetails);
+        }
 
-        //isPosted=N or isApproved=N인 경우 관리자와 작성트레이더만 볼 수 있다.
-        if(strategyResponseDto.getIsPosted().equals("N") || strategyResponseDto.getIsApproved().equals("N")){
-            //비로그인 상태인 경우
-            if (userDetails == null) {
-                throw new AccessDeniedException("조회 권한이 없습니다.");
-            }
-
-            //관리자인 경우 검증없이 if문 종료
-            Boolean isAdmin = userDetails.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-
-            if(isAdmin) {
-                Map<String, Object> responseMap = new HashMap<>();
-                responseMap.put("data", strategyResponseDto);
-                return ResponseEntity.status(HttpStatus.OK).body(responseMap);
-            }
-
-            //트레이더면 작성자 검증
-            Boolean isTrader = userDetails.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_TRADER"));
-
-            //로그인한 일반 회원인 경우
-            if(!isTrader)
-                throw new AccessDeniedException("비공개 전략은 작성자와 관리자만 조회할 수 있습니다.");
-
-            //트레이더면서 작성자가 아닌 경우
-            if(!userDetails.getMemberId().equals(strategyResponseDto.getMemberId()))
-                throw new AccessDeniedException("전략 조회 권한이 없습니다.");
+        // 데이터 변경이 없으면 304 응답 (응답 생성 전에 확인)
+        if (strategyDataVersionService.checkNotModified(webRequest, strategyId, memberId)) {
+            return null;
         }
 
+        //전략 기본정보 데이터를 가져온다.
+        StrategyResponseDto strategyResponseDto = strategyService.getStrategyDetails(strategyId, memberId);
+        checkStrategyReadPermission(strategyResponseDto.getIsPosted(), strategyResponseDto.getIsApproved(),
+                strategyResponseDto.getMemberId(), userDetails);
+
         Map<String, Object> responseMap = new HashMap<>();
         responseMap.put("data", strategyResponseDto);
 
         return ResponseEntity.status(HttpStatus.OK).body(responseMap);
     }
 
+    //isPosted=N or isApproved=N인 경우 관리자와 작성트레이더만 볼 수 있다.
+    private void checkStrategyReadPermission(String isPosted, String isApproved, String writerId, CustomUserDetails userDetails) {
+        if (!"N".equals(isPosted) && !"N".equals(isApproved)) {
+            return;
+        }
+
+        //비로그인 상태인 경우
+        if (userDetails == null) {
+            throw new AccessDeniedException("조회 권한이 없습니다.");
+        }
+
+        //관리자인 경우 검증없이 종료
+        Boolean isAdmin = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+        if (isAdmin) {
+            return;
+        }
+
+        //트레이더면 작성자 검증
+        Boolean isTrader = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_TRADER"));
+
+        //로그인한 일반 회원인 경우
+        if (!isTrader)
+            throw new AccessDeniedException("비공개 전략은 작성자와 관리자만 조회할 수 있습니다.");
+
+        //트레이더면서 작성자가 아닌 경우
+        if (!userDetails.getMemberId().equals(writerId))
+            throw new AccessDeniedException("전략 조회 권한이 없습니다.");
+    }
+
     // 5. 전략 삭제
     // 관리자와 작성 트레이더만 삭제할 수 있다.
     @Operation(summary = "전략 삭제")
@@ -494,7 +542,13 @@ public class StrategyController {
     public ResponseEntity<Map<String, Object>> getDailyAnalyses(
             @PathVariable Long strategyId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "8") int pageSize) {
+            @RequestParam(defaultValue = "8") int pageSize,
+            WebRequest webRequest) {
+
+        // 데이터 변경이 없으면 304 응답 (응답 생성 전에 확인)
+        if (strategyDataVersionService.checkNotModified(webRequest, strategyId, null)) {
+            return null;
+        }
 
         // 서비스에서 페이징된 결과를 가져옴
         Page<DailyStatisticsResponseDto> result = dailyStatisticsService.getDailyStatisticsByStrategy(strategyId, page, pageSize);
@@ -520,7 +574,13 @@ public class StrategyController {
     )
     @GetMapping("/{strategyId}/statistics")
     public ResponseEntity<Map<String, Object>> getStrategyStatistics(
-            @PathVariable Long strategyId) {
+            @PathVariable Long strategyId,
+            WebRequest webRequest) {
+        // 데이터 변경이 없으면 304 응답 (응답 생성 전에 확인)
+        if (strategyDataVersionService.checkNotModified(webRequest, strategyId, null)) {
+            return null;
+        }
+
         // 서비스 호출: Map<String, Object> 형태의 통계 데이터 반환
         Map<String, Object> statistics = dailyStatisticsService.getDailyStatistics(strategyId);
 
@@ -609,6 +669,62 @@ public class StrategyController {
     }
 
 
+    /**
+     * 17-1. 상세 필터를 적용한 전략 목록을 커서 다음부터 반환 (무한 스크롤)
+     * - 필터 파라미터는 상세 검색(/advanced-search)과 같습니다.
+     *
+     * @param cursor   이전 응답의 nextCursor (없으면 처음부터)
+     * @param pageSize 조회할 데이터 개수
+     * @return 전략 목록, 다음 데이터 여부, 다음 커서를 포함한 Map 객체
+     */
+    @GetMapping("/advanced-search/cursor")
+    @Operation(summary = "필터링 적용한 전략 목록 커서 조회 (무한 스크롤)")
+    public ResponseEntity<Map<String, Object>> advancedSearchStrategiesByCursor(
+            @RequestParam(required = false) String investmentAssetClassesList,
+            @RequestParam(required = false) String strategyOperationStatusList,
+            @RequestParam(required = false) String tradingTypeList,
+            @RequestParam(required = false) String operationDaysList,
+            @RequestParam(required = false) String tradingCycleList,
+            @RequestParam(required = false) String minInvestmentAmount,
+            @RequestParam(required = false) BigDecimal minPrincipal,
+            @RequestParam(required = false) BigDecimal maxPrincipal,
+            @RequestParam(required = false) Integer minSmscore,
+            @RequestParam(required = false) Integer maxSmscore,
+            @RequestParam(required = false) BigDecimal minMdd,
+            @RequestParam(required = false) BigDecimal maxMdd,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate EndDate,
+            @RequestParam(required = false) String returnRateList,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") @Min(1) @Max(100) Integer pageSize)
+    {
+        //쿼리파라미터 옵션들 Dto에 담기
+        SearchOptionsPayloadDto optionsPayload = new SearchOptionsPayloadDto();
+        optionsPayload.setInvestmentAssetClassesIdList(investmentAssetClassesList);
+        optionsPayload.setStrategyOperationStatusList(strategyOperationStatusList);
+        optionsPayload.setTradingTypeIdList(tradingTypeList);
+        optionsPayload.setOperationDaysList(operationDaysList);
+        optionsPayload.setTradingCylcleIdList(tradingCycleList);
+        optionsPayload.setMinInvestmentAmount(minInvestmentAmount);
+        optionsPayload.setMinPrincipal(minPrincipal);
+        optionsPayload.setMaxPrincipal(maxPrincipal);
+        optionsPayload.setMinSmscore(minSmscore);
+        optionsPayload.setMaxSmscore(maxSmscore);
+        optionsPayload.setMinMdd(minMdd);
+        optionsPayload.setMaxMdd(maxMdd);
+        optionsPayload.setStartDate(startDate);
+        optionsPayload.setEndDate(EndDate);
+        optionsPayload.setReturnRateList(returnRateList);
+        optionsPayload.setKeyword(keyword);
+
+        //상세 검색 실행
+        Map<String, Object> responseData = new HashMap<>(strategyService.advancedSearchByCursor(optionsPayload, cursor, pageSize));
+        responseData.put("keyword", keyword);
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseData);
+    }
+
     /**
      * 17-2. 전략 키워드 검색.
      *
@@ -646,7 +762,13 @@ public class StrategyController {
     public Map<String, Object> getMonthlyAnalysis(
             @PathVariable Long strategyId,
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "8") @Min(1) int pageSize) {
+            @RequestParam(defaultValue = "8") @Min(1) int pageSize,
+            WebRequest webRequest) {
+
+        // 데이터 변경이 없으면 304 응답 (응답 생성 전에 확인)
+        if (strategyDataVersionService.checkNotModified(webRequest, strategyId, null)) {
+            return null;
+        }
 
         // 월간 분석 서비스 호출 및 결과 반환
         return monthlyStatisticsService.getMonthlyAnalysis(strategyId, page, pageSize);
@@ -659,22 +781,51 @@ public class StrategyController {
      * @param strategyId 차트 데이터를 조회할 전략 ID
      * @param option1 첫 번째 데이터 옵션 (예: "referencePrice", "balance" 등)
      * @param option2 두 번째 데이터 옵션 (예: "dailyProfitLoss", "cumulativeProfitLoss" 등)
-     * @return ResponseEntity<DailyStatisticsChartResponseDto> (전략 차트 데이터와 타임스탬프)
+     * @param options 추가 데이터 옵션 목록 (CSV, 예: "balance,principal")
+     * @param from 조회 시작일 (없으면 처음부터)
+     * @param to 조회 종료일 (없으면 끝까지)
+     * @param maxPoints 최대 점 수 (데이터가 더 많으면 LTTB 다운샘플링, 없으면 전체)
+     * @return ResponseEntity<DailyStatisticsChartResponseDto> (전략 차트 데이터, 날짜, 전체 데이터 수, 타임스탬프)
+     *         - Accept에서 application/vnd.sysmatic2.chart-frame이 JSON보다 우선하면(q 값 기준) 바이너리 프레임({@link ChartFrameCodec}), 그 외에는 JSON
      */
     @Operation(
             summary = "전략 상세 차트 데이터 조회",
-            description = "특정 전략 ID와 선택된 데이터 옵션(예: referencePrice, balance 등)을 날짜순으로 조회합니다."
+            description = "특정 전략 ID와 선택된 데이터 옵션(예: referencePrice, balance 등)을 기간 내 날짜순으로 조회합니다. maxPoints를 지정하면 다운샘플링합니다."
     )
     @GetMapping("/{id}/details-chart")
     public ResponseEntity<DailyStatisticsChartResponseDto> getStrategyChartDetails(
             @PathVariable("id") Long strategyId,
-            @RequestParam("option1") String option1,
-            @RequestParam("option2") String option2) {
+            @RequestParam(required = false) String option1,
+            @RequestParam(required = false) String option2,
+            @RequestParam(required = false) String options,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+            @RequestParam(required = false) Integer maxPoints,
+            WebRequest webRequest) {
+        // Accept(q 값 포함)로 응답 형식을 정하고, 304 응답에도 Vary: Accept 설정
+        boolean chartFrame = ChartFrameHttpMessageConverter.isPreferred(webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+
+        // 데이터 변경이 없으면 304 응답 (응답 생성 전에 확인, 응답 형식별로 ETag 구분)
+        if (strategyDataVersionService.checkNotModified(webRequest, strategyId, chartFrame ? "chart-frame" : null)) {
+            return null;
+        }
+
+        // 옵션 목록 (option1, option2, options 순서, 중복은 서비스에서 제거)
+        List<String> optionList = new ArrayList<>();
+        if (option1 != null) optionList.add(option1);
+        if (option2 != null) optionList.add(option2);
+        optionList.addAll(ParseCsvToList.parseCsvToStringList(options));
+
         // Service에서 데이터와 타임스탬프 포함한 DTO 생성
-        DailyStatisticsChartResponseDto responseDto = strategyService.getStrategyChartDetails(strategyId, option1, option2);
+        DailyStatisticsChartResponseDto responseDto = strategyService.getStrategyChartDetails(strategyId, optionList, from, to, maxPoints);
 
-        // 바로 반환
-        return ResponseEntity.ok(responseDto);
+        // 정한 형식(JSON 또는 바이너리 프레임)으로 변환
+        return ResponseEntity.ok()
+                .contentType(chartFrame ? ChartFrameHttpMessageConverter.CHART_FRAME : MediaType.APPLICATION_JSON)
+                .body(responseDto);
     }
 
     // 20. SM Score 기반 상위 5개 전략 리스트
@@ -1,24 +1,21 @@
 package com.sysmatic2.finalbe.strategy.controller;
 
+import com.sysmatic2.finalbe.strategy.common.ExportFormat;
 import com.sysmatic2.finalbe.strategy.service.ExcelGeneratorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-
 @RestController
 @RequestMapping("/api/strategies/export")
 @RequiredArgsConstructor
@@ -35,9 +32,10 @@ public class StrategyExportController {
    * @param includeAnalysis 분석 지표 포함 여부
    * @param pageNumber      페이지 번호 (기본값: 0)
    * @param pageSize        페이지 크기 (기본값: 10, 최대: 100)
-   * @return 엑셀 파일 다운로드
+   * @param format          파일 형식 (xlsx, csv, csv.gz / 기본값: xlsx)
+   * @return 파일 다운로드
    */
-  @Operation(summary = "일간 통계 엑셀 다운로드", description = "특정 전략의 일간 통계 데이터를 엑셀 파일로 다운로드합니다.")
+  @Operation(summary = "일간 통계 엑셀 다운로드", description = "특정 전략의 일간 통계 데이터를 엑셀 파일로 다운로드합니다. (format: xlsx, csv, csv.gz)")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "엑셀 다운로드 성공"),
           @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -45,23 +43,25 @@ public class StrategyExportController {
           @ApiResponse(responseCode = "500", description = "서버 내부 오류")
   })
   @GetMapping("/daily")
-  public ResponseEntity<InputStreamResource> downloadDailyStatistics(
+  public ResponseEntity<StreamingResponseBody> downloadDailyStatistics(
           @RequestParam Long strategyId,
           @RequestParam(defaultValue = "false") boolean includeAnalysis,
           @RequestParam(defaultValue = "0") @Min(value = 0, message = "pageNumber는 0 이상이어야 합니다.") int pageNumber,
           @RequestParam(defaultValue = "10") @Min(value = 1, message = "pageSize는 최소 1 이상이어야 합니다.")
-          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize) throws IOException {
+          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize,
+          @RequestParam(defaultValue = "xlsx") String format) {
 
-    byte[] excelBytes = excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize);
-    ByteArrayInputStream bis = new ByteArrayInputStream(excelBytes);
+    ExportFormat exportFormat = ExportFormat.from(format); // 지원하지 않는 형식이면 400
+    // 통계가 없으면 응답 전에 예외 발생, 파일은 응답 스트림에 바로 씀
+    StreamingResponseBody body = excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize, exportFormat);
 
     HttpHeaders headers = new HttpHeaders();
-    headers.add("Content-Disposition", "attachment; filename=daily_statistics_page_" + (pageNumber + 1) + ".xlsx");
+    headers.add("Content-Disposition", "attachment; filename=daily_statistics_page_" + (pageNumber + 1) + "." + exportFormat.getExtension());
 
     return ResponseEntity.ok()
             .headers(headers)
-            .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-            .body(new InputStreamResource(bis));
+            .contentType(exportFormat.getMediaType())
+            .body(body);
   }
 
   /**
@@ -70,9 +70,10 @@ public class StrategyExportController {
    * @param strategyId 전략 ID
    * @param pageNumber 조회할 페이지 번호 (기본값: 0)
    * @param pageSize   페이지 크기 (기본값: 10, 최대: 100)
-   * @return 엑셀 파일 다운로드
+   * @param format     파일 형식 (xlsx, csv, csv.gz / 기본값: xlsx)
+   * @return 파일 다운로드
    */
-  @Operation(summary = "월간 통계 엑셀 다운로드", description = "특정 전략의 월간 통계 데이터를 엑셀 파일로 다운로드합니다.")
+  @Operation(summary = "월간 통계 엑셀 다운로드", description = "특정 전략의 월간 통계 데이터를 엑셀 파일로 다운로드합니다. (format: xlsx, csv, csv.gz)")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "엑셀 다운로드 성공"),
           @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -80,22 +81,88 @@ public class StrategyExportController {
           @ApiResponse(responseCode = "500", description = "서버 내부 오류")
   })
   @GetMapping("/monthly")
-  public ResponseEntity<InputStreamResource> downloadMonthlyStatistics(
+  public ResponseEntity<StreamingResponseBody> downloadMonthlyStatistics(
           @RequestParam Long strategyId,
           @RequestParam(defaultValue = "0") @Min(value = 0, message = "pageNumber는 0 이상이어야 합니다.") int pageNumber,
           @RequestParam(defaultValue = "10") @Min(value = 1, message = "pageSize는 최소 1 이상이어야 합니다.")
-          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize) throws IOException {
+          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize,
+          @RequestParam(defaultValue = "xlsx") String format) {
+
+    ExportFormat exportFormat = ExportFormat.from(format); // 지원하지 않는 형식이면 400
+    // 통계가 없으면 응답 전에 예외 발생, 파일은 응답 스트림에 바로 씀
+    StreamingResponseBody body = excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize, exportFormat);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Content-Disposition", "attachment; filename=monthly_statistics_page_" + (pageNumber + 1) + "." + exportFormat.getExtension());
+
+    return ResponseEntity.ok()
+            .headers(headers)
+            .contentType(exportFormat.getMediaType())
+            .body(body);
+  }
+
+  /**
+   * 일간 통계 전체 기간 엑셀 다운로드 API (페이징 없음)
+   *
+   * @param strategyId      전략 ID
+   * @param includeAnalysis 분석 지표 포함 여부
+   * @param format          파일 형식 (xlsx, csv, csv.gz / 기본값: xlsx)
+   * @return 파일 다운로드
+   */
+  @Operation(summary = "일간 통계 전체 기간 엑셀 다운로드", description = "특정 전략의 전체 기간 일간 통계 데이터를 한 번에 엑셀 파일로 다운로드합니다. (format: xlsx, csv, csv.gz)")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "엑셀 다운로드 성공"),
+          @ApiResponse(responseCode = "404", description = "전략을 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  @GetMapping("/daily/all")
+  public ResponseEntity<StreamingResponseBody> downloadAllDailyStatistics(
+          @RequestParam Long strategyId,
+          @RequestParam(defaultValue = "false") boolean includeAnalysis,
+          @RequestParam(defaultValue = "xlsx") String format) {
+
+    ExportFormat exportFormat = ExportFormat.from(format); // 지원하지 않는 형식이면 400
+    // 통계가 없으면 응답 전에 예외 발생, 파일은 DB에서 읽는 대로 응답 스트림에 씀
+    StreamingResponseBody body = excelGeneratorService.exportAllDailyStatisticsToExcel(strategyId, includeAnalysis, exportFormat);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("Content-Disposition", "attachment; filename=daily_statistics_all." + exportFormat.getExtension());
+
+    return ResponseEntity.ok()
+            .headers(headers)
+            .contentType(exportFormat.getMediaType())
+            .body(body);
+  }
+
+  /**
+   * 월간 통계 전체 기간 엑셀 다운로드 API (페이징 없음)
+   *
+   * @param strategyId 전략 ID
+   * @param format     파일 형식 (xlsx, csv, csv.gz / 기본값: xlsx)
+   * @return 파일 다운로드
+   */
+  @Operation(summary = "월간 통계 전체 기간 엑셀 다운로드", description = "특정 전략의 전체 기간 월간 통계 데이터를 한 번에 엑셀 파일로 다운로드합니다. (format: xlsx, csv, csv.gz)")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "엑셀 다운로드 성공"),
+          @ApiResponse(responseCode = "404", description = "전략을 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+  })
+  @GetMapping("/monthly/all")
+  public ResponseEntity<StreamingResponseBody> downloadAllMonthlyStatistics(
+          @RequestParam Long strategyId,
+          @RequestParam(defaultValue = "xlsx") String format) {
 
-    byte[] excelBytes = excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize);
-    ByteArrayInputStream bis = new ByteArrayInputStream(excelBytes);
+    ExportFormat exportFormat = ExportFormat.from(format); // 지원하지 않는 형식이면 400
+    // 통계가 없으면 응답 전에 예외 발생, 파일은 DB에서 읽는 대로 응답 스트림에 씀
+    StreamingResponseBody body = excelGeneratorService.exportAllMonthlyStatisticsToExcel(strategyId, exportFormat);
 
     HttpHeaders headers = new HttpHeaders();
-    headers.add("Content-Disposition", "attachment; filename=monthly_statistics_page_" + (pageNumber + 1) + ".xlsx");
+    headers.add("Content-Disposition", "attachment; filename=monthly_statistics_all." + exportFormat.getExtension());
 
     return ResponseEntity.ok()
             .headers(headers)
-            .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-            .body(new InputStreamResource(bis));
+            .contentType(exportFormat.getMediaType())
+            .body(body);
   }
 
 //  /**
@@ -104,9 +171,10 @@ public class StrategyExportController {
 //   * @param strategyId 전략 ID
 //   * @param pageNumber 조회할 페이지 번호 (기본값: 0)
 //   * @param pageSize   페이지 크기 (기본값: 10, 최대: 100)
-//   * @return 엑셀 파일 다운로드
+//   * @param format     파일 형식 (xlsx, csv, csv.gz / 기본값: xlsx)
+//   * @return 파일 다운로드
 //   */
-//  @Operation(summary = "일간 분석 지표 엑셀 다운로드", description = "특정 전략의 일간 분석 지표 데이터를 엑셀 파일로 다운로드합니다.")
+//  @Operation(summary = "일간 분석 지표 엑셀 다운로드", description = "특정 전략의 일간 분석 지표 데이터를 엑셀 파일로 다운로드합니다. (format: xlsx, csv, csv.gz)")
 //  @ApiResponses(value = {
 //          @ApiResponse(responseCode = "200", description = "엑셀 다운로드 성공"),
 //          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -114,21 +182,22 @@ public class StrategyExportController {
 //          @ApiResponse(responseCode = "500", description = "서버 내부 오류")
 //  })
 //  @GetMapping("/daily-analysis")
-//  public ResponseEntity<InputStreamResource> downloadDailyAnalysisIndicators(
+//  public ResponseEntity<StreamingResponseBody> downloadDailyAnalysisIndicators(
 //          @RequestParam Long strategyId,
 //          @RequestParam(defaultValue = "0") @Min(value = 0, message = "pageNumber는 0 이상이어야 합니다.") int pageNumber,
 //          @RequestParam(defaultValue = "10") @Min(value = 1, message = "pageSize는 최소 1 이상이어야 합니다.")
-//          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize) throws IOException {
+//          @Max(value = 100, message = "pageSize는 최대 100까지 허용됩니다.") int pageSize,
+//          @RequestParam(defaultValue = "xlsx") String format) {
 //
-//    byte[] excelBytes = excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize);
-//    ByteArrayInputStream bis = new ByteArrayInputStream(excelBytes);
+//    ExportFormat exportFormat = ExportFormat.from(format);
+//    StreamingResponseBody body = excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize, exportFormat);
 //
 //    HttpHeaders headers = new HttpHeaders();
-//    headers.add("Content-Disposition", "attachment; filename=daily_analysis_page_" + (pageNumber + 1) + ".xlsx");
+//    headers.add("Content-Disposition", "attachment; filename=daily_analysis_page_" + (pageNumber + 1) + "." + exportFormat.getExtension());
 //
 //    return ResponseEntity.ok()
 //            .headers(headers)
-//            .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-//            .body(new InputStreamResource(bis));
+//            .contentType(exportFormat.getMediaType())
+//            .body(body);
 //  }
 }
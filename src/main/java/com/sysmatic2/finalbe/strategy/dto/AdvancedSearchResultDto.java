@@ -22,5 +22,5 @@ public class AdvancedSearchResultDto {
     private BigDecimal smScore;                  //sm-score - strategy
     private Long followersCount;                 // 팔로워 수 - strategy
 
-    private List<BigDecimal> cumulativeProfitLossRateList; // 누적 수익률 전체 데이터 - dailystatistics
+    private List<BigDecimal> cumulativeProfitLossRateList; // 누적 수익률 스파크라인 (최대 129개로 다운샘플링) - strategy_latest_stats
 }
\ No newline at end of file
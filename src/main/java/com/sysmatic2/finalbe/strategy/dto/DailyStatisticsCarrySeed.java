@@ -0,0 +1,16 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 누적 상태 컬럼이 없는 기존 일간 데이터의 carry를 복원하기 위한 집계 결과.
+ */
+@Getter
+@AllArgsConstructor
+public class DailyStatisticsCarrySeed {
+    private final BigDecimal maxReferencePrice;          // 기준일까지의 최대 기준가
+    private final BigDecimal dailyProfitLossSquareSum;   // 기준일까지의 일손익 제곱합
+}
@@ -3,6 +3,7 @@ package com.sysmatic2.finalbe.strategy.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -14,5 +15,7 @@ import java.util.Map;
 public class DailyStatisticsChartResponseDto {
 
     private Map<String, List<?>> data; // 데이터 맵 (옵션 이름: 값 리스트)
+    private List<LocalDate> dates;     // 값 리스트와 같은 순서의 날짜
+    private int totalPoints;           // 다운샘플링 전 데이터 수 (다운샘플링하지 않았으면 dates 크기와 같음)
     private String timestamp;
-}
\ No newline at end of file
+}
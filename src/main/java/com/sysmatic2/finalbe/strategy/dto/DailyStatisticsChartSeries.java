@@ -0,0 +1,19 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 전략 상세 차트용 일간 통계 계열 (한 번의 조회로 가져온 날짜순 데이터)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyStatisticsChartSeries {
+    private List<String> options;  // 조회한 필드 이름 (values의 행 순서)
+    private LocalDate[] dates;     // 날짜 오름차순
+    private BigDecimal[][] values; // [옵션 순서][날짜 순서] 값 (없으면 null)
+}
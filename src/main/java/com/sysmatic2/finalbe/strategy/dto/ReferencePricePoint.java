@@ -0,0 +1,14 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ReferencePricePoint {
+    private final LocalDate date;             // 일자
+    private final BigDecimal referencePrice;  // 기준가
+}
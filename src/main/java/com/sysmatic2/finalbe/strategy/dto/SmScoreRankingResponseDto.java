@@ -13,6 +13,6 @@ public class SmScoreRankingResponseDto {
     private String strategyTitle; // 전략명
     private String profilePath;  // 프로필 이미지 링크
     private String nickname; // 닉네임
-    private List<BigDecimal> cumulativeProfitLossRateList; // 누적 수익률 전체 데이터 - dailystatistics
+    private List<BigDecimal> cumulativeProfitLossRateList; // 누적 수익률 스파크라인 (최대 129개로 다운샘플링) - strategy_latest_stats
     private BigDecimal dailyPlRate; // 일손익률
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SM-SCORE 재계산 조정 메트릭.
+ */
+@Getter
+@AllArgsConstructor
+public class SmScoreRecomputeMetrics {
+    private final long requestedCount; // 재계산 요청(dirty 표시) 횟수
+    private final long executedCount;  // 실제 재계산 횟수
+    private final long coalescedCount; // 대기 중인 재계산에 합쳐져 생략된 요청 횟수
+    private final boolean pending;     // 트랜잭션 밖 요청 중 대기 중인 재계산 여부
+}
@@ -0,0 +1,24 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * SM-SCORE 상위 5개 위젯 스냅샷 메트릭.
+ */
+@Getter
+@AllArgsConstructor
+public class SmScoreTop5SnapshotMetrics {
+    private final long requests;             // 전체 요청 수
+    private final long hits;                 // 최신 스냅샷 반환 횟수
+    private final long staleHits;            // 다시 만드는 중 이전 스냅샷 반환 횟수
+    private final long builds;               // 스냅샷 생성 횟수
+    private final double hitRate;            // (hits + staleHits) / requests
+    private final double lastBuildMillis;    // 마지막 생성 시간
+    private final double averageBuildMillis; // 평균 생성 시간
+    private final Long version;              // 현재 스냅샷 버전 (없으면 null)
+    private final Instant builtAt;           // 현재 스냅샷 생성 시각 (없으면 null)
+    private final Instant timestamp;         // 조회 시각
+}
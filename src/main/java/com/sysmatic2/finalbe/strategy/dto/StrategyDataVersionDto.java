@@ -0,0 +1,18 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyDataVersionDto {
+    private Long strategyId;             // 전략 ID
+    private Long dataVersion;            // 데이터 버전
+    private LocalDateTime dataUpdatedAt; // 마지막 데이터 버전 증가 일시 (증가 이력이 없으면 null)
+    private String isPosted;             // 공개 여부 (304 응답 전 조회 권한 확인용)
+    private String isApproved;           // 승인 여부
+    private String writerId;             // 작성자 ID
+}
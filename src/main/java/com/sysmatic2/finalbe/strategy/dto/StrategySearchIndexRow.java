@@ -0,0 +1,33 @@
+package com.sysmatic2.finalbe.strategy.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전략 검색 인덱스 적재용 데이터 (전략 + 최신 일간 통계 스냅샷)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategySearchIndexRow {
+    private Long strategyId;                  // 전략 ID
+    private Integer tradingTypeId;            // 매매유형 ID (nullable)
+    private Integer tradingCycleId;           // 매매주기 ID
+    private String strategyStatusCode;        // 전략 상태 코드
+    private String minInvestmentAmount;       // 최소운용가능금액
+    private String strategyTitle;             // 전략명
+    private String isPosted;                  // 공개여부
+    private String isApproved;                // 승인여부
+    private BigDecimal smScore;               // SM-Score
+    private Long followersCount;              // 팔로워 수
+    private BigDecimal principal;             // 최신 원금 (일간 통계가 없으면 null)
+    private BigDecimal maxDrawdownRate;       // 최신 MDD
+    private Integer strategyOperationDays;    // 최신 총전략운용일수
+    private BigDecimal cumulativeProfitLossRate; // 최신 누적 수익률
+    private List<Integer> investmentAssetClassesIds = new ArrayList<>(); // 투자자산 분류 ID 리스트
+}
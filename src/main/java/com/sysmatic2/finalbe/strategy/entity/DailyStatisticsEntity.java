@@ -6,12 +6,14 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "daily_statistics")
+@Table(name = "daily_statistics", indexes = @Index(name = "idx_daily_statistics_strategy_date", columnList = "strategy_id, date")) // 전략별 기간 조회용
+@DynamicUpdate // 재계산 시 값이 바뀐 컬럼만 UPDATE
 @Getter
 @Setter
 @ToString
@@ -185,6 +187,75 @@ public class DailyStatisticsEntity extends Auditable {
     @Column(name = "max_dd_in_rate", nullable = false)
     private BigDecimal maxDdInRate; // DD기간 내 최대 자본인하율
 
+    // ===== 누적 상태(carry) - 다음 일자 계산 시 전체 이력 재조회 없이 사용 =====
+    // 기존 데이터에는 값이 없을 수 있으므로 nullable, 없으면 이력으로 1회 복원
+
+    @Column(name = "max_reference_price", precision = 25, scale = 10)
+    private BigDecimal maxReferencePrice; // 최대 기준가 - 오늘까지의 기준가 중 최대값
+
+    @Column(name = "daily_profit_loss_square_sum", precision = 65, scale = 20)
+    private BigDecimal dailyProfitLossSquareSum; // 일손익 제곱합 - 오늘까지의 일손익 제곱의 합계(변동계수, Sharp Ratio 계산용)
+
+    /**
+     * 재계산된 지표 값을 현재 엔티티에 반영하는 메서드
+     * - 수정/삭제 이후 데이터를 지우고 다시 등록하지 않고, 기존 행(PK 유지)의 계산 값만 갱신할 때 사용합니다.
+     * - ID, 전략, 입력 값(일자, 일손익, 입출금), SM-SCORE(일 배치로 갱신), 생성/수정 정보는 변경하지 않습니다.
+     *
+     * @param recalculated 같은 입력 값으로 재계산된 일간 통계 데이터
+     */
+    public void applyRecalculatedValues(DailyStatisticsEntity recalculated) {
+        this.tradingDays = recalculated.getTradingDays();
+        this.principal = recalculated.getPrincipal();
+        this.balance = recalculated.getBalance();
+        this.unrealizedProfitLoss = recalculated.getUnrealizedProfitLoss();
+        this.kpRatio = recalculated.getKpRatio();
+        this.referencePrice = recalculated.getReferencePrice();
+        this.cumulativeDepWdPrice = recalculated.getCumulativeDepWdPrice();
+        this.depositAmount = recalculated.getDepositAmount();
+        this.cumulativeDepositAmount = recalculated.getCumulativeDepositAmount();
+        this.withdrawAmount = recalculated.getWithdrawAmount();
+        this.cumulativeWithdrawAmount = recalculated.getCumulativeWithdrawAmount();
+        this.dailyPlRate = recalculated.getDailyPlRate();
+        this.maxDailyProfit = recalculated.getMaxDailyProfit();
+        this.maxDailyProfitRate = recalculated.getMaxDailyProfitRate();
+        this.maxDailyLoss = recalculated.getMaxDailyLoss();
+        this.maxDailyLossRate = recalculated.getMaxDailyLossRate();
+        this.totalProfit = recalculated.getTotalProfit();
+        this.totalProfitDays = recalculated.getTotalProfitDays();
+        this.averageProfit = recalculated.getAverageProfit();
+        this.totalLoss = recalculated.getTotalLoss();
+        this.totalLossDays = recalculated.getTotalLossDays();
+        this.averageLoss = recalculated.getAverageLoss();
+        this.cumulativeProfitLoss = recalculated.getCumulativeProfitLoss();
+        this.cumulativeProfitLossRate = recalculated.getCumulativeProfitLossRate();
+        this.maxCumulativeProfitLoss = recalculated.getMaxCumulativeProfitLoss();
+        this.maxCumulativeProfitLossRate = recalculated.getMaxCumulativeProfitLossRate();
+        this.averageProfitLoss = recalculated.getAverageProfitLoss();
+        this.averageProfitLossRate = recalculated.getAverageProfitLossRate();
+        this.peak = recalculated.getPeak();
+        this.peakRate = recalculated.getPeakRate();
+        this.daysSincePeak = recalculated.getDaysSincePeak();
+        this.currentDrawdownAmount = recalculated.getCurrentDrawdownAmount();
+        this.currentDrawdownRate = recalculated.getCurrentDrawdownRate();
+        this.maxDrawdownAmount = recalculated.getMaxDrawdownAmount();
+        this.maxDrawdownRate = recalculated.getMaxDrawdownRate();
+        this.winRate = recalculated.getWinRate();
+        this.profitFactor = recalculated.getProfitFactor();
+        this.roa = recalculated.getRoa();
+        this.averageProfitLossRatio = recalculated.getAverageProfitLossRatio();
+        this.coefficientOfVariation = recalculated.getCoefficientOfVariation();
+        this.sharpRatio = recalculated.getSharpRatio();
+        this.currentConsecutivePlDays = recalculated.getCurrentConsecutivePlDays();
+        this.maxConsecutiveProfitDays = recalculated.getMaxConsecutiveProfitDays();
+        this.maxConsecutiveLossDays = recalculated.getMaxConsecutiveLossDays();
+        this.recentOneYearReturn = recalculated.getRecentOneYearReturn();
+        this.strategyOperationDays = recalculated.getStrategyOperationDays();
+        this.ddDay = recalculated.getDdDay();
+        this.maxDdInRate = recalculated.getMaxDdInRate();
+        this.maxReferencePrice = recalculated.getMaxReferencePrice();
+        this.dailyProfitLossSquareSum = recalculated.getDailyProfitLossSquareSum();
+    }
+
     /**
      * 엔티티 데이터를 리스트로 매핑하는 메서드
      *
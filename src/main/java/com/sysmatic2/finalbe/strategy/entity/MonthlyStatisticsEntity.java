@@ -48,6 +48,24 @@ public class MonthlyStatisticsEntity extends Auditable {
     @Column(name = "monthly_cumulative_return", nullable = false, precision = 10, scale = 4)
     private BigDecimal monthlyCumulativeReturn; // 월누적손익률(%) - 해당월 마지막 기준가 / 1000 - 1
 
+    // ===== 누적 상태(carry) - 일간 데이터 추가 시 해당 월 전체 재조회 없이 사용 =====
+    // 기존 데이터에는 값이 없을 수 있으므로 nullable, 없으면 해당 월 일간 데이터로 1회 복원
+
+    @Column(name = "daily_count")
+    private Integer dailyCount; // 해당 월 일간 데이터 수
+
+    @Column(name = "principal_sum", precision = 30, scale = 10)
+    private BigDecimal principalSum; // 해당 월 원금 합계 (월평균 원금 계산용)
+
+    @Column(name = "dep_wd_amount_sum", precision = 25, scale = 10)
+    private BigDecimal depWdAmountSum; // 해당 월 입출금 합계 (일간 데이터 소수 자릿수 유지)
+
+    @Column(name = "profit_loss_sum", precision = 25, scale = 10)
+    private BigDecimal profitLossSum; // 해당 월 일손익 합계 (일간 데이터 소수 자릿수 유지)
+
+    @Column(name = "previous_month_reference_price", precision = 25, scale = 10)
+    private BigDecimal previousMonthReferencePrice; // 이전 월 마지막 기준가 (월 손익률 계산용, 없으면 0)
+
     /**
      * 엔티티 데이터를 리스트로 매핑하는 메서드
      *
@@ -20,7 +20,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Entity
-@Table(name = "strategy")
+@Table(name = "strategy", indexes = @Index(name = "idx_strategy_sm_score_id", columnList = "sm_score, strategy_id")) // SM-Score 순 목록 커서 조회용
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -87,6 +87,14 @@ public class StrategyEntity extends Auditable {
     @Column(name = "followers_count", nullable = false)
     private Long followersCount = 0L; // 팔로워수 default = 0
 
+    // 조건부 조회(ETag/Last-Modified)용 데이터 버전 - 엔티티 저장으로는 변경하지 않고 StrategyDataVersionService의 일괄 UPDATE로만 증가
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private Long dataVersion = 0L; // 전략, 일간 통계, 제안서, 리뷰 변경 시 증가
+
+    @Column(name = "data_updated_at", insertable = false, updatable = false)
+    private LocalDateTime dataUpdatedAt; // 마지막 데이터 버전 증가 일시
+
     //전략(1) : 관계(N)
     @OneToMany(mappedBy = "strategyEntity", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StrategyIACEntity> strategyIACEntities;
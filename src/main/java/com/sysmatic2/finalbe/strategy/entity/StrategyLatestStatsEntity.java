@@ -0,0 +1,83 @@
+package com.sysmatic2.finalbe.strategy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 전략별 최신 일간 통계 스냅샷 (조회 전용 모델)
+ *
+ * - 전략당 1행이며, 일간 통계 등록/수정/삭제와 같은 트랜잭션에서 갱신됩니다.
+ * - 전략 목록/검색은 일간 통계 테이블을 다시 집계하지 않고 전략 ID(PK)로 조회합니다.
+ * - 최신 기준은 일간 통계 ID가 아닌 일자입니다.
+ */
+@Entity
+@Table(name = "strategy_latest_stats")
+@Getter
+@Setter
+@ToString(exclude = "cumulativeProfitLossRateSparkline")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StrategyLatestStatsEntity {
+    @Id
+    @Column(name = "strategy_id", nullable = false)
+    private Long strategyId; // 전략 ID (전략당 1행)
+
+    @Column(name = "daily_statistics_id", nullable = false)
+    private Long dailyStatisticsId; // 최신 일간 통계 ID
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date; // 최신 일자
+
+    @Column(name = "principal", nullable = false, precision = 25, scale = 10)
+    private BigDecimal principal; // 원금
+
+    @Column(name = "balance", nullable = false, precision = 25, scale = 10)
+    private BigDecimal balance; // 잔고
+
+    @Column(name = "reference_price", nullable = false, precision = 25, scale = 10)
+    private BigDecimal referencePrice; // 기준가
+
+    @Column(name = "cumulative_profit_loss", nullable = false, precision = 25, scale = 10)
+    private BigDecimal cumulativeProfitLoss; // 누적손익
+
+    @Column(name = "cumulative_profit_loss_rate", nullable = false, precision = 25, scale = 10)
+    private BigDecimal cumulativeProfitLossRate; // 누적손익률(%)
+
+    @Column(name = "recent_one_year_return", nullable = false, precision = 25, scale = 10)
+    private BigDecimal recentOneYearReturn; // 최근 1년 수익률
+
+    @Column(name = "max_drawdown_rate", nullable = false, precision = 25, scale = 10)
+    private BigDecimal maxDrawdownRate; // 최대자본인하율(%)
+
+    @Column(name = "strategy_operation_days", nullable = false)
+    private Integer strategyOperationDays; // 총전략운용일수
+
+    @Column(name = "kp_ratio", nullable = false, precision = 25, scale = 10)
+    private BigDecimal kpRatio; // KP-Ratio
+
+    @Column(name = "cumulative_profit_loss_rate_sparkline", length = 1100)
+    private byte[] cumulativeProfitLossRateSparkline; // 누적 수익률 스파크라인 (SparklineSeries 직렬화, 최대 1041바이트)
+
+    /**
+     * 최신 일간 통계 값을 스냅샷에 반영하는 메서드
+     *
+     * @param latest 전략의 가장 최근 일자 일간 통계 데이터
+     */
+    public void applyLatestStatistics(DailyStatisticsEntity latest) {
+        this.dailyStatisticsId = latest.getDailyStatisticsId();
+        this.date = latest.getDate();
+        this.principal = latest.getPrincipal();
+        this.balance = latest.getBalance();
+        this.referencePrice = latest.getReferencePrice();
+        this.cumulativeProfitLoss = latest.getCumulativeProfitLoss();
+        this.cumulativeProfitLossRate = latest.getCumulativeProfitLossRate();
+        this.recentOneYearReturn = latest.getRecentOneYearReturn();
+        this.maxDrawdownRate = latest.getMaxDrawdownRate();
+        this.strategyOperationDays = latest.getStrategyOperationDays();
+        this.kpRatio = latest.getKpRatio();
+    }
+}
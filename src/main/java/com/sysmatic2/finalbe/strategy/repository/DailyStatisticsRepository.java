@@ -1,22 +1,28 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsCarrySeed;
 import com.sysmatic2.finalbe.strategy.dto.DateRange;
-import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
+import com.sysmatic2.finalbe.strategy.dto.ReferencePricePoint;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface DailyStatisticsRepository extends JpaRepository<DailyStatisticsEntity, Long> {
+public interface DailyStatisticsRepository extends JpaRepository<DailyStatisticsEntity, Long>, DailyStatisticsRepositoryCustom {
 
     /**
      * 특정 전략에서 가장 최근의 일일 통계 데이터를 1개 조회합니다.
@@ -30,24 +36,6 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
             "ORDER BY d.date DESC")
     List<DailyStatisticsEntity> findLatestByStrategyId(@Param("strategyId") Long strategyId, Pageable pageable);
 
-    /**
-     * 특정 전략의 일 손익 데이터를 날짜 오름차순으로 조회합니다.
-     * 전략 id 리스트를 받고 각 전략의 가장 최근의 일일 통계 데이터 1개를 리스트에 담는다.
-     *
-     * @param strategyIds 조회할 전략의 ID
-     * @return 최신 일일 통계 데이터 리스트
-     */
-    @Query(value = """
-        SELECT * FROM daily_statistics ds
-        WHERE ds.strategy_id IN :strategyIds
-        AND ds.daily_statistics_id = (
-            SELECT MAX(ds_inner.daily_statistics_id)
-            FROM daily_statistics ds_inner
-            WHERE ds_inner.strategy_id = ds.strategy_id
-        )
-    """, nativeQuery = true)
-    List<DailyStatisticsEntity> findLatestStatisticsByStrategyIds(@Param("strategyIds") List<Long> strategyIds);
-
     /**
      * 특정 전략의 일손익(dailyProfitLoss) 데이터를 날짜 오름차순으로 조회합니다.
      *
@@ -111,6 +99,16 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("SELECT COUNT(ds) > 0 FROM DailyStatisticsEntity ds WHERE ds.strategyEntity.strategyId = :strategyId AND ds.date = :date")
     boolean existsByStrategyIdAndDate(@Param("strategyId") Long strategyId, @Param("date") LocalDate date);
 
+    /**
+     * 특정 전략에서 주어진 날짜 중 이미 등록된 날짜를 조회합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param dates      확인할 날짜 목록
+     * @return 이미 등록된 날짜 리스트 (날짜 오름차순)
+     */
+    @Query("SELECT ds.date FROM DailyStatisticsEntity ds WHERE ds.strategyEntity.strategyId = :strategyId AND ds.date IN :dates ORDER BY ds.date ASC")
+    List<LocalDate> findExistingDates(@Param("strategyId") Long strategyId, @Param("dates") Collection<LocalDate> dates);
+
     /**
      * 특정 전략의 누적 손익 데이터를 날짜 오름차순으로 조회합니다.
      *
@@ -138,6 +136,31 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
      */
     Page<DailyStatisticsEntity> findByStrategyEntityStrategyIdOrderByDateDesc(Long strategyId, Pageable pageable);
 
+    /**
+     * 특정 전략의 일간 통계 전체를 최신 날짜순으로 스트리밍 조회합니다. (전체 기간 엑셀 다운로드)
+     *
+     * - 결과를 한 번에 List로 올리지 않고 fetch size 단위로 읽으며, 읽기 전용으로 조회하여 스냅샷을 만들지 않습니다.
+     * - 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 합니다. (try-with-resources)
+     * - MySQL은 useCursorFetch=true(application.properties의 Hikari data-source-properties)로 서버 커서를 써서 fetch size만큼씩 읽습니다.
+     *
+     * @param strategyId 조회할 전략의 ID
+     * @return 최신 날짜순으로 정렬된 일간 통계 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ds FROM DailyStatisticsEntity ds WHERE ds.strategyEntity.strategyId = :strategyId ORDER BY ds.date DESC")
+    Stream<DailyStatisticsEntity> streamByStrategyIdOrderByDateDesc(@Param("strategyId") Long strategyId);
+
+    /**
+     * 특정 전략의 일간 통계 존재 여부를 확인합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 데이터가 존재하면 true, 없으면 false
+     */
+    boolean existsByStrategyEntityStrategyId(Long strategyId);
+
     List<DailyStatisticsEntity> findByStrategyEntityOrderByDateDesc(StrategyEntity strategy);
 
     /**
@@ -226,18 +249,6 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("DELETE FROM DailyStatisticsEntity d WHERE d.dailyStatisticsId IN :dailyStatisticsIds")
     void deleteAllById(@Param("dailyStatisticsIds") List<Long> dailyStatisticsIds);
 
-    /**
-     * 특정 전략의 ddDay와 maxDdInRate 데이터를 날짜 오름차순으로 조회합니다.
-     *
-     * @param strategyId 조회할 전략의 ID
-     * @return 날짜 오름차순으로 정렬된 ddDay와 maxDdInRate 데이터 리스트 (Object[] 형태로 반환)
-     */
-    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate(d.ddDay, d.maxDdInRate) " +
-            "FROM DailyStatisticsEntity d " +
-            "WHERE d.strategyEntity.strategyId = :strategyId " +
-            "ORDER BY d.date ASC")
-    List<DdDayAndMaxDdInRate> findDdDayAndMaxDdInRateByStrategyIdOrderByDate(@Param("strategyId") Long strategyId);
-
     /**
      * 특정 전략의 모든 현재 자본인하율 데이터를 날짜 오름차순으로 조회합니다.
      *
@@ -261,6 +272,39 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     List<BigDecimal> findAllDrawdownAmountsByStrategyId(@Param("strategyId") Long strategyId);
 
 
+    /**
+     * 특정 전략의 기간 내 (일자, 기준가) 데이터를 날짜 오름차순으로 조회합니다.
+     * - 최근 1년 수익률 계산용 carry 구간을 초기화할 때 사용합니다.
+     *
+     * @param strategyId 조회할 전략의 ID
+     * @param fromDate   시작 날짜 (포함)
+     * @param toDate     종료 날짜 (포함)
+     * @return 날짜 오름차순으로 정렬된 (일자, 기준가) 리스트
+     */
+    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.ReferencePricePoint(d.date, d.referencePrice) " +
+            "FROM DailyStatisticsEntity d " +
+            "WHERE d.strategyEntity.strategyId = :strategyId " +
+            "AND d.date BETWEEN :fromDate AND :toDate " +
+            "ORDER BY d.date ASC")
+    List<ReferencePricePoint> findReferencePricePointsBetween(@Param("strategyId") Long strategyId,
+                                                              @Param("fromDate") LocalDate fromDate,
+                                                              @Param("toDate") LocalDate toDate);
+
+    /**
+     * 기준일(포함)까지의 최대 기준가와 일손익 제곱합을 집계합니다.
+     * - 누적 상태 컬럼이 비어 있는 기존 데이터의 carry를 복원할 때만 사용합니다.
+     *
+     * @param strategyId 조회할 전략의 ID
+     * @param date       기준 날짜 (포함)
+     * @return 최대 기준가와 일손익 제곱합
+     */
+    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.DailyStatisticsCarrySeed(" +
+            "MAX(d.referencePrice), SUM(d.dailyProfitLoss * d.dailyProfitLoss)) " +
+            "FROM DailyStatisticsEntity d " +
+            "WHERE d.strategyEntity.strategyId = :strategyId " +
+            "AND d.date <= :date")
+    DailyStatisticsCarrySeed findCarrySeedUntilDate(@Param("strategyId") Long strategyId, @Param("date") LocalDate date);
+
     @Query("""
         SELECT new com.sysmatic2.finalbe.strategy.dto.DateRange(
             MIN(d.date),
@@ -283,6 +327,16 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
     @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId = :strategyId AND d.date = :date")
     Optional<DailyStatisticsEntity> findByStrategyIdAndDate(@Param("strategyId") Long strategyId, @Param("date") LocalDate date);
 
+    /**
+     * 여러 전략의 특정 날짜 일간 분석 데이터를 한 번에 조회하는 메서드.
+     *
+     * @param strategyIds 조회할 전략 ID 목록
+     * @param date        조회할 날짜
+     * @return 해당 날짜에 일간 분석 데이터가 있는 전략의 DailyStatisticsEntity 리스트
+     */
+    @Query("SELECT d FROM DailyStatisticsEntity d WHERE d.strategyEntity.strategyId IN :strategyIds AND d.date = :date")
+    List<DailyStatisticsEntity> findByStrategyIdsAndDate(@Param("strategyIds") Collection<Long> strategyIds, @Param("date") LocalDate date);
+
     /**
      * 특정 날짜에 데이터가 없는 전략들의 ID를 페이징하여 조회합니다.
      *
@@ -402,17 +456,6 @@ public interface DailyStatisticsRepository extends JpaRepository<DailyStatistics
                                        @Param("startDate") LocalDate startDate,
                                        @Param("endDate") LocalDate endDate);
 
-    /**
-     * 특정 전략 ID에 대한 누적수익률 데이터를 날짜 오름차순으로 조회합니다.
-     *
-     * @param strategyId 조회할 전략의 ID
-     * @return 날짜 오름차순으로 정렬된 누적수익률 리스트
-     */
-    @Query("SELECT d.cumulativeProfitLossRate FROM DailyStatisticsEntity d " +
-            "WHERE d.strategyEntity.strategyId = :strategyId " +
-            "ORDER BY d.date ASC")
-    List<BigDecimal> findCumulativeProfitLossRateByStrategyIdOrderByDate(Long strategyId);
-
     // strategy id로 일일통계 데이터 모두 삭제
     void deleteAllByStrategyEntity(StrategyEntity strategyEntity);
 
@@ -0,0 +1,22 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 일간 통계 QueryDSL 기반 커스텀 쿼리를 위한 인터페이스
+ */
+public interface DailyStatisticsRepositoryCustom {
+
+    /**
+     * 여러 전략의 누적 수익률 시계열을 한 번에 조회합니다.
+     *
+     * - 전략 ID 목록을 일정 크기로 나눠 묶음마다 1회 조회하며, 전략 수와 관계없이 조회 횟수가 일정합니다.
+     * - 조회 결과는 (전략 ID, 일자) 순으로 읽으면서 전략별 long 배열로 모읍니다.
+     * - 값은 {@link com.sysmatic2.finalbe.strategy.common.FixedPointDecimal} 형식(10^10배 한 long)입니다.
+     *
+     * @param strategyIds 조회할 전략 ID 목록
+     * @return 전략 ID를 키로 하는 날짜 오름차순 누적 수익률 배열 Map (데이터가 없는 전략은 빈 배열)
+     */
+    Map<Long, long[]> findCumulativeProfitLossRateSeriesByStrategyIds(Collection<Long> strategyIds);
+}
@@ -0,0 +1,95 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sysmatic2.finalbe.strategy.common.FixedPointDecimal;
+import com.sysmatic2.finalbe.strategy.entity.QDailyStatisticsEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 일간 통계 QueryDSL 커스텀 리포지토리 구현체
+ */
+@Repository
+public class DailyStatisticsRepositoryCustomImpl implements DailyStatisticsRepositoryCustom {
+    private static final int SERIES_CHUNK_SIZE = 500; // 조회 1회당 전략 수 (IN 절 크기)
+    private static final int INITIAL_SERIES_CAPACITY = 256; // 전략별 배열 초기 크기
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * JPAQueryFactory 초기화
+     *
+     * @param entityManager 엔티티 매니저
+     */
+    public DailyStatisticsRepositoryCustomImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public Map<Long, long[]> findCumulativeProfitLossRateSeriesByStrategyIds(Collection<Long> strategyIds) {
+        QDailyStatisticsEntity dailyStatistics = QDailyStatisticsEntity.dailyStatisticsEntity;
+        Map<Long, long[]> seriesMap = new HashMap<>();
+        List<Long> ids = new ArrayList<>(strategyIds);
+
+        for (int from = 0; from < ids.size(); from += SERIES_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SERIES_CHUNK_SIZE, ids.size()));
+
+            // (전략 ID, 일자) 순으로 읽으면서 전략이 바뀔 때마다 배열 확정
+            try (Stream<Tuple> rows = queryFactory
+                    .select(dailyStatistics.strategyEntity.strategyId, dailyStatistics.cumulativeProfitLossRate)
+                    .from(dailyStatistics)
+                    .where(dailyStatistics.strategyEntity.strategyId.in(chunk))
+                    .orderBy(dailyStatistics.strategyEntity.strategyId.asc(), dailyStatistics.date.asc())
+                    .stream()) {
+                SeriesBuilder builder = new SeriesBuilder();
+                rows.forEach(row -> {
+                    Long strategyId = row.get(dailyStatistics.strategyEntity.strategyId);
+                    if (!strategyId.equals(builder.strategyId)) {
+                        builder.flushTo(seriesMap);
+                        builder.strategyId = strategyId;
+                    }
+                    BigDecimal value = row.get(dailyStatistics.cumulativeProfitLossRate);
+                    builder.add(FixedPointDecimal.toScaled(value));
+                });
+                builder.flushTo(seriesMap);
+            }
+        }
+
+        // 데이터가 없는 전략은 빈 배열
+        strategyIds.forEach(strategyId -> seriesMap.putIfAbsent(strategyId, new long[0]));
+        return seriesMap;
+    }
+
+    /**
+     * 전략 1개의 시계열을 모으는 가변 길이 long 배열
+     */
+    private static class SeriesBuilder {
+        private Long strategyId;
+        private long[] values = new long[INITIAL_SERIES_CAPACITY];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void flushTo(Map<Long, long[]> seriesMap) {
+            if (strategyId != null) {
+                seriesMap.put(strategyId, Arrays.copyOf(values, size));
+            }
+            size = 0;
+        }
+    }
+}
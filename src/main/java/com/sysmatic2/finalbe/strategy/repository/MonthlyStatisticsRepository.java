@@ -6,13 +6,17 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -27,6 +31,29 @@ public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatis
    */
   Page<MonthlyStatisticsEntity> findByStrategyEntityStrategyIdOrderByAnalysisMonthAsc(Long strategyId, Pageable pageable);
 
+  /**
+   * 특정 전략의 월간 통계 전체를 월 오름차순으로 스트리밍 조회합니다. (전체 기간 엑셀 다운로드)
+   *
+   * - fetch size 단위로 읽기 전용 조회하며, 트랜잭션 안에서 호출하고 사용 후 반드시 닫아야 합니다.
+   *
+   * @param strategyId 조회할 전략의 ID
+   * @return 월 오름차순으로 정렬된 월간 통계 스트림
+   */
+  @QueryHints({
+          @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+          @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT ms FROM MonthlyStatisticsEntity ms WHERE ms.strategyEntity.strategyId = :strategyId ORDER BY ms.analysisMonth ASC")
+  Stream<MonthlyStatisticsEntity> streamByStrategyIdOrderByAnalysisMonthAsc(@Param("strategyId") Long strategyId);
+
+  /**
+   * 특정 전략의 월간 통계 존재 여부를 확인합니다.
+   *
+   * @param strategyId 전략 ID
+   * @return 데이터가 존재하면 true, 없으면 false
+   */
+  boolean existsByStrategyEntityStrategyId(Long strategyId);
+
   /**
    * 특정 전략의 월간 통계 데이터를 조회하는 메서드.
    *
@@ -74,6 +101,10 @@ public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatis
   // strategy id로 월간통계 데이터 모두 삭제
   void deleteAllByStrategyEntity(StrategyEntity strategyEntity);
 
+  // 해당 전략의 기준 월 이후 월간데이터 조회 (월 오름차순)
+  @Query("SELECT ms FROM MonthlyStatisticsEntity ms WHERE ms.strategyEntity.strategyId = :strategyId AND ms.analysisMonth >= :analysisMonth ORDER BY ms.analysisMonth ASC")
+  List<MonthlyStatisticsEntity> findAllFromMonth(@Param("strategyId") Long strategyId, @Param("analysisMonth") String analysisMonth);
+
   // 해당 전략의 기준일 이후 월간데이터 전부 삭제
   @Modifying
   @Query("DELETE FROM MonthlyStatisticsEntity ms WHERE ms.strategyEntity.strategyId = :strategyId AND ms.analysisMonth >= :analysisMonth")
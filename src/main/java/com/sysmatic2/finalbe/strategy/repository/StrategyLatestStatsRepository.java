@@ -0,0 +1,74 @@
+package com.sysmatic2.finalbe.strategy.repository;
+
+import com.sysmatic2.finalbe.strategy.entity.StrategyLatestStatsEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StrategyLatestStatsRepository extends JpaRepository<StrategyLatestStatsEntity, Long> {
+
+    // 스파크라인을 이어 붙일 스냅샷 조회 (행 잠금: 같은 전략의 동시 등록이 같은 스파크라인에 이어 붙여 값이 사라지지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StrategyLatestStatsEntity s WHERE s.strategyId = :strategyId")
+    Optional<StrategyLatestStatsEntity> findByIdForUpdate(@Param("strategyId") Long strategyId);
+
+    // 특정 전략 ID의 최신 통계 스냅샷 삭제
+    @Modifying
+    @Query("DELETE FROM StrategyLatestStatsEntity s WHERE s.strategyId = :strategyId")
+    void deleteByStrategyId(@Param("strategyId") Long strategyId);
+
+    /**
+     * 스냅샷이 없는 전략의 최신 일간 통계(가장 최근 일자)로 스냅샷을 생성합니다.
+     * - 스냅샷 테이블 도입 이전에 등록된 데이터를 채우기 위해 애플리케이션 시작 시 실행합니다.
+     *
+     * @return 생성된 스냅샷 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO strategy_latest_stats (
+            strategy_id, daily_statistics_id, date, principal, balance, reference_price,
+            cumulative_profit_loss, cumulative_profit_loss_rate, recent_one_year_return,
+            max_drawdown_rate, strategy_operation_days, kp_ratio
+        )
+        SELECT ds.strategy_id, ds.daily_statistics_id, ds.date, ds.principal, ds.balance, ds.reference_price,
+               ds.cumulative_profit_loss, ds.cumulative_profit_loss_rate, ds.recent_one_year_return,
+               ds.max_drawdown_rate, ds.strategy_operation_days, ds.kp_ratio
+        FROM daily_statistics ds
+        JOIN (
+            SELECT strategy_id, MAX(date) AS latest_date
+            FROM daily_statistics
+            GROUP BY strategy_id
+        ) latest ON latest.strategy_id = ds.strategy_id AND latest.latest_date = ds.date
+        WHERE NOT EXISTS (
+            SELECT 1 FROM strategy_latest_stats s WHERE s.strategy_id = ds.strategy_id
+        )
+    """, nativeQuery = true)
+    int insertMissingSnapshots();
+
+    // 트레이더별 공개·승인 전략의 최신 누적손익 합계 (작성자 ID, 합계)
+    @Query("SELECT s.writerId, COALESCE(SUM(ls.cumulativeProfitLoss), 0) " +
+            "FROM StrategyEntity s, StrategyLatestStatsEntity ls " +
+            "WHERE ls.strategyId = s.strategyId " +
+            "AND s.writerId IN :writerIds " +
+            "AND s.isApproved = 'Y' AND s.isPosted = 'Y' " +
+            "GROUP BY s.writerId")
+    List<Object[]> sumCumulativeProfitLossByWriterIds(@Param("writerIds") List<String> writerIds);
+
+    // 스파크라인이 아직 생성되지 않았거나 이전 형식(int32 값, 길이 12 + 8n)인 스냅샷을 전략 ID 순으로 limit개 조회 (현재 형식은 길이 17 + 16n)
+    @Query(value = """
+        SELECT * FROM strategy_latest_stats
+        WHERE strategy_id > :afterStrategyId
+          AND (cumulative_profit_loss_rate_sparkline IS NULL
+               OR MOD(LENGTH(cumulative_profit_loss_rate_sparkline), 16) <> 1)
+        ORDER BY strategy_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<StrategyLatestStatsEntity> findSnapshotsWithoutCurrentSparkline(@Param("afterStrategyId") long afterStrategyId,
+                                                                         @Param("limit") int limit);
+}
@@ -1,20 +1,25 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
 import com.sysmatic2.finalbe.admin.entity.TradingTypeEntity;
-import com.sysmatic2.finalbe.strategy.dto.StrategyKpDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategyDataVersionDto;
 import com.sysmatic2.finalbe.strategy.dto.StrategySmScoreDto;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import jakarta.persistence.QueryHint;
 import org.apache.ibatis.annotations.Param;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 // 기본 JPA 리포지토리 + 커스텀 QueryDSL 리포지토리 기능 확장
@@ -96,18 +101,23 @@ public interface StrategyRepository extends JpaRepository<StrategyEntity, Long>,
     void updateSmScoreByStrategyId(@Param("strategyId") Long strategyId, @Param("smScore") BigDecimal smScore);
 
     /**
-     * KP-RATIO가 0보다 큰 전략의 데이터를 페이징 처리하여 조회합니다.
+     * KP-RATIO가 0보다 큰 전략의 ID와 KP-RATIO를 스트림으로 조회합니다.
+     * - SM-SCORE는 전체 전략 기준 평균/표준편차로 계산해야 하므로 페이징하지 않습니다.
+     * - 행마다 DTO를 만들거나 리스트에 모으지 않고, 호출하는 쪽에서 기본형 배열에 바로 채웁니다. (트랜잭션 안에서 사용, 사용 후 닫아야 함)
      *
-     * @param pageable 페이징 정보
-     * @return KP-RATIO가 0보다 큰 전략 ID와 KP-RATIO 값을 포함하는 페이징된 DTO 리스트
+     * @return [전략 ID, KP-RATIO] 스트림 (전략 ID 오름차순)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
-    SELECT new com.sysmatic2.finalbe.strategy.dto.StrategyKpDto(s.strategyId, s.kpRatio)
+    SELECT s.strategyId, s.kpRatio
     FROM StrategyEntity s
     WHERE s.kpRatio > 0
     ORDER BY s.strategyId ASC
 """)
-    Page<StrategyKpDto> findByNonZeroKpRatio(Pageable pageable);
+    Stream<Object[]> streamNonZeroKpRatios();
 
     /**
      * 모든 전략의 SM-SCORE 데이터를 페이징하여 조회하는 메서드.
@@ -162,4 +172,77 @@ public interface StrategyRepository extends JpaRepository<StrategyEntity, Long>,
     @Query("SELECT SUM(s.followersCount) FROM StrategyEntity s WHERE s.writerId = :writerId " +
             "AND s.isApproved = 'Y' AND s.isPosted = 'Y'")
     Optional<Long> findTotalFollowersCountByWriterId(@Param("writerId") String writerId);
+
+    /**
+     * 특정 전략의 데이터 버전과 마지막 변경 일시를 조회합니다. (조건부 조회용)
+     *
+     * @param strategyId 조회할 전략 ID
+     * @return 데이터 버전 (전략이 없으면 empty)
+     */
+    @Query("SELECT new com.sysmatic2.finalbe.strategy.dto.StrategyDataVersionDto(" +
+            "s.strategyId, s.dataVersion, s.dataUpdatedAt, s.isPosted, s.isApproved, s.writerId) " +
+            "FROM StrategyEntity s WHERE s.strategyId = :strategyId")
+    Optional<StrategyDataVersionDto> findDataVersionByStrategyId(@Param("strategyId") Long strategyId);
+
+    /**
+     * 특정 전략의 데이터 버전을 1 증가시킵니다.
+     *
+     * @param strategyId 전략 ID
+     * @param updatedAt  변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StrategyEntity s SET s.dataVersion = s.dataVersion + 1, s.dataUpdatedAt = :updatedAt " +
+            "WHERE s.strategyId = :strategyId")
+    int incrementDataVersion(@Param("strategyId") Long strategyId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 작성자의 모든 전략의 데이터 버전을 1 증가시킵니다. (작성자 닉네임, 프로필 사진 변경)
+     *
+     * @param writerId  작성자 ID
+     * @param updatedAt 변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StrategyEntity s SET s.dataVersion = s.dataVersion + 1, s.dataUpdatedAt = :updatedAt " +
+            "WHERE s.writerId = :writerId")
+    int incrementDataVersionByWriterId(@Param("writerId") String writerId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 매매유형을 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다. (매매유형 이름, 아이콘 변경)
+     *
+     * @param tradingTypeId 매매유형 ID
+     * @param updatedAt     변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StrategyEntity s SET s.dataVersion = s.dataVersion + 1, s.dataUpdatedAt = :updatedAt " +
+            "WHERE s.tradingTypeEntity.tradingTypeId = :tradingTypeId")
+    int incrementDataVersionByTradingTypeId(@Param("tradingTypeId") Integer tradingTypeId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 매매주기를 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다. (매매주기 이름, 아이콘 변경)
+     *
+     * @param tradingCycleId 매매주기 ID
+     * @param updatedAt      변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StrategyEntity s SET s.dataVersion = s.dataVersion + 1, s.dataUpdatedAt = :updatedAt " +
+            "WHERE s.tradingCycleEntity.tradingCycleId = :tradingCycleId")
+    int incrementDataVersionByTradingCycleId(@Param("tradingCycleId") Integer tradingCycleId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 투자자산 분류를 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다. (투자자산 분류 이름, 아이콘 변경 및 삭제)
+     *
+     * @param investmentAssetClassesId 투자자산 분류 ID
+     * @param updatedAt                변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE StrategyEntity s SET s.dataVersion = s.dataVersion + 1, s.dataUpdatedAt = :updatedAt " +
+            "WHERE s.strategyId IN (SELECT r.strategyEntity.strategyId FROM StrategyIACEntity r " +
+            "WHERE r.investmentAssetClassesEntity.investmentAssetClassesId = :investmentAssetClassesId)")
+    int incrementDataVersionByInvestmentAssetClassesId(@Param("investmentAssetClassesId") Integer investmentAssetClassesId,
+                                                       @Param("updatedAt") LocalDateTime updatedAt);
 }
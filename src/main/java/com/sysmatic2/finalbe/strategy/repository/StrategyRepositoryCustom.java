@@ -1,11 +1,18 @@
 package com.sysmatic2.finalbe.strategy.repository;
 
+import com.sysmatic2.finalbe.exception.InvalidFieldNameException;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartSeries;
 import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import jakarta.validation.constraints.DecimalMax;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +31,17 @@ public interface StrategyRepositoryCustom {
      */
     Page<StrategyEntity> findStrategiesByFilters(Integer tradingCycleId, Integer investmentAssetClassesId, Pageable pageable);
 
+    /**
+     * 필터 조건에 따라 전략 목록을 커서 다음부터 조회합니다. (전체 개수 조회 없음)
+     *
+     * @param tradingCycleId 투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor 마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit 조회할 최대 전략 수
+     * @return SM-Score 내림차순, 전략 ID 오름차순 전략 목록
+     */
+    List<StrategyEntity> findStrategiesByFiltersAfter(Integer tradingCycleId, Integer investmentAssetClassesId, StrategyCursor cursor, int limit);
+
     /**
      * 필터 객체에 따라 전략 목록을 필터링(페이지네이션).
      *
@@ -34,17 +52,43 @@ public interface StrategyRepositoryCustom {
     Page<StrategyEntity> findStrategiesByDetailSearchOptions(SearchOptionsDto searchOptions, Pageable pageable);
 
     /**
-     * 특정 전략 ID와 두 가지 데이터 옵션에 해당하는 값을 날짜순으로 조회
+     * 필터 객체에 따라 전략 목록을 커서 다음부터 조회합니다. (전체 개수 조회 없음)
      *
-     * <p>동적 쿼리를 통해 전달받은 두 개의 옵션 필드(컬럼 이름)에 대한 데이터를 날짜순 오름차순으로 조회하여 반환합니다.</p>
+     * @param searchOptions 필터링 옵션 객체
+     * @param cursor 마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit 조회할 최대 전략 수
+     * @return SM-Score 내림차순, 전략 ID 오름차순 전략 목록
+     */
+    List<StrategyEntity> findStrategiesByDetailSearchOptionsAfter(SearchOptionsDto searchOptions, StrategyCursor cursor, int limit);
+
+    /**
+     * 특정 전략의 일간 통계 중 선택한 필드들을 기간 내 날짜순으로 조회
+     *
+     * <p>선택한 필드(컬럼 이름)와 날짜를 하나의 쿼리로 함께 조회하여 날짜 오름차순 배열로 반환합니다.</p>
      *
      * @param strategyId 전략 ID (필수)
-     * @param option1 첫 번째 데이터 옵션 (DailyStatisticsEntity의 필드 이름)
-     * @param option2 두 번째 데이터 옵션 (DailyStatisticsEntity의 필드 이름)
-     * @return Map<String, List<?>> (옵션 이름과 해당 데이터 리스트)
-     *         - Key: option1, option2의 이름
-     *         - Value: 각 옵션에 해당하는 값 리스트 (날짜 오름차순)
-     * @throws IllegalArgumentException 옵션이 유효하지 않거나 컬럼이 존재하지 않을 경우 예외 발생
+     * @param options    조회할 필드 이름 목록 (DailyStatisticsEntity의 필드 이름, 중복 없음)
+     * @param from       시작일 (null이면 처음부터)
+     * @param to         종료일 (null이면 끝까지)
+     * @return 날짜와 필드별 값 배열
+     * @throws InvalidFieldNameException 허용되지 않은 필드 이름이 포함된 경우
+     */
+    DailyStatisticsChartSeries findChartDataByOptions(Long strategyId, List<String> options, LocalDate from, LocalDate to);
+
+    /**
+     * 여러 전략의 SM-SCORE를 묶음 단위 UPDATE 문으로 갱신합니다.
+     *
+     * @param strategyIds 전략 ID 배열
+     * @param smScores    strategyIds와 같은 순서의 SM-SCORE 배열
+     * @param size        배열에서 사용할 데이터 개수
+     */
+    void updateSmScoresInBulk(long[] strategyIds, BigDecimal[] smScores, int size);
+
+    /**
+     * 전략 검색 인덱스 적재용 데이터를 조회합니다. (전략 + 최신 일간 통계 스냅샷 + 투자자산 분류 ID)
+     *
+     * @param strategyIds 조회할 전략 ID 목록 (null이면 전체 전략)
+     * @return 전략별 검색 인덱스 적재용 데이터 리스트 (삭제된 전략은 포함되지 않음)
      */
-    Map<String, List<?>> findChartDataByOptions(Long strategyId, String option1, String option2);
-}
\ No newline at end of file
+    List<StrategySearchIndexRow> findSearchIndexRows(Collection<Long> strategyIds);
+}
@@ -3,21 +3,31 @@ package com.sysmatic2.finalbe.strategy.repository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sysmatic2.finalbe.common.ListingCountCache;
 import com.sysmatic2.finalbe.exception.InvalidFieldNameException;
+import com.sysmatic2.finalbe.strategy.common.SearchOptionsSignature;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
 
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartSeries;
 import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
 import com.sysmatic2.finalbe.strategy.entity.QDailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.QStrategyEntity;
 import com.sysmatic2.finalbe.admin.entity.QInvestmentAssetClassesEntity;
 import com.sysmatic2.finalbe.admin.entity.QTradingCycleEntity;
 import com.sysmatic2.finalbe.admin.entity.QTradingTypeEntity;
 import com.sysmatic2.finalbe.strategy.entity.QStrategyIACEntity;
+import com.sysmatic2.finalbe.strategy.entity.QStrategyLatestStatsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
@@ -26,8 +36,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,16 +51,29 @@ import java.util.Map;
  */
 @Repository
 public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
+    private static final int SM_SCORE_UPDATE_CHUNK_SIZE = 500; // UPDATE 문 1개당 갱신할 전략 수
+
+    // 전략 상세 차트로 조회할 수 있는 일간 통계 필드 이름 목록
+    private static final List<String> CHART_FIELDS = List.of(
+            "referencePrice", "balance", "principal", "cumulativeDepWdPrice",
+            "depWdPrice", "dailyProfitLoss", "dailyPlRate", "cumulativeProfitLoss",
+            "cumulativeProfitLossRate", "currentDrawdownAmount", "currentDrawdownRate",
+            "averageProfitLoss", "averageProfitLossRate", "winRate", "profitFactor",
+            "roa", "totalProfit", "totalLoss"
+    );
 
     private final JPAQueryFactory queryFactory;
+    private final ListingCountCache listingCountCache;
 
     /**
      * JPAQueryFactory 초기화
      *
-     * @param entityManager 엔티티 매니저
+     * @param entityManager     엔티티 매니저
+     * @param listingCountCache 목록 전체 개수 캐시
      */
-    public StrategyRepositoryCustomImpl(EntityManager entityManager) {
+    public StrategyRepositoryCustomImpl(EntityManager entityManager, ListingCountCache listingCountCache) {
         this.queryFactory = new JPAQueryFactory(entityManager);
+        this.listingCountCache = listingCountCache;
     }
 
     /**
@@ -67,17 +93,20 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
         QStrategyIACEntity strategyIAC = QStrategyIACEntity.strategyIACEntity;
         QInvestmentAssetClassesEntity investmentAsset = QInvestmentAssetClassesEntity.investmentAssetClassesEntity;
 
-        // 5. 총 데이터 개수 조회
-        long total = queryFactory
-                .select(strategy.count())
-                .from(strategy)
-                .where(
-                        tradingCycleId != null ? tradingCycle.tradingCycleId.eq(tradingCycleId) : null,
-                        investmentAssetClassesId != null ? strategy.strategyIACEntities.any().investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId) : null,
-                        strategy.isPosted.eq("Y"),
-                        strategy.isApproved.eq("Y")
-                )
-                .fetchOne();
+        // 5. 총 데이터 개수 조회 (같은 필터는 캐시된 개수 사용)
+        long total = listingCountCache.getOrCount(ListingCountCache.STRATEGIES,
+                SearchOptionsSignature.of(tradingCycleId, investmentAssetClassesId),
+                () -> queryFactory
+                        .select(strategy.count())
+                        .from(strategy)
+                        .leftJoin(strategy.tradingCycleEntity, tradingCycle)
+                        .where(
+                                tradingCycleId != null ? tradingCycle.tradingCycleId.eq(tradingCycleId) : null,
+                                investmentAssetClassesId != null ? strategy.strategyIACEntities.any().investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId) : null,
+                                strategy.isPosted.eq("Y"),
+                                strategy.isApproved.eq("Y")
+                        )
+                        .fetchOne());
 
         // 1. 전략 데이터 조회
         List<StrategyEntity> strategyEntities = queryFactory
@@ -91,7 +120,7 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
                         strategy.isPosted.eq("Y"),
                         strategy.isApproved.eq("Y")
                 )
-                .orderBy(strategy.smScore.desc()) // smScore 내림차순 정렬 추가
+                .orderBy(strategy.smScore.desc(), strategy.strategyId.asc()) // smScore 내림차순 정렬 추가 (같은 점수는 전략 ID 순)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -104,6 +133,39 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
 
     }
 
+    /**
+     * 1-1. 투자주기, 투자자산 분류 id로 필터링한 전략 목록을 커서 다음부터 반환(무한 스크롤)
+     * - offset 대신 (smScore, strategyId) 기준으로 커서 다음 위치부터 조회하고, 전체 개수는 조회하지 않습니다.
+     *
+     * @param tradingCycleId           투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor                   마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit                    조회할 최대 전략 수
+     * @return SM-Score 내림차순, 전략 ID 오름차순 전략 목록
+     */
+    @Override
+    public List<StrategyEntity> findStrategiesByFiltersAfter(Integer tradingCycleId, Integer investmentAssetClassesId, StrategyCursor cursor, int limit) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
+        QTradingCycleEntity tradingCycle = QTradingCycleEntity.tradingCycleEntity;
+        QTradingTypeEntity tradingType = QTradingTypeEntity.tradingTypeEntity;
+
+        return queryFactory
+                .selectFrom(strategy)
+                .leftJoin(strategy.tradingTypeEntity, tradingType)
+                .leftJoin(strategy.tradingCycleEntity, tradingCycle)
+                .where(
+                        tradingCycleId != null ? tradingCycle.tradingCycleId.eq(tradingCycleId) : null,
+                        investmentAssetClassesId != null ? strategy.strategyIACEntities.any()
+                                .investmentAssetClassesEntity.investmentAssetClassesId.eq(investmentAssetClassesId) : null,
+                        strategy.isPosted.eq("Y"),
+                        strategy.isApproved.eq("Y"),
+                        afterCursor(strategy, cursor)
+                )
+                .orderBy(strategy.smScore.desc(), strategy.strategyId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 2. 필터 옵션 Dto를 받아 상세 필터링한 전략 목록 반환(페이지네이션)
      *
@@ -113,10 +175,90 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
      */
     @Override
     public Page<StrategyEntity> findStrategiesByDetailSearchOptions(SearchOptionsDto searchOptions, Pageable pageable) {
+        QStrategyEntity strategyQ = QStrategyEntity.strategyEntity; //전략
+
+        //상세 검색 조건 생성 - 일간데이터 조건에 해당하는 전략이 없으면 바로 반환
+        BooleanBuilder strategyBuilder = buildDetailSearchCondition(searchOptions);
+        if (strategyBuilder == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+
+        // 최종 쿼리 실행
+        List<StrategyEntity> strategyEntities = queryFactory
+                .selectFrom(strategyQ)
+                .where(strategyBuilder)
+                .orderBy(strategyQ.smScore.desc(), strategyQ.strategyId.asc()) // 같은 점수는 전략 ID 순으로 고정
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .distinct()
+                .fetch();
+
+        // 같은 필터는 캐시된 개수 사용
+        long totalCount = listingCountCache.getOrCount(ListingCountCache.STRATEGIES,
+                SearchOptionsSignature.of(searchOptions),
+                () -> queryFactory
+                        .select(strategyQ.count())
+                        .from(strategyQ)
+                        .where(strategyBuilder)
+                        .fetchOne());
+
+        //결과 없거나 빈경우
+        if(strategyEntities == null && strategyEntities.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        return new PageImpl<>(strategyEntities, pageable, totalCount);
+    }
+
+    /**
+     * 2-1. 필터 옵션 Dto를 받아 상세 필터링한 전략 목록을 커서 다음부터 반환(무한 스크롤)
+     * - offset 대신 (smScore, strategyId) 기준으로 커서 다음 위치부터 조회하고, 전체 개수는 조회하지 않습니다.
+     *
+     * @param searchOptions 필터링 옵션 객체
+     * @param cursor        마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit         조회할 최대 전략 수
+     * @return SM-Score 내림차순, 전략 ID 오름차순 전략 목록
+     */
+    @Override
+    public List<StrategyEntity> findStrategiesByDetailSearchOptionsAfter(SearchOptionsDto searchOptions, StrategyCursor cursor, int limit) {
+        QStrategyEntity strategyQ = QStrategyEntity.strategyEntity;
+
+        BooleanBuilder strategyBuilder = buildDetailSearchCondition(searchOptions);
+        if (strategyBuilder == null) {
+            return List.of();
+        }
+        strategyBuilder.and(afterCursor(strategyQ, cursor));
+
+        return queryFactory
+                .selectFrom(strategyQ)
+                .where(strategyBuilder)
+                .orderBy(strategyQ.smScore.desc(), strategyQ.strategyId.asc())
+                .limit(limit)
+                .distinct()
+                .fetch();
+    }
+
+    /**
+     * 상세 검색 조건 생성
+     * - 일간데이터 관련 조건은 전략 ID 목록으로 먼저 조회해 전략 조건에 추가합니다.
+     *
+     * @param searchOptions 필터링 옵션 객체
+     * @return 전략 조건 (일간데이터 조건에 해당하는 전략이 없으면 null)
+     */
+    private BooleanBuilder buildDetailSearchCondition(SearchOptionsDto searchOptions) {
         //QueryDSL용 Q객체 생성
         QStrategyEntity strategyQ = QStrategyEntity.strategyEntity; //전략
         QStrategyIACEntity strategyIACQ = QStrategyIACEntity.strategyIACEntity; //전략-투자자산분류 관계엔티티
         QDailyStatisticsEntity dailyStatisticsQ = QDailyStatisticsEntity.dailyStatisticsEntity; //일간데이터
+        QStrategyLatestStatsEntity latestStatsQ = QStrategyLatestStatsEntity.strategyLatestStatsEntity; //최신 일간데이터 스냅샷
+
+        // 기간 검색이면 해당 기간의 일간데이터, 아니면 최신 일간데이터(스냅샷) 기준으로 통계 필터 적용
+        boolean periodSearch = searchOptions.getStartDate() != null && searchOptions.getEndDate() != null;
+        NumberPath<Integer> operationDaysPath = periodSearch ? dailyStatisticsQ.strategyOperationDays : latestStatsQ.strategyOperationDays;
+        NumberPath<BigDecimal> principalPath = periodSearch ? dailyStatisticsQ.principal : latestStatsQ.principal;
+        NumberPath<BigDecimal> mddPath = periodSearch ? dailyStatisticsQ.maxDrawdownRate : latestStatsQ.maxDrawdownRate;
+        NumberPath<BigDecimal> returnRatePath = periodSearch ? dailyStatisticsQ.cumulativeProfitLossRate : latestStatsQ.cumulativeProfitLossRate;
 
         //전략관련 필터 생성
         BooleanBuilder strategyBuilder = new BooleanBuilder();
@@ -166,30 +308,30 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
             for (Integer days : searchOptions.getOperationDaysList()) {
                 switch (days) {
                     case 1: // 1년 미만
-                        statisticsBuilder.or(dailyStatisticsQ.strategyOperationDays.lt(365));
+                        statisticsBuilder.or(operationDaysPath.lt(365));
                         break;
                     case 2: // 1년 ~ 2년
-                        statisticsBuilder.or(dailyStatisticsQ.strategyOperationDays.between(365, 730));
+                        statisticsBuilder.or(operationDaysPath.between(365, 730));
                         break;
                     case 3: // 2년 ~ 3년
-                        statisticsBuilder.or(dailyStatisticsQ.strategyOperationDays.between(730, 1095));
+                        statisticsBuilder.or(operationDaysPath.between(730, 1095));
                         break;
                     case 4: // 3년 이상
-                        statisticsBuilder.or(dailyStatisticsQ.strategyOperationDays.gt(1095));
+                        statisticsBuilder.or(operationDaysPath.gt(1095));
                         break;
                 }
             }
         }
 
 
-        // 9. 원금 필터(제일 최근 데이터 기준)
+        // 9. 원금 필터(기간 검색이 아니면 제일 최근 데이터 기준)
         if (searchOptions.getMinPrincipal() != null || searchOptions.getMaxPrincipal() != null) {
             BooleanBuilder principalBuilder = new BooleanBuilder();
             if (searchOptions.getMinPrincipal() != null) {
-                principalBuilder.and(dailyStatisticsQ.principal.goe(searchOptions.getMinPrincipal()));
+                principalBuilder.and(principalPath.goe(searchOptions.getMinPrincipal()));
             }
             if (searchOptions.getMaxPrincipal() != null) {
-                principalBuilder.and(dailyStatisticsQ.principal.loe(searchOptions.getMaxPrincipal()));
+                principalBuilder.and(principalPath.loe(searchOptions.getMaxPrincipal()));
             }
             statisticsBuilder.and(principalBuilder);
         }
@@ -210,16 +352,16 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
         if (searchOptions.getMinMdd() != null || searchOptions.getMaxMdd() != null) {
             BooleanBuilder mddBuilder = new BooleanBuilder();
             if (searchOptions.getMinMdd() != null) {
-                mddBuilder.and(dailyStatisticsQ.maxDrawdownRate.goe(searchOptions.getMinMdd()));
+                mddBuilder.and(mddPath.goe(searchOptions.getMinMdd()));
             }
             if (searchOptions.getMaxMdd() != null) {
-                mddBuilder.and(dailyStatisticsQ.maxDrawdownRate.loe(searchOptions.getMaxMdd()));
+                mddBuilder.and(mddPath.loe(searchOptions.getMaxMdd()));
             }
             statisticsBuilder.and(mddBuilder);
         }
 
         //12. 날짜 필터링 - 해당기간의 일간데이터
-        if (searchOptions.getStartDate() != null && searchOptions.getEndDate() != null) {
+        if (periodSearch) {
             statisticsBuilder.and(dailyStatisticsQ.date.between(searchOptions.getStartDate(), searchOptions.getEndDate()));
         }
 
@@ -229,16 +371,16 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
             searchOptions.getReturnRateList().forEach(rate -> {
                 switch (rate) {
                     case 1: // 10% 이하
-                        returnRateBuilder.or(dailyStatisticsQ.cumulativeProfitLossRate.loe(BigDecimal.valueOf(0.10)));
+                        returnRateBuilder.or(returnRatePath.loe(BigDecimal.valueOf(0.10)));
                         break;
                     case 2: // 10% 초과 ~ 30% 미만
                         returnRateBuilder.or(
-                                dailyStatisticsQ.cumulativeProfitLossRate.gt(BigDecimal.valueOf(0.10))
-                                        .and(dailyStatisticsQ.cumulativeProfitLossRate.lt(BigDecimal.valueOf(0.30)))
+                                returnRatePath.gt(BigDecimal.valueOf(0.10))
+                                        .and(returnRatePath.lt(BigDecimal.valueOf(0.30)))
                         );
                         break;
                     case 3: // 30% 이상
-                        returnRateBuilder.or(dailyStatisticsQ.cumulativeProfitLossRate.goe(BigDecimal.valueOf(0.30)));
+                        returnRateBuilder.or(returnRatePath.goe(BigDecimal.valueOf(0.30)));
                         break;
                     default:
                         break;
@@ -249,104 +391,206 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
 
         // 서브쿼리 결과가 없는 경우 바로 반환
         if (statisticsBuilder.hasValue()) {
-            List<Long> strategyIds = queryFactory
-                    .select(dailyStatisticsQ.strategyEntity.strategyId)
-                    .from(dailyStatisticsQ)
-                    .where(statisticsBuilder)
-                    .distinct()
-                    .fetch();
+            List<Long> strategyIds = periodSearch
+                    ? queryFactory
+                        .select(dailyStatisticsQ.strategyEntity.strategyId)
+                        .from(dailyStatisticsQ)
+                        .where(statisticsBuilder)
+                        .distinct()
+                        .fetch()
+                    : queryFactory
+                        .select(latestStatsQ.strategyId)
+                        .from(latestStatsQ)
+                        .where(statisticsBuilder)
+                        .fetch();
 
             if (strategyIds.isEmpty()) {
-                return new PageImpl<>(List.of(), pageable, 0);
+                return null;
             }
 
             // 서브쿼리 결과를 메인 조건에 추가
             strategyBuilder.and(strategyQ.strategyId.in(strategyIds));
         }
 
-        // 최종 쿼리 실행
-        List<StrategyEntity> strategyEntities = queryFactory
-                .selectFrom(strategyQ)
-                .where(strategyBuilder)
-                .orderBy(strategyQ.smScore.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .distinct()
-                .fetch();
-
-        long totalCount = queryFactory
-                .select(strategyQ.count())
-                .from(strategyQ)
-                .where(strategyBuilder)
-                .fetchOne();
+        return strategyBuilder;
+    }
 
-        //결과 없거나 빈경우
-        if(strategyEntities == null && strategyEntities.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, 0);
+    /**
+     * 커서 다음 위치 조건 (SM-Score 내림차순, 전략 ID 오름차순 기준)
+     *
+     * @param strategy QStrategyEntity
+     * @param cursor   마지막으로 받은 전략 위치 (null이면 조건 없음)
+     * @return 커서보다 뒤에 있는 전략 조건
+     */
+    private BooleanExpression afterCursor(QStrategyEntity strategy, StrategyCursor cursor) {
+        if (cursor == null) {
+            return null;
         }
-
-        return new PageImpl<>(strategyEntities, pageable, totalCount);
+        return strategy.smScore.lt(cursor.getSmScore())
+                .or(strategy.smScore.eq(cursor.getSmScore()).and(strategy.strategyId.gt(cursor.getStrategyId())));
     }
 
     /**
-     * 특정 전략 ID와 두 가지 데이터 옵션에 해당하는 값을 날짜순으로 조회
+     * 특정 전략의 일간 통계 중 선택한 필드들을 기간 내 날짜순으로 한 번에 조회
      *
      * @param strategyId 전략 ID
-     * @param option1 첫 번째 데이터 옵션 (조회할 컬럼 이름)
-     * @param option2 두 번째 데이터 옵션 (조회할 컬럼 이름)
-     * @return Map<String, List<?>> (선택된 데이터 옵션 이름과 값 리스트)
+     * @param options    조회할 필드 이름 목록 (중복 없음)
+     * @param from       시작일 (null이면 처음부터)
+     * @param to         종료일 (null이면 끝까지)
+     * @return 날짜와 필드별 값 배열
      */
     @Override
-    public Map<String, List<?>> findChartDataByOptions(Long strategyId, String option1, String option2) {
+    public DailyStatisticsChartSeries findChartDataByOptions(Long strategyId, List<String> options, LocalDate from, LocalDate to) {
         QDailyStatisticsEntity dailyStatistics = QDailyStatisticsEntity.dailyStatisticsEntity;
 
-        // 유효한 필드 이름 목록
-        List<String> validFields = List.of(
-                "referencePrice", "balance", "principal", "cumulativeDepWdPrice",
-                "depWdPrice", "dailyProfitLoss", "dailyPlRate", "cumulativeProfitLoss",
-                "cumulativeProfitLossRate", "currentDrawdownAmount", "currentDrawdownRate",
-                "averageProfitLoss", "averageProfitLossRate", "winRate", "profitFactor",
-                "roa", "totalProfit", "totalLoss"
-        );
-
         // 필드 검증
-        if (!validFields.contains(option1)) {
-            throw new InvalidFieldNameException("Invalid field name for option1: " + option1);
-        }
-        if (!validFields.contains(option2)) {
-            throw new InvalidFieldNameException("Invalid field name for option2: " + option2);
+        for (String option : options) {
+            if (!CHART_FIELDS.contains(option)) {
+                throw new InvalidFieldNameException("Invalid field name for option: " + option);
+            }
         }
 
-        // 동적으로 PathBuilder를 사용하여 컬럼 선택
+        // 동적으로 PathBuilder를 사용하여 날짜 + 선택한 컬럼을 한 번에 조회
         PathBuilder<Object> dailyStatisticsPath = new PathBuilder<>(Object.class, dailyStatistics.getMetadata());
+        List<Expression<BigDecimal>> columns = options.stream()
+                .map(option -> (Expression<BigDecimal>) dailyStatisticsPath.get(option, BigDecimal.class))
+                .toList();
+        Expression<?>[] projection = new Expression<?>[columns.size() + 1];
+        projection[0] = dailyStatistics.date;
+        for (int i = 0; i < columns.size(); i++) {
+            projection[i + 1] = columns.get(i);
+        }
 
-        Expression<Object> column1 = dailyStatisticsPath.get(option1, Object.class);
+        BooleanBuilder condition = new BooleanBuilder(dailyStatistics.strategyEntity.strategyId.eq(strategyId));
+        if (from != null) {
+            condition.and(dailyStatistics.date.goe(from));
+        }
+        if (to != null) {
+            condition.and(dailyStatistics.date.loe(to));
+        }
 
-        // 중복 여부에 따라 동일한 컬럼만 조회
-        List<Object> option1Values = queryFactory
-                .select(column1)
+        List<Tuple> rows = queryFactory
+                .select(projection)
                 .from(dailyStatistics)
-                .where(dailyStatistics.strategyEntity.strategyId.eq(strategyId))
+                .where(condition)
                 .orderBy(dailyStatistics.date.asc())
                 .fetch();
 
-        Map<String, List<?>> result = new HashMap<>();
-        result.put(option1, option1Values);
+        // 날짜, 옵션별 배열로 변환
+        LocalDate[] dates = new LocalDate[rows.size()];
+        BigDecimal[][] values = new BigDecimal[columns.size()][rows.size()];
+        for (int row = 0; row < rows.size(); row++) {
+            Tuple tuple = rows.get(row);
+            dates[row] = tuple.get(dailyStatistics.date);
+            for (int column = 0; column < columns.size(); column++) {
+                values[column][row] = tuple.get(columns.get(column));
+            }
+        }
+        return new DailyStatisticsChartSeries(List.copyOf(options), dates, values);
+    }
+
+    /**
+     * 여러 전략의 SM-SCORE를 묶음 단위 UPDATE 문으로 갱신합니다.
+     * - 전략마다 UPDATE를 보내지 않고, CASE 식으로 최대 {@value #SM_SCORE_UPDATE_CHUNK_SIZE}개씩 한 번에 갱신합니다.
+     *
+     * @param strategyIds 전략 ID 배열
+     * @param smScores    strategyIds와 같은 순서의 SM-SCORE 배열
+     * @param size        배열에서 사용할 데이터 개수
+     */
+    @Override
+    public void updateSmScoresInBulk(long[] strategyIds, BigDecimal[] smScores, int size) {
+        QStrategyEntity strategy = QStrategyEntity.strategyEntity;
 
-        // 두 옵션이 다르면 두 번째 데이터 추가
-        if (!option1.equals(option2)) {
-            Expression<Object> column2 = dailyStatisticsPath.get(option2, Object.class);
-            List<Object> option2Values = queryFactory
-                    .select(column2)
-                    .from(dailyStatistics)
-                    .where(dailyStatistics.strategyEntity.strategyId.eq(strategyId))
-                    .orderBy(dailyStatistics.date.asc())
-                    .fetch();
+        for (int from = 0; from < size; from += SM_SCORE_UPDATE_CHUNK_SIZE) {
+            int to = Math.min(from + SM_SCORE_UPDATE_CHUNK_SIZE, size);
+
+            // 1. 전략 ID별 SM-SCORE CASE 식 구성
+            CaseBuilder.Cases<BigDecimal, NumberExpression<BigDecimal>> cases = new CaseBuilder()
+                    .when(strategy.strategyId.eq(strategyIds[from]))
+                    .then(smScores[from]);
+            List<Long> ids = new ArrayList<>(to - from);
+            ids.add(strategyIds[from]);
+            for (int i = from + 1; i < to; i++) {
+                cases = cases.when(strategy.strategyId.eq(strategyIds[i])).then(smScores[i]);
+                ids.add(strategyIds[i]);
+            }
 
-            result.put(option2, option2Values);
+            // 2. 묶음 단위 UPDATE 실행
+            queryFactory.update(strategy)
+                    .set(strategy.smScore, cases.otherwise(strategy.smScore))
+                    .where(strategy.strategyId.in(ids))
+                    .execute();
         }
+    }
 
-        return result;
+    /**
+     * 전략 검색 인덱스 적재용 데이터를 조회합니다.
+     * - 전략과 최신 일간 통계 스냅샷은 LEFT JOIN 1회, 투자자산 분류 ID는 별도 1회 조회합니다.
+     *
+     * @param strategyIds 조회할 전략 ID 목록 (null이면 전체 전략)
+     * @return 전략별 검색 인덱스 적재용 데이터 리스트
+     */
+    @Override
+    public List<StrategySearchIndexRow> findSearchIndexRows(Collection<Long> strategyIds) {
+        QStrategyEntity strategyQ = QStrategyEntity.strategyEntity;
+        QStrategyLatestStatsEntity latestStatsQ = QStrategyLatestStatsEntity.strategyLatestStatsEntity;
+        QStrategyIACEntity strategyIACQ = QStrategyIACEntity.strategyIACEntity;
+
+        if (strategyIds != null && strategyIds.isEmpty()) {
+            return List.of();
+        }
+        BooleanBuilder strategyFilter = new BooleanBuilder();
+        BooleanBuilder iacFilter = new BooleanBuilder();
+        if (strategyIds != null) {
+            strategyFilter.and(strategyQ.strategyId.in(strategyIds));
+            iacFilter.and(strategyIACQ.strategyEntity.strategyId.in(strategyIds));
+        }
+
+        // 1. 전략 + 최신 일간 통계 스냅샷 조회
+        List<Tuple> tuples = queryFactory
+                .select(strategyQ.strategyId, strategyQ.tradingTypeEntity.tradingTypeId, strategyQ.tradingCycleEntity.tradingCycleId,
+                        strategyQ.strategyStatusCode, strategyQ.minInvestmentAmount, strategyQ.strategyTitle,
+                        strategyQ.isPosted, strategyQ.isApproved, strategyQ.smScore, strategyQ.followersCount,
+                        latestStatsQ.principal, latestStatsQ.maxDrawdownRate, latestStatsQ.strategyOperationDays,
+                        latestStatsQ.cumulativeProfitLossRate)
+                .from(strategyQ)
+                .leftJoin(latestStatsQ).on(latestStatsQ.strategyId.eq(strategyQ.strategyId))
+                .where(strategyFilter)
+                .fetch();
+
+        Map<Long, StrategySearchIndexRow> rowMap = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            StrategySearchIndexRow row = new StrategySearchIndexRow();
+            row.setStrategyId(tuple.get(strategyQ.strategyId));
+            row.setTradingTypeId(tuple.get(strategyQ.tradingTypeEntity.tradingTypeId));
+            row.setTradingCycleId(tuple.get(strategyQ.tradingCycleEntity.tradingCycleId));
+            row.setStrategyStatusCode(tuple.get(strategyQ.strategyStatusCode));
+            row.setMinInvestmentAmount(tuple.get(strategyQ.minInvestmentAmount));
+            row.setStrategyTitle(tuple.get(strategyQ.strategyTitle));
+            row.setIsPosted(tuple.get(strategyQ.isPosted));
+            row.setIsApproved(tuple.get(strategyQ.isApproved));
+            row.setSmScore(tuple.get(strategyQ.smScore));
+            row.setFollowersCount(tuple.get(strategyQ.followersCount));
+            row.setPrincipal(tuple.get(latestStatsQ.principal));
+            row.setMaxDrawdownRate(tuple.get(latestStatsQ.maxDrawdownRate));
+            row.setStrategyOperationDays(tuple.get(latestStatsQ.strategyOperationDays));
+            row.setCumulativeProfitLossRate(tuple.get(latestStatsQ.cumulativeProfitLossRate));
+            rowMap.put(row.getStrategyId(), row);
+        }
+
+        // 2. 투자자산 분류 ID 조회 후 전략별로 추가
+        List<Tuple> iacTuples = queryFactory
+                .select(strategyIACQ.strategyEntity.strategyId, strategyIACQ.investmentAssetClassesEntity.investmentAssetClassesId)
+                .from(strategyIACQ)
+                .where(iacFilter)
+                .fetch();
+        for (Tuple tuple : iacTuples) {
+            StrategySearchIndexRow row = rowMap.get(tuple.get(strategyIACQ.strategyEntity.strategyId));
+            if (row != null) {
+                row.getInvestmentAssetClassesIds().add(tuple.get(strategyIACQ.investmentAssetClassesEntity.investmentAssetClassesId));
+            }
+        }
+
+        return new ArrayList<>(rowMap.values());
     }
 }
-
@@ -6,7 +6,11 @@ import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.*;
 import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCalculator;
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCarry;
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsEngine;
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsKernel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -29,6 +32,7 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class DailyStatisticsService {
     private static final Pageable SINGLE_RESULT_PAGE = PageRequest.of(0, 1); // 기존 `PageRequest.of(0, 1)`를 대체
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM"); // 월간 통계 기준 월 형식
     private final DailyStatisticsRepository dsp;
     // TODO 일간분석이력테이블
     private final DailyStatisticsHistoryRepository dailyStatisticsHistoryRepository;
@@ -36,6 +40,11 @@ public class DailyStatisticsService {
     // TODO 월간분석이력테이블
     private final MonthlyStatisticsHistoryRepository monthlyStatisticsHistoryRepository;
     private final MonthlyStatisticsService monthlyStatisticsService;
+    private final SmScoreRecomputeService smScoreRecomputeService;
+    private final StrategyLatestStatsService strategyLatestStatsService;
+
+    @Value("${daily-statistics.calculation-kernel:BIG_DECIMAL}")
+    private DailyStatisticsKernel calculationKernel; // 금액 지표 계산 방식 (BIG_DECIMAL, FIXED_POINT)
 
     /**
      * 특정 전략의 통계 데이터를 조회합니다.
@@ -156,31 +165,109 @@ public class DailyStatisticsService {
         DailyStatisticsEntity afterState = afterStates.isEmpty() ? null : afterStates.get(0);
 
         // 3. 등록하려는 데이터 저장 및 재계산
-        boolean firstEntry = previousState == null; // 첫 번째 데이터 여부
-        DailyStatisticsEntity newEntry = calculateDailyStatistics(
-                strategyId,
-                reqDto,
-                firstEntry,
-                Optional.ofNullable(previousState),
-                strategyEntity
-        );
-        dsp.save(newEntry);
+        // 직전 데이터 기준 누적 상태 (첫 번째 데이터면 빈 상태)
+        DailyStatisticsCarry carry = loadCarry(strategyId, previousState, reqDto.getDate());
+
+        // 4. 이후 데이터에 대한 영향 처리 (기존 행을 유지한 채 재계산)
+        if (afterState == null) {
+            // 가장 최근 일자로 등록된 경우 KP-RATIO, 월간 통계를 갱신하고 최신 통계 스냅샷 갱신 (스파크라인은 이어 붙이기)
+            DailyStatisticsEntity newEntry = calculateDailyStatistics(strategyId, reqDto, carry, strategyEntity);
+            dsp.save(newEntry);
+            strategyLatestStatsService.appendLatestStatistics(strategyId, newEntry);
+        } else {
+            // 중간 일자로 등록된 경우 새 데이터는 계산만 하고, KP-RATIO와 월간 통계는 이후 데이터 재계산에서 한 번만 갱신
+            DailyStatisticsEntity newEntry = DailyStatisticsEngine.calculateNext(carry, reqDto, strategyEntity, calculationKernel);
+            dsp.save(newEntry);
 
-        // 4. 이후 데이터에 대한 영향 처리 (재계산)
-        if (afterState != null) {
             // 등록한 날짜 이후의 데이터 가져오기
             List<DailyStatisticsEntity> affectedRows = dsp.findAllAfterDate(strategyId, afterState.getDate());
 
-            // 등록한 데이터부터 이후 데이터를 삭제
-            dsp.deleteFromDate(strategyId, afterState.getDate());
+            // 이후 데이터를 재계산 및 저장 (등록한 데이터까지 진행된 누적 상태를 이어서 사용)
+            recalculateSuffix(strategyId, strategyEntity, newEntry, carry, affectedRows, reqDto.getDate());
+        }
+    }
 
-            // 등록한 데이터가 포함된 월부터 이후 월간 데이터 삭제
-            String startMonth = afterState.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            monthlyStatisticsService.deleteMonthlyDataFromMonth(strategyId, startMonth);
+    /**
+     * 일일 통계 데이터를 일괄 등록하는 메서드 (엑셀 업로드 등 대량 등록용)
+     *
+     * - 요청 데이터를 날짜순으로 정렬한 뒤, 가장 이른 등록일 이후의 기존 데이터와 병합합니다.
+     * - 병합된 데이터를 누적 상태를 이어가며 한 번에 계산하고 일괄 저장합니다. (기존 데이터는 행을 유지한 채 값만 갱신)
+     * - KP-RATIO/SM-SCORE 갱신과 월간 통계 재구성은 마지막에 한 번만 수행합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param reqDtos    등록할 요청 데이터 리스트
+     * @return 저장된 요청 일자의 일간 통계 데이터 리스트 (날짜 오름차순)
+     */
+    @Transactional
+    public List<DailyStatisticsEntity> registerDailyStatisticsBulk(Long strategyId, List<DailyStatisticsReqDto> reqDtos) {
 
-            // 이후 데이터를 재계산 및 저장
-            recalculateAndSave(affectedRows, newEntry, strategyId);
+        // 전략 ID 유효성 검사
+        if (strategyId == null) {
+            throw new IllegalArgumentException("Strategy ID는 null일 수 없습니다.");
         }
+        if (reqDtos == null || reqDtos.isEmpty()) {
+            throw new IllegalArgumentException("등록할 데이터가 비어 있습니다.");
+        }
+
+        // 전략 존재 여부 확인
+        StrategyEntity strategyEntity = strategyRepository.findById(strategyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist."));
+
+        // 1. 요청 데이터를 날짜 오름차순으로 정렬
+        List<DailyStatisticsReqDto> sortedReqDtos = new ArrayList<>(reqDtos);
+        sortedReqDtos.sort(Comparator.comparing(DailyStatisticsReqDto::getDate));
+
+        // 요청 날짜가 이미 존재하는지 확인
+        Set<LocalDate> requestedDates = new HashSet<>();
+        sortedReqDtos.forEach(dto -> requestedDates.add(dto.getDate()));
+        List<LocalDate> existingDates = dsp.findExistingDates(strategyId, requestedDates);
+        if (!existingDates.isEmpty()) {
+            throw new DuplicateDateException("이미 등록된 날짜입니다: " + existingDates.get(0));
+        }
+
+        // 2. 가장 이른 등록일 기준 이전 데이터와 이후 기존 데이터 조회
+        LocalDate fromDate = sortedReqDtos.get(0).getDate();
+        List<DailyStatisticsEntity> previousStates = dsp.findLatestBeforeDate(strategyId, fromDate, SINGLE_RESULT_PAGE);
+        DailyStatisticsEntity previousState = previousStates.isEmpty() ? null : previousStates.get(0);
+        List<DailyStatisticsEntity> affectedRows = dsp.findAllAfterDate(strategyId, fromDate);
+        Map<LocalDate, DailyStatisticsEntity> existingRowByDate = new HashMap<>();
+        affectedRows.forEach(row -> existingRowByDate.put(row.getDate(), row));
+
+        // 요청 데이터와 기존 데이터를 날짜순으로 병합
+        List<DailyStatisticsReqDto> mergedReqDtos = new ArrayList<>(sortedReqDtos);
+        affectedRows.forEach(row -> mergedReqDtos.add(
+                new DailyStatisticsReqDto(row.getDate(), row.getDepWdPrice(), row.getDailyProfitLoss())));
+        mergedReqDtos.sort(Comparator.comparing(DailyStatisticsReqDto::getDate));
+
+        // 3. 누적 상태를 이어가며 한 번에 계산
+        DailyStatisticsCarry carry = loadCarry(strategyId, previousState, fromDate);
+        List<DailyStatisticsEntity> calculatedRows = new ArrayList<>(mergedReqDtos.size());
+        for (DailyStatisticsReqDto reqDto : mergedReqDtos) {
+            DailyStatisticsEntity calculated = DailyStatisticsEngine.calculateNext(carry, reqDto, strategyEntity, calculationKernel);
+
+            // 기존 데이터는 삭제 후 재등록하지 않고 재계산 값만 반영 (PK 유지)
+            DailyStatisticsEntity existingRow = existingRowByDate.get(reqDto.getDate());
+            if (existingRow != null) {
+                existingRow.applyRecalculatedValues(calculated);
+                calculated = existingRow;
+            }
+            calculatedRows.add(calculated);
+        }
+
+        // 4. 일괄 저장 (새 데이터는 INSERT, 기존 데이터는 값이 바뀐 컬럼만 UPDATE)
+        dsp.saveAll(calculatedRows);
+
+        // 최신 데이터의 KP-RATIO로 전략 테이블 갱신 (SM-SCORE는 커밋 전 1회 재계산)
+        DailyStatisticsEntity latest = calculatedRows.get(calculatedRows.size() - 1);
+        updateKpRatio(strategyId, strategyEntity, latest.getKpRatio());
+        strategyLatestStatsService.refreshLatestStatistics(strategyId, latest);
+
+        // 등록일이 포함된 월부터 월간 통계를 한 번에 재구성
+        monthlyStatisticsService.rebuildMonthlyStatisticsFromMonth(strategyId, fromDate.format(MONTH_FORMATTER));
+
+        return calculatedRows.stream()
+                .filter(row -> requestedDates.contains(row.getDate()))
+                .toList();
     }
 
     /**
@@ -206,63 +293,22 @@ public class DailyStatisticsService {
             throw new DuplicateDateException("Date already exists: " + reqDto.getDate());
         }
 
-        // 3. 날짜 비교: 수정 전 날짜 vs 수정 후 날짜
-        boolean isDateEarlier = targetData.getDate().isBefore(reqDto.getDate());
-
-        // 직전 최신 데이터 조회
-        List<DailyStatisticsEntity> previousDataList = dsp.findLatestBeforeDate(
-                strategyId,
-                isDateEarlier ? targetData.getDate() : reqDto.getDate(),
-                SINGLE_RESULT_PAGE
-        );
-        // 직후 오래된 데이터 조회
-        List<DailyStatisticsEntity> afterDataList = dsp.findOldestAfterDateList(
-                strategyId,
-                targetData.getDate(),
-                SINGLE_RESULT_PAGE
-        );
+        // 3. 재계산 기준일: 수정 전 날짜와 수정 후 날짜 중 빠른 날짜
+        LocalDate fromDate = targetData.getDate().isBefore(reqDto.getDate()) ? targetData.getDate() : reqDto.getDate();
 
-        // 가장 처음 데이터일 경우 null
+        // 기준일 직전 최신 데이터 조회 (가장 처음 데이터일 경우 null)
+        List<DailyStatisticsEntity> previousDataList = dsp.findLatestBeforeDate(strategyId, fromDate, SINGLE_RESULT_PAGE);
         DailyStatisticsEntity previousData = previousDataList.isEmpty() ? null : previousDataList.get(0);
-        // 가장 처음 데이터일 경우 null
-        DailyStatisticsEntity afterData = afterDataList.isEmpty() ? null : afterDataList.get(0);
 
-        // 수정된 데이터 업데이트
+        // 4. 수정된 입력 값 반영 (기존 행 유지)
         targetData.setDate(reqDto.getDate());
         targetData.setDailyProfitLoss(reqDto.getDailyProfitLoss());
         targetData.setDepWdPrice(reqDto.getDepWdPrice());
         dsp.save(targetData);
 
-        // 월간 데이터 삭제 로직 추가
-        if (afterData != null) {
-            String startMonth = afterData.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            monthlyStatisticsService.deleteMonthlyDataFromMonth(strategyId, startMonth);
-        }
-
-        // 가장 뒤 데이터를 더 늦은 일자로 수정한 경우 해당 날짜 데이터만 수정하고 리턴
-        if(afterData == null) return;
-
-        List<DailyStatisticsEntity> affectedRows = null;
-        LocalDate fromDate = null; // 기준이 되는 날짜
-        if (isDateEarlier) {
-            // (1) 수정 전 날짜가 빠른 경우
-
-            // 직전 최신 데이터부터 리스트 조회
-            // 가장 처음 데이터면 현재 데이터부터 리스트 조회
-            // 직전 최신 데이터부터 삭제
-            // 가장 처음 데이터면 현재 데이터부터 삭제
-            fromDate = afterData.getDate();
-        } else {
-            // (2) 수정 전 날짜가 느린 경우
-
-            // 수정된 데이터부터 리스트 조회
-            // 수정된 데이터부터 삭제 및 재등록
-            fromDate = reqDto.getDate();
-        }
-        affectedRows = dsp.findAllAfterDate(strategyId, fromDate);
-        dsp.deleteFromDate(strategyId, fromDate);
-        // 리스트 데이터 재등록 및 재계산
-        recalculateAndSave(affectedRows, previousData, strategyId);
+        // 5. 기준일(포함) 이후 데이터를 한 번 조회하여 재계산 (수정된 데이터 포함)
+        List<DailyStatisticsEntity> affectedRows = dsp.findAllAfterDate(strategyId, fromDate);
+        recalculateSuffix(strategyId, targetData.getStrategyEntity(), previousData, affectedRows, fromDate);
     }
 
     /**
@@ -301,87 +347,75 @@ public class DailyStatisticsService {
                 .min(LocalDate::compareTo) // 가장 오래된 날짜 찾기
                 .orElseThrow(() -> new IllegalArgumentException("삭제 대상 데이터가 존재하지 않습니다."));
 
-        // 4. 삭제 대상 이전 데이터 계산
-        Optional<DailyStatisticsEntity> previousState = dsp.findPreviousStates(strategyId, oldestDateInIds, SINGLE_RESULT_PAGE)
-                .getContent().stream().findFirst();
+        // 4. 삭제 대상 이전 데이터 조회
+        DailyStatisticsEntity previousState = dsp.findPreviousStates(strategyId, oldestDateInIds, SINGLE_RESULT_PAGE)
+                .getContent().stream().findFirst()
+                .orElse(null);
+
+        // 전략 존재 여부 확인
+        StrategyEntity strategyEntity = strategyRepository.findById(strategyId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist."));
 
         // 5. 삭제 대상 데이터를 삭제
         dsp.deleteAllById(dailyStatisticsIds);
 
-        // 6. 삭제 이후 재계산을 위한 다음 날짜 조회
-        LocalDate nextDate;
-        if (previousState.isPresent()) {
-            nextDate = dsp.findNextDatesAfter(strategyId, previousState.get().getDate(), SINGLE_RESULT_PAGE)
-                    .getContent().stream().findFirst()
-                    .orElse(null);
-        } else {
-            // 이전 데이터가 없는 경우 삭제된 데이터의 가장 오래된 날짜 이후를 기준으로 설정
-            nextDate = dsp.findNextDatesAfter(strategyId, oldestDateInIds, SINGLE_RESULT_PAGE)
-                    .getContent().stream().findFirst()
-                    .orElse(null);
-        }
-
-        // 7. 월간 데이터 삭제 로직 추가
-        if (nextDate != null) {
-            String startMonth = nextDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            monthlyStatisticsService.deleteMonthlyDataFromMonth(strategyId, startMonth);
-        }
-
-        // 8. nextDate가 없는 경우 바로 리턴
-        if (nextDate == null) {
-            return;
-        }
-
-        // 9. 기준일(포함) 이후 데이터를 조회
-        List<DailyStatisticsEntity> entitiesAfterDeletion = dsp.findAllAfterDate(strategyId, nextDate);
-
-        // 10. 기준일(포함) 이후 데이터 삭제
-        dsp.deleteFromDate(strategyId, nextDate);
-
-        // 11. 기준일(포함) 이후 데이터를 순회하며 재계산
-        if (!entitiesAfterDeletion.isEmpty()) {
-            recalculateAndSave(entitiesAfterDeletion, previousState.orElse(null), strategyId);
-        }
+        // 6. 가장 오래된 삭제 일자 이후 남은 데이터를 한 번 조회하여 재계산 (기존 행 유지)
+        List<DailyStatisticsEntity> remainingRows = dsp.findAllAfterDate(strategyId, oldestDateInIds);
+        recalculateSuffix(strategyId, strategyEntity, previousState, remainingRows, oldestDateInIds);
     }
 
-
     /**
-     * 주어진 데이터 리스트를 재계산하여 저장합니다.
+     * 기준일 이후 데이터를 기존 행(PK)을 유지한 채 재계산합니다.
      *
-     * @param affectedRows 수정 후 영향을 받는 데이터 리스트
-     * @param previousData 직전 최신 데이터 (수정된 데이터 기준)
-     * @param strategyId   전략 ID
+     * @param strategyId     전략 ID
+     * @param strategyEntity 전략 엔티티
+     * @param previousData   기준일 직전 최신 데이터 (없으면 null)
+     * @param affectedRows   기준일(포함) 이후 데이터 리스트 (날짜 오름차순, 영속 상태)
+     * @param fromDate       재계산 기준일
      */
-    private void recalculateAndSave(List<DailyStatisticsEntity> affectedRows, DailyStatisticsEntity previousData, Long strategyId) {
-        Optional<DailyStatisticsEntity> previousState = Optional.ofNullable(previousData);
-
-        // 전략 존재 여부 확인
-        Optional<StrategyEntity> strategy = strategyRepository.findById(strategyId);
-        if (strategy.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Strategy with ID " + strategyId + " does not exist.");
-        }
+    private void recalculateSuffix(Long strategyId, StrategyEntity strategyEntity, DailyStatisticsEntity previousData,
+                                   List<DailyStatisticsEntity> affectedRows, LocalDate fromDate) {
+        DailyStatisticsCarry carry = affectedRows.isEmpty()
+                ? DailyStatisticsCarry.empty()
+                : loadCarry(strategyId, previousData, affectedRows.get(0).getDate());
+        recalculateSuffix(strategyId, strategyEntity, previousData, carry, affectedRows, fromDate);
+    }
 
+    /**
+     * 기준일 이후 데이터를 누적 상태를 이어가며 재계산합니다.
+     * - 이후 데이터는 호출하는 쪽에서 한 번만 조회하며, 삭제 후 재등록하지 않고 조회된 엔티티에 재계산 값을 반영합니다.
+     * - 값이 바뀐 컬럼만 UPDATE되며(@DynamicUpdate), 여러 행의 UPDATE는 JDBC 배치로 전송됩니다.
+     * - KP-RATIO와 최신 통계 스냅샷은 마지막 데이터 기준으로 한 번만 갱신하고, 월간 통계는 기준 월부터 한 번에 재구성합니다.
+     *
+     * @param strategyId     전략 ID
+     * @param strategyEntity 전략 엔티티
+     * @param previousData   기준일 직전 최신 데이터 (없으면 null)
+     * @param carry          첫 번째 행 직전까지의 누적 상태
+     * @param affectedRows   기준일(포함) 이후 데이터 리스트 (날짜 오름차순, 영속 상태)
+     * @param fromDate       재계산 기준일
+     */
+    private void recalculateSuffix(Long strategyId, StrategyEntity strategyEntity, DailyStatisticsEntity previousData,
+                                   DailyStatisticsCarry carry, List<DailyStatisticsEntity> affectedRows, LocalDate fromDate) {
+        // 1. 메모리에서 순서대로 재계산하여 기존 엔티티에 반영
         for (DailyStatisticsEntity row : affectedRows) {
-            // 기존 메서드에 맞춰 매개변수 가공
             DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(
                     row.getDate(),
                     row.getDepWdPrice(),
                     row.getDailyProfitLoss()
             );
+            row.applyRecalculatedValues(DailyStatisticsEngine.calculateNext(carry, reqDto, strategyEntity, calculationKernel));
+        }
 
-            boolean firstEntry = previousData == null;
+        // 2. 일괄 저장 (기존 PK 유지)
+        dsp.saveAll(affectedRows);
 
-            DailyStatisticsEntity recalculatedData = calculateDailyStatistics(
-                    strategyId,
-                    reqDto,
-                    firstEntry,
-                    previousState,
-                    strategy.get()
-            );
+        // 3. 최신 데이터의 KP-RATIO로 전략 테이블과 최신 통계 스냅샷 갱신 (남은 데이터가 없으면 KP-RATIO 0, 스냅샷 삭제)
+        DailyStatisticsEntity latest = affectedRows.isEmpty() ? previousData : affectedRows.get(affectedRows.size() - 1);
+        updateKpRatio(strategyId, strategyEntity, latest == null ? BigDecimal.ZERO : latest.getKpRatio());
+        strategyLatestStatsService.refreshLatestStatistics(strategyId, latest);
 
-            dsp.save(recalculatedData);
-            previousState = Optional.of(recalculatedData); // 업데이트된 데이터를 다음 계산의 기준으로 사용
-        }
+        // 4. 기준 월부터 월간 통계 재구성 (데이터가 남아 있지 않은 월은 삭제)
+        monthlyStatisticsService.rebuildMonthlyStatisticsFromMonth(strategyId, fromDate.format(MONTH_FORMATTER));
     }
 
     /**
@@ -402,289 +436,83 @@ public class DailyStatisticsService {
         Optional<DailyStatisticsEntity> previousState,
         StrategyEntity strategyEntity) {
 
-        // 이전 상태 가져오기
-        // ===== 첫 번째 데이터 초기화 처리 =====
-        BigDecimal previousBalance = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getBalance).orElse(BigDecimal.ZERO); // 이전 잔고
-        BigDecimal previousCumulativeProfitLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getCumulativeProfitLoss).orElse(BigDecimal.ZERO); // 이전 누적손익
-        BigDecimal previousPrincipal = firstEntry ? reqDto.getDepWdPrice() : previousState.map(DailyStatisticsEntity::getPrincipal).orElse(BigDecimal.ZERO); // 이전 원금
-        BigDecimal previousReferencePrice = firstEntry ? BigDecimal.valueOf(1000) : previousState.map(DailyStatisticsEntity::getReferencePrice).orElse(BigDecimal.ZERO); // 이전 기준가
-        BigDecimal previousMaxCumulativeProfitLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getMaxCumulativeProfitLoss).orElse(BigDecimal.ZERO); // 이전 최대 누적손익
-        BigDecimal previousMaxCumulativeProfitLossRate = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getMaxCumulativeProfitLossRate).orElse(BigDecimal.ZERO); // 이전 최대 누적손익률
-        Integer previousTradingDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTradingDays).orElse(0); // 이전 거래일수
-        Integer previousProfitDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTotalProfitDays).orElse(0); // 이전 총 이익일수
-        Integer previousLossDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getTotalLossDays).orElse(0); // 이전 총 손실일수
-        BigDecimal previousTotalProfit = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getTotalProfit).orElse(BigDecimal.ZERO); // 이전 총 이익
-        BigDecimal previousTotalLoss = firstEntry ? BigDecimal.ZERO : previousState.map(DailyStatisticsEntity::getTotalLoss).orElse(BigDecimal.ZERO); // 이전 총 손실
-        Integer previousCurrentConsecutivePlDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getCurrentConsecutivePlDays).orElse(0); // 이전 연속 손익일수
-        Integer previousMaxConsecutiveProfitDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveProfitDays).orElse(0); // 이전 최대 연속 수익일수
-        Integer previousMaxConsecutiveLossDays = firstEntry ? 0 : previousState.map(DailyStatisticsEntity::getMaxConsecutiveLossDays).orElse(0); // 이전 최대 연속 손실일수
-        BigDecimal previousMaxDdInRate = previousState
-                .map(DailyStatisticsEntity::getMaxDdInRate)
-                .orElse(BigDecimal.ZERO); // 이전 maxDDInRate 값 가져오기
-
-        // 사용자 입력값
-        BigDecimal dailyProfitLoss = reqDto.getDailyProfitLoss(); // 오늘의 일손익
-        BigDecimal depWdPrice = reqDto.getDepWdPrice(); // 오늘의 입출금 금액
-
-        /**
-         * 계산된 지표들
-         */
-
-        // 잔고 = 이전 잔고 + 일손익 + 입출금
-        BigDecimal balance = DailyStatisticsCalculator.calculateBalance(previousBalance, dailyProfitLoss, depWdPrice);
-
-        // 잔고가 0보다 작으면 예외 발생
-        if (balance.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("잔고가 0보다 작을 수 없습니다. (계산된 잔고: " + balance + ")");
-        }
-
-        // 원금 = 이전 원금 + 입출금
-        BigDecimal principal;
-        if (firstEntry) {
-            // 첫 데이터일 경우 입출금 금액만 반영
-            principal = depWdPrice;
-        } else {
-            // 이전 원금 + 입출금 금액
-            principal = DailyStatisticsCalculator.calculatePrincipal(previousPrincipal, depWdPrice, previousBalance);
-        }
-
-        // 누적손익 = 이전 누적손익 + 일손익
-        BigDecimal cumulativeProfitLoss = DailyStatisticsCalculator.calculateCumulativeProfitLoss(previousCumulativeProfitLoss, dailyProfitLoss);
-
-        // 거래일수 = 일손익이 0이 아닌 경우 1 증가 -> 이전 거래일수 + 1
-        Integer tradingDays = previousTradingDays + 1;
-//        Integer tradingDays = StatisticsCalculator.calculateTradingDays(previousTradingDays, dailyProfitLoss);
-
-        // 손실일수 = 이전 손실일수 + (일손익 < 0 인 경우 1 증가)
-        Integer totalLossDays = previousLossDays + (dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0 ? 1 : 0);
-
-        // 이익일수 = 이전 이익일수 + (일손익 > 0 인 경우 1 증가)
-        Integer totalProfitDays = previousProfitDays + (dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0 ? 1 : 0);
-
-        // 총 손실 = 이전 총 손실 + (일손익 < 0 인 경우 해당 일손익 추가)
-        BigDecimal totalLoss = previousTotalLoss.add(dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0 ? dailyProfitLoss : BigDecimal.ZERO);
-
-        // 총 이익 = 이전 총 이익 + (일손익 > 0 인 경우 해당 일손익 추가)
-        BigDecimal totalProfit = previousTotalProfit.add(dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0 ? dailyProfitLoss : BigDecimal.ZERO);
-
-        // 평균 손실 = 총 손실 / 손실일수
-        BigDecimal averageLoss = DailyStatisticsCalculator.calculateAverageLoss(totalLoss, totalLossDays);
-
-        // 평균 이익 = 총 이익 / 이익일수
-        BigDecimal averageProfit = DailyStatisticsCalculator.calculateAverageProfit(totalProfit, totalProfitDays);
-
-        // 기준가 = (잔고 / 원금) * 1000
-        BigDecimal referencePrice = DailyStatisticsCalculator.calculateReferencePrice(balance, principal);
-
-        // 이전 기준가가 null이거나 0 이하인지 확인하여 첫 번째 등록 여부 판단
-        boolean isFirstEntry = previousReferencePrice == null || previousReferencePrice.compareTo(BigDecimal.ZERO) <= 0;
-
-        // 일손익률 = (오늘 기준가 - 이전 기준가) / 이전 기준가 (첫 번째 등록 시 (기준가 - 1000) / 1000)
-        BigDecimal dailyPlRate
-                = DailyStatisticsCalculator.calculateDailyPlRate(referencePrice,
-                previousReferencePrice == null ? BigDecimal.ZERO : previousReferencePrice,
-                isFirstEntry);
-
-        // 누적손익률 = (기준가 / 1000) - 1
-        BigDecimal cumulativeProfitLossRate = DailyStatisticsCalculator.calculateCumulativeProfitLossRate(referencePrice);
-
-        // 최대 누적 손익 = max(현재 누적손익, 이전 최대 누적손익)
-        BigDecimal maxCumulativeProfitLoss = DailyStatisticsCalculator.calculateMaxCumulativeProfitLoss(cumulativeProfitLoss, previousMaxCumulativeProfitLoss);
-
-        // 최대 누적 손익률 = max(현재 누적 손익률, 이전 최대 누적 손익률)
-        BigDecimal maxCumulativeProfitLossRate = cumulativeProfitLossRate.max(previousMaxCumulativeProfitLossRate);
+        DailyStatisticsCarry carry = firstEntry
+                ? DailyStatisticsCarry.empty()
+                : loadCarry(strategyId, previousState.orElse(null), reqDto.getDate());
 
-        // 현재 자본인하 금액 = max(누적손익 - 최대 누적손익, 0)
-        BigDecimal currentDrawdownAmount = cumulativeProfitLoss.compareTo(BigDecimal.ZERO) > 0
-                ? cumulativeProfitLoss.subtract(maxCumulativeProfitLoss) // 누적손익 - 최대 누적손익
-                : BigDecimal.ZERO; // 누적손익이 0보다 작거나 같으면 0
-
-        // 최대 자본인하 금액 계산
-        List<BigDecimal> drawdownAmounts = dsp.findAllDrawdownAmountsByStrategyId(strategyId);
-
-        // 현재 자본인하 금액을 리스트에 추가
-        drawdownAmounts.add(currentDrawdownAmount);
-
-        // 전체 자본인하 금액 중 최소값 계산 후, 0과 비교해 최소값 반환
-        BigDecimal maxDrawdownAmount = drawdownAmounts.stream()
-                .min(BigDecimal::compareTo) // 전체 최소값
-                .orElse(BigDecimal.ZERO)    // 리스트가 비어있으면 0 반환
-                .min(BigDecimal.ZERO);      // 결과가 0보다 크면 0 반환
-
-        // 현재 자본인하율 계산을 위한 데이터 조회
-        List<BigDecimal> allReferencePrices = dsp.findAllReferencePricesByStrategyId(strategyId);
-        // 현재 자본인하율 = (기준가 - max(이전 기준가, 현재 기준가)) / 기준가
-        // - 기준가가 1000 초과인 경우 계산
-        // - 기준가가 1000 이하이거나 데이터가 없는 경우 0 반환
-        BigDecimal currentDrawdownRate = DailyStatisticsCalculator.calculateCurrentDrawdownRate(referencePrice, allReferencePrices);
-
-        // 최대 자본인하율 계산: 현재 자본인하율 포함 모든 자본인하율의 최소값
-        List<BigDecimal> drawdownRates = dsp.findAllDrawdownRatesByStrategyId(strategyId);
-        drawdownRates.add(currentDrawdownRate);
-
-        BigDecimal maxDrawdownRate = drawdownRates.stream()
-                .min(BigDecimal::compareTo) // 전체 최소값
-                .orElse(BigDecimal.ZERO)    // 리스트가 비어있으면 0 반환
-                .min(BigDecimal.ZERO)       // 결과가 0보다 크면 0 반환
-                .setScale(4, RoundingMode.HALF_UP); // 소수점 4자리까지 반올림
-
-        // 승률 = 이익일수 / 거래일수
-        BigDecimal winRate = DailyStatisticsCalculator.calculateWinRate(totalProfitDays, tradingDays);
-
-        // Profit Factor = 총 이익 / |총 손실|
-        BigDecimal profitFactor = DailyStatisticsCalculator.calculateProfitFactor(totalProfit, totalLoss);
-
-        // ROA = 누적손익 / 최대 자본인하 금액 * -1
-        BigDecimal roa = DailyStatisticsCalculator.calculateROA(cumulativeProfitLoss, maxDrawdownAmount);
+        return calculateDailyStatistics(strategyId, reqDto, carry, strategyEntity);
+    }
 
-        // 평균 손익비 = 평균 이익 / |평균 손실|
-        BigDecimal averageProfitLossRatio = averageLoss.compareTo(BigDecimal.ZERO) != 0
-                ? averageProfit.divide(averageLoss.abs(), 11, RoundingMode.HALF_UP) // 11번째 자리까지 계산
-                .setScale(10, RoundingMode.HALF_UP) // 10번째 자리로 반올림
-                : BigDecimal.ZERO;
+    /**
+     * 누적 상태를 이용해 일일 통계를 계산하는 메서드
+     * - 통계 계산은 전체 이력을 조회하지 않고 직전 데이터와 누적 상태만 사용합니다.
+     * - 계산 후 누적 상태는 오늘 기준으로 진행되므로, 이어지는 일자 계산에 그대로 사용할 수 있습니다.
+     *
+     * @param strategyId     전략 ID
+     * @param reqDto         요청 데이터
+     * @param carry          직전 일자까지의 누적 상태
+     * @param strategyEntity 전략 엔티티
+     * @return 계산된 일일 통계 데이터 엔티티
+     */
+    @Transactional
+    public DailyStatisticsEntity calculateDailyStatistics(
+        Long strategyId,
+        DailyStatisticsReqDto reqDto,
+        DailyStatisticsCarry carry,
+        StrategyEntity strategyEntity) {
 
-        // `dailyProfitLosses` 리스트 가져오기
-        List<BigDecimal> dailyProfitLosses = dsp.findDailyProfitLossesByStrategyId(strategyId);
-        // 현재 입력하려는 일손익도 추가
-        dailyProfitLosses.add(reqDto.getDailyProfitLoss());
+        DailyStatisticsEntity dailyStatistics = DailyStatisticsEngine.calculateNext(carry, reqDto, strategyEntity, calculationKernel);
 
-        // 평가손익 = 원금 - 잔고
-        BigDecimal unrealizedProfitLoss = DailyStatisticsCalculator.calculateUnrealizedProfitLoss(principal, balance);
+        // 전략 테이블의 KP-RATIO 갱신 (SM-SCORE 재계산은 요청만 하고 커밋 전 1회 수행)
+        updateKpRatio(strategyId, strategyEntity, dailyStatistics.getKpRatio());
 
-        // 고점 후 경과일 = 현재 고점과 이전 고점 비교
-        Integer daysSincePeak = DailyStatisticsCalculator.calculateDaysSincePeak(maxCumulativeProfitLoss, previousMaxCumulativeProfitLoss, previousState.map(DailyStatisticsEntity::getDaysSincePeak).orElse(0));
+        // 월간 통계 업데이트
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId, dailyStatistics);
 
-        // 누적 입출금, 입금, 출금 계산
-        BigDecimal cumulativeDepWdPrice = DailyStatisticsCalculator.calculateCumulativeDepWd(
-                dsp.findDepWdHistoryByStrategyId(strategyId), // 전략 ID를 기준으로 모든 입출금 내역 조회
-                reqDto.getDepWdPrice()
-        );
+        return dailyStatistics;
+    }
 
-        BigDecimal depositAmount = DailyStatisticsCalculator.calculateDepositAmount(depWdPrice, firstEntry); // 입금 = 오늘 입출금 금액이 양수인 경우
-        BigDecimal cumulativeDepositAmount = DailyStatisticsCalculator.calculateCumulativeDeposit(
-                previousState.map(DailyStatisticsEntity::getCumulativeDepositAmount).orElse(BigDecimal.ZERO),
-                depositAmount); // 누적 입금 = 이전 누적 입금 + 오늘 입금 금액
-
-        BigDecimal withdrawAmount = DailyStatisticsCalculator.calculateWithdrawAmount(depWdPrice, firstEntry); // 출금 = 오늘 입출금 금액이 음수인 경우
-        BigDecimal cumulativeWithdrawAmount = DailyStatisticsCalculator.calculateCumulativeWithdraw(
-                previousState.map(DailyStatisticsEntity::getCumulativeWithdrawAmount).orElse(BigDecimal.ZERO),
-                withdrawAmount); // 누적 출금 = 이전 누적 출금 + 오늘 출금 금액
-
-        // 최대 일 이익 = max(이전 최대 일 이익, 오늘 일손익)
-        BigDecimal maxDailyProfit = previousState.map(DailyStatisticsEntity::getMaxDailyProfit).orElse(BigDecimal.ZERO).max(dailyProfitLoss);
-
-
-        // 1. 일 손익률 데이터 조회
-        List<BigDecimal> dailyPlRates = dsp.findDailyPlRatesByStrategyId(strategyId);
-        dailyPlRates.add(dailyPlRate);
-        // 최대 일 이익률 = 일손익률 중 최대값. 음수면 0
-        BigDecimal maxDailyProfitRate = DailyStatisticsCalculator.calculateMaxDailyProfitRate(dailyPlRates);
-
-        // 최대 일 손실 = min(이전 최대 일 손실, 오늘 일손익)
-        BigDecimal maxDailyLoss = previousState.map(DailyStatisticsEntity::getMaxDailyLoss).orElse(BigDecimal.ZERO).min(dailyProfitLoss);
-        // 최대 일 손실률 = MIN(일 손익률 리스트 중 최소 값, 0)
-        // 2. 현재 일 손익률 포함하여 최대 일 손실률 계산
-        // - 기존의 모든 일 손익률 데이터와 현재 입력된 일 손익률을 고려하여 최소값(최대 음수)을 반환합니다.
-        // - 최대 일 손실률은 항상 음수 또는 0이어야 합니다.
-        BigDecimal maxDailyLossRate = DailyStatisticsCalculator.calculateMaxDailyLossRate(dailyPlRates, dailyPlRate);
-
-        // 평균 손익 = (총 이익 + 총 손실) / 거래일수
-        BigDecimal averageProfitLoss = tradingDays > 0
-                ? totalProfit.add(totalLoss)
-                .divide(BigDecimal.valueOf(tradingDays), 0, RoundingMode.HALF_UP) // 소수점 첫째 자리에서 반올림 후 정수 반환
-                : BigDecimal.ZERO;
-
-        // 평균 손익률 = (누적손익률 / 거래일수) * 100
-        BigDecimal averageProfitLossRate = tradingDays > 0
-                ? cumulativeProfitLossRate.divide(BigDecimal.valueOf(tradingDays), 10, RoundingMode.DOWN) // 중간 계산에서 높은 정밀도로 계산
-                .setScale(4, RoundingMode.DOWN) // 최종적으로 4자리까지 표현 (반올림 없이)
-                : BigDecimal.ZERO;
-
-        // 변동계수(Coefficient of Variation) 계산
-        // (일손익 합산의 표준편차) / 평균손익 * 100
-        BigDecimal coefficientOfVariation = dailyProfitLosses.isEmpty()
-                ? BigDecimal.ZERO
-                : DailyStatisticsCalculator.calculateCoefficientOfVariation(dailyProfitLosses, averageProfitLoss);
-
-        // Sharp Ratio = 평균손익 / (일손익 합산의 표준편차)
-        BigDecimal sharpRatio = DailyStatisticsCalculator.calculateSharpRatio(dailyProfitLosses, averageProfitLoss);
-
-        // 현재 연속 손익일수 계산
-        Integer currentConsecutivePlDays;
-
-        if (dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0) {
-            // 이익인 경우: 손실에서 이익으로 전환 시 1로 초기화, 이익이 지속되면 +1
-            currentConsecutivePlDays = previousCurrentConsecutivePlDays < 0 ? 1 : previousCurrentConsecutivePlDays + 1;
-        } else if (dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0) {
-            // 손실인 경우: 이익에서 손실로 전환 시 -1로 초기화, 손실이 지속되면 -1씩 감소
-            currentConsecutivePlDays = previousCurrentConsecutivePlDays > 0 ? -1 : previousCurrentConsecutivePlDays - 1;
-        } else {
-            // 손익이 0일 경우 연속 손익일수 초기화
-            currentConsecutivePlDays = 0;
+    /**
+     * 직전 데이터를 기준으로 누적 상태를 구성합니다.
+     * - 직전 데이터에 누적값(최대 기준가, 일손익 제곱합)이 없는 기존 데이터는 이력 집계로 1회 복원합니다.
+     *
+     * @param strategyId   전략 ID
+     * @param previousData 직전 최신 데이터 (없으면 null)
+     * @param date         다음으로 계산할 일자
+     * @return 누적 상태
+     */
+    private DailyStatisticsCarry loadCarry(Long strategyId, DailyStatisticsEntity previousData, LocalDate date) {
+        if (previousData == null) {
+            return DailyStatisticsCarry.empty();
         }
 
-        // 최대 연속 수익일수 계산
-        Integer maxConsecutiveProfitDays = dailyProfitLoss.compareTo(BigDecimal.ZERO) > 0
-                ? Math.max(previousMaxConsecutiveProfitDays, currentConsecutivePlDays)
-                : previousMaxConsecutiveProfitDays;
-
-        // 최대 연속 손실일수 계산 (음수로 누적된 값의 절대값이 가장 큰 음수 선택)
-        Integer maxConsecutiveLossDays = dailyProfitLoss.compareTo(BigDecimal.ZERO) < 0
-                ? Math.min(previousMaxConsecutiveLossDays, currentConsecutivePlDays) // 음수에서 최솟값(더 작은 음수) 선택
-                : previousMaxConsecutiveLossDays;
-
-        // 총 전략 운용일수 = 일간분석 첫 등록 일자와 마지막 등록 일자 범위
-        // 가장 오래된 날짜와 가장 최신 날짜를 조회하여 계산
-        Integer strategyOperationDays = dsp.findEarliestAndLatestDatesByStrategyId(strategyId)
-                .map(dateRange -> {
-                    LocalDate latestDate = dateRange.getLatestDate(); // DB에서 조회한 가장 최신 날짜 (null일 가능성 있음)
-                    LocalDate currentDate = reqDto.getDate(); // 현재 입력 중인 데이터의 날짜
-
-                    // 최신 날짜가 null인 경우 현재 입력 날짜를 사용
-                    LocalDate adjustedLatestDate = (latestDate != null && latestDate.isAfter(currentDate))
-                            ? latestDate
-                            : currentDate; // 더 최신 날짜를 선택
-
-                    // 가장 오래된 날짜와 최종 조정된 최신 날짜로 운용일수를 계산
-                    return DailyStatisticsCalculator.calculateStrategyOperationDays(
-                            dateRange.getEarliestDate(), // 가장 오래된 날짜
-                            adjustedLatestDate           // 조정된 최신 날짜
-                    );
-                })
-                .orElse(1); // 데이터가 없으면 운용일수는 최소 1로 설정
-
+        BigDecimal maxReferencePrice = previousData.getMaxReferencePrice();
+        BigDecimal dailyProfitLossSquareSum = previousData.getDailyProfitLossSquareSum();
+        if (maxReferencePrice == null || dailyProfitLossSquareSum == null) {
+            DailyStatisticsCarrySeed seed = dsp.findCarrySeedUntilDate(strategyId, previousData.getDate());
+            maxReferencePrice = seed == null ? null : seed.getMaxReferencePrice();
+            dailyProfitLossSquareSum = seed == null ? BigDecimal.ZERO : seed.getDailyProfitLossSquareSum();
+        }
 
-        // 최근 1년 수익률 = ((오늘 기준가 / 1년 전 기준가) - 1) * 100
-        List<BigDecimal> referencePrices = dsp.findReferencePricesOneYearAgo(strategyId, reqDto.getDate().minusYears(1));
-        referencePrices.add(referencePrice);
-        BigDecimal recentOneYearReturn = DailyStatisticsCalculator.calculateRecentOneYearReturn(referencePrices);
+        // 최근 1년 수익률 계산에 필요한 기준가 (다음 일자 - 1년 ~ 직전 일자)
+        List<ReferencePricePoint> oneYearWindow = dsp.findReferencePricePointsBetween(
+                strategyId, date.minusYears(1), previousData.getDate());
 
-        // 고점 이후 최대 하락 기간(dd_day) 계산
-        Integer ddDay = DailyStatisticsCalculator.calculateDdDay(
-                currentDrawdownRate, // 현재 자본인하율
-                previousState.map(DailyStatisticsEntity::getDdDay).orElse(0) // 이전 DD 기간
-        );
+        LocalDate firstDate = dsp.findEarliestDateByStrategyId(strategyId).orElse(previousData.getDate());
 
-        // maxDdInRate 계산
-        BigDecimal maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(
-                currentDrawdownRate,    // 현재 자본인하율
-                previousMaxDdInRate,    // 이전 maxDdInRate
-                ddDay                  // 현재 DD 기간
-        );
+        return DailyStatisticsCarry.of(previousData, maxReferencePrice, dailyProfitLossSquareSum, firstDate, oneYearWindow);
+    }
 
-        // ddDay와 maxDdInRate 데이터를 날짜 오름차순으로 조회
-        List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRateList = dsp.findDdDayAndMaxDdInRateByStrategyIdOrderByDate(strategyId);
-        // 현재 입력 데이터도 포함
-        ddDayAndMaxDdInRateList.add(new DdDayAndMaxDdInRate(ddDay, maxDdInRate));
-
-        // KP-RATIO 계산
-        BigDecimal kpRatio = DailyStatisticsCalculator.calculateKPRatio(
-                ddDayAndMaxDdInRateList,   // ddDay 및 maxDdInRate 리스트
-                currentDrawdownRate, // 현재자본인하율
-                cumulativeProfitLossRate, // 누적손익률
-                tradingDays               // 거래일수
-        );
-        // KP-RATIO 값에 따라 전략 테이블의 KP-RATIO와 SM-SCORE를 업데이트합니다.
+    /**
+     * KP-RATIO 값에 따라 전략 테이블의 KP-RATIO와 SM-SCORE를 업데이트합니다.
+     * - KP-RATIO가 바뀐 경우에만 SM-SCORE 재계산을 요청합니다.
+     * - 같은 트랜잭션 안의 여러 요청은 커밋 직전 1회의 재계산으로 합쳐집니다.
+     *
+     * @param strategyId     전략 ID
+     * @param strategyEntity 전략 엔티티 (트랜잭션 시작 시점에 조회된 상태)
+     * @param kpRatio        새로운 KP-RATIO 값
+     */
+    private void updateKpRatio(Long strategyId, StrategyEntity strategyEntity, BigDecimal kpRatio) {
         if (kpRatio.compareTo(BigDecimal.ZERO) == 0) {
             // KP-RATIO가 0인 경우, SM-SCORE도 0으로 업데이트
             strategyRepository.updateKpRatioAndSmScoreByStrategyId(strategyId, kpRatio, BigDecimal.ZERO);
@@ -693,118 +521,21 @@ public class DailyStatisticsService {
             strategyRepository.updateKpRatioByStrategyId(strategyId, kpRatio);
         }
 
-        // SM-SCORE 배치 처리
-        batchUpdateSmScores();
-
-        // 누적손익 리스트 가져오기
-        List<BigDecimal> cumulativeProfitLossHistory = dsp.findCumulativeProfitLossByStrategyId(strategyId);
-
-        // 누적손익률 리스트 가져오기
-        List<BigDecimal> cumulativeProfitLossRateHistory = dsp.findCumulativeProfitLossRateByStrategyId(strategyId);
-
-        // 누적손익의 최대값 (Peak) 계산
-        BigDecimal peak = DailyStatisticsCalculator.calculatePeak(cumulativeProfitLossHistory, cumulativeProfitLoss);
-
-        // 누적손익률의 최대값 (Peak Rate) 계산
-        BigDecimal peakRate = DailyStatisticsCalculator.calculatePeakRate(cumulativeProfitLossRateHistory, cumulativeProfitLossRate);
-
-        // 빌더 패턴으로 결과 엔티티 생성
-        DailyStatisticsEntity dailyStatistics = DailyStatisticsEntity.builder()
-                .date(reqDto.getDate())
-                .depWdPrice(depWdPrice)
-                .dailyProfitLoss(dailyProfitLoss)
-                .tradingDays(tradingDays)
-                .balance(balance)
-                .principal(principal)
-                .cumulativeProfitLoss(cumulativeProfitLoss)
-                .unrealizedProfitLoss(unrealizedProfitLoss)
-                .kpRatio(kpRatio)
-                .referencePrice(referencePrice)
-                .dailyPlRate(dailyPlRate)
-                .cumulativeProfitLossRate(cumulativeProfitLossRate)
-                .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
-                .maxCumulativeProfitLossRate(maxCumulativeProfitLossRate)
-                .currentDrawdownAmount(currentDrawdownAmount)
-                .maxDrawdownAmount(maxDrawdownAmount)
-                .currentDrawdownRate(currentDrawdownRate)
-                .maxDrawdownRate(maxDrawdownRate)
-                .winRate(winRate)
-                .profitFactor(profitFactor)
-                .roa(roa)
-                .totalProfit(totalProfit)
-                .totalProfitDays(totalProfitDays)
-                .averageProfit(averageProfit)
-                .totalLoss(totalLoss)
-                .totalLossDays(totalLossDays)
-                .averageLoss(averageLoss)
-                .averageProfitLossRatio(averageProfitLossRatio)
-                .peak(peak)
-                .peakRate(peakRate)
-                .daysSincePeak(daysSincePeak)
-                .ddDay(ddDay)
-                .maxDdInRate(maxDdInRate)
-                .coefficientOfVariation(coefficientOfVariation)
-                .sharpRatio(sharpRatio)
-                .maxDailyProfit(maxDailyProfit)
-                .maxDailyProfitRate(maxDailyProfitRate)
-                .maxDailyLoss(maxDailyLoss)
-                .maxDailyLossRate(maxDailyLossRate)
-                .averageProfitLoss(averageProfitLoss)
-                .averageProfitLossRate(averageProfitLossRate)
-                .currentConsecutivePlDays(currentConsecutivePlDays)
-                .maxConsecutiveProfitDays(maxConsecutiveProfitDays)
-                .maxConsecutiveLossDays(maxConsecutiveLossDays)
-                .recentOneYearReturn(recentOneYearReturn)
-                .strategyOperationDays(strategyOperationDays)
-                .cumulativeDepWdPrice(cumulativeDepWdPrice)
-                .depositAmount(depositAmount)
-                .cumulativeDepositAmount(cumulativeDepositAmount)
-                .withdrawAmount(withdrawAmount)
-                .cumulativeWithdrawAmount(cumulativeWithdrawAmount)
-                .strategyEntity(strategyEntity)
-                .build();
-
-        // 월간 통계 업데이트
-        monthlyStatisticsService.updateMonthlyStatistics(strategyId, dailyStatistics);
-
-        return dailyStatistics;
+        // 트랜잭션 시작 시점의 KP-RATIO와 다를 때만 재계산 요청 (트랜잭션 안의 이후 변경은 커밋 전 재계산에 포함됨)
+        BigDecimal loadedKpRatio = strategyEntity == null ? null : strategyEntity.getKpRatio();
+        if (loadedKpRatio == null || loadedKpRatio.compareTo(kpRatio) != 0) {
+            smScoreRecomputeService.markDirty();
+        }
     }
 
     /**
      * 배치로 SM-SCORE를 업데이트하는 메서드.
      *
      * - KP-RATIO가 0보다 큰 전략 데이터를 페이징 처리로 조회하여 SM-SCORE를 계산하고 갱신합니다.
-     * - 트랜잭션 격리 수준은 Repeatable Read를 사용하여 데이터의 일관성을 보장합니다.
+     * - 대기 중인 재계산 요청과 관계없이 즉시 수행합니다.
      */
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
     public void batchUpdateSmScores() {
-        // 페이징 처리 작업을 공통 로직으로 수행
-        executePagedOperation(
-                // 1. KP-RATIO가 0보다 큰 전략 데이터를 페이징 처리하여 조회
-                page -> strategyRepository.findByNonZeroKpRatio(PageRequest.of(page, 1000)),
-                // 2. 조회된 데이터를 기반으로 SM-SCORE 계산 및 업데이트
-                kpRatiosPage -> {
-                    if (kpRatiosPage.isEmpty()) {
-                        return; // KP-RATIO가 없는 경우 기본값 유지
-                    }
-
-                    // 2.1. 조회된 전략 데이터(KP-RATIO 리스트)로 SM-SCORE 계산
-                    List<StrategyKpDto> kpRatios = kpRatiosPage.getContent();
-
-                    // 2.2. KP-RATIO의 데이터가 1개인 경우 모든 SM-SCORE를 0으로 처리
-                    if (kpRatios.size() == 1) {
-                        Long strategyId = kpRatios.get(0).getStrategyId();
-                        strategyRepository.updateSmScoreByStrategyId(strategyId, BigDecimal.ZERO);
-                        return;
-                    }
-
-                    // 2.3. 데이터가 2개 이상인 경우 SM-SCORE 계산
-                    Map<Long, BigDecimal> smScores = DailyStatisticsCalculator.calculateAndUpdateSmScores(kpRatios);
-
-                    // 2.4. 계산된 SM-SCORE를 전략 테이블에 업데이트
-                    smScores.forEach(strategyRepository::updateSmScoreByStrategyId);
-                }
-        );
+        smScoreRecomputeService.recomputeNow();
     }
 
     /**
@@ -834,6 +565,9 @@ public class DailyStatisticsService {
                 })
         );
 
+        // 등록 중 요청된 SM-SCORE 재계산을 먼저 반영
+        smScoreRecomputeService.flushPending();
+
         // 3. 모든 전략의 SM-SCORE를 갱신하고 일간 통계에 반영
         executePagedOperation(
                 // 3.1. 모든 전략의 SM-SCORE 데이터를 페이징 처리하여 조회
@@ -913,6 +647,7 @@ public class DailyStatisticsService {
 
         // 3. 일간 분석 데이터 전체 삭제
         dsp.deleteAllByStrategyId(strategyId);
+        strategyLatestStatsService.deleteLatestStatistics(strategyId);
     }
 
     /**
@@ -922,5 +657,6 @@ public class DailyStatisticsService {
      */
     public void deleteAllDailyStatisticsByStrategy(StrategyEntity strategy) {
         dsp.deleteAllByStrategyEntity(strategy);
+        strategyLatestStatsService.deleteLatestStatistics(strategy.getStrategyId());
     }
 }
\ No newline at end of file
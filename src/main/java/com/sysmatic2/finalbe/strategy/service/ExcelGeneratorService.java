@@ -2,20 +2,37 @@
 package com.sysmatic2.finalbe.strategy.service;
 
 import com.sysmatic2.finalbe.exception.ExcelFileCreationException;
+import com.sysmatic2.finalbe.strategy.common.CsvGenerator;
+import com.sysmatic2.finalbe.strategy.common.ExportColumn;
+import com.sysmatic2.finalbe.strategy.common.ExportFormat;
+import com.sysmatic2.finalbe.strategy.common.StatisticsExportColumns;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.common.ExcelGenerator;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,18 +41,33 @@ public class ExcelGeneratorService {
   private final DailyStatisticsRepository dailyStatisticsRepository;
   private final MonthlyStatisticsRepository monthlyStatisticsRepository;
   private final ExcelGenerator excelGenerator; // ExcelGenerator 주입
+  private final CsvGenerator csvGenerator;
+  private final EntityManager entityManager;
+  private final PlatformTransactionManager transactionManager;
+
+  // 전체 기간 다운로드 시 영속성 컨텍스트를 비우는 행 간격
+  private static final int CLEAR_INTERVAL = 500;
+
+  // csv.gz 압축 버퍼 크기
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  // 전체 기간 다운로드가 읽기 전용 트랜잭션(DB 연결)을 잡고 있을 수 있는 최대 시간 (초, 0 이하면 제한 없음)
+  @Value("${strategy.export.stream-timeout-seconds:300}")
+  private int streamTimeoutSeconds;
 
   /**
-   * 일간 통계 엑셀 파일 생성 (페이징 지원)
+   * 일간 통계 파일 생성 (페이징 지원)
    *
    * @param strategyId      전략 ID
    * @param includeAnalysis 분석 지표 포함 여부
    * @param pageNumber      조회할 페이지 번호 (0부터 시작)
    * @param pageSize        페이지 크기
-   * @return 엑셀 파일 바이트 배열
-   * @throws ExcelFileCreationException 엑셀 생성 중 발생하는 예외
+   * @param format          파일 형식 (xlsx, csv, csv.gz)
+   * @return 파일을 응답 스트림에 바로 쓰는 본문
+   * @throws ExcelFileCreationException 통계가 없는 경우 (응답 전에 발생)
    */
-  public byte[] exportDailyStatisticsToExcel(Long strategyId, boolean includeAnalysis, int pageNumber, int pageSize) {
+  public StreamingResponseBody exportDailyStatisticsToExcel(Long strategyId, boolean includeAnalysis, int pageNumber, int pageSize,
+                                                            ExportFormat format) {
     Page<DailyStatisticsEntity> dailyStatsPage = dailyStatisticsRepository
             .findByStrategyEntityStrategyIdOrderByDateDesc(strategyId, PageRequest.of(pageNumber, pageSize));
     List<DailyStatisticsEntity> statistics = dailyStatsPage.getContent();
@@ -44,36 +76,25 @@ public class ExcelGeneratorService {
       throw new ExcelFileCreationException("Strategy ID " + strategyId + "에 해당하는 일간 통계가 없습니다.");
     }
 
-    Workbook workbook;
-    try {
-      if (includeAnalysis) {
-        workbook = excelGenerator.generateDailyAnalysisIndicatorsExcel(statistics);
-      } else {
-        workbook = excelGenerator.generateDailyStatisticsExcel(statistics);
-      }
-    } catch (Exception e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
-    }
-
-    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      workbook.write(out);
-      workbook.close();
-      return out.toByteArray();
-    } catch (IOException e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 I/O 오류가 발생했습니다.", e);
+    if (includeAnalysis) {
+      return streamExport(format, StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS,
+              excelGenerator::generateDailyAnalysisIndicatorsExcel, rowsOf(statistics));
     }
+    return streamExport(format, StatisticsExportColumns.DAILY_STATISTICS,
+            excelGenerator::generateDailyStatisticsExcel, rowsOf(statistics));
   }
 
   /**
-   * 월간 통계 엑셀 파일 생성 (페이징 지원)
+   * 월간 통계 파일 생성 (페이징 지원)
    *
    * @param strategyId 전략 ID
    * @param pageNumber 조회할 페이지 번호 (0부터 시작)
    * @param pageSize   페이지 크기
-   * @return 엑셀 파일 바이트 배열
-   * @throws ExcelFileCreationException 엑셀 생성 중 발생하는 예외
+   * @param format     파일 형식 (xlsx, csv, csv.gz)
+   * @return 파일을 응답 스트림에 바로 쓰는 본문
+   * @throws ExcelFileCreationException 통계가 없는 경우 (응답 전에 발생)
    */
-  public byte[] exportMonthlyStatisticsToExcel(Long strategyId, int pageNumber, int pageSize) {
+  public StreamingResponseBody exportMonthlyStatisticsToExcel(Long strategyId, int pageNumber, int pageSize, ExportFormat format) {
     Page<MonthlyStatisticsEntity> monthlyStatsPage = monthlyStatisticsRepository
             .findByStrategyEntityStrategyIdOrderByAnalysisMonthAsc(strategyId, PageRequest.of(pageNumber, pageSize));
     List<MonthlyStatisticsEntity> statistics = monthlyStatsPage.getContent();
@@ -82,32 +103,21 @@ public class ExcelGeneratorService {
       throw new ExcelFileCreationException("Strategy ID " + strategyId + "에 해당하는 월간 통계가 없습니다.");
     }
 
-    Workbook workbook;
-    try {
-      workbook = excelGenerator.generateMonthlyStatisticsExcel(statistics);
-    } catch (Exception e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
-    }
-
-    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      workbook.write(out);
-      workbook.close();
-      return out.toByteArray();
-    } catch (IOException e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 I/O 오류가 발생했습니다.", e);
-    }
+    return streamExport(format, StatisticsExportColumns.MONTHLY_STATISTICS,
+            excelGenerator::generateMonthlyStatisticsExcel, rowsOf(statistics));
   }
 
   /**
-   * 일간 분석 지표 엑셀 파일 생성 (페이징 지원)
+   * 일간 분석 지표 파일 생성 (페이징 지원)
    *
    * @param strategyId 전략 ID
    * @param pageNumber 조회할 페이지 번호 (0부터 시작)
    * @param pageSize   페이지 크기
-   * @return 엑셀 파일 바이트 배열
-   * @throws ExcelFileCreationException 엑셀 생성 중 발생하는 예외
+   * @param format     파일 형식 (xlsx, csv, csv.gz)
+   * @return 파일을 응답 스트림에 바로 쓰는 본문
+   * @throws ExcelFileCreationException 통계가 없는 경우 (응답 전에 발생)
    */
-  public byte[] exportDailyAnalysisIndicatorsToExcel(Long strategyId, int pageNumber, int pageSize) {
+  public StreamingResponseBody exportDailyAnalysisIndicatorsToExcel(Long strategyId, int pageNumber, int pageSize, ExportFormat format) {
     Page<DailyStatisticsEntity> dailyStatsPage = dailyStatisticsRepository
             .findByStrategyEntityStrategyIdOrderByDateDesc(strategyId, PageRequest.of(pageNumber, pageSize));
     List<DailyStatisticsEntity> statistics = dailyStatsPage.getContent();
@@ -116,19 +126,211 @@ public class ExcelGeneratorService {
       throw new ExcelFileCreationException("Strategy ID " + strategyId + "에 해당하는 일간 분석 통계가 없습니다.");
     }
 
-    Workbook workbook;
+    return streamExport(format, StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS,
+            excelGenerator::generateDailyAnalysisIndicatorsExcel, rowsOf(statistics));
+  }
+
+  /**
+   * 일간 통계 전체 기간 파일 생성 (페이징 없음)
+   * - DB 스트림으로 읽은 행을 바로 파일에 쓰므로, 기간이 길어도 메모리 사용량이 일정합니다.
+   * - 대신 csv, csv.gz는 파일을 다 내려받을 때까지 DB 연결을 잡고 있으므로, streamTimeoutSeconds를 넘기면 중단합니다.
+   *
+   * @param strategyId      전략 ID
+   * @param includeAnalysis 분석 지표 포함 여부
+   * @param format          파일 형식 (xlsx, csv, csv.gz)
+   * @return 파일을 응답 스트림에 바로 쓰는 본문
+   * @throws ExcelFileCreationException 통계가 없는 경우 (응답 전에 발생)
+   */
+  public StreamingResponseBody exportAllDailyStatisticsToExcel(Long strategyId, boolean includeAnalysis, ExportFormat format) {
+    if (!dailyStatisticsRepository.existsByStrategyEntityStrategyId(strategyId)) {
+      throw new ExcelFileCreationException("Strategy ID " + strategyId + "에 해당하는 일간 통계가 없습니다.");
+    }
+
+    RowSource<DailyStatisticsEntity> rowSource = streamedRows(() -> dailyStatisticsRepository.streamByStrategyIdOrderByDateDesc(strategyId));
+    if (includeAnalysis) {
+      return streamExport(format, StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS,
+              excelGenerator::generateDailyAnalysisIndicatorsExcel, rowSource);
+    }
+    return streamExport(format, StatisticsExportColumns.DAILY_STATISTICS,
+            excelGenerator::generateDailyStatisticsExcel, rowSource);
+  }
+
+  /**
+   * 월간 통계 전체 기간 파일 생성 (페이징 없음)
+   *
+   * @param strategyId 전략 ID
+   * @param format     파일 형식 (xlsx, csv, csv.gz)
+   * @return 파일을 응답 스트림에 바로 쓰는 본문
+   * @throws ExcelFileCreationException 통계가 없는 경우 (응답 전에 발생)
+   */
+  public StreamingResponseBody exportAllMonthlyStatisticsToExcel(Long strategyId, ExportFormat format) {
+    if (!monthlyStatisticsRepository.existsByStrategyEntityStrategyId(strategyId)) {
+      throw new ExcelFileCreationException("Strategy ID " + strategyId + "에 해당하는 월간 통계가 없습니다.");
+    }
+
+    return streamExport(format, StatisticsExportColumns.MONTHLY_STATISTICS,
+            excelGenerator::generateMonthlyStatisticsExcel,
+            streamedRows(() -> monthlyStatisticsRepository.streamByStrategyIdOrderByAnalysisMonthAsc(strategyId)));
+  }
+
+  /**
+   * 행을 읽어 전달받은 함수에 넘기는 공급원 (페이지 데이터는 그대로, 전체 기간은 DB 스트림)
+   * - 엑셀은 워크북을, CSV는 쓴 행 수를 돌려받으므로 반환 타입을 호출하는 쪽에서 정합니다.
+   */
+  private interface RowSource<T> {
+    <R> R withRows(Function<Iterable<T>, R> reader);
+  }
+
+  /**
+   * 이미 조회한 페이지 데이터를 그대로 넘기는 공급원
+   */
+  private static <T> RowSource<T> rowsOf(List<T> rows) {
+    return new RowSource<>() {
+      @Override
+      public <R> R withRows(Function<Iterable<T>, R> reader) {
+        return reader.apply(rows);
+      }
+    };
+  }
+
+  /**
+   * 읽기 전용 트랜잭션 안에서 DB 스트림을 열어 넘기는 공급원
+   */
+  private <T> RowSource<T> streamedRows(Supplier<Stream<T>> query) {
+    return new RowSource<>() {
+      @Override
+      public <R> R withRows(Function<Iterable<T>, R> reader) {
+        return readOnly(() -> {
+          try (Stream<T> rows = query.get()) {
+            return reader.apply(clearingEvery(rows));
+          }
+        });
+      }
+    };
+  }
+
+  /**
+   * 파일 형식에 따라 응답 본문을 만듭니다.
+   * - xlsx: 행을 읽어 워크북을 만든 뒤(DB 스트림이면 트랜잭션 안에서) 응답 스트림에 씁니다. 트랜잭션은 쓰기 전에 끝납니다.
+   * - csv, csv.gz: 행을 읽는 대로 응답 스트림에 씁니다. (POI를 거치지 않음)
+   *   DB 스트림이면 클라이언트가 다 받을 때까지 트랜잭션이 이어지므로, 느린 클라이언트가 DB 연결을 오래 잡지 않도록
+   *   streamTimeoutSeconds로 제한합니다.
+   *
+   * @param format            파일 형식
+   * @param columns           CSV 컬럼 정의 (엑셀과 같은 정의)
+   * @param workbookGenerator 엑셀 생성 함수
+   * @param rowSource         행 공급원
+   * @return 응답 본문
+   */
+  private <T> StreamingResponseBody streamExport(ExportFormat format, List<ExportColumn<T>> columns,
+                                                 Function<Iterable<T>, Workbook> workbookGenerator,
+                                                 RowSource<T> rowSource) {
+    if (format == ExportFormat.XLSX) {
+      return streamWorkbook(() -> rowSource.withRows(workbookGenerator));
+    }
+
+    return outputStream -> {
+      if (format == ExportFormat.CSV_GZ) {
+        try (GzipResponseStream gzip = new GzipResponseStream(outputStream)) {
+          writeCsv(columns, rowSource, gzip);
+        }
+      } else {
+        writeCsv(columns, rowSource, outputStream);
+      }
+    };
+  }
+
+  private <T> void writeCsv(List<ExportColumn<T>> columns, RowSource<T> rowSource, OutputStream out) throws IOException {
     try {
-      workbook = excelGenerator.generateDailyAnalysisIndicatorsExcel(statistics);
-    } catch (Exception e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
+      rowSource.withRows(rows -> {
+        try {
+          return csvGenerator.writeCsv(columns, rows, out);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
+  }
 
-    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-      workbook.write(out);
-      workbook.close();
-      return out.toByteArray();
-    } catch (IOException e) {
-      throw new ExcelFileCreationException("엑셀 파일 생성 중 I/O 오류가 발생했습니다.", e);
+  /**
+   * 읽기 전용 트랜잭션 안에서 실행합니다. (DB 스트림은 트랜잭션 안에서만 읽을 수 있고, 응답 본문은 요청 스레드 밖에서 실행됨)
+   * - streamTimeoutSeconds를 트랜잭션 타임아웃으로 설정하므로 쿼리 타임아웃에도 적용됩니다.
+   */
+  private <R> R readOnly(Supplier<R> action) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    if (streamTimeoutSeconds > 0) {
+      transactionTemplate.setTimeout(streamTimeoutSeconds);
     }
+    return transactionTemplate.execute(status -> action.get());
+  }
+
+  /**
+   * 스트림을 한 번 순회하는 Iterable로 바꾸고, CLEAR_INTERVAL개 행마다 영속성 컨텍스트를 비웁니다.
+   * - 이미 파일에 쓴 엔티티가 영속성 컨텍스트에 쌓이지 않도록 합니다.
+   * - 같은 간격으로 streamTimeoutSeconds를 확인하여, 넘겼으면 예외로 트랜잭션을 끝내고 DB 연결을 반환합니다.
+   *   (쿼리 타임아웃은 클라이언트에 쓰는 시간을 포함하지 않음)
+   */
+  private <T> Iterable<T> clearingEvery(Stream<T> stream) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(streamTimeoutSeconds);
+    int[] count = {0};
+    Stream<T> clearing = stream.peek(entity -> {
+      if (++count[0] % CLEAR_INTERVAL == 0) {
+        entityManager.clear();
+        if (streamTimeoutSeconds > 0 && System.nanoTime() - deadline > 0) {
+          throw new TransactionTimedOutException("전체 기간 다운로드가 " + streamTimeoutSeconds + "초를 넘겨 중단되었습니다.");
+        }
+      }
+    });
+    return clearing::iterator;
+  }
+
+  /**
+   * csv.gz 응답 스트림
+   * - 닫을 때 압축을 마치고 Deflater의 네이티브 메모리를 해제합니다. (쓰기 중 예외가 나도 해제, 응답 스트림은 닫지 않음)
+   */
+  private static final class GzipResponseStream extends GZIPOutputStream {
+
+    GzipResponseStream(OutputStream out) throws IOException {
+      super(out, GZIP_BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        finish();
+      } finally {
+        def.end();
+      }
+    }
+  }
+
+  /**
+   * 워크북을 생성하여 응답 스트림에 바로 씁니다. (byte[]로 복사하지 않음)
+   * - 생성과 쓰기는 응답 본문을 쓰는 시점에 수행되며, SXSSF 임시 파일은 쓰기 후 삭제합니다.
+   *
+   * @param workbookSupplier 워크북 생성 함수
+   * @return 응답 본문
+   */
+  private StreamingResponseBody streamWorkbook(Supplier<Workbook> workbookSupplier) {
+    return outputStream -> {
+      Workbook workbook;
+      try {
+        workbook = workbookSupplier.get();
+      } catch (Exception e) {
+        throw new ExcelFileCreationException("엑셀 파일 생성 중 오류가 발생했습니다.", e);
+      }
+
+      try {
+        workbook.write(outputStream);
+      } finally {
+        if (workbook instanceof SXSSFWorkbook sxssfWorkbook) {
+          sxssfWorkbook.dispose();
+        }
+        workbook.close();
+      }
+    };
   }
 }
@@ -5,7 +5,6 @@ import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
 import com.sysmatic2.finalbe.exception.ExcelValidationException;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
-import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
@@ -29,7 +28,6 @@ public class ExcelUploadService {
   private final Validator validator;
   private final StrategyRepository strategyRepository;
   private final DailyStatisticsService dailyStatisticsService;
-  private final DailyStatisticsRepository dailyStatisticsRepository;
   private static final int MAX_ROWS = 2000;
   private static final int EXPECTED_COLUMNS = 3;
   private final LocalDateDeserializer localDateDeserializer = new LocalDateDeserializer(); // LocalDateDeserializer 객체 생성
@@ -58,15 +56,8 @@ public class ExcelUploadService {
 
     List<DailyStatisticsReqDto> dataList = extractAndValidateData(file);
 
-    List<DailyStatisticsEntity> savedEntities = new ArrayList<>();
-    for (DailyStatisticsReqDto dto : dataList) {
-      dailyStatisticsService.registerDailyStatistics(strategyId, dto);
-      DailyStatisticsEntity entity = dailyStatisticsRepository.findByStrategyIdAndDate(strategyId, dto.getDate())
-              .orElseThrow(() -> new IllegalStateException("Failed to save DailyStatisticsEntity for date " + dto.getDate()));
-      savedEntities.add(entity);
-    }
-
-    return savedEntities;
+    // 정렬, 기존 데이터 병합, 일괄 계산 및 저장을 한 번에 처리
+    return dailyStatisticsService.registerDailyStatisticsBulk(strategyId, dataList);
   }
 
   /**
@@ -16,64 +16,113 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class MonthlyStatisticsService {
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM"); // 월간 통계 기준 월 형식
     private final MonthlyStatisticsRepository monthlyStatisticsRepository;
     private final DailyStatisticsRepository dailyStatisticsRepository;
 
     /**
      * 월간 통계 데이터를 업데이트하는 메서드.
      *
+     * - 월간 통계에 저장된 누적 상태(합계, 개수, 이전 월 마지막 기준가)에 오늘 데이터만 더해 계산합니다.
+     * - 누적 상태가 없는 기존 월간 데이터는 해당 월 일간 데이터 조회로 1회 복원합니다.
+     *
      * @param strategyId      업데이트할 전략의 ID
-     * @param dailyStatistics 해당 전략의 일간 통계 데이터
+     * @param dailyStatistics 해당 전략의 일간 통계 데이터 (아직 저장되지 않은 해당 월의 마지막 데이터)
      */
     @Transactional
     public void updateMonthlyStatistics(Long strategyId, DailyStatisticsEntity dailyStatistics) {
         // 1. 현재 월의 YearMonth 객체 생성
-        String currentMonth = dailyStatistics.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM")); // 현재 월
+        String currentMonth = dailyStatistics.getDate().format(MONTH_FORMATTER); // 현재 월
 
         // 2. 월간 통계 데이터 가져오기 (없으면 새로 생성)
         MonthlyStatisticsEntity monthlyStatistics = MonthlyStatisticsCalculator.getOrCreateMonthlyStatistics(
                 strategyId, dailyStatistics, currentMonth, monthlyStatisticsRepository);
 
-        // 3. 월간 통계 계산
-        // 3.1 월평균 원금 계산
-        BigDecimal avgPrincipal = MonthlyStatisticsCalculator.calculateMonthlyAveragePrincipal(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyAvgPrincipal(avgPrincipal);
-
-        // 3.2 월 입출금 총액 계산
-        BigDecimal totalDepWd = MonthlyStatisticsCalculator.calculateTotalDepWdAmount(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyDepWdAmount(totalDepWd);
-
-        // 3.3 월 손익 계산
-        BigDecimal totalProfitLoss = MonthlyStatisticsCalculator.calculateTotalProfitLoss(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyProfitLoss(totalProfitLoss);
-
-        // 3.4 월 손익률 계산
-        BigDecimal monthlyReturn = MonthlyStatisticsCalculator.calculateMonthlyReturn(
-                strategyId, dailyStatistics, currentMonth, dailyStatisticsRepository);
-        monthlyStatistics.setMonthlyReturn(monthlyReturn);
-
-        // 3.5 월 누적 손익 계산
-        BigDecimal cumulativeProfitLoss = MonthlyStatisticsCalculator.calculateCumulativeProfitLoss(dailyStatistics);
-        monthlyStatistics.setMonthlyCumulativeProfitLoss(cumulativeProfitLoss);
-
-        // 3.6 월 누적 손익률 계산
-        BigDecimal cumulativeReturn = MonthlyStatisticsCalculator.calculateCumulativeReturn(
-                dailyStatistics);
-        monthlyStatistics.setMonthlyCumulativeReturn(cumulativeReturn);
-
-        // 4. 업데이트된 월간 통계 데이터 저장
+        // 3. 누적 상태가 없으면 1회 구성
+        if (monthlyStatistics.getDailyCount() == null) {
+            seedMonthlyCarry(strategyId, monthlyStatistics, currentMonth);
+        }
+
+        // 4. 오늘 데이터를 누적하여 월간 통계 계산
+        MonthlyStatisticsCalculator.accumulateDailyStatistics(monthlyStatistics, dailyStatistics);
+
+        // 5. 업데이트된 월간 통계 데이터 저장
         monthlyStatisticsRepository.save(monthlyStatistics);
     }
 
+    /**
+     * 기준 월부터 월간 통계를 한 번에 재구성하는 메서드. (일괄 등록, 수정/삭제 후 재계산, 백필용)
+     *
+     * - 기준 월 1일 이후 일간 데이터를 날짜순으로 한 번 조회하고, 한 번 순회하며 모든 월을 계산합니다.
+     * - 기존 월간 데이터는 PK를 유지한 채 갱신하고, 일간 데이터가 남아 있지 않은 월은 삭제합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param fromMonth  기준 월 (yyyy-MM)
+     * @return 재구성된 월간 통계 데이터 리스트 (월 오름차순)
+     */
+    @Transactional
+    public List<MonthlyStatisticsEntity> rebuildMonthlyStatisticsFromMonth(Long strategyId, String fromMonth) {
+        // 1. 기준 월 이후 일간 데이터와 기존 월간 데이터 조회
+        LocalDate fromDate = YearMonth.parse(fromMonth, MONTH_FORMATTER).atDay(1);
+        List<DailyStatisticsEntity> dailyStatisticsList = dailyStatisticsRepository.findAllAfterDate(strategyId, fromDate);
+        Map<String, MonthlyStatisticsEntity> existingByMonth = new HashMap<>();
+        monthlyStatisticsRepository.findAllFromMonth(strategyId, fromMonth)
+                .forEach(monthlyStatistics -> existingByMonth.put(monthlyStatistics.getAnalysisMonth(), monthlyStatistics));
+
+        // 2. 첫 번째 월의 이전 월 마지막 기준가 조회 후 한 번에 계산
+        BigDecimal firstPreviousMonthReferencePrice = BigDecimal.ZERO;
+        if (!dailyStatisticsList.isEmpty()) {
+            String previousMonth = YearMonth.from(dailyStatisticsList.get(0).getDate()).minusMonths(1).format(MONTH_FORMATTER);
+            firstPreviousMonthReferencePrice = MonthlyStatisticsCalculator.getPreviousMonthLastReferencePrice(
+                    strategyId, previousMonth, dailyStatisticsRepository);
+        }
+        List<MonthlyStatisticsEntity> rebuilt = MonthlyStatisticsCalculator.buildMonthlyStatistics(
+                dailyStatisticsList, firstPreviousMonthReferencePrice, existingByMonth);
+
+        // 3. 일간 데이터가 없어진 월 삭제 후 일괄 저장
+        rebuilt.forEach(monthlyStatistics -> existingByMonth.remove(monthlyStatistics.getAnalysisMonth()));
+        if (!existingByMonth.isEmpty()) {
+            monthlyStatisticsRepository.deleteAll(existingByMonth.values());
+        }
+        return monthlyStatisticsRepository.saveAll(rebuilt);
+    }
+
+    /**
+     * 월간 통계의 누적 상태를 구성하는 메서드.
+     *
+     * - 새로 생성된 월은 해당 월 일간 데이터가 아직 없으므로 이전 월 마지막 기준가만 조회합니다.
+     * - 누적 상태가 없는 기존 월은 해당 월에 저장된 일간 데이터로 합계와 개수를 복원합니다.
+     *
+     * @param strategyId        전략 ID
+     * @param monthlyStatistics 월간 통계 데이터
+     * @param month             해당 월 (yyyy-MM)
+     */
+    private void seedMonthlyCarry(Long strategyId, MonthlyStatisticsEntity monthlyStatistics, String month) {
+        String previousMonth = YearMonth.parse(month, MONTH_FORMATTER).minusMonths(1).format(MONTH_FORMATTER);
+        MonthlyStatisticsCalculator.resetMonthlyCarry(monthlyStatistics,
+                MonthlyStatisticsCalculator.getPreviousMonthLastReferencePrice(strategyId, previousMonth, dailyStatisticsRepository));
+        if (monthlyStatistics.getMonthlyStatisticsId() == null) {
+            return;
+        }
+
+        List<BigDecimal> principals = dailyStatisticsRepository.findDailyPrincipalsByStrategyIdAndMonth(strategyId, month);
+        monthlyStatistics.setDailyCount(principals.size());
+        monthlyStatistics.setPrincipalSum(principals.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        monthlyStatistics.setDepWdAmountSum(dailyStatisticsRepository.findDailyDepWdAmountsByStrategyIdAndMonth(strategyId, month)
+                .stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        monthlyStatistics.setProfitLossSum(dailyStatisticsRepository.findDailyProfitLossesByStrategyIdAndMonth(strategyId, month)
+                .stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
     /**
      * 전략의 월간 분석 데이터를 페이징 처리하여 조회하는 메서드.
      *
@@ -0,0 +1,191 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCalculator;
+import com.sysmatic2.finalbe.strategy.dto.SmScoreRecomputeMetrics;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * SM-SCORE 재계산 조정 서비스.
+ *
+ * - KP-RATIO가 바뀔 때마다 전체 전략의 SM-SCORE를 다시 계산하지 않고, 재계산이 필요하다는 표시(dirty)만 남깁니다.
+ * - 트랜잭션 안에서 표시된 경우: 트랜잭션 커밋 직전에 1회만 재계산합니다.
+ * - 트랜잭션 밖에서 표시된 경우: 마지막 표시 이후 일정 시간(quiet period) 동안 추가 변경이 없으면 1회 재계산합니다.
+ * - 합쳐져서 생략된 재계산 횟수는 {@link #getMetrics()}로 확인할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SmScoreRecomputeService {
+    private static final int INITIAL_CAPACITY = 1024; // 전략 ID/KP-RATIO 배열 초기 크기 (부족하면 2배로 늘림)
+
+    private final StrategyRepository strategyRepository;
+    private final StrategySearchIndexService strategySearchIndexService;
+
+    @Value("${sm-score.recompute.quiet-period-millis:2000}")
+    private long quietPeriodMillis; // 트랜잭션 밖 변경에 대한 대기 시간
+
+    private final AtomicBoolean pending = new AtomicBoolean(false); // 트랜잭션 밖에서 표시된 재계산 대기 여부
+    private final AtomicLong lastMarkedAt = new AtomicLong(0L); // 마지막 표시 시각 (ms)
+
+    // 메트릭
+    private final AtomicLong requestedCount = new AtomicLong(); // 재계산 요청(표시) 횟수
+    private final AtomicLong executedCount = new AtomicLong(); // 실제 재계산 횟수
+    private final AtomicLong coalescedCount = new AtomicLong(); // 대기 중인 재계산에 합쳐져 생략된 횟수
+
+    /**
+     * SM-SCORE 재계산이 필요함을 표시합니다.
+     * - 같은 트랜잭션/대기 구간 안의 여러 요청은 한 번의 재계산으로 합쳐집니다.
+     */
+    public void markDirty() {
+        requestedCount.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingRecompute current = (PendingRecompute) TransactionSynchronizationManager.getResource(this);
+            if (current == null) {
+                // 트랜잭션에서 처음 표시된 경우 커밋 직전 재계산 등록
+                PendingRecompute newPending = new PendingRecompute();
+                TransactionSynchronizationManager.bindResource(this, newPending);
+                TransactionSynchronizationManager.registerSynchronization(new RecomputeBeforeCommit(newPending));
+            } else if (current.pending) {
+                coalescedCount.incrementAndGet();
+            } else {
+                current.pending = true;
+            }
+            return;
+        }
+
+        lastMarkedAt.set(System.currentTimeMillis());
+        if (!pending.compareAndSet(false, true)) {
+            coalescedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 대기 중인 요청과 관계없이 즉시 재계산합니다.
+     * - 같은 트랜잭션 안에서 재계산된 SM-SCORE를 바로 읽어야 하는 경우에 사용합니다.
+     * - 현재 트랜잭션에 대기 중인 요청은 이 재계산으로 처리된 것으로 간주합니다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void recomputeNow() {
+        PendingRecompute current = (PendingRecompute) TransactionSynchronizationManager.getResource(this);
+        if (current != null) {
+            current.pending = false;
+        }
+        recompute();
+    }
+
+    /**
+     * 현재 트랜잭션에 대기 중인 재계산이 있으면 커밋을 기다리지 않고 지금 수행합니다.
+     * - 같은 트랜잭션 안에서 재계산된 SM-SCORE를 읽기 전에 호출합니다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void flushPending() {
+        PendingRecompute current = (PendingRecompute) TransactionSynchronizationManager.getResource(this);
+        if (current != null && current.pending) {
+            current.pending = false;
+            recompute();
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 표시된 요청을 대기 시간이 지난 뒤 1회 재계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${sm-score.recompute.check-interval-millis:1000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void flushIfQuiet() {
+        if (!pending.get() || System.currentTimeMillis() - lastMarkedAt.get() < quietPeriodMillis) {
+            return;
+        }
+        if (pending.compareAndSet(true, false)) {
+            recompute();
+        }
+    }
+
+    /**
+     * 재계산 메트릭 조회
+     *
+     * @return 요청/실행/생략 횟수
+     */
+    public SmScoreRecomputeMetrics getMetrics() {
+        return new SmScoreRecomputeMetrics(requestedCount.get(), executedCount.get(), coalescedCount.get(), pending.get());
+    }
+
+    /**
+     * KP-RATIO가 0보다 큰 전체 전략의 SM-SCORE를 한 번에 계산하고 갱신합니다.
+     * - 평균/표준편차는 페이지 단위가 아닌 전체 전략 기준으로 계산합니다.
+     */
+    private void recompute() {
+        executedCount.incrementAndGet();
+
+        // 1. KP-RATIO가 0보다 큰 전략 데이터를 스트림으로 읽으며 기본형 배열에 바로 채움 (행마다 DTO/리스트를 만들지 않음)
+        long[] strategyIds = new long[INITIAL_CAPACITY];
+        double[] kpValues = new double[INITIAL_CAPACITY];
+        int size = 0;
+        try (Stream<Object[]> rows = strategyRepository.streamNonZeroKpRatios()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (size == strategyIds.length) {
+                    strategyIds = Arrays.copyOf(strategyIds, size * 2);
+                    kpValues = Arrays.copyOf(kpValues, size * 2);
+                }
+                strategyIds[size] = ((Number) row[0]).longValue();
+                kpValues[size] = ((Number) row[1]).doubleValue();
+                size++;
+            }
+        }
+        if (size == 0) {
+            return; // KP-RATIO가 없는 경우 기본값 유지
+        }
+
+        // 2. 전체 기준 SM-SCORE 계산 후 묶음 단위로 갱신 (데이터가 1개면 0)
+        BigDecimal[] smScores = DailyStatisticsCalculator.calculateSmScores(kpValues, size);
+        strategyRepository.updateSmScoresInBulk(strategyIds, smScores, size);
+        strategySearchIndexService.applySmScores(strategyIds, smScores, size);
+    }
+
+    /**
+     * 트랜잭션별 재계산 대기 상태
+     */
+    private static class PendingRecompute {
+        private boolean pending = true;
+    }
+
+    /**
+     * 커밋 직전에 대기 중인 재계산을 1회 수행하고, 트랜잭션 종료 시 상태를 정리합니다.
+     */
+    private class RecomputeBeforeCommit implements TransactionSynchronization {
+        private final PendingRecompute pendingRecompute;
+
+        private RecomputeBeforeCommit(PendingRecompute pendingRecompute) {
+            this.pendingRecompute = pendingRecompute;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (pendingRecompute.pending) {
+                pendingRecompute.pending = false;
+                recompute();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SmScoreRecomputeService.this);
+        }
+    }
+}
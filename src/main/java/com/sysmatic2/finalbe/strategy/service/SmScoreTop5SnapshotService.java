@@ -0,0 +1,251 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.member.entity.MemberEntity;
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.common.SparklineSeries;
+import com.sysmatic2.finalbe.strategy.dto.SmScoreRankingResponseDto;
+import com.sysmatic2.finalbe.strategy.dto.SmScoreTop5SnapshotMetrics;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyLatestStatsEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면 SM-Score 상위 5개 전략 위젯의 스냅샷 관리 서비스.
+ *
+ * - 만들어 둔 스냅샷을 메모리에서 그대로 내려주고, 무효화된 경우에만 다시 만듭니다.
+ * - 무효화 시점: SM-Score 일괄 재계산, 상위 5개 전략의 변경(일간 통계, 공개/승인, 삭제 등), 상위 5개에 들어올 수 있는 전략의 변경,
+ *   상위 5개 전략 작성자의 닉네임·프로필 사진 변경, 날짜 변경(오늘 일손익률)
+ * - 다시 만드는 작업은 한 요청만 수행하고(single-flight), 그동안 다른 요청은 이전 스냅샷을 받습니다. (최초 생성 시에는 대기)
+ * - 스냅샷 생성 시간과 적중률을 지표로 제공합니다. ({@link #getMetrics()})
+ */
+@Service
+@RequiredArgsConstructor
+public class SmScoreTop5SnapshotService {
+    private static final int TOP_SIZE = 5;
+
+    private final StrategyRepository strategyRepository;
+    private final MemberRepository memberRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StrategyLatestStatsRepository strategyLatestStatsRepository;
+
+    private final AtomicLong version = new AtomicLong(); // 무효화할 때마다 증가
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    // 지표
+    private final AtomicLong hitCount = new AtomicLong();      // 최신 스냅샷 반환
+    private final AtomicLong staleHitCount = new AtomicLong(); // 다시 만드는 중 이전 스냅샷 반환
+    private final AtomicLong buildCount = new AtomicLong();    // 스냅샷 생성 횟수
+    private final AtomicLong totalBuildNanos = new AtomicLong();
+    private volatile long lastBuildNanos;
+
+    /**
+     * SM-Score 상위 5개 전략 목록을 반환합니다.
+     *
+     * @return 상위 5개 전략 목록(data), 스냅샷 버전(version), 생성 시각(builtAt), 조회 시각(timestamp)을 담은 Map
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTop5() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hitCount.incrementAndGet();
+            return toResponse(current);
+        }
+
+        // 다른 요청이 다시 만드는 중이면 이전 스냅샷 반환
+        if (current != null && !buildLock.tryLock()) {
+            staleHitCount.incrementAndGet();
+            return toResponse(current);
+        }
+        if (current == null) {
+            buildLock.lock();
+        }
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                hitCount.incrementAndGet();
+                return toResponse(current);
+            }
+            current = build();
+            snapshot = current;
+            return toResponse(current);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 무효화합니다. (SM-Score 일괄 재계산 후 호출)
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 전략 변경을 확인하여 위젯 결과가 바뀔 수 있으면 스냅샷을 무효화합니다.
+     * - 상위 5개에 포함된 전략이거나, 공개·승인 상태이면서 SM-Score가 5위 이상인 전략이면 무효화합니다.
+     *
+     * @param strategyId 변경된 전략 ID
+     * @param row        다시 읽은 전략 데이터 (DB에 없는 전략이면 null)
+     */
+    public void onStrategyChanged(Long strategyId, StrategySearchIndexRow row) {
+        Snapshot current = snapshot;
+        if (current == null || current.strategyIds.contains(strategyId) || current.strategyIds.size() < TOP_SIZE) {
+            invalidate();
+            return;
+        }
+        if (row != null && "Y".equals(row.getIsPosted()) && "Y".equals(row.getIsApproved())
+                && row.getSmScore() != null && row.getSmScore().compareTo(current.lowestSmScore) >= 0) {
+            invalidate();
+        }
+    }
+
+    /**
+     * 회원의 닉네임·프로필 사진 변경을 확인하여 상위 5개 전략 작성자이면 커밋 후 스냅샷을 무효화합니다.
+     * - 커밋 전에 무효화하면 그 사이 다시 만든 스냅샷이 변경 전 값을 담을 수 있으므로 커밋 후에 무효화합니다.
+     *
+     * @param memberId 변경된 회원 ID
+     */
+    public void onMemberChanged(String memberId) {
+        Snapshot current = snapshot;
+        if (current != null && !current.writerIds.contains(memberId)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    /**
+     * 스냅샷 지표 (생성 시간, 적중률)
+     */
+    public SmScoreTop5SnapshotMetrics getMetrics() {
+        long hits = hitCount.get();
+        long staleHits = staleHitCount.get();
+        long builds = buildCount.get();
+        long requests = hits + staleHits + builds;
+        Snapshot current = snapshot;
+
+        return new SmScoreTop5SnapshotMetrics(
+                requests,
+                hits,
+                staleHits,
+                builds,
+                requests == 0 ? 0d : (double) (hits + staleHits) / requests,
+                lastBuildNanos / 1_000_000d,
+                builds == 0 ? 0d : totalBuildNanos.get() / 1_000_000d / builds,
+                current == null ? null : current.version,
+                current == null ? null : current.builtAt,
+                Instant.now());
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null && current.version == version.get() && current.date.equals(LocalDate.now());
+    }
+
+    /**
+     * 스냅샷 생성 (전략 1회, 스냅샷 1회, 회원 1회, 오늘 일간 통계 1회 조회)
+     */
+    private Snapshot build() {
+        long buildVersion = version.get(); // 생성 도중 무효화되면 다음 요청에서 다시 생성
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+
+        // 1. 공개·승인 전략 중 SM-Score 상위 5개
+        List<StrategyEntity> strategies = strategyRepository.findByIsApprovedAndIsPosted("Y", "Y",
+                PageRequest.of(0, TOP_SIZE, Sort.by(Sort.Direction.DESC, "smScore"))).getContent();
+        List<Long> strategyIds = strategies.stream().map(StrategyEntity::getStrategyId).toList();
+
+        // 2. 누적 수익률 스파크라인, 작성자, 오늘 일손익률 일괄 조회
+        Map<Long, byte[]> sparklineMap = new HashMap<>();
+        for (StrategyLatestStatsEntity latestStats : strategyLatestStatsRepository.findAllById(strategyIds)) {
+            sparklineMap.put(latestStats.getStrategyId(), latestStats.getCumulativeProfitLossRateSparkline());
+        }
+        Map<String, MemberEntity> memberMap = memberRepository.findAllById(
+                        strategies.stream().map(StrategyEntity::getWriterId).distinct().toList()).stream()
+                .collect(Collectors.toMap(MemberEntity::getMemberId, Function.identity()));
+        Map<Long, BigDecimal> dailyPlRateMap = strategyIds.isEmpty() ? Map.of()
+                : dailyStatisticsRepository.findByStrategyIdsAndDate(strategyIds, today).stream()
+                .filter(daily -> daily.getDailyPlRate() != null)
+                .collect(Collectors.toMap(daily -> daily.getStrategyEntity().getStrategyId(),
+                        DailyStatisticsEntity::getDailyPlRate, (first, second) -> first));
+
+        // 3. DTO 생성
+        List<SmScoreRankingResponseDto> dtoList = strategies.stream().map(strategy -> {
+            MemberEntity member = memberMap.get(strategy.getWriterId());
+            if (member == null) {
+                throw new IllegalArgumentException("Member not found: " + strategy.getWriterId());
+            }
+            return new SmScoreRankingResponseDto(
+                    strategy.getStrategyId(),
+                    strategy.getStrategyTitle(),
+                    member.getProfilePath(),
+                    member.getNickname(),
+                    SparklineSeries.decodePoints(sparklineMap.get(strategy.getStrategyId())),
+                    dailyPlRateMap.getOrDefault(strategy.getStrategyId(), BigDecimal.ZERO)
+            );
+        }).collect(Collectors.toList());
+
+        BigDecimal lowestSmScore = strategies.isEmpty() || strategies.get(strategies.size() - 1).getSmScore() == null
+                ? BigDecimal.ZERO : strategies.get(strategies.size() - 1).getSmScore();
+
+        long elapsed = System.nanoTime() - start;
+        lastBuildNanos = elapsed;
+        totalBuildNanos.addAndGet(elapsed);
+        buildCount.incrementAndGet();
+
+        return new Snapshot(buildVersion, today, Instant.now(), List.copyOf(dtoList), Set.copyOf(strategyIds),
+                Set.copyOf(memberMap.keySet()), lowestSmScore);
+    }
+
+    private Map<String, Object> toResponse(Snapshot current) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", current.data);
+        response.put("version", current.version);
+        response.put("builtAt", current.builtAt);
+        response.put("timestamp", Instant.now());
+        return response;
+    }
+
+    /**
+     * 위젯 스냅샷
+     *
+     * @param version       생성 시작 시점의 무효화 버전
+     * @param date          생성 기준일 (오늘 일손익률)
+     * @param builtAt       생성 시각
+     * @param data          상위 5개 전략 DTO
+     * @param strategyIds   상위 5개 전략 ID
+     * @param writerIds     상위 5개 전략 작성자 ID
+     * @param lowestSmScore 5위 전략의 SM-Score
+     */
+    private record Snapshot(long version, LocalDate date, Instant builtAt, List<SmScoreRankingResponseDto> data,
+                            Set<Long> strategyIds, Set<String> writerIds, BigDecimal lowestSmScore) {
+    }
+}
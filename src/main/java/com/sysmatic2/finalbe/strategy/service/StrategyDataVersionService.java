@@ -0,0 +1,195 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.StrategyDataVersionDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전략별 데이터 버전 관리 서비스. (전략 조회 API의 ETag/Last-Modified 조건부 조회)
+ *
+ * - 전략, 일간 통계, 제안서, 리뷰를 변경하는 트랜잭션 안에서 전략의 data_version을 1 증가시키므로 변경과 함께 커밋/롤백됩니다.
+ * - 전략 상세에 함께 내려가는 작성자 닉네임·프로필 사진, 매매유형·매매주기·투자자산 분류 이름·아이콘이 바뀌면
+ *   해당 값을 쓰는 전략 전체의 data_version을 일괄 증가시킵니다.
+ * - 조회 API는 응답을 만들기 전에 버전을 확인하여, 클라이언트의 ETag/Last-Modified가 최신이면 304로 바로 응답합니다.
+ * - 버전은 인스턴스별 메모리에 짧게 보관하여 반복 조회는 DB를 거치지 않습니다. 이 인스턴스의 변경은 커밋 후 바로 반영하고,
+ *   다른 인스턴스의 변경은 보관 시간(cache-ttl-millis)이 지나면 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StrategyDataVersionService {
+    private final StrategyRepository strategyRepository;
+
+    @Value("${strategy.data-version.cache-ttl-millis:5000}")
+    private long cacheTtlMillis; // 버전 보관 시간
+
+    @Value("${strategy.data-version.max-entries:10000}")
+    private int maxEntries; // 최대 보관 전략 수 (초과 시 전체 비움)
+
+    private final Map<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 전략의 데이터 버전을 1 증가시킵니다. (변경 트랜잭션 안에서 호출)
+     * - 보관 중인 버전은 커밋 후 제거합니다. (트랜잭션 밖에서는 즉시 제거)
+     *
+     * @param strategyId 변경된 전략 ID
+     */
+    @Transactional
+    public void increment(Long strategyId) {
+        if (strategyId == null) {
+            return;
+        }
+        strategyRepository.incrementDataVersion(strategyId, LocalDateTime.now());
+        evictAfterCommit(() -> versions.remove(strategyId));
+    }
+
+    /**
+     * 작성자의 모든 전략의 데이터 버전을 1 증가시킵니다. (닉네임, 프로필 사진 변경 트랜잭션 안에서 호출)
+     *
+     * @param writerId 작성자 ID
+     */
+    @Transactional
+    public void incrementByWriter(String writerId) {
+        if (writerId == null) {
+            return;
+        }
+        strategyRepository.incrementDataVersionByWriterId(writerId, LocalDateTime.now());
+        evictAfterCommit(versions::clear);
+    }
+
+    /**
+     * 매매유형을 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다.
+     *
+     * @param tradingTypeId 매매유형 ID
+     */
+    @Transactional
+    public void incrementByTradingType(Integer tradingTypeId) {
+        strategyRepository.incrementDataVersionByTradingTypeId(tradingTypeId, LocalDateTime.now());
+        evictAfterCommit(versions::clear);
+    }
+
+    /**
+     * 매매주기를 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다.
+     *
+     * @param tradingCycleId 매매주기 ID
+     */
+    @Transactional
+    public void incrementByTradingCycle(Integer tradingCycleId) {
+        strategyRepository.incrementDataVersionByTradingCycleId(tradingCycleId, LocalDateTime.now());
+        evictAfterCommit(versions::clear);
+    }
+
+    /**
+     * 투자자산 분류를 사용하는 모든 전략의 데이터 버전을 1 증가시킵니다. (관계 데이터 삭제 전에 호출)
+     *
+     * @param investmentAssetClassesId 투자자산 분류 ID
+     */
+    @Transactional
+    public void incrementByInvestmentAssetClasses(Integer investmentAssetClassesId) {
+        strategyRepository.incrementDataVersionByInvestmentAssetClassesId(investmentAssetClassesId, LocalDateTime.now());
+        evictAfterCommit(versions::clear);
+    }
+
+    /**
+     * 전략의 현재 데이터 버전을 반환합니다.
+     *
+     * @param strategyId 전략 ID
+     * @return 데이터 버전 (전략이 없으면 null)
+     */
+    public StrategyDataVersionDto getVersion(Long strategyId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(strategyId);
+        if (cached != null && now - cached.loadedAt < cacheTtlMillis) {
+            return cached.version;
+        }
+
+        StrategyDataVersionDto version = strategyRepository.findDataVersionByStrategyId(strategyId).orElse(null);
+        if (version == null) {
+            versions.remove(strategyId);
+            return null;
+        }
+        if (versions.size() >= maxEntries && !versions.containsKey(strategyId)) {
+            versions.clear();
+        }
+        versions.put(strategyId, new CachedVersion(version, now));
+        return version;
+    }
+
+    /**
+     * 요청의 If-None-Match/If-Modified-Since를 전략의 현재 데이터 버전과 비교합니다.
+     * - 변경이 없으면 true를 반환하며, 응답은 304로 설정됩니다. (호출한 쪽은 본문 없이 바로 반환)
+     * - 변경이 있으면 응답에 ETag/Last-Modified를 설정하고 false를 반환합니다.
+     * - 전략이 없으면 false를 반환하여 기존 조회 흐름(예외 처리)을 따릅니다.
+     * - 브라우저가 응답을 보관하되 매번 재검증하도록 Cache-Control: private, no-cache를 설정합니다.
+     *   (설정하지 않으면 Spring Security 기본값 no-store가 적용되어 조건부 요청이 오지 않음)
+     *
+     * @param request    요청
+     * @param strategyId 전략 ID
+     * @param variant    같은 전략이라도 응답이 달라지는 조건 (예: 로그인 회원 ID, 없으면 null)
+     * @return 304 응답 여부
+     */
+    public boolean checkNotModified(WebRequest request, Long strategyId, String variant) {
+        StrategyDataVersionDto version = getVersion(strategyId);
+        if (version == null) {
+            return false;
+        }
+
+        if (request instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        String etag = eTag(version, variant);
+        if (version.getDataUpdatedAt() == null) {
+            return request.checkNotModified(etag);
+        }
+        long lastModified = version.getDataUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    /**
+     * 보관 중인 버전을 커밋 후 제거합니다. (트랜잭션 밖에서는 즉시 제거)
+     * - 여러 전략이 바뀌는 일괄 증가는 어떤 전략이 바뀌었는지 모르므로 전체를 비웁니다.
+     */
+    private void evictAfterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    /**
+     * 약한 ETag 생성 (W/"전략ID-버전[-조건 해시]")
+     * - 응답 본문의 조회 시각(timestamp)은 매번 달라지므로 약한 ETag를 사용합니다.
+     */
+    static String eTag(StrategyDataVersionDto version, String variant) {
+        StringBuilder eTag = new StringBuilder("W/\"")
+                .append(version.getStrategyId()).append('-').append(version.getDataVersion());
+        if (variant != null) {
+            eTag.append('-').append(Integer.toHexString(variant.hashCode()));
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * 보관 중인 버전과 조회 시각
+     */
+    private record CachedVersion(StrategyDataVersionDto version, long loadedAt) {
+    }
+}
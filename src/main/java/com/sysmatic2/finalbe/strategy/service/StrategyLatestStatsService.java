@@ -0,0 +1,192 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.SparklineSeries;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyLatestStatsEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 전략별 최신 일간 통계 스냅샷(strategy_latest_stats) 관리 서비스.
+ *
+ * - 일간 통계를 변경하는 쪽에서 같은 트랜잭션 안에 스냅샷을 갱신/삭제합니다.
+ * - 전략 목록/검색은 전략 ID 목록으로 스냅샷을 한 번에 조회합니다.
+ * - 목록 카드의 누적 수익률 그래프는 전체 이력 대신 고정 크기로 다운샘플링된 스파크라인({@link SparklineSeries})으로 내려줍니다.
+ * - 스냅샷이 바뀐 전략은 상세 검색 인덱스에 변경을 알립니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StrategyLatestStatsService {
+    private static final int BACKFILL_CHUNK_SIZE = 500; // 시작 시 스파크라인 생성에서 트랜잭션 1개로 처리할 전략 수
+
+    private final StrategyLatestStatsRepository strategyLatestStatsRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final StrategySearchIndexService strategySearchIndexService;
+    private final StrategyDataVersionService strategyDataVersionService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 전략 ID 목록의 최신 통계 스냅샷을 조회합니다.
+     *
+     * @param strategyIds 조회할 전략 ID 목록
+     * @return 전략 ID를 키로 하는 최신 통계 스냅샷 Map (일간 통계가 없는 전략은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, StrategyLatestStatsEntity> getLatestStatisticsMap(Collection<Long> strategyIds) {
+        return strategyLatestStatsRepository.findAllById(strategyIds).stream()
+                .collect(Collectors.toMap(StrategyLatestStatsEntity::getStrategyId, Function.identity()));
+    }
+
+    /**
+     * 전략 ID 목록의 누적 수익률 스파크라인을 조회합니다.
+     *
+     * @param strategyIds         전략 ID 목록
+     * @param latestStatisticsMap {@link #getLatestStatisticsMap(Collection)}로 조회한 스냅샷 Map
+     * @return 전략 ID를 키로 하는 다운샘플링된 누적 수익률 리스트 Map (일간 통계가 없는 전략은 빈 리스트)
+     */
+    public Map<Long, List<BigDecimal>> getSparklineMap(Collection<Long> strategyIds, Map<Long, StrategyLatestStatsEntity> latestStatisticsMap) {
+        Map<Long, List<BigDecimal>> sparklineMap = new HashMap<>();
+        for (Long strategyId : strategyIds) {
+            StrategyLatestStatsEntity snapshot = latestStatisticsMap.get(strategyId);
+            sparklineMap.put(strategyId, SparklineSeries.decodePoints(snapshot == null ? null : snapshot.getCumulativeProfitLossRateSparkline()));
+        }
+        return sparklineMap;
+    }
+
+    /**
+     * 가장 최근 일자 뒤에 일간 통계가 추가된 경우 스냅샷을 갱신합니다.
+     * - 스파크라인은 저장된 상태에 추가된 값만 이어 붙입니다. (스파크라인이 없으면 전체 이력으로 생성)
+     * - 스냅샷 행을 잠그고 읽으므로, 같은 전략의 동시 등록은 앞선 등록이 커밋한 스파크라인에 이어 붙입니다.
+     *
+     * @param strategyId 전략 ID
+     * @param latest     새로 추가된 가장 최근 일자의 일간 통계 데이터
+     */
+    @Transactional
+    public void appendLatestStatistics(Long strategyId, DailyStatisticsEntity latest) {
+        StrategyLatestStatsEntity snapshot = strategyLatestStatsRepository.findByIdForUpdate(strategyId).orElse(null);
+        if (snapshot == null || snapshot.getCumulativeProfitLossRateSparkline() == null) {
+            refreshLatestStatistics(strategyId, latest);
+            return;
+        }
+
+        SparklineSeries sparkline = SparklineSeries.decode(snapshot.getCumulativeProfitLossRateSparkline());
+        sparkline.append(latest.getCumulativeProfitLossRate());
+        snapshot.setCumulativeProfitLossRateSparkline(sparkline.encode());
+        snapshot.applyLatestStatistics(latest);
+        strategyLatestStatsRepository.save(snapshot);
+        strategyDataVersionService.increment(strategyId);
+        strategySearchIndexService.markChanged(strategyId);
+    }
+
+    /**
+     * 전략의 최신 통계 스냅샷을 갱신합니다. (없으면 생성)
+     * - 중간 일자의 등록/수정/삭제로 이후 누적 수익률이 바뀌므로 스파크라인은 전체 이력으로 다시 생성합니다.
+     *
+     * @param strategyId 전략 ID
+     * @param latest     가장 최근 일자의 일간 통계 데이터 (null이면 스냅샷 삭제)
+     */
+    @Transactional
+    public void refreshLatestStatistics(Long strategyId, DailyStatisticsEntity latest) {
+        if (latest == null) {
+            deleteLatestStatistics(strategyId);
+            return;
+        }
+
+        StrategyLatestStatsEntity snapshot = strategyLatestStatsRepository.findById(strategyId)
+                .orElseGet(() -> StrategyLatestStatsEntity.builder().strategyId(strategyId).build());
+        snapshot.applyLatestStatistics(latest);
+        snapshot.setCumulativeProfitLossRateSparkline(buildSparkline(strategyId));
+        strategyLatestStatsRepository.save(snapshot);
+        strategyDataVersionService.increment(strategyId);
+        strategySearchIndexService.markChanged(strategyId);
+    }
+
+    /**
+     * 전략의 최신 통계 스냅샷을 삭제합니다. (일간 통계 전체 삭제, 전략 삭제 시)
+     *
+     * @param strategyId 전략 ID
+     */
+    @Transactional
+    public void deleteLatestStatistics(Long strategyId) {
+        strategyLatestStatsRepository.deleteByStrategyId(strategyId);
+        strategyDataVersionService.increment(strategyId);
+        strategySearchIndexService.markChanged(strategyId);
+    }
+
+    /**
+     * 스냅샷이 없는 전략의 스냅샷과 스파크라인을 생성합니다.
+     * - 스냅샷 테이블 도입 이전에 등록된 일간 통계를 애플리케이션 시작 시 1회 반영합니다.
+     * - 이전 형식(int32 값, 큰 수익률이 잘려 저장됨)의 스파크라인도 전체 이력으로 다시 생성합니다.
+     * - 스파크라인은 BACKFILL_CHUNK_SIZE개 전략씩 트랜잭션을 나눠 생성하므로, 전략 수와 관계없이 조회 크기와 메모리 사용량이 일정합니다.
+     * - 스냅샷을 읽는 검색 인덱스 적재보다 먼저 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillMissingSnapshots() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Integer created = transactionTemplate.execute(status -> strategyLatestStatsRepository.insertMissingSnapshots());
+        if (created != null && created > 0) {
+            log.info("strategy_latest_stats backfilled: {} strategies", created);
+        }
+
+        // 스파크라인이 없거나 이전 형식인 전략을 전략 ID 순으로 나눠 처리 (묶음마다 트랜잭션 1개)
+        Long lastStrategyId = 0L;
+        while (lastStrategyId != null) {
+            long afterStrategyId = lastStrategyId;
+            lastStrategyId = transactionTemplate.execute(status -> backfillSparklineChunk(afterStrategyId));
+        }
+    }
+
+    /**
+     * 전략 ID가 afterStrategyId보다 큰 전략 중 스파크라인이 없거나 이전 형식인 전략을 최대 BACKFILL_CHUNK_SIZE개 생성합니다.
+     * - 묶음의 누적 수익률 이력은 전략별로 조회하지 않고 한 번에 조회합니다.
+     *
+     * @param afterStrategyId 이전 묶음의 마지막 전략 ID
+     * @return 이번 묶음의 마지막 전략 ID (남은 전략이 없으면 null)
+     */
+    private Long backfillSparklineChunk(long afterStrategyId) {
+        List<StrategyLatestStatsEntity> withoutSparkline =
+                strategyLatestStatsRepository.findSnapshotsWithoutCurrentSparkline(afterStrategyId, BACKFILL_CHUNK_SIZE);
+        if (withoutSparkline.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, long[]> seriesMap = dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(
+                withoutSparkline.stream().map(StrategyLatestStatsEntity::getStrategyId).toList());
+        withoutSparkline.forEach(snapshot ->
+                snapshot.setCumulativeProfitLossRateSparkline(SparklineSeries.of(seriesMap.get(snapshot.getStrategyId())).encode()));
+        strategyLatestStatsRepository.saveAll(withoutSparkline);
+
+        return withoutSparkline.size() < BACKFILL_CHUNK_SIZE
+                ? null
+                : withoutSparkline.get(withoutSparkline.size() - 1).getStrategyId();
+    }
+
+    /**
+     * 전략의 누적 수익률 전체 이력으로 스파크라인을 생성합니다.
+     */
+    private byte[] buildSparkline(Long strategyId) {
+        long[] series = dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(List.of(strategyId)).get(strategyId);
+        return SparklineSeries.of(series).encode();
+    }
+}
@@ -24,6 +24,7 @@ public class StrategyProposalService {
     private final StrategyRepository strategyRepository;
     private final FileMetadataRepository fileMetadataRepository;
     private final ProposalService proposalService;
+    private final StrategyDataVersionService strategyDataVersionService;
 
     /**
      * 제안서 DB 등록
@@ -76,6 +77,7 @@ public class StrategyProposalService {
             // 5. 메타데이터 업데이트 (파일 메타데이터에 전략 ID 저장)
             proposalMetadataDto.setFileCategoryItemId(strategy.getStrategyId().toString());
             fileMetadataRepository.save(FileMetadataDto.toEntity(proposalMetadataDto));
+            strategyDataVersionService.increment(strategyId); // 전략 상세 데이터 버전 증가
 
             // 6. 저장된 엔티티를 DTO로 변환하여 반환
             return StrategyProposalDto.fromEntity(savedEntity);
@@ -126,6 +128,7 @@ public class StrategyProposalService {
             // 8. 메타데이터 업데이트 (파일 메타데이터에 전략 ID 저장)
             proposalMetadataDto.setFileCategoryItemId(strategy.getStrategyId().toString());
             fileMetadataRepository.save(FileMetadataDto.toEntity(proposalMetadataDto));
+            strategyDataVersionService.increment(strategyId); // 전략 상세 데이터 버전 증가
 
             // 9. 저장된 엔티티를 DTO로 변환하여 반환
             return StrategyProposalDto.fromEntity(savedEntity);
@@ -156,6 +159,7 @@ public class StrategyProposalService {
 
                     // S3와 metadata 삭제
                     proposalService.deleteProposal(filePath, writerId);
+                    strategyDataVersionService.increment(strategyId); // 전략 상세 데이터 버전 증가
                 });
 
     }
@@ -34,6 +34,7 @@ public class StrategyReviewService {
     private final StrategyReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategyDataVersionService strategyDataVersionService;
 
     /**
      * 1. 리뷰 생성
@@ -62,6 +63,7 @@ public class StrategyReviewService {
         } catch (Exception e) {
             throw new StrategyReviewFailedException("Failed to create the strategy review due to unexpected error.", e);
         }
+        strategyDataVersionService.increment(strategyId); // 전략 데이터 버전 증가
 
         return StrategyReviewDto.fromEntity(savedReview);
     }
@@ -126,6 +128,7 @@ public class StrategyReviewService {
         review.setContent(updatedContent);
         review.setUpdatedAt(LocalDateTime.now());
         review.setModifiedAt(LocalDateTime.now());
+        strategyDataVersionService.increment(strategyId); // 전략 데이터 버전 증가
 
         try {
             // 저장 및 DTO 변환
@@ -143,7 +146,7 @@ public class StrategyReviewService {
     public void deleteReview(Long strategyId, Long reviewId, String memberId, Boolean isAdmin, Boolean isTrader) {
         StrategyReviewEntity review = reviewRepository.findByIdAndStrategyId(strategyId, reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found with ID: " + reviewId + " and Strategy ID: " + strategyId));
-
+        strategyDataVersionService.increment(strategyId); // 전략 데이터 버전 증가 (권한이 없으면 롤백)
 
         //관리자인 경우 삭제 허용
         if(isAdmin){
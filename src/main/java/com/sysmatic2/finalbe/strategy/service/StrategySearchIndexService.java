@@ -0,0 +1,313 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.common.ListingCountCache;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
+import com.sysmatic2.finalbe.strategy.common.StrategySearchIndex;
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상세 검색용 인메모리 전략 인덱스({@link StrategySearchIndex}) 관리 서비스.
+ *
+ * - 애플리케이션 시작 시 전체 전략으로 인덱스를 적재하고, 이후에는 변경된 전략만 다시 읽어 반영합니다.
+ * - 트랜잭션 안의 변경은 커밋된 뒤에 반영하므로 롤백된 변경은 인덱스에 들어가지 않습니다.
+ * - 인덱스는 인스턴스별 메모리에 있으므로 다른 인스턴스의 변경이나 관리자 기능의 일괄 변경은 주기적인 전체 재적재로 맞춥니다.
+ *   전체 재적재 중에 반영된 변경 중 재적재보다 나중에 읽은 것은 교체 후 다시 반영하므로 최신 값이 유지됩니다.
+ * - 기간 검색은 인덱스로 처리할 수 없으므로 기존 DB 검색을 사용합니다.
+ * - 변경을 반영할 때 DB 목록 조회의 전체 개수 캐시({@link ListingCountCache})도 함께 무효화합니다. (SM-SCORE만 바뀐 경우 제외)
+ * - 다시 읽은 전략 데이터는 홈 화면 상위 5개 위젯({@link SmScoreTop5SnapshotService})에도 전달합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StrategySearchIndexService {
+    private final StrategyRepository strategyRepository;
+    private final ListingCountCache listingCountCache;
+    private final SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+
+    private final StrategySearchIndex index = new StrategySearchIndex();
+    private volatile boolean ready = false; // 최초 적재 완료 여부
+    private final Object readSequenceLock = new Object();
+    private long readSequence = 0;                        // DB 읽기 순서 (전체 재적재와 변경 반영의 선후 비교)
+    private volatile RebuildInProgress rebuildInProgress; // 진행 중인 전체 재적재 (없으면 null)
+
+    /**
+     * 전체 전략으로 인덱스를 다시 적재합니다.
+     * - 최신 일간 통계 스냅샷 백필 이후에 실행되도록 가장 마지막 순서로 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        int size = rebuildAll();
+        log.info("strategy search index loaded: {} strategies", size);
+    }
+
+    /**
+     * 주기적으로 전체 재적재하여 다른 인스턴스나 반영 대상이 아닌 경로의 변경을 맞춥니다.
+     */
+    @Scheduled(initialDelayString = "${strategy.search-index.rebuild-interval-millis:600000}",
+            fixedDelayString = "${strategy.search-index.rebuild-interval-millis:600000}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    /**
+     * 인덱스로 처리할 수 있는 검색인지 확인합니다.
+     *
+     * @param searchOptions 필터링 옵션 객체
+     * @return 인덱스 적재가 끝났고 기간 검색이 아니면 true
+     */
+    public boolean supports(SearchOptionsDto searchOptions) {
+        return ready && (searchOptions.getStartDate() == null || searchOptions.getEndDate() == null);
+    }
+
+    /**
+     * 인덱스로 전략을 검색하고, 현재 페이지의 전략만 조회합니다.
+     *
+     * @param searchOptions 필터링 옵션 객체 (기간 검색 제외)
+     * @param pageable      페이징 정보
+     * @return SM-Score 내림차순 전략 엔티티 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<StrategyEntity> search(SearchOptionsDto searchOptions, Pageable pageable) {
+        StrategySearchIndex.SearchResult result = index.search(searchOptions, pageable.getOffset(), pageable.getPageSize());
+
+        List<StrategyEntity> strategies = findAllInOrder(Arrays.stream(result.strategyIds()).boxed().toList());
+        return new PageImpl<>(strategies, pageable, result.totalCount());
+    }
+
+    /**
+     * 인덱스로 커서 다음 위치부터 전략을 검색하고, 해당 전략만 조회합니다. (무한 스크롤)
+     *
+     * @param searchOptions 필터링 옵션 객체 (기간 검색 제외)
+     * @param cursor        마지막으로 받은 전략 위치 (null이면 처음부터)
+     * @param limit         조회할 최대 전략 수
+     * @return SM-Score 내림차순, 전략 ID 오름차순 전략 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StrategyEntity> searchAfter(SearchOptionsDto searchOptions, StrategyCursor cursor, int limit) {
+        return findAllInOrder(Arrays.stream(index.searchAfter(searchOptions, cursor, limit)).boxed().toList());
+    }
+
+    /**
+     * 전략이 변경되었음을 표시합니다. (전략 등록/수정/삭제, 승인, 팔로워 수, 최신 일간 통계 변경)
+     * - 트랜잭션 안에서는 커밋 후 1회, 트랜잭션 밖에서는 즉시 해당 전략을 다시 읽어 반영합니다.
+     *
+     * @param strategyId 변경된 전략 ID
+     */
+    public void markChanged(Long strategyId) {
+        if (strategyId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(List.of(strategyId));
+            return;
+        }
+
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRefresh();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new RefreshAfterCommit(pending));
+        }
+        pending.strategyIds.add(strategyId);
+    }
+
+    /**
+     * 일괄 재계산된 SM-SCORE를 반영합니다. (트랜잭션 안에서는 커밋 후 반영)
+     *
+     * @param strategyIds 전략 ID 배열
+     * @param smScores    strategyIds와 같은 순서의 SM-SCORE 배열
+     * @param size        배열에서 사용할 데이터 개수
+     */
+    public void applySmScores(long[] strategyIds, BigDecimal[] smScores, int size) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applySmScoresNow(strategyIds, smScores, size);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applySmScoresNow(strategyIds, smScores, size);
+            }
+        });
+    }
+
+    /**
+     * 전체 전략을 다시 읽어 인덱스를 교체합니다.
+     * - 읽기 시작 이후에 반영된 변경은 교체로 덮어써질 수 있으므로, 교체 후 읽은 순서대로 다시 반영합니다.
+     *
+     * @return 적재한 전략 수
+     */
+    private synchronized int rebuildAll() {
+        RebuildInProgress rebuild;
+        synchronized (readSequenceLock) {
+            readSequence++;
+            rebuild = new RebuildInProgress();
+            rebuildInProgress = rebuild;
+        }
+        List<StrategySearchIndexRow> rows;
+        try {
+            rows = strategyRepository.findSearchIndexRows(null);
+            index.rebuild(rows);
+        } finally {
+            rebuildInProgress = null;
+        }
+        rebuild.replayNewerChanges();
+
+        smScoreTop5SnapshotService.invalidate();
+        listingCountCache.invalidate(ListingCountCache.STRATEGIES);
+        ready = true;
+        return rows.size();
+    }
+
+    /**
+     * 일괄 재계산된 SM-SCORE를 바로 반영합니다. (커밋 이후 호출)
+     * - 목록 개수는 SM-SCORE와 관계없으므로 전체 개수 캐시는 무효화하지 않고, 순위가 바뀌는 상위 5개 위젯만 무효화합니다.
+     */
+    private void applySmScoresNow(long[] strategyIds, BigDecimal[] smScores, int size) {
+        recordDuringRebuild(() -> index.updateSmScores(strategyIds, smScores, size));
+        index.updateSmScores(strategyIds, smScores, size);
+        smScoreTop5SnapshotService.invalidate();
+    }
+
+    /**
+     * 전체 재적재가 진행 중이면 변경을 기록해 교체 후 다시 반영되도록 합니다.
+     * - 변경할 데이터를 DB에서 읽기 전에 호출하고, 반환된 함수는 인덱스에 반영하기 전에 호출합니다.
+     *   (재적재가 읽기 시작한 뒤에 읽은 변경만 기록)
+     *
+     * @return 반영할 변경을 받아 기록하는 함수
+     */
+    private Consumer<Runnable> startRead() {
+        long sequence;
+        RebuildInProgress rebuild;
+        synchronized (readSequenceLock) {
+            sequence = ++readSequence;
+            rebuild = rebuildInProgress;
+        }
+        if (rebuild == null) {
+            return change -> { };
+        }
+        return change -> rebuild.changes.add(new RecordedChange(sequence, change));
+    }
+
+    private void recordDuringRebuild(Runnable change) {
+        startRead().accept(change);
+    }
+
+    /**
+     * 전략 ID 순서대로 전략을 조회합니다. (인덱스 검색 직후 삭제된 전략은 제외)
+     */
+    private List<StrategyEntity> findAllInOrder(List<Long> strategyIds) {
+        Map<Long, StrategyEntity> strategyMap = strategyRepository.findAllById(strategyIds).stream()
+                .collect(Collectors.toMap(StrategyEntity::getStrategyId, Function.identity()));
+        return strategyIds.stream()
+                .map(strategyMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 전략을 다시 읽어 인덱스에 반영합니다. (DB에 없는 전략은 인덱스에서 제거)
+     */
+    private void refresh(Collection<Long> strategyIds) {
+        // 공개/승인, 분류, 최신 통계가 바뀌었을 수 있으므로 전략 목록 개수를 먼저 무효화
+        listingCountCache.invalidate(ListingCountCache.STRATEGIES);
+
+        List<Long> ids = List.copyOf(strategyIds);
+        Consumer<Runnable> recordDuringRebuild = startRead();
+        Map<Long, StrategySearchIndexRow> rowMap = strategyRepository.findSearchIndexRows(ids).stream()
+                .collect(Collectors.toMap(StrategySearchIndexRow::getStrategyId, Function.identity()));
+        recordDuringRebuild.accept(() -> apply(ids, rowMap));
+        apply(ids, rowMap);
+    }
+
+    /**
+     * 다시 읽은 전략을 인덱스, 상위 5개 위젯에 반영합니다.
+     */
+    private void apply(List<Long> strategyIds, Map<Long, StrategySearchIndexRow> rowMap) {
+        for (Long strategyId : strategyIds) {
+            StrategySearchIndexRow row = rowMap.get(strategyId);
+            if (row == null) {
+                index.remove(strategyId);
+            } else {
+                index.upsert(row);
+            }
+            smScoreTop5SnapshotService.onStrategyChanged(strategyId, row);
+        }
+    }
+
+    /**
+     * 진행 중인 전체 재적재 (재적재가 읽기 순서를 받은 뒤에 읽기 순서를 받은 변경만 기록됨)
+     */
+    private static class RebuildInProgress {
+        private final Queue<RecordedChange> changes = new ConcurrentLinkedQueue<>(); // 재적재보다 나중에 읽은 변경
+
+        private void replayNewerChanges() {
+            changes.stream()
+                    .sorted(Comparator.comparingLong(RecordedChange::sequence))
+                    .forEach(change -> change.change().run());
+        }
+    }
+
+    private record RecordedChange(long sequence, Runnable change) {
+    }
+
+    /**
+     * 트랜잭션별 반영 대기 전략 ID
+     */
+    private static class PendingRefresh {
+        private final Set<Long> strategyIds = new LinkedHashSet<>();
+    }
+
+    /**
+     * 커밋 후 대기 중인 전략을 반영하고, 트랜잭션 종료 시 상태를 정리합니다.
+     */
+    private class RefreshAfterCommit implements TransactionSynchronization {
+        private final PendingRefresh pendingRefresh;
+
+        private RefreshAfterCommit(PendingRefresh pendingRefresh) {
+            this.pendingRefresh = pendingRefresh;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                refresh(pendingRefresh.strategyIds);
+            } catch (RuntimeException e) {
+                // 커밋은 이미 끝났으므로 요청은 실패시키지 않고, 주기적인 전체 재적재에서 맞춥니다.
+                log.error("strategy search index refresh failed: {}", pendingRefresh.strategyIds, e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StrategySearchIndexService.this);
+        }
+    }
+}
@@ -12,6 +12,9 @@ import com.sysmatic2.finalbe.exception.*;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
 import com.sysmatic2.finalbe.member.service.FollowingStrategyService;
+import com.sysmatic2.finalbe.member.service.TraderStatsService;
+import com.sysmatic2.finalbe.strategy.common.LttbDownsampler;
+import com.sysmatic2.finalbe.strategy.common.StrategyCursor;
 import com.sysmatic2.finalbe.strategy.dto.*;
 import com.sysmatic2.finalbe.admin.entity.InvestmentAssetClassesEntity;
 import com.sysmatic2.finalbe.strategy.entity.*;
@@ -19,6 +22,7 @@ import com.sysmatic2.finalbe.admin.entity.TradingTypeEntity;
 import com.sysmatic2.finalbe.admin.repository.InvestmentAssetClassesRepository;
 import com.sysmatic2.finalbe.strategy.repository.*;
 import com.sysmatic2.finalbe.admin.repository.TradingTypeRepository;
+import com.sysmatic2.finalbe.util.CreateCursorResponse;
 import com.sysmatic2.finalbe.util.ParseCsvToList;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +67,11 @@ public class StrategyService {
     private final FollowingStrategyService followingStrategyService;
     private final MonthlyStatisticsService monthlyStatisticsService;
     private final DailyStatisticsService dailyStatisticsService;
+    private final StrategyLatestStatsService strategyLatestStatsService;
+    private final StrategySearchIndexService strategySearchIndexService;
+    private final SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+    private final TraderStatsService traderStatsService;
+    private final StrategyDataVersionService strategyDataVersionService;
     private final StrategyApprovalRequestsService strategyApprovalRequestsService;
     private final MonthlyStatisticsRepository monthlyStatisticsRepository;
 
@@ -154,6 +163,7 @@ public class StrategyService {
 
         //save() - 저장후 저장한 엔티티 바로 가져옴
         StrategyEntity createdEntity = strategyRepo.save(strategyEntity);
+        strategySearchIndexService.markChanged(createdEntity.getStrategyId());
 
         //2. 전략 - 투자자산 분류 관계 데이터 등록
         for(InvestmentAssetClassesEntity iacEntity : iacEntities) {
@@ -232,20 +242,10 @@ public class StrategyService {
 
         // 4. 최신 일간 통계 데이터 가져오기
         // 각 전략 ID에 해당하는 최신 일간 통계 데이터를 조회하여 Map으로 변환
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(), // 키: 전략 ID
-                        stat -> stat // 값: DailyStatisticsEntity
-                ));
-
-        // 5. 누적 수익률 데이터 조회
-        // 각 전략 ID에 대해 누적 수익률 데이터를 날짜 오름차순으로 조회하여 Map으로 변환
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 키: 전략 ID
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 값: 누적 수익률 리스트
-                ));
+        Map<Long, StrategyLatestStatsEntity> latestStatisticsMap = strategyLatestStatsService.getLatestStatisticsMap(strategyIds);
+
+        // 5. 누적 수익률 스파크라인 가져오기 (고정 크기로 다운샘플링된 데이터)
+        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyLatestStatsService.getSparklineMap(strategyIds, latestStatisticsMap);
 
         // 6. DTO 생성
         List<AdvancedSearchResultDto> dtoList = findStrategyList.stream()
@@ -268,7 +268,7 @@ public class StrategyService {
                     );
 
                     // 최신 일간 통계 데이터 삽입
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
+                    StrategyLatestStatsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
                     if (latestStatistics != null) {
                         dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate()); // 누적손익률
                         dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());           // 최근 1년 손익률
@@ -302,7 +302,98 @@ public class StrategyService {
         //페이지 객체 생성
         Pageable pageable = PageRequest.of(page, pageSize);
 
-        // 2. 문자열을 리스트로 변환 (필터 조건 처리)
+        // 2~3. 필터 DTO 생성 및 설정
+        SearchOptionsDto searchOptionsDto = toSearchOptionsDto(searchOptionsPayload);
+
+        // 4. Repository 호출로 필터링된 전략 페이지 가져오기
+        //2)필터객체, 페이지 객체넣고 db에서 데이터 가져오기
+        //  기간 검색이 아니면 인메모리 검색 인덱스, 기간 검색이면 DB에서 조회
+        Page<StrategyEntity> findStrategyPage = strategySearchIndexService.supports(searchOptionsDto)
+                ? strategySearchIndexService.search(searchOptionsDto, pageable)
+                : strategyRepo.findStrategiesByDetailSearchOptions(searchOptionsDto, pageable);
+
+        // 5~8. 최신 일간 통계, 누적 수익률 스파크라인을 포함한 DTO 생성
+        List<AdvancedSearchResultDto> dtoList = toAdvancedSearchResultDtos(findStrategyPage.getContent());
+
+        // 9. DTO 리스트를 페이지 객체로 변환
+        Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyPage.getTotalElements());
+
+        // 10. 페이지 응답 생성 및 반환
+        return createPageResponse(dtoPage);
+    }
+
+    /**
+     * 2-1-1. 필터 조건에 따라 전략 목록을 커서 다음부터 반환 (무한 스크롤) - 랭킹
+     * - offset 대신 마지막으로 받은 전략의 (SM-Score, 전략 ID) 다음부터 조회하므로 깊은 페이지도 조회 비용이 같습니다.
+     * - 전체 개수는 조회하지 않고, 다음 데이터 여부(hasNext)와 다음 커서(nextCursor)만 내려줍니다.
+     *
+     * @param tradingCycleId           투자주기 ID (nullable)
+     * @param investmentAssetClassesId 투자자산 분류 ID (nullable)
+     * @param cursor                   이전 응답의 nextCursor (없으면 처음부터)
+     * @param pageSize                 조회할 데이터 개수
+     * @return 전략 목록, 다음 커서를 포함한 Map 객체
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStrategiesByCursor(Integer tradingCycleId, Integer investmentAssetClassesId, String cursor, int pageSize) {
+        // 1. 다음 데이터 여부 확인을 위해 1개 더 조회
+        List<StrategyEntity> strategyEntities = strategyRepo.findStrategiesByFiltersAfter(
+                tradingCycleId, investmentAssetClassesId, StrategyCursor.decode(cursor), pageSize + 1);
+
+        // 2. 커서 응답 생성
+        return createCursorResponse(strategyEntities, pageSize);
+    }
+
+    /**
+     * 2-2-1. 상세 필터를 적용한 전략 목록을 커서 다음부터 반환 (무한 스크롤)
+     * - 기간 검색이 아니면 인메모리 검색 인덱스, 기간 검색이면 DB에서 조회합니다.
+     *
+     * @param searchOptionsPayload 필터 객체 (검색 조건을 포함한 DTO)
+     * @param cursor               이전 응답의 nextCursor (없으면 처음부터)
+     * @param pageSize             조회할 데이터 개수
+     * @return 전략 목록, 다음 커서를 포함한 Map 객체
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> advancedSearchByCursor(@Valid SearchOptionsPayloadDto searchOptionsPayload, String cursor, int pageSize) {
+        // 1. 필터 DTO 생성
+        SearchOptionsDto searchOptionsDto = toSearchOptionsDto(searchOptionsPayload);
+        StrategyCursor strategyCursor = StrategyCursor.decode(cursor);
+
+        // 2. 다음 데이터 여부 확인을 위해 1개 더 조회
+        List<StrategyEntity> strategyEntities = strategySearchIndexService.supports(searchOptionsDto)
+                ? strategySearchIndexService.searchAfter(searchOptionsDto, strategyCursor, pageSize + 1)
+                : strategyRepo.findStrategiesByDetailSearchOptionsAfter(searchOptionsDto, strategyCursor, pageSize + 1);
+
+        // 3. 커서 응답 생성
+        return createCursorResponse(strategyEntities, pageSize);
+    }
+
+    /**
+     * 1개 더 조회한 전략 목록으로 커서 응답을 생성합니다.
+     *
+     * @param strategyEntities pageSize + 1개까지 조회한 전략 목록
+     * @param pageSize         내려줄 데이터 개수
+     * @return 전략 DTO 목록, 다음 데이터 여부, 다음 커서를 포함한 Map 객체
+     */
+    private Map<String, Object> createCursorResponse(List<StrategyEntity> strategyEntities, int pageSize) {
+        boolean hasNext = strategyEntities.size() > pageSize;
+        List<StrategyEntity> content = hasNext ? strategyEntities.subList(0, pageSize) : strategyEntities;
+
+        String nextCursor = null;
+        if (hasNext) {
+            StrategyEntity last = content.get(content.size() - 1);
+            nextCursor = new StrategyCursor(last.getSmScore(), last.getStrategyId()).encode();
+        }
+        return CreateCursorResponse.createCursorResponse(toAdvancedSearchResultDtos(content), pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * 상세 검색 요청 DTO를 Repository 전달용 필터 DTO로 변환합니다.
+     *
+     * @param searchOptionsPayload 필터 객체 (검색 조건을 포함한 DTO)
+     * @return Repository 전달용 필터 DTO
+     */
+    private SearchOptionsDto toSearchOptionsDto(SearchOptionsPayloadDto searchOptionsPayload) {
+        // 1. 문자열을 리스트로 변환 (필터 조건 처리)
         //투자자산 분류 id 리스트
         List<Integer> iacIds = ParseCsvToList.parseCsvToIntegerList(searchOptionsPayload.getInvestmentAssetClassesIdList());
         //전략 운용코드 리스트
@@ -316,7 +407,7 @@ public class StrategyService {
         //수익률 리스트
         List<Integer> returnRates = ParseCsvToList.parseCsvToIntegerList(searchOptionsPayload.getReturnRateList());
 
-        // 3. 필터 DTO 생성 및 설정
+        // 2. 필터 DTO 생성 및 설정
         //Repository 전달용 dto생성
         SearchOptionsDto searchOptionsDto = new SearchOptionsDto();
         //전달용 dto에 값 넣기
@@ -336,34 +427,29 @@ public class StrategyService {
         searchOptionsDto.setEndDate(searchOptionsPayload.getEndDate());
         searchOptionsDto.setReturnRateList(returnRates);
         searchOptionsDto.setKeyword(searchOptionsPayload.getKeyword());
+        return searchOptionsDto;
+    }
 
-        // 4. Repository 호출로 필터링된 전략 페이지 가져오기
-        //2)필터객체, 페이지 객체넣고 db에서 데이터 가져오기
-        Page<StrategyEntity> findStrategyPage = strategyRepo.findStrategiesByDetailSearchOptions(searchOptionsDto, pageable);
-
-        //전략 페이지로 일간 데이터들 중 제일 최신값 가져오기
-        // 5. 전략 ID 리스트 생성
-        List<Long> strategyIds = findStrategyPage.stream()
+    /**
+     * 전략 목록을 최신 일간 통계와 누적 수익률 스파크라인을 포함한 목록 DTO로 변환합니다.
+     *
+     * @param strategyEntities 전략 목록
+     * @return 전략 목록 DTO 리스트 (전략 목록과 같은 순서)
+     */
+    private List<AdvancedSearchResultDto> toAdvancedSearchResultDtos(List<StrategyEntity> strategyEntities) {
+        // 1. 전략 ID 리스트 생성
+        List<Long> strategyIds = strategyEntities.stream()
                 .map(StrategyEntity::getStrategyId)
                 .collect(Collectors.toList());
 
-        // 6. 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        // 7. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
-
-        // 8. DTO 생성
-        List<AdvancedSearchResultDto> dtoList = findStrategyPage.stream()
+        // 2. 각 전략의 최신 일간 통계 데이터 가져오기
+        Map<Long, StrategyLatestStatsEntity> latestStatisticsMap = strategyLatestStatsService.getLatestStatisticsMap(strategyIds);
+
+        // 3. 누적 수익률 스파크라인 가져오기 (고정 크기로 다운샘플링된 데이터)
+        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyLatestStatsService.getSparklineMap(strategyIds, latestStatisticsMap);
+
+        // 4. DTO 생성
+        return strategyEntities.stream()
                 .map(strategyEntity -> {
                     AdvancedSearchResultDto dto = new AdvancedSearchResultDto(
                             strategyEntity.getStrategyId(),                                // 전략 ID
@@ -382,7 +468,7 @@ public class StrategyService {
                     );
 
                     // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
+                    StrategyLatestStatsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
                     if (latestStatistics != null) {
                         dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
                         dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
@@ -395,12 +481,6 @@ public class StrategyService {
 
                     return dto;
                 }).collect(Collectors.toList());
-
-        // 9. DTO 리스트를 페이지 객체로 변환
-        Page<AdvancedSearchResultDto> dtoPage = new PageImpl<>(dtoList, pageable, findStrategyPage.getTotalElements());
-
-        // 10. 페이지 응답 생성 및 반환
-        return createPageResponse(dtoPage);
     }
 
     /**
@@ -438,19 +518,10 @@ public class StrategyService {
                 .collect(Collectors.toList());
 
         //5) 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        //6) 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
+        Map<Long, StrategyLatestStatsEntity> latestStatisticsMap = strategyLatestStatsService.getLatestStatisticsMap(strategyIds);
+
+        //6) 누적 수익률 스파크라인 가져오기 (고정 크기로 다운샘플링된 데이터)
+        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyLatestStatsService.getSparklineMap(strategyIds, latestStatisticsMap);
 
         //7) DTO 생성
         List<AdvancedSearchResultDto> dtoList = traderStrategyPage.stream()
@@ -472,7 +543,7 @@ public class StrategyService {
                     );
 
                     // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
+                    StrategyLatestStatsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
                     if (latestStatistics != null) {
                         dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
                         dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
@@ -508,7 +579,12 @@ public class StrategyService {
         Pageable pageable = PageRequest.of(page, pageSize);
 
         //2. 키워드 검색으로 전략 페이지 가져오기 - isPosted = Y, isApproved = Y
-        Page<StrategyEntity> findStrategyPage = strategyRepo.searchByKeyword(keyword, "Y", "Y", pageable);
+        //   인메모리 검색 인덱스(전략명 N-gram 색인)가 준비되었으면 인덱스, 아니면 DB(LIKE)에서 조회
+        SearchOptionsDto keywordOptions = new SearchOptionsDto();
+        keywordOptions.setKeyword(keyword);
+        Page<StrategyEntity> findStrategyPage = keyword != null && strategySearchIndexService.supports(keywordOptions)
+                ? strategySearchIndexService.search(keywordOptions, pageable)
+                : strategyRepo.searchByKeyword(keyword, "Y", "Y", pageable);
 
         //전략 페이지로 일간 데이터들 중 제일 최신값 가져오기
         // 3. 전략 ID 리스트 생성
@@ -517,19 +593,10 @@ public class StrategyService {
                 .collect(Collectors.toList());
 
         // 4. 각 전략의 최신 일간 통계 데이터 가져오기
-        List<DailyStatisticsEntity> latestStatisticsList = dailyStatisticsRepository.findLatestStatisticsByStrategyIds(strategyIds);
-        Map<Long, DailyStatisticsEntity> latestStatisticsMap = latestStatisticsList.stream()
-                .collect(Collectors.toMap(
-                        stat -> stat.getStrategyEntity().getStrategyId(),
-                        stat -> stat
-                ));
-
-        // 5. 누적 수익률 데이터 가져오기 (날짜 오름차순)
-        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyIds.stream()
-                .collect(Collectors.toMap(
-                        strategyId -> strategyId, // 전략 ID를 키로 사용
-                        strategyId -> dailyStatisticsRepository.findCumulativeProfitLossRateByStrategyIdOrderByDate(strategyId) // 누적 수익률 리스트
-                ));
+        Map<Long, StrategyLatestStatsEntity> latestStatisticsMap = strategyLatestStatsService.getLatestStatisticsMap(strategyIds);
+
+        // 5. 누적 수익률 스파크라인 가져오기 (고정 크기로 다운샘플링된 데이터)
+        Map<Long, List<BigDecimal>> cumulativeProfitLossRateMap = strategyLatestStatsService.getSparklineMap(strategyIds, latestStatisticsMap);
 
         // 6. DTO 생성
         List<AdvancedSearchResultDto> dtoList = findStrategyPage.stream()
@@ -551,7 +618,7 @@ public class StrategyService {
                     );
 
                     // 최신 일간 통계 데이터 추가
-                    DailyStatisticsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
+                    StrategyLatestStatsEntity latestStatistics = latestStatisticsMap.get(strategyEntity.getStrategyId());
                     if (latestStatistics != null) {
                         dto.setCumulativeProfitLossRate(latestStatistics.getCumulativeProfitLossRate());
                         dto.setRecentOneYearReturn(latestStatistics.getRecentOneYearReturn());
@@ -743,6 +810,7 @@ public class StrategyService {
         //11. 전략 일간분석 데이터 삭제
         // DailyStatisticsEntity에서 해당 전략의 데이터를 모두 삭제
         dailyStatisticsRepository.deleteAllByStrategyId(strategyEntity.getStrategyId());
+        strategyLatestStatsService.deleteLatestStatistics(strategyEntity.getStrategyId());
 
         //12. 관심전략 삭제
         followingStrategyService.deleteFollowingStrategiesByStrategy(strategyEntity);
@@ -752,6 +820,8 @@ public class StrategyService {
 
         //13. 해당 전략을 삭제한다. - 관계 테이블도 함께 삭제됨
         strategyRepo.deleteById(strategyEntity.getStrategyId());
+        traderStatsService.refresh(strategyEntity.getWriterId()); // 작성자 전략 수/팔로워 수 집계 갱신
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //14. 전략 이력엔티티의 내용을 전략 이력 테이블에 저장한다.
         strategyHistoryEntity.setChangeEndDate(LocalDateTime.now());
@@ -787,7 +857,9 @@ public class StrategyService {
             strategyReviewService.deleteReviewsByStrategy(strategy);  // 전략리뷰 삭제
 
             strategyRepo.delete(strategy);  // 전략 삭제 [X]
+            strategySearchIndexService.markChanged(strategyId);  // 검색 인덱스에서 제거
         }
+        traderStatsService.refresh(member.getMemberId());  // 트레이더 집계 갱신
     }
 
 
@@ -937,6 +1009,9 @@ public class StrategyService {
 
         //5-1) 변경된 값으로 전략 저장
         strategyRepo.save(strategyEntity);
+        traderStatsService.refresh(strategyEntity.getWriterId()); // 공개여부 변경 - 작성자 집계 갱신
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //6) 전략 - IAC 테이블 이력등록, 삭제
         //관계테이블 엔티티 리스트 가져오기
@@ -1118,6 +1193,8 @@ public class StrategyService {
         strategyEntity.setUpdatedAt(LocalDateTime.now());
         //저장
         strategyRepo.save(strategyEntity);
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //2. 전략 수정 이력
         StrategyHistoryEntity strategyHistoryEntity = new StrategyHistoryEntity(strategyEntity, "STRATEGY_STATUS_TERMINATED", changeStartDatetime);
@@ -1194,6 +1271,9 @@ public class StrategyService {
         strategyEntity.setUpdaterId(applicantEntity.getMemberId());
         strategyEntity.setUpdatedAt(LocalDateTime.now());
         strategyRepo.save(strategyEntity);
+        traderStatsService.refresh(strategyEntity.getWriterId()); // 승인 상태였던 전략이면 집계에서 빠짐
+        strategyDataVersionService.increment(strategyEntity.getStrategyId());
+        strategySearchIndexService.markChanged(strategyEntity.getStrategyId());
 
         //전략 이력에 P변경 내역 넣기
         StrategyHistoryEntity changedHistory = new StrategyHistoryEntity(strategyEntity, "STRATEGY_STATUS_UPDATED", changeStartDatetime);
@@ -1255,6 +1335,7 @@ public class StrategyService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID를 가진 전략이 존재하지 않습니다: " + strategyId));
 
         // 2. 팔로워 수 업데이트 (증가 또는 감소)
+        long previousFollowersCount = strategy.getFollowersCount();
         if (increment) {
             // 팔로워 수 증가
             strategy.setFollowersCount(strategy.getFollowersCount() + 1);
@@ -1265,130 +1346,103 @@ public class StrategyService {
 
         // 3. 변경된 엔티티 저장
         strategyRepo.save(strategy);
+        traderStatsService.applyFollowerDelta(strategy, strategy.getFollowersCount() - previousFollowersCount);
+        strategyDataVersionService.increment(strategyId);
+        strategySearchIndexService.markChanged(strategyId);
     }
 
-    // 9. 전략 상세 차트 옵션 2개 조회
+    // 9. 전략 상세 차트 조회 (여러 옵션, 기간, 다운샘플링)
     /**
-     * 특정 전략 ID에 대한 선택된 데이터 옵션을 날짜순으로 조회
+     * 특정 전략 ID에 대한 선택된 데이터 옵션들을 기간 내 날짜순으로 조회
+     * - 옵션 수와 관계없이 일간 통계를 한 번만 조회합니다.
+     * - maxPoints가 있고 데이터가 더 많으면 모든 옵션이 같은 날짜를 공유하도록 LTTB로 다운샘플링합니다.
      *
      * @param strategyId 전략 ID
-     * @param option1 첫 번째 데이터 옵션 (예: "referencePrice", "balance" 등)
-     * @param option2 두 번째 데이터 옵션 (예: "dailyProfitLoss", "cumulativeProfitLoss" 등)
-     * @return DailyStatisticsChartResponseDto (전략 차트 데이터와 타임스탬프)
+     * @param options    데이터 옵션 목록 (예: "referencePrice", "balance" 등, 중복은 한 번만 조회)
+     * @param from       시작일 (null이면 처음부터)
+     * @param to         종료일 (null이면 끝까지)
+     * @param maxPoints  최대 점 수 (null이면 전체)
+     * @return DailyStatisticsChartResponseDto (옵션별 값, 날짜, 전체 데이터 수, 타임스탬프)
+     * @throws IllegalArgumentException 기간 내 일간 통계가 없는 경우
      */
-    public DailyStatisticsChartResponseDto getStrategyChartDetails(Long strategyId, String option1, String option2) {
-        // Repository에서 데이터를 조회하여 Map 형태로 반환
-        Map<String, List<?>> chartData = strategyRepo.findChartDataByOptions(strategyId, option1, option2);
+    @Transactional(readOnly = true)
+    public DailyStatisticsChartResponseDto getStrategyChartDetails(Long strategyId, List<String> options,
+                                                                   LocalDate from, LocalDate to, Integer maxPoints) {
+        // 1. 요청 검증
+        List<String> distinctOptions = options == null ? List.of()
+                : options.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctOptions.isEmpty()) {
+            throw new IllegalArgumentException("조회할 데이터 옵션을 1개 이상 선택해야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (maxPoints != null && maxPoints < LttbDownsampler.MIN_POINTS) {
+            throw new IllegalArgumentException("maxPoints는 " + LttbDownsampler.MIN_POINTS + " 이상이어야 합니다.");
+        }
+
+        // 2. 선택한 옵션 전체를 한 번에 조회
+        DailyStatisticsChartSeries series = strategyRepo.findChartDataByOptions(strategyId, distinctOptions, from, to);
+        LocalDate[] dates = series.getDates();
+        BigDecimal[][] values = series.getValues();
+        int size = dates.length;
 
-        // 반환된 데이터가 null 또는 비어 있을 경우 예외 처리
-        if (chartData == null || chartData.isEmpty()) {
+        // 데이터가 없으면 예외 처리
+        if (size == 0) {
             throw new IllegalArgumentException("요청하신 데이터가 존재하지 않습니다. 전략 ID: " + strategyId);
         }
 
+        // 3. 남길 위치 선택 (다운샘플링하지 않으면 전체)
+        int[] indices;
+        if (maxPoints != null && size > maxPoints) {
+            double[][] primitives = new double[values.length][size];
+            for (int s = 0; s < values.length; s++) {
+                for (int i = 0; i < size; i++) {
+                    primitives[s][i] = values[s][i] == null ? Double.NaN : values[s][i].doubleValue();
+                }
+            }
+            indices = LttbDownsampler.selectIndices(primitives, size, maxPoints);
+        } else {
+            indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = i;
+            }
+        }
+
+        // 4. 원래 값(BigDecimal)으로 응답 생성
+        Map<String, List<?>> chartData = new LinkedHashMap<>();
+        for (int s = 0; s < values.length; s++) {
+            List<BigDecimal> optionValues = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                optionValues.add(values[s][index]);
+            }
+            chartData.put(series.getOptions().get(s), optionValues);
+        }
+        List<LocalDate> chartDates = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            chartDates.add(dates[index]);
+        }
+
         // 현재 UTC 시간 추가
         String timestamp = Instant.now().toString();
 
         // DTO 생성 및 반환
-        return new DailyStatisticsChartResponseDto(chartData, timestamp);
+        return new DailyStatisticsChartResponseDto(chartData, chartDates, size, timestamp);
     }
 
 
     // 10. SM SCORE 기반 상위 전략 5개 리스트
+    //     SM-Score 재계산/상위 전략 변경 시에만 다시 만드는 메모리 스냅샷에서 조회
     @Transactional(readOnly = true)
     public Map<String, Object> getSmScoreTop5Strategies() {
-        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "smScore"));
-
-        // 조건: isApproved = "Y" AND isPosted = "Y"
-        Page<StrategyEntity> strategyPage = strategyRepo.findByIsApprovedAndIsPosted("Y", "Y", pageable);
-
-        List<SmScoreRankingResponseDto> dtoList = strategyPage.stream().map(strategy -> {
-            // MemberEntity에서 프로필 이미지 정보 가져오기
-            MemberEntity member = memberRepository.findById(strategy.getWriterId())
-                    .orElseThrow(() -> new IllegalArgumentException("Member not found: " + strategy.getWriterId()));
-
-            // DailyStatisticsEntity에서 누적 수익률 리스트 가져오기
-            List<BigDecimal> cumulativeProfitLossRateList = dailyStatisticsRepository
-                    .findCumulativeProfitLossRateByStrategyIdOrderByDate(strategy.getStrategyId());
-
-            // DailyStatisticsEntity에서 오늘 기준 일손익률 가져오기
-            BigDecimal dailyPlRate = dailyStatisticsRepository.findByStrategyIdAndDate(strategy.getStrategyId(), LocalDate.now())
-                    .map(DailyStatisticsEntity::getDailyPlRate)
-                    .orElse(BigDecimal.ZERO);
-
-            // DTO 생성
-            return new SmScoreRankingResponseDto(
-                    strategy.getStrategyId(),
-                    strategy.getStrategyTitle(),
-                    member.getProfilePath(),
-                    member.getNickname(),
-                    cumulativeProfitLossRateList,
-                    dailyPlRate
-            );
-        }).collect(Collectors.toList());
-
-        // 결과를 Map으로 변환
-        Map<String, Object> response = new HashMap<>();
-        response.put("data", dtoList);
-        response.put("timestamp", Instant.now());
-
-        return response;
+        return smScoreTop5SnapshotService.getTop5();
     }
 
     // 11. 전략 팔로워 수 기반 상위 유저 리스트
+    //     회원 테이블의 트레이더 집계 컬럼(전략 수, 팔로워 수 합계) 인덱스로 상위 size명만 조회
     @Transactional(readOnly = true)
     public Map<String, Object> getStrategyFollowerRanking(Integer size) {
-
-        // 조건: isApproved = "Y" AND isPosted = "Y"인 전체 전략
-        List<StrategyEntity> strategyPage = strategyRepo.findByIsApprovedAndIsPosted("Y", "Y");
-
-        // 멤버별 전략 데이터 그룹화
-        Map<String, List<StrategyEntity>> strategiesGroupedByMember = strategyPage.stream()
-                .collect(Collectors.groupingBy(StrategyEntity::getWriterId));
-
-        // DTO 생성 (멤버별 상위 size개 전략 집계)
-        List<FollowingRankingResponseDto> dtoList = strategiesGroupedByMember.entrySet().stream()
-                .map(entry -> {
-                    String writerId = entry.getKey();
-                    List<StrategyEntity> memberStrategies = entry.getValue();
-
-                    // 각 전략에 해당하는 누적수익금액(누적손익) 조회 후 합산
-                    BigDecimal totalCumulativeProfitLoss = memberStrategies.stream()
-                            .map(strategy -> dailyStatisticsRepository.findByStrategyEntityOrderByDateDesc(strategy).stream()
-                                    .findFirst()
-                                    .map(DailyStatisticsEntity::getCumulativeProfitLoss)
-                                    .orElse(BigDecimal.ZERO))
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    // 각 멤버 정보 조회
-                    MemberEntity member = memberRepository.findById(writerId)
-                            .orElseThrow(() -> new IllegalArgumentException("Member not found: " + writerId));
-
-                    // 총 팔로워 수 합산
-                    Integer followerCnt = Math.toIntExact(memberStrategies.stream()
-                            .mapToLong(StrategyEntity::getFollowersCount)
-                            .sum());
-
-                    // DTO 생성
-                    return new FollowingRankingResponseDto(
-                            member.getMemberId(),
-                            member.getNickname(),
-                            member.getProfilePath(),
-                            member.getIntroduction(),
-                            memberStrategies.size(),
-                            followerCnt,
-                            totalCumulativeProfitLoss
-                    );
-                })
-                .sorted(Comparator.comparing(FollowingRankingResponseDto::getFollowerCnt).reversed()) // 전체 팔로워 수 기준 정렬
-                .limit(size) // 상위 pageSize만 포함
-                .collect(Collectors.toList());
-
-        // 결과를 Map으로 변환
-        Map<String, Object> response = new HashMap<>();
-        response.put("data", dtoList);
-        response.put("timestamp", Instant.now());
-
-        return response;
+        return traderStatsService.getFollowerRanking(size);
     }
 
     // memberID로 특정 회원의 팔로워 수 조회하기
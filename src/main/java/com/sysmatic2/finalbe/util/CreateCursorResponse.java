@@ -0,0 +1,19 @@
+package com.sysmatic2.finalbe.util;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CreateCursorResponse {
+    public static <T> Map<String, Object> createCursorResponse(List<T> content, int pageSize, boolean hasNext, String nextCursor) {
+        // nextCursor는 마지막 페이지면 null이므로 Map.of 대신 HashMap 사용
+        Map<String, Object> response = new HashMap<>();
+        response.put("data", content);                          // 실제 데이터 리스트
+        response.put("pageSize", pageSize);                     // 요청한 원소 개수
+        response.put("hasNext", hasNext);                       // 다음 데이터 존재 여부
+        response.put("nextCursor", nextCursor);                 // 다음 요청에 전달할 커서 (마지막이면 null)
+        response.put("timestamp", Instant.now().toString());    // 타임스탬프
+        return response;
+    }
+}
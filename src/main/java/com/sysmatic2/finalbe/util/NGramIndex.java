@@ -0,0 +1,316 @@
+package com.sysmatic2.finalbe.util;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열 검색용 인메모리 N-gram 역색인. (LIKE '%키워드%' 대체)
+ *
+ * - 문서(전략명, 닉네임 등)를 NFC 정규화 + 소문자로 변환한 뒤 글자 단위 2-gram, 3-gram을 색인합니다.
+ *   한글은 완성형 음절이 한 글자이므로 영문과 같은 방식으로 색인됩니다.
+ * - 키워드가 3글자 이상이면 3-gram, 2글자면 2-gram 중 게시 목록이 가장 짧은 것을 후보로 사용하고,
+ *   1글자면 전체 문서를 후보로 사용합니다. 후보는 항상 부분 문자열 포함 여부로 다시 확인하므로 결과는 LIKE 검색과 같습니다.
+ * - 결과는 관련도 순(일치 > 앞부분 일치 > 단어 시작 일치 > 포함, 같으면 일치 위치가 앞선 순, 짧은 문서 순)으로 반환합니다.
+ * - 읽기는 동시에, 변경은 하나씩 처리합니다.
+ *
+ * @param <K> 문서 키 타입
+ */
+public class NGramIndex<K> {
+    private static final int INITIAL_CAPACITY = 256;
+
+    // 관련도 구간
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_START = 2;
+    private static final int CONTAINS = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 키 <-> 슬롯
+    private final Map<K, Integer> slotByKey = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private String[] texts = new String[INITIAL_CAPACITY]; // 정규화된 문서
+
+    // gram -> 슬롯 목록
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    /**
+     * 색인을 비우고 전체 문서로 다시 적재합니다.
+     *
+     * @param documents 문서 키별 문자열
+     */
+    public void rebuild(Map<K, String> documents) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            documents.forEach(this::putLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 비웁니다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 추가하거나 갱신합니다.
+     *
+     * @param key  문서 키
+     * @param text 문서 문자열 (null이면 빈 문자열)
+     */
+    public void put(K key, String text) {
+        lock.writeLock().lock();
+        try {
+            putLocked(key, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     *
+     * @param key 문서 키
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByKey.remove(key);
+            if (slot != null) {
+                clearSlot(slot);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 문서 키를 관련도 순으로 반환합니다.
+     *
+     * @param keyword 검색 키워드 (빈 키워드는 전체 문서와 일치)
+     * @return 관련도 순 문서 키 목록
+     */
+    public List<K> search(String keyword) {
+        String normalized = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            // 1. 후보 슬롯 선택
+            IntList candidates = normalized.length() < 2 ? null : smallestPosting(normalized);
+            if (normalized.length() >= 2 && candidates == null) {
+                return new ArrayList<>();
+            }
+
+            // 2. 포함 여부 확인 + 관련도 계산 (관련도 << 32 | 일치 위치)
+            List<long[]> matches = new ArrayList<>();
+            if (candidates == null) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    addMatch(matches, slot, normalized);
+                }
+            } else {
+                for (int i = 0; i < candidates.size; i++) {
+                    addMatch(matches, candidates.values[i], normalized);
+                }
+            }
+
+            // 3. 관련도, 문서 길이, 슬롯 순 정렬
+            matches.sort(Comparator.<long[]>comparingLong(match -> match[1])
+                    .thenComparingLong(match -> texts[(int) match[0]].length())
+                    .thenComparingLong(match -> match[0]));
+            List<K> result = new ArrayList<>(matches.size());
+            for (long[] match : matches) {
+                result.add(key((int) match[0]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색/색인용 정규화 (NFC 정규화 후 소문자, null은 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private void clearLocked() {
+        slotByKey.clear();
+        freeSlots.clear();
+        postings.clear();
+        Arrays.fill(keys, 0, slotCount, null);
+        Arrays.fill(texts, 0, slotCount, null);
+        slotCount = 0;
+    }
+
+    private void putLocked(K key, String text) {
+        Integer slot = slotByKey.get(key);
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            slotByKey.put(key, slot);
+        } else {
+            clearSlot(slot);
+        }
+
+        keys[slot] = key;
+        texts[slot] = normalize(text);
+        for (long gram : grams(texts[slot])) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(slot);
+        }
+    }
+
+    /**
+     * 슬롯의 게시 목록을 모두 제거합니다.
+     */
+    private void clearSlot(int slot) {
+        if (texts[slot] != null) {
+            for (long gram : grams(texts[slot])) {
+                IntList posting = postings.get(gram);
+                if (posting != null && posting.remove(slot) && posting.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        keys[slot] = null;
+        texts[slot] = null;
+    }
+
+    /**
+     * 키워드의 gram 중 게시 목록이 가장 짧은 것을 반환합니다. (없는 gram이 있으면 일치하는 문서 없음)
+     */
+    private IntList smallestPosting(String keyword) {
+        int n = keyword.length() >= 3 ? 3 : 2;
+        IntList smallest = null;
+        for (int i = 0; i + n <= keyword.length(); i++) {
+            IntList posting = postings.get(gram(keyword, i, n));
+            if (posting == null) {
+                return null;
+            }
+            if (smallest == null || posting.size < smallest.size) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    private void addMatch(List<long[]> matches, int slot, String keyword) {
+        String text = texts[slot];
+        if (text == null) {
+            return;
+        }
+        int position = text.indexOf(keyword);
+        if (position < 0) {
+            return;
+        }
+        int tier;
+        if (position == 0) {
+            tier = text.length() == keyword.length() ? EXACT : PREFIX;
+        } else {
+            tier = Character.isLetterOrDigit(text.charAt(position - 1)) ? CONTAINS : WORD_START;
+            // 앞의 단어 경계에서 일치하는 위치가 있으면 단어 시작 일치로 봄
+            for (int from = position + 1; tier == CONTAINS; from++) {
+                from = text.indexOf(keyword, from);
+                if (from < 0) {
+                    break;
+                }
+                if (!Character.isLetterOrDigit(text.charAt(from - 1))) {
+                    tier = WORD_START;
+                }
+            }
+        }
+        matches.add(new long[]{slot, ((long) tier << 32) | position});
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int slot) {
+        return (K) keys[slot];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, keys.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        texts = Arrays.copyOf(texts, newCapacity);
+    }
+
+    /**
+     * 문자열의 중복 없는 2-gram, 3-gram
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(gram(text, i, 2));
+            if (i + 3 <= text.length()) {
+                grams.add(gram(text, i, 3));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 글자 n개(2 또는 3)를 long 하나로 변환 (상위 비트에 길이, 글자당 16비트)
+     */
+    private static long gram(String text, int from, int n) {
+        long gram = n;
+        for (int i = from; i < from + n; i++) {
+            gram = (gram << 16) | text.charAt(i);
+        }
+        return gram;
+    }
+
+    /**
+     * 슬롯 번호 목록 (순서 없음)
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private boolean remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
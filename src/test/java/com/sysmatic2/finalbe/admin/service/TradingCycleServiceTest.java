@@ -32,6 +32,9 @@ class TradingCycleServiceTest {
     @Mock
     private TradingCycleRepository tradingCycleRepository;
 
+    @Mock
+    private StrategyDataVersionService strategyDataVersionService;
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
@@ -206,6 +209,7 @@ class TradingCycleServiceTest {
         assertEquals(2, entity.getTradingCycleOrder());
         assertEquals("Updated Cycle", entity.getTradingCycleName());
         verify(tradingCycleRepository, times(1)).save(entity);
+        verify(strategyDataVersionService).incrementByTradingCycle(1); // 이름 변경 - 전략 상세 버전 증가
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.sysmatic2.finalbe.admin.dto.TradingTypeAdminRequestDto;
 import com.sysmatic2.finalbe.admin.dto.TradingTypeAdminResponseDto;
 import com.sysmatic2.finalbe.admin.entity.TradingTypeEntity;
 import com.sysmatic2.finalbe.admin.repository.TradingTypeRepository;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,9 @@ class TradingTypeServiceTest {
     @Mock
     private TradingTypeRepository tradingTypeRepository;
 
+    @Mock
+    private StrategyDataVersionService strategyDataVersionService;
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
@@ -307,6 +311,7 @@ class TradingTypeServiceTest {
         assertEquals(2, entity.getTradingTypeOrder());
         assertEquals("Updated Type", entity.getTradingTypeName());
         verify(tradingTypeRepository, times(1)).save(entity);
+        verify(strategyDataVersionService).incrementByTradingType(1); // 이름 변경 - 전략 상세 버전 증가
     }
 
     @Test
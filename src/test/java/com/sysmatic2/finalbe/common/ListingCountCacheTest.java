@@ -0,0 +1,77 @@
+package com.sysmatic2.finalbe.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingCountCacheTest {
+
+    @Test
+    @DisplayName("같은 시그니처는 TTL 동안 다시 세지 않고, 무효화되거나 TTL이 지나면 다시 세는지 테스트")
+    void testGetOrCount_cachedUntilInvalidatedOrExpired() {
+        // Given
+        AtomicLong now = new AtomicLong(0);
+        AtomicLong counted = new AtomicLong();
+        ListingCountCache cache = new ListingCountCache(1000, 5000, 100, now::get);
+
+        // When & Then
+        assertEquals(10, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> { counted.incrementAndGet(); return 10; }));
+        assertEquals(10, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> { counted.incrementAndGet(); return 11; }));
+        assertEquals(1, counted.get());
+
+        // 다른 네임스페이스 무효화는 영향 없음
+        cache.invalidate(ListingCountCache.TRADERS);
+        assertEquals(10, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> { counted.incrementAndGet(); return 12; }));
+        assertEquals(1, counted.get());
+
+        cache.invalidate(ListingCountCache.STRATEGIES);
+        assertEquals(13, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> { counted.incrementAndGet(); return 13; }));
+
+        now.set(1000);
+        assertEquals(14, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> { counted.incrementAndGet(); return 14; }));
+        assertEquals(3, counted.get());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 다시 세는 동안에는 이전 개수(근사치)를 반환하는지 테스트")
+    void testGetOrCount_servesStaleWhileRecounting() {
+        // Given
+        ListingCountCache cache = new ListingCountCache(1000, 5000, 100, () -> 0L);
+        cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> 10);
+        cache.invalidate(ListingCountCache.STRATEGIES);
+
+        // When - 다시 세는 도중 같은 시그니처 요청
+        long[] during = new long[1];
+        long recounted = cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> {
+            during[0] = cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> {
+                throw new IllegalStateException("다시 세는 중에는 count 쿼리를 실행하지 않아야 함");
+            });
+            return 20;
+        });
+
+        // Then
+        assertEquals(10, during[0]);
+        assertEquals(20, recounted);
+        assertEquals(20, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> 30));
+    }
+
+    @Test
+    @DisplayName("count 쿼리가 실패하면 다음 요청이 다시 셀 수 있는지 테스트")
+    void testGetOrCount_releasesRecountOnFailure() {
+        // Given
+        ListingCountCache cache = new ListingCountCache(1000, 5000, 100, () -> 0L);
+        cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> 10);
+        cache.invalidate(ListingCountCache.STRATEGIES);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> {
+            throw new IllegalStateException("count failed");
+        }));
+
+        // Then
+        assertEquals(15, cache.getOrCount(ListingCountCache.STRATEGIES, "a", () -> 15));
+    }
+}
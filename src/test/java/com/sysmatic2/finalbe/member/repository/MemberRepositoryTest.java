@@ -4,13 +4,16 @@ import com.sysmatic2.finalbe.member.dto.DetailedProfileDTO;
 import com.sysmatic2.finalbe.member.dto.SimpleProfileDTO;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.util.RandomKeyGenerator;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +25,9 @@ class MemberRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // memberEntity 생성하는 메소드
     private MemberEntity createMemberEntity() {
         MemberEntity memberEntity = new MemberEntity();
@@ -106,4 +112,42 @@ class MemberRepositoryTest {
         assertEquals(detailedProfileDTO.getIntroduction(), member.getIntroduction());
         assertEquals(detailedProfileDTO.getFileId(), member.getFileId());
     }
-}
\ No newline at end of file
+
+    // 팔로워 수 합계 상위 작성자 조회 기능 테스트
+
+    // 1. 회원 등급·상태와 관계없이 공개·승인 전략이 있는 회원은 모두 랭킹 대상이다. (기존 랭킹과 동일)
+    // 2. 공개·승인 전략이 없는 회원은 팔로워 수 합계가 커도 제외된다.
+    @Test
+    @DisplayName("팔로워 랭킹은 등급·상태와 관계없이 공개·승인 전략이 있는 회원만 팔로워 수 합계 순으로 조회")
+    public void findTopTradersByTotalFollowersCntTest() {
+        MemberEntity trader = saveMemberWithStats("trader", "MEMBER_ROLE_TRADER", "ACTIVE", 1, 5L);
+        MemberEntity user = saveMemberWithStats("user", "MEMBER_ROLE_USER", "ACTIVE", 2, 10L);
+        MemberEntity withdrawn = saveMemberWithStats("withdrawn", "MEMBER_ROLE_TRADER", "WITHDRAWN", 1, 7L);
+        saveMemberWithStats("noStrategy", "MEMBER_ROLE_TRADER", "ACTIVE", 0, 100L);
+
+        List<MemberEntity> ranking = memberRepository.findTopTradersByTotalFollowersCnt(PageRequest.of(0, 10));
+
+        assertEquals(List.of(user.getMemberId(), withdrawn.getMemberId(), trader.getMemberId()),
+                ranking.stream().map(MemberEntity::getMemberId).toList());
+    }
+
+    // 집계 컬럼은 엔티티 저장으로 변경되지 않으므로 저장 후 UPDATE로 설정
+    private MemberEntity saveMemberWithStats(String nickname, String gradeCode, String statusCode,
+                                             int strategyCnt, long totalFollowersCnt) {
+        MemberEntity member = createMemberEntity();
+        member.setNickname(nickname);
+        member.setEmail(nickname + "@test.com");
+        member.setMemberGradeCode(gradeCode);
+        member.setMemberStatusCode(statusCode);
+        memberRepository.saveAndFlush(member);
+
+        entityManager.createQuery("UPDATE MemberEntity m SET m.strategyCnt = :strategyCnt, " +
+                        "m.totalFollowersCnt = :totalFollowersCnt WHERE m.memberId = :memberId")
+                .setParameter("strategyCnt", strategyCnt)
+                .setParameter("totalFollowersCnt", totalFollowersCnt)
+                .setParameter("memberId", member.getMemberId())
+                .executeUpdate();
+        entityManager.clear();
+        return member;
+    }
+}
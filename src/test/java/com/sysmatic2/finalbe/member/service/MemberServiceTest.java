@@ -1,5 +1,6 @@
 package com.sysmatic2.finalbe.member.service;
 
+import com.sysmatic2.finalbe.common.ListingCountCache;
 import com.sysmatic2.finalbe.exception.InvalidPasswordException;
 import com.sysmatic2.finalbe.exception.MemberAlreadyExistsException;
 import com.sysmatic2.finalbe.exception.MemberNotFoundException;
@@ -9,6 +10,8 @@ import com.sysmatic2.finalbe.member.dto.ProfileUpdateDTO;
 import com.sysmatic2.finalbe.member.dto.SimpleProfileDTO;
 import com.sysmatic2.finalbe.member.entity.MemberEntity;
 import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.service.SmScoreTop5SnapshotService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,18 @@ class MemberServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ListingCountCache listingCountCache;
+
+    @Mock
+    private TraderNicknameIndexService traderNicknameIndexService;
+
+    @Mock
+    private SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+
+    @Mock
+    private StrategyDataVersionService strategyDataVersionService;
+
     @InjectMocks
     private MemberService memberService;
 
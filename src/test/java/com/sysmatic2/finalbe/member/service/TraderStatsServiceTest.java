@@ -0,0 +1,125 @@
+package com.sysmatic2.finalbe.member.service;
+
+import com.sysmatic2.finalbe.member.entity.MemberEntity;
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.dto.FollowingRankingResponseDto;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TraderStatsServiceTest {
+
+    @InjectMocks
+    private TraderStatsService traderStatsService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StrategyLatestStatsRepository strategyLatestStatsRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private StrategyEntity strategy(String isApproved, String isPosted) {
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setStrategyId(1L);
+        strategy.setWriterId("trader");
+        strategy.setIsApproved(isApproved);
+        strategy.setIsPosted(isPosted);
+        return strategy;
+    }
+
+    @Test
+    @DisplayName("공개·승인 전략의 팔로워 수 변화만 작성자 집계에 반영")
+    void applyFollowerDelta_onlyVisibleStrategy() {
+        // When
+        traderStatsService.applyFollowerDelta(strategy("Y", "Y"), 1);
+        traderStatsService.applyFollowerDelta(strategy("Y", "Y"), 0);   // 변화 없음 (0에서 언팔로우)
+        traderStatsService.applyFollowerDelta(strategy("P", "Y"), 1);   // 승인 대기
+        traderStatsService.applyFollowerDelta(strategy("Y", "N"), -1);  // 비공개
+
+        // Then
+        verify(memberRepository, times(1)).addTotalFollowersCnt(anyString(), anyLong());
+        verify(memberRepository).addTotalFollowersCnt("trader", 1L);
+    }
+
+    @Test
+    @DisplayName("정합성 보정 작업은 보정된 회원 수를 반환")
+    void reconcile_returnsRepairedCount() {
+        // Given
+        when(memberRepository.reconcileTraderStats()).thenReturn(3);
+
+        // When
+        int repaired = traderStatsService.reconcile();
+
+        // Then
+        assertEquals(3, repaired);
+        verify(memberRepository).reconcileTraderStats();
+    }
+
+    @Test
+    @DisplayName("팔로워 랭킹은 회원 집계 컬럼 순서대로, 누적손익 합계는 상위 트레이더 것만 조회")
+    void getFollowerRanking_usesMemberCounters() {
+        // Given
+        MemberEntity first = trader("trader1", 3, 120L);
+        MemberEntity second = trader("trader2", 1, 40L);
+        when(memberRepository.findTopTradersByTotalFollowersCnt(PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+        when(strategyLatestStatsRepository.sumCumulativeProfitLossByWriterIds(List.of("trader1", "trader2")))
+                .thenReturn(List.<Object[]>of(new Object[]{"trader1", new BigDecimal("1500000")}));
+
+        // When
+        Map<String, Object> response = traderStatsService.getFollowerRanking(2);
+
+        // Then - 스냅샷이 없는 트레이더의 누적손익 합계는 0
+        @SuppressWarnings("unchecked")
+        List<FollowingRankingResponseDto> data = (List<FollowingRankingResponseDto>) response.get("data");
+        assertEquals(2, data.size());
+        assertEquals("trader1", data.get(0).getMemberId());
+        assertEquals(3, data.get(0).getStrategyCnt());
+        assertEquals(120, data.get(0).getFollowerCnt());
+        assertEquals(new BigDecimal("1500000"), data.get(0).getTotalCumulativeProfitLoss());
+        assertEquals(BigDecimal.ZERO, data.get(1).getTotalCumulativeProfitLoss());
+    }
+
+    @Test
+    @DisplayName("상위 트레이더가 없으면 누적손익을 조회하지 않음")
+    void getFollowerRanking_empty() {
+        // Given
+        when(memberRepository.findTopTradersByTotalFollowersCnt(any())).thenReturn(List.of());
+
+        // When
+        Map<String, Object> response = traderStatsService.getFollowerRanking(5);
+
+        // Then
+        assertEquals(List.of(), response.get("data"));
+        verifyNoInteractions(strategyLatestStatsRepository);
+    }
+
+    private MemberEntity trader(String memberId, int strategyCnt, long totalFollowersCnt) {
+        MemberEntity member = new MemberEntity();
+        member.setMemberId(memberId);
+        member.setNickname(memberId);
+        member.setStrategyCnt(strategyCnt);
+        member.setTotalFollowersCnt(totalFollowersCnt);
+        return member;
+    }
+}
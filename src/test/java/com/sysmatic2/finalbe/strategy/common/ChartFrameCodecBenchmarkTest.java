@@ -0,0 +1,120 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전략 상세 차트 응답의 JSON(Jackson)과 바이너리 프레임의 크기, 직렬화 시간 비교.
+ * - 실행: mvn test -Dtest=ChartFrameCodecBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ChartFrameCodecBenchmarkTest {
+    private static final int POINT_COUNT = 2_500; // 약 10년치 거래일
+    private static final String[] OPTIONS = {"referencePrice", "balance", "dailyProfitLoss", "cumulativeProfitLossRate"};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 500;
+
+    @Test
+    @DisplayName("2,500일 x 4계열 차트 응답의 JSON과 바이너리 프레임 크기/직렬화 시간 비교")
+    void benchmarkSerialization() throws Exception {
+        // Given - 일간 통계와 같은 소수 10자리 값, 주말 제외 날짜
+        DailyStatisticsChartResponseDto chart = chart(new Random(2_500));
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // When
+        long jsonNanos = 0;
+        long frameNanos = 0;
+        byte[] json = null;
+        byte[] frame = null;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            json = objectMapper.writeValueAsBytes(chart);
+            long serialized = System.nanoTime();
+            frame = ChartFrameCodec.encode(chart);
+            long encoded = System.nanoTime();
+            if (round >= WARMUP_ROUNDS) {
+                jsonNanos += serialized - start;
+                frameNanos += encoded - serialized;
+            }
+        }
+
+        // Then
+        DailyStatisticsChartResponseDto decoded = ChartFrameCodec.decode(frame);
+        assertEquals(chart.getDates(), decoded.getDates());
+        assertTrue(frame.length < json.length);
+
+        System.out.printf("points: %d x %d series%n", POINT_COUNT, OPTIONS.length);
+        System.out.printf("JSON (Jackson): %,d bytes (gzip %,d), %.3f ms/serialize%n",
+                json.length, gzipSize(json), jsonNanos / 1_000_000.0 / MEASURE_ROUNDS);
+        System.out.printf("chart frame   : %,d bytes (gzip %,d), %.3f ms/encode%n",
+                frame.length, gzipSize(frame), frameNanos / 1_000_000.0 / MEASURE_ROUNDS);
+    }
+
+    private static DailyStatisticsChartResponseDto chart(Random random) {
+        List<LocalDate> dates = new ArrayList<>(POINT_COUNT);
+        LocalDate date = LocalDate.of(2015, 1, 2);
+        while (dates.size() < POINT_COUNT) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                dates.add(date);
+            }
+            date = date.plusDays(1);
+        }
+
+        Map<String, List<?>> data = new LinkedHashMap<>();
+        double referencePrice = 1000;
+        double balance = 100_000_000;
+        double cumulative = 0;
+        List<BigDecimal> referencePrices = new ArrayList<>(POINT_COUNT);
+        List<BigDecimal> balances = new ArrayList<>(POINT_COUNT);
+        List<BigDecimal> dailyProfitLosses = new ArrayList<>(POINT_COUNT);
+        List<BigDecimal> cumulativeRates = new ArrayList<>(POINT_COUNT);
+        for (int i = 0; i < POINT_COUNT; i++) {
+            double rate = random.nextGaussian() * 0.01;
+            double profitLoss = Math.round(balance * rate);
+            referencePrice *= 1 + rate;
+            balance += profitLoss;
+            cumulative = (1 + cumulative) * (1 + rate) - 1;
+            referencePrices.add(decimal(referencePrice));
+            balances.add(decimal(balance));
+            dailyProfitLosses.add(decimal(profitLoss));
+            cumulativeRates.add(decimal(cumulative * 100));
+        }
+        data.put(OPTIONS[0], referencePrices);
+        data.put(OPTIONS[1], balances);
+        data.put(OPTIONS[2], dailyProfitLosses);
+        data.put(OPTIONS[3], cumulativeRates);
+        return new DailyStatisticsChartResponseDto(data, dates, POINT_COUNT, Instant.now().toString());
+    }
+
+    // DB 컬럼(소수 10자리)에서 읽은 값과 같은 형태
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(10, RoundingMode.HALF_UP);
+    }
+
+    private static int gzipSize(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,81 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartFrameCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 날짜, 값(값 없음 포함), 조회 시각, 전체 데이터 수가 같음")
+    void encodeDecode_roundTrip() {
+        // Given - 날짜 간격이 일정하지 않고 일부 값이 없는 두 계열
+        List<LocalDate> dates = List.of(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3),
+                LocalDate.of(2024, 1, 8), LocalDate.of(1969, 12, 31).plusYears(60));
+        Map<String, List<?>> data = new LinkedHashMap<>();
+        data.put("balance", Arrays.asList(new BigDecimal("10000000.0000000000"), new BigDecimal("10150000.0000000000"),
+                null, new BigDecimal("9980000.5000000000")));
+        data.put("dailyPlRate", Arrays.asList(new BigDecimal("0.0000000000"), new BigDecimal("0.0150000000"),
+                new BigDecimal("-0.0012345678"), null));
+        DailyStatisticsChartResponseDto chart = new DailyStatisticsChartResponseDto(data, dates, 120, "2024-02-01T09:00:00.123Z");
+
+        // When
+        DailyStatisticsChartResponseDto decoded = ChartFrameCodec.decode(ChartFrameCodec.encode(chart));
+
+        // Then
+        assertEquals(dates, decoded.getDates());
+        assertEquals(120, decoded.getTotalPoints());
+        assertEquals("2024-02-01T09:00:00.123Z", decoded.getTimestamp());
+        assertEquals(List.of("balance", "dailyPlRate"), new ArrayList<>(decoded.getData().keySet()));
+        for (String option : data.keySet()) {
+            List<?> expected = data.get(option);
+            List<?> actual = decoded.getData().get(option);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                if (expected.get(i) == null) {
+                    assertNull(actual.get(i));
+                } else {
+                    assertEquals(0, ((BigDecimal) expected.get(i)).compareTo((BigDecimal) actual.get(i)), option + "[" + i + "]");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 값이 있는 계열은 float64로 인코딩")
+    void encodeDecode_float64Fallback() {
+        // Given
+        List<LocalDate> dates = List.of(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3));
+        Map<String, List<?>> data = new LinkedHashMap<>();
+        data.put("balance", List.of(new BigDecimal("1E+30"), new BigDecimal("0.5")));
+        DailyStatisticsChartResponseDto chart = new DailyStatisticsChartResponseDto(data, dates, 2, null);
+
+        // When
+        DailyStatisticsChartResponseDto decoded = ChartFrameCodec.decode(ChartFrameCodec.encode(chart));
+
+        // Then
+        List<?> values = decoded.getData().get("balance");
+        assertEquals(1e30, ((BigDecimal) values.get(0)).doubleValue());
+        assertEquals(0.5, ((BigDecimal) values.get(1)).doubleValue());
+        assertNull(decoded.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않거나 잘린 프레임은 예외 발생")
+    void decode_invalidFrame() {
+        // Given
+        DailyStatisticsChartResponseDto chart = new DailyStatisticsChartResponseDto(
+                Map.of("balance", List.of(BigDecimal.ONE)), List.of(LocalDate.of(2024, 1, 2)), 1, null);
+        byte[] frame = ChartFrameCodec.encode(chart);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ChartFrameCodec.decode("{\"data\":{}}".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> ChartFrameCodec.decode(Arrays.copyOf(frame, frame.length - 1)));
+    }
+}
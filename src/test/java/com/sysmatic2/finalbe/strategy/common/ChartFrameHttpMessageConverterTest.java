@@ -0,0 +1,33 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChartFrameHttpMessageConverterTest {
+
+    @Test
+    @DisplayName("프레임 형식이 q 값 기준으로 JSON보다 우선할 때만 바이너리 프레임으로 응답")
+    void isPreferred_honorsQualityValues() {
+        assertTrue(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame"));
+        assertTrue(ChartFrameHttpMessageConverter.isPreferred("application/json;q=0.5, application/vnd.sysmatic2.chart-frame"));
+        assertTrue(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame, application/json"));
+        assertTrue(ChartFrameHttpMessageConverter.isPreferred("*/*, application/vnd.sysmatic2.chart-frame"));
+
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred(null));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("*/*"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/json, application/vnd.sysmatic2.chart-frame"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame;q=0.5, */*"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame;q=0.5, application/json"));
+    }
+
+    @Test
+    @DisplayName("q=0으로 거부하거나 이름에 포함만 된 형식, 잘못된 Accept는 JSON으로 응답")
+    void isPreferred_rejectsExcludedOrInvalid() {
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame;q=0"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame;q=0, */*"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("application/vnd.sysmatic2.chart-frame-v2"));
+        assertFalse(ChartFrameHttpMessageConverter.isPreferred("not a media type;;"));
+    }
+}
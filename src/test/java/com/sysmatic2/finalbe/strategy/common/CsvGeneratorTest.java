@@ -0,0 +1,106 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.common.ExportColumn.Type;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvGeneratorTest {
+
+  private final CsvGenerator csvGenerator = new CsvGenerator();
+
+  @Test
+  @DisplayName("일간 통계 CSV는 엑셀과 같은 헤더를 쓰고, 숫자는 끝자리 0 없이, 값이 없으면 빈 칸으로 씀")
+  void writeCsv_dailyStatistics() throws Exception {
+    // Given - DB와 같은 소수 10자리 값
+    DailyStatisticsEntity stat = new DailyStatisticsEntity();
+    stat.setDate(LocalDate.of(2024, 4, 1));
+    stat.setPrincipal(new BigDecimal("10000000.0000000000"));
+    stat.setDepWdPrice(new BigDecimal("-1500.5000000000"));
+    stat.setDailyProfitLoss(new BigDecimal("0E-10"));
+    stat.setDailyPlRate(new BigDecimal("0.0150000000"));
+    stat.setCumulativeProfitLossRate(new BigDecimal("-0.0005000000"));
+
+    // When
+    String csv = write(StatisticsExportColumns.DAILY_STATISTICS, List.of(stat));
+
+    // Then - 누적손익은 값 없음
+    assertEquals("일자,원금,입출금,일손익,일손익률,누적손익,누적수익률\r\n"
+            + "2024-04-01,10000000,-1500.5,0,0.015,,-0.0005\r\n", csv);
+  }
+
+  @Test
+  @DisplayName("쉼표/따옴표가 있는 문자열은 따옴표로 감싸고, 18자리를 넘는 숫자와 정수도 그대로 씀")
+  void writeCsv_quotesTextAndWritesLargeNumbers() throws Exception {
+    // Given
+    List<ExportColumn<Object[]>> columns = List.of(
+            new ExportColumn<>("이름", Type.DATE, row -> row[0]),
+            new ExportColumn<>("값", Type.NUMBER, row -> row[1]),
+            new ExportColumn<>("일수", Type.INTEGER, row -> row[2]));
+    List<Object[]> rows = List.of(
+            new Object[]{"a,\"b\"", new BigDecimal("12345678901234567890.1234500000"), 42},
+            new Object[]{"2024-04", new BigDecimal("1E+3"), null});
+
+    // When
+    String csv = write(columns, rows);
+
+    // Then
+    assertEquals("이름,값,일수\r\n"
+            + "\"a,\"\"b\"\"\",12345678901234567890.12345,42\r\n"
+            + "2024-04,1000,\r\n", csv);
+  }
+
+  @Test
+  @DisplayName("소수 자릿수가 18을 넘는 아주 작은 값도 그대로 씀")
+  void writeCsv_writesLargeScaleNumbers() throws Exception {
+    // Given
+    List<ExportColumn<BigDecimal>> columns = List.of(new ExportColumn<>("값", Type.NUMBER, value -> value));
+
+    // When
+    String csv = write(columns, List.of(new BigDecimal("1E-25"), new BigDecimal("-0.0000000000000000012300")));
+
+    // Then
+    assertEquals("값\r\n"
+            + "0.0000000000000000000000001\r\n"
+            + "-0.00000000000000000123\r\n", csv);
+  }
+
+  @Test
+  @DisplayName("버퍼 크기보다 큰 CSV도 모든 행을 씀")
+  void writeCsv_flushesLargeOutput() throws Exception {
+    // Given
+    int rowCount = 10_000;
+    List<DailyStatisticsEntity> statistics = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      DailyStatisticsEntity stat = new DailyStatisticsEntity();
+      stat.setDate(LocalDate.of(2000, 1, 1).plusDays(i));
+      stat.setPrincipal(BigDecimal.valueOf(i, 2));
+      statistics.add(stat);
+    }
+
+    // When
+    String[] lines = write(StatisticsExportColumns.DAILY_STATISTICS, statistics).split("\r\n");
+
+    // Then
+    assertEquals(rowCount + 1, lines.length);
+    assertEquals("2027-05-18,99.99,,,,,", lines[rowCount]);
+  }
+
+  private <T> String write(List<ExportColumn<T>> columns, List<T> rows) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(rows.size(), csvGenerator.writeCsv(columns, rows, out));
+    String csv = out.toString(StandardCharsets.UTF_8);
+    // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM으로 시작
+    assertTrue(csv.startsWith("\uFEFF"));
+    return csv.substring(1);
+  }
+}
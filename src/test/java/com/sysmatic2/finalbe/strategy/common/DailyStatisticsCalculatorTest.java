@@ -0,0 +1,136 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyStatisticsCalculatorTest {
+
+    @Test
+    @DisplayName("누적 상태로 계산한 변동계수/Sharp Ratio는 리스트 버전과 같다")
+    void testCoefficientOfVariationAndSharpRatio_parityWithList() {
+        Random random = new Random(3);
+
+        for (int series = 0; series < 200; series++) {
+            // Given: 길이와 크기가 다양한 일손익 데이터
+            int length = 1 + random.nextInt(300);
+            long magnitude = (long) Math.pow(10, 1 + random.nextInt(9));
+            List<BigDecimal> profitLosses = new ArrayList<>();
+            int count = 0;
+            BigDecimal sum = BigDecimal.ZERO;
+            BigDecimal squareSum = BigDecimal.ZERO;
+
+            for (int i = 0; i < length; i++) {
+                BigDecimal profitLoss = BigDecimal.valueOf((long) ((random.nextDouble() - 0.45) * magnitude));
+                profitLosses.add(profitLoss);
+                count++;
+                sum = sum.add(profitLoss);
+                squareSum = squareSum.add(profitLoss.pow(2));
+
+                BigDecimal averageProfitLoss = sum.divide(BigDecimal.valueOf(count), 0, RoundingMode.HALF_UP);
+
+                // When: 엔진과 같이 표준편차를 한 번 계산해 공유
+                BigDecimal stdDev = DailyStatisticsCalculator.calculateStdDevProfitLoss(count, sum, squareSum);
+
+                // Then: 매 추가 시점마다 동일
+                assertEquals(
+                        DailyStatisticsCalculator.calculateCoefficientOfVariation(profitLosses, averageProfitLoss),
+                        DailyStatisticsCalculator.calculateCoefficientOfVariation(stdDev, averageProfitLoss),
+                        "변동계수 불일치 (series=" + series + ", index=" + i + ")");
+                assertEquals(
+                        DailyStatisticsCalculator.calculateSharpRatio(profitLosses, averageProfitLoss),
+                        DailyStatisticsCalculator.calculateSharpRatio(stdDev, averageProfitLoss),
+                        "Sharp Ratio 불일치 (series=" + series + ", index=" + i + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("중간 시점의 누적 상태에서 이어서 계산해도 결과가 같다")
+    void testStdDevProfitLoss_resumeFromCheckpoint() {
+        // Given: 전체 데이터와 중간 시점(체크포인트)까지의 누적 상태
+        Random random = new Random(5);
+        List<BigDecimal> profitLosses = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            profitLosses.add(BigDecimal.valueOf(random.nextInt(2_000_001) - 1_000_000));
+        }
+        int checkpoint = 613;
+        BigDecimal sum = BigDecimal.ZERO;
+        BigDecimal squareSum = BigDecimal.ZERO;
+        for (BigDecimal profitLoss : profitLosses.subList(0, checkpoint)) {
+            sum = sum.add(profitLoss);
+            squareSum = squareSum.add(profitLoss.pow(2));
+        }
+
+        // When: 중간 값 수정 후 체크포인트부터 재계산
+        profitLosses.set(checkpoint, BigDecimal.valueOf(777_777));
+        for (BigDecimal profitLoss : profitLosses.subList(checkpoint, profitLosses.size())) {
+            sum = sum.add(profitLoss);
+            squareSum = squareSum.add(profitLoss.pow(2));
+        }
+
+        // Then: 전체를 다시 순회한 결과와 동일
+        BigDecimal averageProfitLoss = sum.divide(BigDecimal.valueOf(profitLosses.size()), 0, RoundingMode.HALF_UP);
+        BigDecimal stdDev = DailyStatisticsCalculator.calculateStdDevProfitLoss(profitLosses.size(), sum, squareSum);
+        assertEquals(DailyStatisticsCalculator.calculateSharpRatio(profitLosses, averageProfitLoss),
+                DailyStatisticsCalculator.calculateSharpRatio(stdDev, averageProfitLoss));
+        assertEquals(DailyStatisticsCalculator.calculateCoefficientOfVariation(profitLosses, averageProfitLoss),
+                DailyStatisticsCalculator.calculateCoefficientOfVariation(stdDev, averageProfitLoss));
+    }
+
+    @Test
+    @DisplayName("일손익이 모두 같으면 표준편차는 0이고 Sharp Ratio도 0이다")
+    void testStdDevProfitLoss_constantSeries() {
+        // Given
+        int count = 50;
+        BigDecimal profitLoss = BigDecimal.valueOf(1234);
+        BigDecimal sum = profitLoss.multiply(BigDecimal.valueOf(count));
+        BigDecimal squareSum = profitLoss.pow(2).multiply(BigDecimal.valueOf(count));
+
+        // When
+        BigDecimal stdDev = DailyStatisticsCalculator.calculateStdDevProfitLoss(count, sum, squareSum);
+
+        // Then
+        assertEquals(0, stdDev.compareTo(BigDecimal.ZERO));
+        assertEquals(BigDecimal.ZERO, DailyStatisticsCalculator.calculateSharpRatio(stdDev, profitLoss));
+        assertEquals(0, DailyStatisticsCalculator.calculateCoefficientOfVariation(stdDev, profitLoss).compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("오늘의 DD 구간 상태만으로 계산한 KP Ratio는 전체 이력 리스트 버전과 같다")
+    void testKPRatio_parityWithHistory() {
+        Random random = new Random(5);
+
+        for (int series = 0; series < 100; series++) {
+            // Given: 자본인하 구간이 여러 번 열리고 닫히는 시계열
+            List<DdDayAndMaxDdInRate> history = new ArrayList<>();
+            int ddDay = 0;
+            BigDecimal maxDdInRate = BigDecimal.ZERO;
+
+            for (int tradingDays = 1; tradingDays <= 300; tradingDays++) {
+                BigDecimal currentDrawdownRate = random.nextInt(4) == 0
+                        ? BigDecimal.ZERO
+                        : BigDecimal.valueOf(-random.nextInt(500_000), 4);
+                BigDecimal cumulativeProfitLossRate = BigDecimal.valueOf(random.nextInt(2_000_000) - 200_000, 4);
+
+                ddDay = DailyStatisticsCalculator.calculateDdDay(currentDrawdownRate, ddDay);
+                maxDdInRate = DailyStatisticsCalculator.calculateMaxDdInRate(currentDrawdownRate, maxDdInRate, ddDay);
+                history.add(new DdDayAndMaxDdInRate(ddDay, maxDdInRate));
+
+                // When & Then: 매 추가 시점마다 동일
+                assertEquals(
+                        DailyStatisticsCalculator.calculateKPRatio(history, currentDrawdownRate, cumulativeProfitLossRate, tradingDays),
+                        DailyStatisticsCalculator.calculateKPRatio(ddDay, maxDdInRate, currentDrawdownRate, cumulativeProfitLossRate, tradingDays),
+                        "KP Ratio 불일치 (series=" + series + ", tradingDays=" + tradingDays + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.dto.DdDayAndMaxDdInRate;
+import com.sysmatic2.finalbe.strategy.dto.ReferencePricePoint;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyStatisticsEngineTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 2);
+
+    /**
+     * 무작위 일손익/입출금 시계열 생성 (잔고가 음수가 되지 않도록 원금을 크게 설정)
+     */
+    private List<DailyStatisticsReqDto> randomSeries(long seed, int days) {
+        Random random = new Random(seed);
+        List<DailyStatisticsReqDto> series = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            BigDecimal depWdPrice;
+            if (i == 0) {
+                depWdPrice = BigDecimal.valueOf(10_000_000);
+            } else if (random.nextInt(20) == 0) {
+                depWdPrice = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000);
+            } else {
+                depWdPrice = BigDecimal.ZERO;
+            }
+            // 일부 일자는 손익 0
+            BigDecimal dailyProfitLoss = random.nextInt(10) == 0
+                    ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(random.nextInt(400_000) - 190_000);
+            series.add(new DailyStatisticsReqDto(START_DATE.plusDays(i), depWdPrice, dailyProfitLoss));
+        }
+        return series;
+    }
+
+    private void assertSameValue(BigDecimal expected, BigDecimal actual, String field, LocalDate date) {
+        assertEquals(0, expected.compareTo(actual), field + " mismatch at " + date + " (expected " + expected + ", actual " + actual + ")");
+    }
+
+    @Test
+    @DisplayName("누적 상태 계산 결과가 전체 이력 기반 계산 결과와 일치하는지 테스트")
+    void testCalculateNext_matchesFullHistoryCalculation() {
+        // Given: 1년 이상의 무작위 시계열
+        List<DailyStatisticsReqDto> series = randomSeries(42L, 500);
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        List<DailyStatisticsEntity> history = new ArrayList<>();
+
+        for (DailyStatisticsReqDto reqDto : series) {
+            // When: 누적 상태로 계산
+            DailyStatisticsEntity result = DailyStatisticsEngine.calculateNext(carry, reqDto, null);
+
+            // Then: 이전 이력 전체를 사용하는 기존 계산 방식과 비교
+            LocalDate date = reqDto.getDate();
+
+            BigDecimal expectedMaxDrawdownAmount = history.stream()
+                    .map(DailyStatisticsEntity::getCurrentDrawdownAmount)
+                    .reduce(result.getCurrentDrawdownAmount(), BigDecimal::min)
+                    .min(BigDecimal.ZERO);
+            assertSameValue(expectedMaxDrawdownAmount, result.getMaxDrawdownAmount(), "maxDrawdownAmount", date);
+
+            List<BigDecimal> referencePrices = history.stream().map(DailyStatisticsEntity::getReferencePrice).toList();
+            assertSameValue(DailyStatisticsCalculator.calculateCurrentDrawdownRate(result.getReferencePrice(), referencePrices),
+                    result.getCurrentDrawdownRate(), "currentDrawdownRate", date);
+
+            BigDecimal expectedMaxDrawdownRate = history.stream()
+                    .map(DailyStatisticsEntity::getCurrentDrawdownRate)
+                    .reduce(result.getCurrentDrawdownRate(), BigDecimal::min)
+                    .min(BigDecimal.ZERO);
+            assertSameValue(expectedMaxDrawdownRate, result.getMaxDrawdownRate(), "maxDrawdownRate", date);
+
+            List<BigDecimal> dailyProfitLosses = new ArrayList<>(history.stream().map(DailyStatisticsEntity::getDailyProfitLoss).toList());
+            dailyProfitLosses.add(reqDto.getDailyProfitLoss());
+            assertSameValue(DailyStatisticsCalculator.calculateCoefficientOfVariation(dailyProfitLosses, result.getAverageProfitLoss()),
+                    result.getCoefficientOfVariation(), "coefficientOfVariation", date);
+            assertSameValue(DailyStatisticsCalculator.calculateSharpRatio(dailyProfitLosses, result.getAverageProfitLoss()),
+                    result.getSharpRatio(), "sharpRatio", date);
+
+            List<BigDecimal> depWdHistory = history.stream().map(DailyStatisticsEntity::getDepWdPrice).toList();
+            assertSameValue(DailyStatisticsCalculator.calculateCumulativeDepWd(depWdHistory, reqDto.getDepWdPrice()),
+                    result.getCumulativeDepWdPrice(), "cumulativeDepWdPrice", date);
+
+            List<BigDecimal> dailyPlRates = new ArrayList<>(history.stream().map(DailyStatisticsEntity::getDailyPlRate).toList());
+            dailyPlRates.add(result.getDailyPlRate());
+            assertSameValue(DailyStatisticsCalculator.calculateMaxDailyProfitRate(dailyPlRates),
+                    result.getMaxDailyProfitRate(), "maxDailyProfitRate", date);
+            assertSameValue(DailyStatisticsCalculator.calculateMaxDailyLossRate(dailyPlRates, result.getDailyPlRate()),
+                    result.getMaxDailyLossRate(), "maxDailyLossRate", date);
+
+            List<BigDecimal> oneYearReferencePrices = new ArrayList<>(history.stream()
+                    .filter(row -> !row.getDate().isBefore(date.minusYears(1)))
+                    .map(DailyStatisticsEntity::getReferencePrice)
+                    .toList());
+            oneYearReferencePrices.add(result.getReferencePrice());
+            assertSameValue(DailyStatisticsCalculator.calculateRecentOneYearReturn(oneYearReferencePrices),
+                    result.getRecentOneYearReturn(), "recentOneYearReturn", date);
+
+            List<DdDayAndMaxDdInRate> ddDayAndMaxDdInRates = new ArrayList<>(history.stream()
+                    .map(row -> new DdDayAndMaxDdInRate(row.getDdDay(), row.getMaxDdInRate()))
+                    .toList());
+            ddDayAndMaxDdInRates.add(new DdDayAndMaxDdInRate(result.getDdDay(), result.getMaxDdInRate()));
+            assertSameValue(DailyStatisticsCalculator.calculateKPRatio(ddDayAndMaxDdInRates, result.getCurrentDrawdownRate(),
+                            result.getCumulativeProfitLossRate(), result.getTradingDays()),
+                    result.getKpRatio(), "kpRatio", date);
+
+            List<BigDecimal> cumulativeProfitLosses = history.stream().map(DailyStatisticsEntity::getCumulativeProfitLoss).toList();
+            assertSameValue(DailyStatisticsCalculator.calculatePeak(cumulativeProfitLosses, result.getCumulativeProfitLoss()),
+                    result.getPeak(), "peak", date);
+            List<BigDecimal> cumulativeProfitLossRates = history.stream().map(DailyStatisticsEntity::getCumulativeProfitLossRate).toList();
+            assertSameValue(DailyStatisticsCalculator.calculatePeakRate(cumulativeProfitLossRates, result.getCumulativeProfitLossRate()),
+                    result.getPeakRate(), "peakRate", date);
+
+            assertEquals(DailyStatisticsCalculator.calculateStrategyOperationDays(START_DATE, date), result.getStrategyOperationDays());
+
+            history.add(result);
+        }
+    }
+
+    @Test
+    @DisplayName("중간 일자에서 복원한 누적 상태로 이어서 계산해도 결과가 같은지 테스트")
+    void testCalculateNext_resumedCarryMatchesContinuousCarry() {
+        // Given: 연속 계산 결과
+        List<DailyStatisticsReqDto> series = randomSeries(7L, 450);
+        DailyStatisticsCarry continuous = DailyStatisticsCarry.empty();
+        List<DailyStatisticsEntity> expected = new ArrayList<>();
+        for (DailyStatisticsReqDto reqDto : series) {
+            expected.add(DailyStatisticsEngine.calculateNext(continuous, reqDto, null));
+        }
+
+        // When: 300번째 일자까지의 이력으로 누적 상태를 복원 (기존 데이터처럼 누적값 컬럼 없이 이력에서 집계)
+        int split = 300;
+        List<DailyStatisticsEntity> prefix = expected.subList(0, split);
+        DailyStatisticsEntity previous = prefix.get(split - 1);
+        LocalDate nextDate = series.get(split).getDate();
+        BigDecimal maxReferencePrice = prefix.stream().map(DailyStatisticsEntity::getReferencePrice).reduce(BigDecimal::max).orElseThrow();
+        BigDecimal squareSum = prefix.stream().map(row -> row.getDailyProfitLoss().pow(2)).reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<ReferencePricePoint> window = prefix.stream()
+                .filter(row -> !row.getDate().isBefore(nextDate.minusYears(1)))
+                .map(row -> new ReferencePricePoint(row.getDate(), row.getReferencePrice()))
+                .toList();
+        DailyStatisticsCarry resumed = DailyStatisticsCarry.of(previous, maxReferencePrice, squareSum, START_DATE, window);
+
+        // Then: 이후 일자의 계산 결과가 모두 같아야 함
+        for (int i = split; i < series.size(); i++) {
+            DailyStatisticsEntity actual = DailyStatisticsEngine.calculateNext(resumed, series.get(i), null);
+            LocalDate date = series.get(i).getDate();
+            assertSameValue(expected.get(i).getReferencePrice(), actual.getReferencePrice(), "referencePrice", date);
+            assertSameValue(expected.get(i).getCurrentDrawdownRate(), actual.getCurrentDrawdownRate(), "currentDrawdownRate", date);
+            assertSameValue(expected.get(i).getSharpRatio(), actual.getSharpRatio(), "sharpRatio", date);
+            assertSameValue(expected.get(i).getCoefficientOfVariation(), actual.getCoefficientOfVariation(), "coefficientOfVariation", date);
+            assertSameValue(expected.get(i).getRecentOneYearReturn(), actual.getRecentOneYearReturn(), "recentOneYearReturn", date);
+            assertSameValue(expected.get(i).getKpRatio(), actual.getKpRatio(), "kpRatio", date);
+            assertEquals(expected.get(i).getStrategyOperationDays(), actual.getStrategyOperationDays());
+        }
+    }
+
+    @Test
+    @DisplayName("첫 번째 데이터 계산 테스트")
+    void testCalculateNext_firstEntry() {
+        // Given
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(START_DATE, BigDecimal.valueOf(1_000_000), BigDecimal.valueOf(50_000));
+
+        // When
+        DailyStatisticsEntity result = DailyStatisticsEngine.calculateNext(carry, reqDto, null);
+
+        // Then
+        assertEquals(1, result.getTradingDays());
+        assertEquals(1, result.getStrategyOperationDays());
+        assertSameValue(BigDecimal.ZERO, result.getCumulativeDepWdPrice(), "cumulativeDepWdPrice", START_DATE);
+        assertSameValue(BigDecimal.ZERO, result.getRecentOneYearReturn(), "recentOneYearReturn", START_DATE);
+        assertSameValue(result.getReferencePrice(), result.getMaxReferencePrice(), "maxReferencePrice", START_DATE);
+        assertSameValue(BigDecimal.valueOf(50_000).pow(2), result.getDailyProfitLossSquareSum(), "dailyProfitLossSquareSum", START_DATE);
+        assertTrue(carry.getPrevious().isPresent());
+    }
+
+    @Test
+    @DisplayName("잔고가 음수가 되는 경우 예외 발생 테스트")
+    void testCalculateNext_negativeBalance() {
+        // Given
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(START_DATE, BigDecimal.valueOf(1000), BigDecimal.valueOf(-2000));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DailyStatisticsEngine.calculateNext(carry, reqDto, null));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcelGeneratorTest {
+
+  private final ExcelGenerator excelGenerator = new ExcelGenerator();
+
+  @Test
+  @DisplayName("일간 통계 엑셀은 최근 행만 메모리에 유지하고, 셀 스타일은 행 수와 관계없이 워크북당 한 번만 생성")
+  void generateDailyStatisticsExcel_streamsRowsAndReusesStyles() throws Exception {
+    // Given
+    int rowCount = 1_000;
+    List<DailyStatisticsEntity> statistics = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      DailyStatisticsEntity stat = new DailyStatisticsEntity();
+      stat.setDate(LocalDate.of(2020, 1, 1).plusDays(i));
+      stat.setPrincipal(new BigDecimal("10000000"));
+      stat.setDepWdPrice(BigDecimal.ZERO);
+      stat.setDailyProfitLoss(new BigDecimal(i * 100));
+      stat.setDailyPlRate(new BigDecimal("0.0010"));
+      stat.setCumulativeProfitLoss(new BigDecimal(i * 1000));
+      stat.setCumulativeProfitLossRate(new BigDecimal("0.0100"));
+      statistics.add(stat);
+    }
+
+    // When
+    Workbook workbook = excelGenerator.generateDailyStatisticsExcel(statistics);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      // Then - 메모리에는 최근 ROW_ACCESS_WINDOW_SIZE개 행만 남음
+      SXSSFSheet streamingSheet = ((SXSSFWorkbook) workbook).getSheet("일간 통계");
+      assertNull(streamingSheet.getRow(1));
+      assertNotNull(streamingSheet.getRow(rowCount));
+
+      // 기본 + 헤더 + 날짜/숫자/퍼센트
+      assertEquals(5, workbook.getNumCellStyles());
+      workbook.write(out);
+    } finally {
+      ((SXSSFWorkbook) workbook).dispose();
+      workbook.close();
+    }
+
+    // Then - 모든 행이 파일에 기록됨
+    try (Workbook written = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+      Sheet sheet = written.getSheet("일간 통계");
+      assertEquals(rowCount, sheet.getLastRowNum());
+      assertEquals(99_900, sheet.getRow(rowCount).getCell(3).getNumericCellValue());
+    }
+  }
+}
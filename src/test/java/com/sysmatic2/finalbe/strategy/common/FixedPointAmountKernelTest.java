@@ -0,0 +1,181 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointAmountKernelTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 2);
+
+    /**
+     * 무작위 일손익/입출금 시계열 생성 (소수점 0~10자리 값 포함)
+     */
+    private List<DailyStatisticsReqDto> randomSeries(Random random, int days, long magnitude) {
+        List<DailyStatisticsReqDto> series = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            BigDecimal depWdPrice;
+            if (i == 0) {
+                depWdPrice = BigDecimal.valueOf(magnitude * 50);
+            } else if (random.nextInt(15) == 0) {
+                depWdPrice = randomAmount(random, magnitude * 5);
+            } else {
+                depWdPrice = BigDecimal.ZERO;
+            }
+            BigDecimal dailyProfitLoss = random.nextInt(10) == 0 ? BigDecimal.ZERO : randomAmount(random, magnitude);
+            series.add(new DailyStatisticsReqDto(START_DATE.plusDays(i), depWdPrice, dailyProfitLoss));
+        }
+        return series;
+    }
+
+    private BigDecimal randomAmount(Random random, long magnitude) {
+        int scale = random.nextInt(11);
+        long unscaled = (long) ((random.nextDouble() - 0.47) * magnitude * Math.pow(10, scale));
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * 저장 경계(DECIMAL(25,10))에서 모든 컬럼 값이 같은지 비교
+     */
+    private void assertSamePersistedValues(DailyStatisticsEntity expected, DailyStatisticsEntity actual) throws IllegalAccessException {
+        for (Field field : DailyStatisticsEntity.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            Object expectedValue = field.get(expected);
+            Object actualValue = field.get(actual);
+            if (expectedValue instanceof BigDecimal expectedDecimal) {
+                assertEquals(expectedDecimal.setScale(10, RoundingMode.HALF_UP), ((BigDecimal) actualValue).setScale(10, RoundingMode.HALF_UP),
+                        field.getName() + " mismatch at " + expected.getDate());
+            } else if (expectedValue instanceof Integer || expectedValue instanceof LocalDate) {
+                assertEquals(expectedValue, actualValue, field.getName() + " mismatch at " + expected.getDate());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("고정소수점 정수 나눗셈은 BigDecimal HALF_UP 나눗셈과 같다")
+    void testDivideToIntegralHalfUp_matchesBigDecimal() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            // Given: 정확히 .5로 끝나는 값 포함
+            long scaled = i % 10 == 0
+                    ? (random.nextInt(2_000_001) - 1_000_000) * FixedPointDecimal.ONE + FixedPointDecimal.ONE / 2 * (random.nextBoolean() ? 1 : -1)
+                    : (long) ((random.nextDouble() - 0.5) * 2e17);
+            int divisor = 1 + random.nextInt(10_000);
+
+            // When
+            long actual = FixedPointDecimal.divideToIntegralHalfUp(scaled, divisor);
+
+            // Then
+            BigDecimal expected = FixedPointDecimal.toBigDecimal(scaled).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP);
+            assertEquals(0, expected.compareTo(FixedPointDecimal.toBigDecimal(actual)), scaled + " / " + divisor);
+        }
+    }
+
+    @Test
+    @DisplayName("소수점 10자리를 넘거나 long 범위를 넘는 값은 변환할 수 없다")
+    void testToScaled_rejectsUnrepresentableValues() {
+        assertEquals(12_345_000_000_000L, FixedPointDecimal.toScaled(new BigDecimal("1234.5")));
+        assertEquals(0, new BigDecimal("-0.0000000001").compareTo(FixedPointDecimal.toBigDecimal(FixedPointDecimal.toScaled(new BigDecimal("-0.0000000001")))));
+        assertThrows(ArithmeticException.class, () -> FixedPointDecimal.toScaled(new BigDecimal("0.00000000001")));
+        assertThrows(ArithmeticException.class, () -> FixedPointDecimal.toScaled(new BigDecimal("1000000000")));
+    }
+
+    @Test
+    @DisplayName("고정소수점 커널 계산 결과는 BigDecimal 계산 결과와 저장 값 기준으로 같다")
+    void testCalculateNext_fixedPointMatchesBigDecimal() throws IllegalAccessException {
+        Random random = new Random(20);
+        for (int series = 0; series < 30; series++) {
+            // Given: 크기가 다양한 시계열
+            long magnitude = (long) Math.pow(10, 1 + random.nextInt(6));
+            List<DailyStatisticsReqDto> reqDtos = randomSeries(random, 400, magnitude);
+            DailyStatisticsCarry bigDecimalCarry = DailyStatisticsCarry.empty();
+            DailyStatisticsCarry fixedPointCarry = DailyStatisticsCarry.empty();
+
+            for (DailyStatisticsReqDto reqDto : reqDtos) {
+                // When
+                DailyStatisticsEntity expected = DailyStatisticsEngine.calculateNext(bigDecimalCarry, reqDto, null, DailyStatisticsKernel.BIG_DECIMAL);
+                DailyStatisticsEntity actual = DailyStatisticsEngine.calculateNext(fixedPointCarry, reqDto, null, DailyStatisticsKernel.FIXED_POINT);
+
+                // Then
+                assertSamePersistedValues(expected, actual);
+            }
+            assertNotNull(fixedPointCarry.getFixedPointAmounts(), "고정소수점 상태가 유지되어야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 이전 데이터에서 이어서 계산해도 결과가 같다")
+    void testCalculateNext_resumeFromPersistedRow() throws IllegalAccessException {
+        // Given: BigDecimal로 계산된 이전 데이터 (DB에서 읽은 것처럼 scale 10)
+        Random random = new Random(8);
+        List<DailyStatisticsReqDto> reqDtos = randomSeries(random, 200, 100_000);
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        for (DailyStatisticsReqDto reqDto : reqDtos.subList(0, 100)) {
+            DailyStatisticsEngine.calculateNext(carry, reqDto, null);
+        }
+        DailyStatisticsEntity previous = carry.getPrevious().orElseThrow();
+        for (Field field : DailyStatisticsEntity.class.getDeclaredFields()) {
+            field.setAccessible(true);
+            if (field.get(previous) instanceof BigDecimal value) {
+                field.set(previous, value.setScale(10, RoundingMode.HALF_UP));
+            }
+        }
+        DailyStatisticsCarry bigDecimalCarry = DailyStatisticsCarry.of(previous, previous.getMaxReferencePrice(),
+                previous.getDailyProfitLossSquareSum(), START_DATE, List.of());
+        DailyStatisticsCarry fixedPointCarry = DailyStatisticsCarry.of(previous, previous.getMaxReferencePrice(),
+                previous.getDailyProfitLossSquareSum(), START_DATE, List.of());
+
+        // When & Then
+        for (DailyStatisticsReqDto reqDto : reqDtos.subList(100, 200)) {
+            assertSamePersistedValues(
+                    DailyStatisticsEngine.calculateNext(bigDecimalCarry, reqDto, null, DailyStatisticsKernel.BIG_DECIMAL),
+                    DailyStatisticsEngine.calculateNext(fixedPointCarry, reqDto, null, DailyStatisticsKernel.FIXED_POINT));
+        }
+    }
+
+    @Test
+    @DisplayName("고정소수점 범위를 넘는 금액은 BigDecimal 계산으로 대체된다")
+    void testCalculateNext_fallbackOnOverflow() throws IllegalAccessException {
+        // Given: long 범위를 넘는 원금 (10억 이상)
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                new DailyStatisticsReqDto(START_DATE, BigDecimal.valueOf(5_000_000_000L), BigDecimal.ZERO),
+                new DailyStatisticsReqDto(START_DATE.plusDays(1), BigDecimal.ZERO, BigDecimal.valueOf(12_345_678)),
+                new DailyStatisticsReqDto(START_DATE.plusDays(2), BigDecimal.ZERO, BigDecimal.valueOf(-2_345_678)));
+        DailyStatisticsCarry bigDecimalCarry = DailyStatisticsCarry.empty();
+        DailyStatisticsCarry fixedPointCarry = DailyStatisticsCarry.empty();
+
+        // When & Then
+        for (DailyStatisticsReqDto reqDto : reqDtos) {
+            assertSamePersistedValues(
+                    DailyStatisticsEngine.calculateNext(bigDecimalCarry, reqDto, null, DailyStatisticsKernel.BIG_DECIMAL),
+                    DailyStatisticsEngine.calculateNext(fixedPointCarry, reqDto, null, DailyStatisticsKernel.FIXED_POINT));
+            assertNull(fixedPointCarry.getFixedPointAmounts());
+        }
+    }
+
+    @Test
+    @DisplayName("잔고가 음수가 되면 BigDecimal 계산과 같은 예외가 발생한다")
+    void testCalculateNext_negativeBalance() {
+        // Given
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        DailyStatisticsEngine.calculateNext(carry,
+                new DailyStatisticsReqDto(START_DATE, BigDecimal.valueOf(1000), BigDecimal.ZERO), null, DailyStatisticsKernel.FIXED_POINT);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> DailyStatisticsEngine.calculateNext(carry,
+                        new DailyStatisticsReqDto(START_DATE.plusDays(1), BigDecimal.ZERO, BigDecimal.valueOf(-1500)), null, DailyStatisticsKernel.FIXED_POINT));
+        assertTrue(exception.getMessage().startsWith("잔고가 0보다 작을 수 없습니다."));
+    }
+}
@@ -0,0 +1,79 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbDownsamplerTest {
+
+    @Test
+    @DisplayName("데이터 수가 maxPoints 이하이면 전체 인덱스 반환")
+    void selectIndices_smallSeries() {
+        // Given
+        double[][] series = {{1, 2, 3, 4}};
+
+        // When
+        int[] indices = LttbDownsampler.selectIndices(series, 4, 10);
+
+        // Then
+        assertArrayEquals(new int[]{0, 1, 2, 3}, indices);
+    }
+
+    @Test
+    @DisplayName("첫 점과 마지막 점을 남기고, maxPoints개의 오름차순 인덱스 안에 급등 구간을 포함")
+    void selectIndices_keepsSpike() {
+        // Given - 1000개의 완만한 값 중 한 점만 급등
+        int size = 1000;
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i * 0.01;
+        }
+        values[517] = 500;
+
+        // When
+        int[] indices = LttbDownsampler.selectIndices(new double[][]{values}, size, 50);
+
+        // Then
+        assertEquals(50, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(size - 1, indices[indices.length - 1]);
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+        assertTrue(Arrays.stream(indices).anyMatch(index -> index == 517));
+    }
+
+    @Test
+    @DisplayName("여러 계열은 같은 인덱스를 공유하며, 값의 범위가 작은 계열의 급등도 유지 (값이 없는 점은 무시)")
+    void selectIndices_multiSeries() {
+        // Given - 잔고(큰 값)는 완만, 일손익률(작은 값)은 한 점만 급등, 일부 값 없음
+        int size = 2000;
+        double[] balance = new double[size];
+        double[] dailyPlRate = new double[size];
+        for (int i = 0; i < size; i++) {
+            balance[i] = 10_000_000 + i * 1000;
+            dailyPlRate[i] = 0.001;
+        }
+        dailyPlRate[1234] = 0.2;
+        for (int i = 100; i < 200; i++) {
+            dailyPlRate[i] = Double.NaN;
+        }
+
+        // When
+        int[] indices = LttbDownsampler.selectIndices(new double[][]{balance, dailyPlRate}, size, 100);
+
+        // Then
+        assertEquals(100, indices.length);
+        assertTrue(Arrays.stream(indices).anyMatch(index -> index == 1234));
+    }
+
+    @Test
+    @DisplayName("maxPoints가 3보다 작으면 예외 발생")
+    void selectIndices_invalidMaxPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LttbDownsampler.selectIndices(new double[][]{{1, 2, 3, 4}}, 4, 2));
+    }
+}
@@ -0,0 +1,127 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyStatisticsCalculatorTest {
+
+    /**
+     * 엔진으로 계산한 일간 데이터 생성 (3월은 데이터 없음)
+     */
+    private List<DailyStatisticsEntity> dailyRows(Random random) {
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        List<DailyStatisticsEntity> rows = new ArrayList<>();
+        LocalDate date = LocalDate.of(2024, 1, 2);
+        while (date.isBefore(LocalDate.of(2024, 7, 1))) {
+            if (date.getMonthValue() != 3 && random.nextInt(7) != 0) {
+                BigDecimal depWdPrice = rows.isEmpty()
+                        ? BigDecimal.valueOf(1_000_000)
+                        : random.nextInt(10) == 0 ? BigDecimal.valueOf(random.nextInt(100_000), 2) : BigDecimal.ZERO;
+                BigDecimal dailyProfitLoss = BigDecimal.valueOf(random.nextInt(40_000) - 18_000, random.nextInt(3));
+                rows.add(DailyStatisticsEngine.calculateNext(carry, new DailyStatisticsReqDto(date, depWdPrice, dailyProfitLoss), null));
+            }
+            date = date.plusDays(1);
+        }
+        return rows;
+    }
+
+    /**
+     * 월 단위 리스트 계산(기존 방식)으로 기대값 검증
+     */
+    private void assertSameAsListCalculation(List<DailyStatisticsEntity> monthRows, BigDecimal previousMonthReferencePrice,
+                                             MonthlyStatisticsEntity actual) {
+        DailyStatisticsEntity last = monthRows.get(monthRows.size() - 1);
+        BigDecimal principalSum = monthRows.stream().map(DailyStatisticsEntity::getPrincipal).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertEquals(principalSum.divide(BigDecimal.valueOf(monthRows.size()), 4, RoundingMode.HALF_UP), actual.getMonthlyAvgPrincipal());
+        assertEquals(0, monthRows.stream().map(DailyStatisticsEntity::getDepWdPrice).reduce(BigDecimal.ZERO, BigDecimal::add)
+                .compareTo(actual.getMonthlyDepWdAmount()));
+        assertEquals(0, monthRows.stream().map(DailyStatisticsEntity::getDailyProfitLoss).reduce(BigDecimal.ZERO, BigDecimal::add)
+                .compareTo(actual.getMonthlyProfitLoss()));
+        assertEquals(MonthlyStatisticsCalculator.calculateMonthlyReturn(previousMonthReferencePrice, last.getReferencePrice()),
+                actual.getMonthlyReturn());
+        assertEquals(MonthlyStatisticsCalculator.calculateCumulativeProfitLoss(last), actual.getMonthlyCumulativeProfitLoss());
+        assertEquals(MonthlyStatisticsCalculator.calculateCumulativeReturn(last), actual.getMonthlyCumulativeReturn());
+        assertEquals(monthRows.size(), actual.getDailyCount());
+    }
+
+    @Test
+    @DisplayName("일간 데이터를 하나씩 누적한 월간 통계는 해당 월 전체 데이터로 계산한 값과 같다")
+    void testAccumulateDailyStatistics_parityWithMonthList() {
+        // Given
+        List<DailyStatisticsEntity> rows = dailyRows(new Random(9));
+        Map<YearMonth, List<DailyStatisticsEntity>> rowsByMonth = new TreeMap<>();
+        rows.forEach(row -> rowsByMonth.computeIfAbsent(YearMonth.from(row.getDate()), month -> new ArrayList<>()).add(row));
+
+        for (Map.Entry<YearMonth, List<DailyStatisticsEntity>> entry : rowsByMonth.entrySet()) {
+            List<DailyStatisticsEntity> previousMonthRows = rowsByMonth.get(entry.getKey().minusMonths(1));
+            BigDecimal previousMonthReferencePrice = previousMonthRows == null
+                    ? BigDecimal.ZERO
+                    : previousMonthRows.get(previousMonthRows.size() - 1).getReferencePrice();
+            MonthlyStatisticsEntity monthlyStatistics = new MonthlyStatisticsEntity();
+            MonthlyStatisticsCalculator.resetMonthlyCarry(monthlyStatistics, previousMonthReferencePrice);
+
+            List<DailyStatisticsEntity> monthRows = entry.getValue();
+            for (int i = 0; i < monthRows.size(); i++) {
+                // When
+                MonthlyStatisticsCalculator.accumulateDailyStatistics(monthlyStatistics, monthRows.get(i));
+
+                // Then: 매 추가 시점마다 동일
+                assertSameAsListCalculation(monthRows.subList(0, i + 1), previousMonthReferencePrice, monthlyStatistics);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜순 일간 데이터를 한 번 순회해 여러 월을 생성하고, 기존 월간 데이터는 PK를 유지한다")
+    void testBuildMonthlyStatistics() {
+        // Given: 기존 1월 월간 데이터 (누적 상태 없음)
+        List<DailyStatisticsEntity> rows = dailyRows(new Random(4));
+        MonthlyStatisticsEntity existingJanuary = MonthlyStatisticsEntity.builder()
+                .monthlyStatisticsId(7L)
+                .analysisMonth("2024-01")
+                .build();
+
+        // When
+        List<MonthlyStatisticsEntity> result = MonthlyStatisticsCalculator.buildMonthlyStatistics(
+                rows, BigDecimal.ZERO, Map.of("2024-01", existingJanuary));
+
+        // Then: 데이터가 있는 월만 생성 (3월 제외)
+        assertEquals(List.of("2024-01", "2024-02", "2024-04", "2024-05", "2024-06"),
+                result.stream().map(MonthlyStatisticsEntity::getAnalysisMonth).toList());
+        assertSame(existingJanuary, result.get(0));
+        assertEquals(7L, result.get(0).getMonthlyStatisticsId());
+
+        // 월마다 기존 방식 계산과 동일 (3월 데이터가 없으므로 4월의 이전 기준가는 0)
+        Map<String, BigDecimal> previousReferencePrices = Map.of(
+                "2024-01", BigDecimal.ZERO,
+                "2024-02", lastReferencePrice(rows, YearMonth.of(2024, 1)),
+                "2024-04", BigDecimal.ZERO,
+                "2024-05", lastReferencePrice(rows, YearMonth.of(2024, 4)),
+                "2024-06", lastReferencePrice(rows, YearMonth.of(2024, 5)));
+        for (MonthlyStatisticsEntity monthlyStatistics : result) {
+            YearMonth month = YearMonth.parse(monthlyStatistics.getAnalysisMonth());
+            List<DailyStatisticsEntity> monthRows = rows.stream().filter(row -> YearMonth.from(row.getDate()).equals(month)).toList();
+            assertSameAsListCalculation(monthRows, previousReferencePrices.get(monthlyStatistics.getAnalysisMonth()), monthlyStatistics);
+        }
+    }
+
+    private BigDecimal lastReferencePrice(List<DailyStatisticsEntity> rows, YearMonth month) {
+        return rows.stream()
+                .filter(row -> YearMonth.from(row.getDate()).equals(month))
+                .reduce((first, second) -> second)
+                .map(DailyStatisticsEntity::getReferencePrice)
+                .orElseThrow();
+    }
+}
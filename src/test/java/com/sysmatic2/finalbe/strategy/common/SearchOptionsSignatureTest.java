@@ -0,0 +1,42 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchOptionsSignatureTest {
+
+    @Test
+    @DisplayName("목록 순서/중복, 숫자 표기, 키워드 대소문자가 달라도 같은 필터면 같은 시그니처인지 테스트")
+    void testOf_normalizesEquivalentOptions() {
+        // Given
+        SearchOptionsDto first = new SearchOptionsDto();
+        first.setInvestmentAssetClassesIdList(List.of(3, 1, 3));
+        first.setTradingTypeIdList(List.of());
+        first.setMinPrincipal(new BigDecimal("1000.00"));
+        first.setMaxMdd(new BigDecimal("-0.50"));
+        first.setKeyword("Alpha");
+
+        SearchOptionsDto second = new SearchOptionsDto();
+        second.setInvestmentAssetClassesIdList(List.of(1, 3));
+        second.setMinPrincipal(new BigDecimal("1E+3"));
+        second.setMaxMdd(new BigDecimal("-0.5"));
+        second.setKeyword("alpha");
+
+        SearchOptionsDto different = new SearchOptionsDto();
+        different.setInvestmentAssetClassesIdList(List.of(1, 3));
+        different.setMaxPrincipal(new BigDecimal("1000"));
+        different.setMaxMdd(new BigDecimal("-0.5"));
+        different.setKeyword("alpha");
+
+        // When & Then
+        assertEquals(SearchOptionsSignature.of(first), SearchOptionsSignature.of(second));
+        assertNotEquals(SearchOptionsSignature.of(first), SearchOptionsSignature.of(different));
+        assertNotEquals(SearchOptionsSignature.of(1, null), SearchOptionsSignature.of(null, 1));
+    }
+}
@@ -0,0 +1,146 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparklineSeriesTest {
+
+    private List<BigDecimal> randomWalk(Random random, int size) {
+        List<BigDecimal> values = new ArrayList<>(size);
+        BigDecimal value = BigDecimal.ZERO;
+        for (int i = 0; i < size; i++) {
+            value = value.add(BigDecimal.valueOf(random.nextInt(2001) - 1000, 5));
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * 최종 버킷 너비로 전체 데이터를 직접 나눠 계산한 기대값 (버킷별 최소/최대를 발생 순서대로, 마지막 값 포함)
+     */
+    private List<BigDecimal> expectedPoints(List<BigDecimal> values) {
+        int bucketWidth = 1;
+        while ((values.size() + bucketWidth - 1) / bucketWidth > SparklineSeries.MAX_BUCKETS) {
+            bucketWidth *= 2;
+        }
+        List<BigDecimal> points = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += bucketWidth) {
+            List<BigDecimal> bucket = values.subList(from, Math.min(from + bucketWidth, values.size()));
+            int minIndex = 0;
+            int maxIndex = 0;
+            for (int i = 1; i < bucket.size(); i++) {
+                if (bucket.get(i).compareTo(bucket.get(minIndex)) < 0) minIndex = i;
+                if (bucket.get(i).compareTo(bucket.get(maxIndex)) > 0) maxIndex = i;
+            }
+            BigDecimal first = bucket.get(Math.min(minIndex, maxIndex));
+            BigDecimal second = bucket.get(Math.max(minIndex, maxIndex));
+            points.add(first.setScale(6, RoundingMode.HALF_UP));
+            if (second.compareTo(first) != 0) {
+                points.add(second.setScale(6, RoundingMode.HALF_UP));
+            }
+        }
+        BigDecimal last = values.get(values.size() - 1).setScale(6, RoundingMode.HALF_UP);
+        if (points.get(points.size() - 1).compareTo(last) != 0) {
+            points.add(last);
+        }
+        return points;
+    }
+
+    @Test
+    @DisplayName("하나씩 이어 붙인 스파크라인은 전체 데이터를 버킷으로 나눠 계산한 결과와 같다")
+    void testAppend_parityWithDirectBucketing() {
+        Random random = new Random(11);
+        for (int size : new int[]{1, 2, 63, 64, 65, 128, 129, 500, 1000, 3000}) {
+            // Given
+            List<BigDecimal> values = randomWalk(random, size);
+
+            // When: 저장/복원을 반복하며 하나씩 추가 (일간 등록과 같은 방식)
+            byte[] encoded = null;
+            for (BigDecimal value : values) {
+                SparklineSeries series = SparklineSeries.decode(encoded);
+                series.append(value);
+                encoded = series.encode();
+            }
+
+            // Then
+            List<BigDecimal> actual = SparklineSeries.decodePoints(encoded);
+            assertEquals(expectedPoints(values), actual, "size " + size);
+            assertEquals(SparklineSeries.of(values).toPoints(), actual);
+            assertTrue(actual.size() <= SparklineSeries.MAX_BUCKETS * 2 + 1);
+            assertEquals(0, values.get(size - 1).compareTo(actual.get(actual.size() - 1)), "마지막 값 유지");
+        }
+    }
+
+    @Test
+    @DisplayName("고정소수점 배열로 만든 스파크라인은 BigDecimal 리스트로 만든 결과와 같다")
+    void testOfFixedPoint_parityWithBigDecimal() {
+        // Given: DB에서 읽은 것처럼 소수점 10자리 값 (반올림 경계값 포함)
+        Random random = new Random(5);
+        List<BigDecimal> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long unscaled = i % 50 == 0 ? (random.nextInt(2_000_001) - 1_000_000) * 10_000L + 5_000L * (random.nextBoolean() ? 1 : -1)
+                    : random.nextLong() % 100_000_000_000L;
+            values.add(BigDecimal.valueOf(unscaled, FixedPointDecimal.SCALE));
+        }
+        long[] fixedPointValues = values.stream().mapToLong(FixedPointDecimal::toScaled).toArray();
+
+        // When & Then
+        assertEquals(SparklineSeries.of(values).toPoints(), SparklineSeries.of(fixedPointValues).toPoints());
+        assertArrayEquals(SparklineSeries.of(values).encode(), SparklineSeries.of(fixedPointValues).encode());
+    }
+
+    @Test
+    @DisplayName("직렬화 크기는 데이터 수와 관계없이 고정된 상한을 넘지 않는다")
+    void testEncode_boundedSize() {
+        SparklineSeries series = SparklineSeries.of(randomWalk(new Random(3), 10_000));
+
+        assertEquals(10_000, series.getCount());
+        assertTrue(series.encode().length <= SparklineSeries.MAX_ENCODED_SIZE);
+        assertEquals(List.of(), SparklineSeries.decodePoints(null));
+    }
+
+    @Test
+    @DisplayName("누적 수익률이 10,000% 이상이어도 잘리지 않고 그대로 저장된다")
+    void testAppend_largeRate() {
+        // Given: 0% -> 12,345.678901% -> -3,000% (int 소수점 6자리 범위 약 ±2147% 초과)
+        List<BigDecimal> values = List.of(BigDecimal.ZERO, new BigDecimal("12345.6789012345"), new BigDecimal("-3000"));
+        long[] fixedPointValues = values.stream().mapToLong(FixedPointDecimal::toScaled).toArray();
+
+        // When
+        List<BigDecimal> points = SparklineSeries.decodePoints(SparklineSeries.of(values).encode());
+
+        // Then
+        assertEquals(List.of(new BigDecimal("0.000000"), new BigDecimal("12345.678901"), new BigDecimal("-3000.000000")), points);
+        assertEquals(points, SparklineSeries.of(fixedPointValues).toPoints());
+    }
+
+    @Test
+    @DisplayName("이전 형식(int32 값)의 스파크라인도 읽을 수 있고, 다시 생성할 대상으로 구분된다")
+    void testDecode_legacyFormat() {
+        // Given: 데이터 수 2, 버킷 너비 1, 마지막 값 0.02, 버킷 [0.01, 0.01], [0.02, 0.02]
+        byte[] legacy = ByteBuffer.allocate(12 + 16)
+                .putInt(2).putInt(1).putInt(20_000)
+                .putInt(10_000).putInt(10_000).putInt(20_000).putInt(20_000)
+                .array();
+
+        // When
+        SparklineSeries series = SparklineSeries.decode(legacy);
+
+        // Then
+        assertTrue(SparklineSeries.needsRebuild(legacy));
+        assertEquals(2, series.getCount());
+        assertEquals(List.of(new BigDecimal("0.010000"), new BigDecimal("0.020000")), series.toPoints());
+        assertFalse(SparklineSeries.needsRebuild(series.encode()));
+        assertFalse(SparklineSeries.needsRebuild(SparklineSeries.empty().encode()));
+        assertEquals(series.toPoints(), SparklineSeries.decodePoints(series.encode()));
+    }
+}
@@ -0,0 +1,130 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일간 분석 지표 다운로드의 xlsx(SXSSF), csv, csv.gz 생성 시간과 크기 비교.
+ * - 실행: mvn test -Dtest=StatisticsExportBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StatisticsExportBenchmarkTest {
+  private static final int ROW_COUNT = 10_000; // 약 40년치 거래일
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURE_ROUNDS = 5;
+
+  private final ExcelGenerator excelGenerator = new ExcelGenerator();
+  private final CsvGenerator csvGenerator = new CsvGenerator();
+
+  @Test
+  @DisplayName("10,000행 x 43컬럼 일간 분석 지표의 xlsx/csv/csv.gz 생성 시간과 크기 비교")
+  void benchmarkExport() throws Exception {
+    // Given - DB와 같은 소수 10자리 값
+    List<DailyStatisticsEntity> statistics = statistics(new Random(10_000));
+
+    // When
+    long xlsxNanos = 0;
+    long csvNanos = 0;
+    long gzipNanos = 0;
+    int xlsxSize = 0;
+    int csvSize = 0;
+    int gzipSize = 0;
+    for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+      long start = System.nanoTime();
+      xlsxSize = xlsx(statistics);
+      long xlsxDone = System.nanoTime();
+      csvSize = csv(statistics, false);
+      long csvDone = System.nanoTime();
+      gzipSize = csv(statistics, true);
+      long gzipDone = System.nanoTime();
+      if (round >= WARMUP_ROUNDS) {
+        xlsxNanos += xlsxDone - start;
+        csvNanos += csvDone - xlsxDone;
+        gzipNanos += gzipDone - csvDone;
+      }
+    }
+
+    // Then
+    assertTrue(csvNanos < xlsxNanos);
+
+    System.out.printf("rows: %,d x %d columns%n", ROW_COUNT, StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS.size());
+    print("xlsx (SXSSF)", xlsxSize, xlsxNanos);
+    print("csv", csvSize, csvNanos);
+    print("csv.gz", gzipSize, gzipNanos);
+  }
+
+  private int xlsx(List<DailyStatisticsEntity> statistics) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Workbook workbook = excelGenerator.generateDailyAnalysisIndicatorsExcel(statistics);
+    try {
+      workbook.write(out);
+    } finally {
+      ((SXSSFWorkbook) workbook).dispose();
+      workbook.close();
+    }
+    return out.size();
+  }
+
+  private int csv(List<DailyStatisticsEntity> statistics, boolean gzip) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    if (gzip) {
+      try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+        csvGenerator.writeCsv(StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS, statistics, gzipOut);
+      }
+    } else {
+      csvGenerator.writeCsv(StatisticsExportColumns.DAILY_ANALYSIS_INDICATORS, statistics, out);
+    }
+    return out.size();
+  }
+
+  private static void print(String format, int size, long nanos) {
+    double millis = nanos / 1_000_000.0 / MEASURE_ROUNDS;
+    System.out.printf("%-12s: %,d bytes, %.1f ms/export (%,.0f rows/s)%n", format, size, millis, ROW_COUNT / millis * 1000);
+  }
+
+  // BigDecimal/Integer 필드를 모두 채운 일간 통계 (setter를 찾아 채움)
+  private static List<DailyStatisticsEntity> statistics(Random random) throws Exception {
+    List<Method> decimalSetters = new ArrayList<>();
+    List<Method> integerSetters = new ArrayList<>();
+    for (Method method : DailyStatisticsEntity.class.getMethods()) {
+      if (method.getName().startsWith("set") && method.getParameterCount() == 1) {
+        if (method.getParameterTypes()[0] == BigDecimal.class) {
+          decimalSetters.add(method);
+        } else if (method.getParameterTypes()[0] == Integer.class) {
+          integerSetters.add(method);
+        }
+      }
+    }
+
+    List<DailyStatisticsEntity> statistics = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      DailyStatisticsEntity stat = new DailyStatisticsEntity();
+      stat.setDate(LocalDate.of(1985, 1, 2).plusDays(i));
+      for (Method setter : decimalSetters) {
+        double value = random.nextGaussian() * (random.nextBoolean() ? 1_000_000 : 0.01);
+        setter.invoke(stat, BigDecimal.valueOf(value).setScale(10, RoundingMode.HALF_UP));
+      }
+      for (Method setter : integerSetters) {
+        setter.invoke(stat, random.nextInt(1_000));
+      }
+      statistics.add(stat);
+    }
+    return statistics;
+  }
+}
@@ -0,0 +1,35 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyCursorTest {
+
+    @Test
+    @DisplayName("커서를 토큰으로 변환한 뒤 다시 변환하면 SM-Score와 전략 ID가 같은지 테스트")
+    void testEncodeDecode_roundTrip() {
+        // Given
+        StrategyCursor cursor = new StrategyCursor(new BigDecimal("-12.3400"), 987L);
+
+        // When
+        StrategyCursor decoded = StrategyCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(new BigDecimal("-12.3400"), decoded.getSmScore());
+        assertEquals(987L, decoded.getStrategyId());
+        assertNull(StrategyCursor.decode(null));
+        assertNull(StrategyCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 IllegalArgumentException이 발생하는지 테스트")
+    void testDecode_invalidToken() {
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode("not-a-cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode("djE6YWJjOjE")); // v1:abc:1
+        assertThrows(IllegalArgumentException.class, () -> StrategyCursor.decode("djI6MToy"));    // v2:1:2
+    }
+}
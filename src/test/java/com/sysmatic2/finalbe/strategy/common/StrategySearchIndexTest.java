@@ -0,0 +1,239 @@
+package com.sysmatic2.finalbe.strategy.common;
+
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategySearchIndexTest {
+
+    private static final List<String> STATUS_CODES = List.of("STRATEGY_OPERATION_UNDER_MANAGEMENT", "STRATEGY_OPERATION_TERMINATED");
+    private static final List<String> MIN_INVESTMENT_AMOUNTS = List.of("1000만원 이하", "1000만원~5000만원", "1억 이상");
+
+    private StrategySearchIndexRow row(long strategyId, String title, int tradingTypeId, int smScore, Integer operationDays) {
+        StrategySearchIndexRow row = new StrategySearchIndexRow();
+        row.setStrategyId(strategyId);
+        row.setTradingTypeId(tradingTypeId);
+        row.setTradingCycleId(1);
+        row.setStrategyStatusCode(STATUS_CODES.get(0));
+        row.setMinInvestmentAmount(MIN_INVESTMENT_AMOUNTS.get(0));
+        row.setStrategyTitle(title);
+        row.setIsPosted("Y");
+        row.setIsApproved("Y");
+        row.setSmScore(BigDecimal.valueOf(smScore));
+        row.setFollowersCount(0L);
+        if (operationDays != null) {
+            row.setPrincipal(BigDecimal.valueOf(10_000_000));
+            row.setMaxDrawdownRate(BigDecimal.valueOf(-0.1));
+            row.setStrategyOperationDays(operationDays);
+            row.setCumulativeProfitLossRate(BigDecimal.valueOf(0.2));
+        }
+        row.setInvestmentAssetClassesIds(new ArrayList<>(List.of(1)));
+        return row;
+    }
+
+    private StrategySearchIndexRow randomRow(Random random, long strategyId) {
+        StrategySearchIndexRow row = row(strategyId, "Strategy " + strategyId + (random.nextBoolean() ? " Alpha" : " beta"),
+                1 + random.nextInt(3), random.nextInt(101), random.nextInt(5) == 0 ? null : random.nextInt(1500));
+        row.setTradingCycleId(1 + random.nextInt(2));
+        row.setStrategyStatusCode(STATUS_CODES.get(random.nextInt(STATUS_CODES.size())));
+        row.setMinInvestmentAmount(MIN_INVESTMENT_AMOUNTS.get(random.nextInt(MIN_INVESTMENT_AMOUNTS.size())));
+        row.setIsPosted(random.nextInt(10) == 0 ? "N" : "Y");
+        row.setIsApproved(random.nextInt(10) == 0 ? "P" : "Y");
+        row.setSmScore(BigDecimal.valueOf(random.nextInt(10001), 2));
+        if (row.getStrategyOperationDays() != null) {
+            row.setPrincipal(BigDecimal.valueOf(random.nextInt(1000) * 100_000L));
+            row.setMaxDrawdownRate(BigDecimal.valueOf(-random.nextInt(5001), 4));
+            row.setCumulativeProfitLossRate(BigDecimal.valueOf(random.nextInt(10001) - 2000, 4));
+        }
+        Set<Integer> iacIds = new TreeSet<>();
+        for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+            iacIds.add(1 + random.nextInt(6));
+        }
+        row.setInvestmentAssetClassesIds(new ArrayList<>(iacIds));
+        return row;
+    }
+
+    private SearchOptionsDto randomOptions(Random random) {
+        SearchOptionsDto options = new SearchOptionsDto();
+        if (random.nextBoolean()) options.setTradingTypeIdList(List.of(1 + random.nextInt(3), 1 + random.nextInt(3)));
+        if (random.nextBoolean()) options.setTradingCylcleIdList(List.of(1 + random.nextInt(2)));
+        if (random.nextBoolean()) options.setInvestmentAssetClassesIdList(List.of(1 + random.nextInt(6), 1 + random.nextInt(6)));
+        if (random.nextBoolean()) options.setStrategyOperationStatusList(List.of(STATUS_CODES.get(random.nextInt(2))));
+        if (random.nextInt(4) == 0) options.setMinInvestmentAmount(MIN_INVESTMENT_AMOUNTS.get(random.nextInt(3)));
+        if (random.nextBoolean()) options.setOperationDaysList(List.of(1 + random.nextInt(4), 1 + random.nextInt(4)));
+        if (random.nextBoolean()) options.setReturnRateList(List.of(1 + random.nextInt(3)));
+        if (random.nextInt(3) == 0) options.setMinPrincipal(BigDecimal.valueOf(random.nextInt(500) * 100_000L));
+        if (random.nextInt(3) == 0) options.setMaxPrincipal(BigDecimal.valueOf((500 + random.nextInt(500)) * 100_000L));
+        if (random.nextInt(3) == 0) options.setMinSmscore(random.nextInt(50));
+        if (random.nextInt(3) == 0) options.setMaxSmscore(50 + random.nextInt(51));
+        if (random.nextInt(3) == 0) options.setMinMdd(BigDecimal.valueOf(-random.nextInt(5001), 4));
+        if (random.nextInt(4) == 0) options.setKeyword(random.nextBoolean() ? "ALPHA" : "1");
+        return options;
+    }
+
+    /**
+     * DB 검색 조건을 BigDecimal 그대로 한 건씩 확인하는 기준 구현
+     */
+    private boolean matches(StrategySearchIndexRow row, SearchOptionsDto options) {
+        if (!"Y".equals(row.getIsPosted()) || !"Y".equals(row.getIsApproved())) return false;
+        if (options.getMinInvestmentAmount() != null && !options.getMinInvestmentAmount().equals(row.getMinInvestmentAmount())) return false;
+        if (options.getKeyword() != null && !row.getStrategyTitle().toLowerCase().contains(options.getKeyword().toLowerCase())) return false;
+        if (options.getTradingTypeIdList() != null && !options.getTradingTypeIdList().contains(row.getTradingTypeId())) return false;
+        if (options.getStrategyOperationStatusList() != null && !options.getStrategyOperationStatusList().contains(row.getStrategyStatusCode())) return false;
+        if (options.getTradingCylcleIdList() != null && !options.getTradingCylcleIdList().contains(row.getTradingCycleId())) return false;
+        if (options.getInvestmentAssetClassesIdList() != null
+                && row.getInvestmentAssetClassesIds().stream().noneMatch(options.getInvestmentAssetClassesIdList()::contains)) return false;
+        if (options.getMinSmscore() != null && row.getSmScore().compareTo(BigDecimal.valueOf(options.getMinSmscore())) < 0) return false;
+        if (options.getMaxSmscore() != null && row.getSmScore().compareTo(BigDecimal.valueOf(options.getMaxSmscore())) > 0) return false;
+
+        boolean statisticsFilter = options.getOperationDaysList() != null || options.getReturnRateList() != null
+                || options.getMinPrincipal() != null || options.getMaxPrincipal() != null
+                || options.getMinMdd() != null || options.getMaxMdd() != null;
+        if (!statisticsFilter) return true;
+        if (row.getStrategyOperationDays() == null) return false;
+
+        if (options.getOperationDaysList() != null) {
+            int days = row.getStrategyOperationDays();
+            boolean any = options.getOperationDaysList().stream().anyMatch(bucket ->
+                    (bucket == 1 && days < 365) || (bucket == 2 && days >= 365 && days <= 730)
+                            || (bucket == 3 && days >= 730 && days <= 1095) || (bucket == 4 && days > 1095));
+            if (!any) return false;
+        }
+        if (options.getMinPrincipal() != null && row.getPrincipal().compareTo(options.getMinPrincipal()) < 0) return false;
+        if (options.getMaxPrincipal() != null && row.getPrincipal().compareTo(options.getMaxPrincipal()) > 0) return false;
+        if (options.getMinMdd() != null && row.getMaxDrawdownRate().compareTo(options.getMinMdd()) < 0) return false;
+        if (options.getReturnRateList() != null) {
+            BigDecimal rate = row.getCumulativeProfitLossRate();
+            boolean any = options.getReturnRateList().stream().anyMatch(bucket ->
+                    (bucket == 1 && rate.compareTo(new BigDecimal("0.10")) <= 0)
+                            || (bucket == 2 && rate.compareTo(new BigDecimal("0.10")) > 0 && rate.compareTo(new BigDecimal("0.30")) < 0)
+                            || (bucket == 3 && rate.compareTo(new BigDecimal("0.30")) >= 0));
+            if (!any) return false;
+        }
+        return true;
+    }
+
+    private List<Long> expectedIds(Collection<StrategySearchIndexRow> rows, SearchOptionsDto options) {
+        return rows.stream()
+                .filter(row -> matches(row, options))
+                .sorted(Comparator.comparing(StrategySearchIndexRow::getSmScore).reversed()
+                        .thenComparing(StrategySearchIndexRow::getStrategyId))
+                .map(StrategySearchIndexRow::getStrategyId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("임의 데이터와 임의 조건에서 인덱스 검색 결과가 조건을 하나씩 확인한 결과와 같은지 테스트")
+    void testSearch_matchesReferenceFilter() {
+        // Given
+        Random random = new Random(42);
+        Map<Long, StrategySearchIndexRow> rows = new LinkedHashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            rows.put(id, randomRow(random, id));
+        }
+        StrategySearchIndex index = new StrategySearchIndex();
+        index.rebuild(rows.values());
+
+        for (int i = 0; i < 300; i++) {
+            SearchOptionsDto options = randomOptions(random);
+            int offset = random.nextInt(3) * 10;
+
+            // When
+            StrategySearchIndex.SearchResult result = index.search(options, offset, 10);
+
+            // Then
+            List<Long> expected = expectedIds(rows.values(), options);
+            assertEquals(expected.size(), result.totalCount(), options.toString());
+            assertEquals(expected.subList(Math.min(offset, expected.size()), Math.min(offset + 10, expected.size())),
+                    toList(result.strategyIds()), options.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 이어서 조회한 결과가 전체 정렬 결과와 같은지 테스트 (같은 SM-Score 포함)")
+    void testSearchAfter_pagesThroughAllResults() {
+        // Given: SM-Score가 0~9로 겹치는 전략 200개
+        Random random = new Random(7);
+        List<StrategySearchIndexRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            StrategySearchIndexRow row = randomRow(random, id);
+            row.setSmScore(BigDecimal.valueOf(random.nextInt(10)));
+            rows.add(row);
+        }
+        StrategySearchIndex index = new StrategySearchIndex();
+        index.rebuild(rows);
+        SearchOptionsDto options = new SearchOptionsDto();
+        options.setTradingTypeIdList(List.of(1, 2));
+
+        // When: 7개씩 커서로 조회
+        List<Long> paged = new ArrayList<>();
+        Map<Long, StrategySearchIndexRow> rowMap = rows.stream().collect(Collectors.toMap(StrategySearchIndexRow::getStrategyId, row -> row));
+        StrategyCursor cursor = null;
+        while (true) {
+            long[] ids = index.searchAfter(options, cursor, 7);
+            paged.addAll(toList(ids));
+            if (ids.length < 7) {
+                break;
+            }
+            StrategySearchIndexRow last = rowMap.get(ids[ids.length - 1]);
+            cursor = StrategyCursor.decode(new StrategyCursor(last.getSmScore(), last.getStrategyId()).encode());
+        }
+
+        // Then
+        assertEquals(expectedIds(rows, options), paged);
+    }
+
+    @Test
+    @DisplayName("전략 갱신/삭제/추가 후 분류 BitSet과 지표 컬럼이 새 값 기준으로 검색되는지 테스트")
+    void testUpsertAndRemove_updatesBitSetsAndColumns() {
+        // Given
+        StrategySearchIndex index = new StrategySearchIndex();
+        index.rebuild(List.of(row(1L, "A", 1, 90, 100), row(2L, "B", 1, 80, 100), row(3L, "C", 2, 70, 100)));
+        SearchOptionsDto tradingTypeOne = new SearchOptionsDto();
+        tradingTypeOne.setTradingTypeIdList(List.of(1));
+
+        // When: 1번은 매매유형 변경, 2번은 삭제, 4번 추가 (2번 슬롯 재사용)
+        index.upsert(row(1L, "A", 2, 90, 100));
+        index.remove(2L);
+        index.upsert(row(4L, "D", 1, 60, 100));
+
+        // Then
+        assertEquals(List.of(4L), toList(index.search(tradingTypeOne, 0, 10).strategyIds()));
+        assertEquals(List.of(1L, 3L, 4L), toList(index.search(new SearchOptionsDto(), 0, 10).strategyIds()));
+        assertEquals(3, index.size());
+
+        // When: 승인 취소 + SM-Score 일괄 갱신
+        StrategySearchIndexRow rejected = row(3L, "C", 2, 70, 100);
+        rejected.setIsApproved("N");
+        index.upsert(rejected);
+        index.updateSmScores(new long[]{4L, 99L}, new BigDecimal[]{BigDecimal.valueOf(95), BigDecimal.ONE}, 2);
+
+        // Then
+        assertEquals(List.of(4L, 1L), toList(index.search(new SearchOptionsDto(), 0, 10).strategyIds()));
+    }
+
+    @Test
+    @DisplayName("일간 통계 조건이 있으면 일간 통계가 없는 전략은 제외하고, 없으면 포함하는지 테스트")
+    void testSearch_statisticsFilterExcludesStrategiesWithoutStatistics() {
+        // Given
+        StrategySearchIndex index = new StrategySearchIndex();
+        index.rebuild(List.of(row(1L, "A", 1, 90, null), row(2L, "B", 1, 80, 400)));
+        SearchOptionsDto withStatistics = new SearchOptionsDto();
+        withStatistics.setOperationDaysList(List.of(1, 2));
+
+        // When & Then
+        assertEquals(List.of(2L), toList(index.search(withStatistics, 0, 10).strategyIds()));
+        assertEquals(2, index.search(new SearchOptionsDto(), 0, 10).totalCount());
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sysmatic2.finalbe.admin.repository.StrategyApprovalRequestsRepository;
 import com.sysmatic2.finalbe.strategy.dto.StrategyRegistrationDto;
 import com.sysmatic2.finalbe.strategy.service.DailyStatisticsService;
+import com.sysmatic2.finalbe.strategy.service.StrategyDataVersionService;
 import com.sysmatic2.finalbe.strategy.service.ExcelGeneratorService;
 import com.sysmatic2.finalbe.strategy.service.StrategyService;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +42,9 @@ class StrategyControllerWebMvcTest {
     @MockBean
     private DailyStatisticsService dailyStatisticsService; // 추가
 
+    @MockBean
+    private StrategyDataVersionService strategyDataVersionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -1,6 +1,7 @@
 package com.sysmatic2.finalbe.strategy.controller;
 
 import com.sysmatic2.finalbe.exception.ExcelFileCreationException;
+import com.sysmatic2.finalbe.strategy.common.ExportFormat;
 import com.sysmatic2.finalbe.strategy.service.ExcelGeneratorService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +12,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,20 +40,24 @@ class StrategyExportControllerTest {
     int pageSize = 10;
     byte[] excelBytes = "dummy monthly excel content".getBytes(StandardCharsets.UTF_8);
 
-    when(excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize))
-            .thenReturn(excelBytes);
+    when(excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX))
+            .thenReturn(outputStream -> outputStream.write(excelBytes));
 
-    mockMvc.perform(get("/api/strategies/export/monthly")
+    MvcResult mvcResult = mockMvc.perform(get("/api/strategies/export/monthly")
                     .param("strategyId", strategyId.toString())
                     .param("pageNumber", String.valueOf(pageNumber))
                     .param("pageSize", String.valueOf(pageSize)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(header().string("Content-Disposition", "attachment; filename=monthly_statistics_page_2.xlsx"))
             .andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=UTF-8"))
             .andExpect(content().bytes(excelBytes));
 
     verify(excelGeneratorService, times(1))
-            .exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize);
+            .exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
   }
 
   @Test
@@ -63,21 +70,25 @@ class StrategyExportControllerTest {
     int pageSize = 10;
     byte[] excelBytes = "dummy excel content".getBytes(StandardCharsets.UTF_8);
 
-    when(excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize))
-            .thenReturn(excelBytes);
+    when(excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize, ExportFormat.XLSX))
+            .thenReturn(outputStream -> outputStream.write(excelBytes));
 
-    mockMvc.perform(get("/api/strategies/export/daily")
+    MvcResult mvcResult = mockMvc.perform(get("/api/strategies/export/daily")
                     .param("strategyId", strategyId.toString())
                     .param("includeAnalysis", String.valueOf(includeAnalysis))
                     .param("pageNumber", String.valueOf(pageNumber))
                     .param("pageSize", String.valueOf(pageSize)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(header().string("Content-Disposition", "attachment; filename=daily_statistics_page_1.xlsx"))
             .andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=UTF-8"))
             .andExpect(content().bytes(excelBytes));
 
     verify(excelGeneratorService, times(1))
-            .exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize);
+            .exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize, ExportFormat.XLSX);
   }
 
   @Test
@@ -89,20 +100,24 @@ class StrategyExportControllerTest {
     int pageSize = 10;
     byte[] excelBytes = "dummy daily analysis excel content".getBytes(StandardCharsets.UTF_8);
 
-    when(excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize))
-            .thenReturn(excelBytes);
+    when(excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX))
+            .thenReturn(outputStream -> outputStream.write(excelBytes));
 
-    mockMvc.perform(get("/api/strategies/export/daily-analysis")
+    MvcResult mvcResult = mockMvc.perform(get("/api/strategies/export/daily-analysis")
                     .param("strategyId", strategyId.toString())
                     .param("pageNumber", String.valueOf(pageNumber))
                     .param("pageSize", String.valueOf(pageSize)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(header().string("Content-Disposition", "attachment; filename=daily_analysis_page_3.xlsx"))
             .andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=UTF-8"))
             .andExpect(content().bytes(excelBytes));
 
     verify(excelGeneratorService, times(1))
-            .exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize);
+            .exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
   }
 
   @Test
@@ -122,7 +137,7 @@ class StrategyExportControllerTest {
             .andExpect(jsonPath("$.errors['downloadDailyStatistics.pageSize']").value("pageSize는 최대 100까지 허용됩니다."));
 
     verify(excelGeneratorService, times(0))
-            .exportDailyStatisticsToExcel(anyLong(), anyBoolean(), anyInt(), anyInt());
+            .exportDailyStatisticsToExcel(anyLong(), anyBoolean(), anyInt(), anyInt(), any());
   }
 
   @Test
@@ -145,7 +160,7 @@ class StrategyExportControllerTest {
     String expectedErrorMessage = "Strategy ID " + strategyId + "에 해당하는 일간 통계가 없습니다.";
 
     // When: 서비스에서 RuntimeException 발생 시
-    when(excelGeneratorService.exportDailyStatisticsToExcel(eq(strategyId), anyBoolean(), anyInt(), anyInt()))
+    when(excelGeneratorService.exportDailyStatisticsToExcel(eq(strategyId), anyBoolean(), anyInt(), anyInt(), any()))
             .thenThrow(new ExcelFileCreationException(expectedErrorMessage));
 
     // Then: MockMvc 요청 및 예외 응답 검증
@@ -162,7 +177,7 @@ class StrategyExportControllerTest {
 
     // Verify: 서비스 호출이 정확히 한 번 수행되었는지 확인
     verify(excelGeneratorService, times(1))
-            .exportDailyStatisticsToExcel(eq(strategyId), anyBoolean(), anyInt(), anyInt());
+            .exportDailyStatisticsToExcel(eq(strategyId), anyBoolean(), anyInt(), anyInt(), any());
   }
 
 }
@@ -1,5 +1,7 @@
 package com.sysmatic2.finalbe.strategy.service;
 
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCarry;
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsEngine;
 import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsReqDto;
 import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
@@ -12,16 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 class DailyStatisticsServiceTest {
@@ -38,6 +42,15 @@ class DailyStatisticsServiceTest {
     @Mock
     private StrategyRepository strategyRepository;
 
+    @Mock
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private SmScoreRecomputeService smScoreRecomputeService;
+
+    @Mock
+    private StrategyLatestStatsService strategyLatestStatsService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -86,11 +99,12 @@ class DailyStatisticsServiceTest {
         );
 
         // Then: 계산 결과 검증
+        // 원금 = 1000 + 50 / (1200 / 1000) = 1041.67 -> 정수로 반올림, 기준가 = 1400 / 1042 * 1000 -> 소수 둘째 자리
         assertNotNull(result, "결과 엔티티는 null이 아니어야 합니다.");
         assertEquals(BigDecimal.valueOf(1400), result.getBalance(), "잔고 계산 결과가 예상과 일치하지 않습니다.");
-        assertEquals(BigDecimal.valueOf(1041.6667), result.getPrincipal(), "원금 계산 결과가 예상과 일치하지 않습니다.");
+        assertEquals(new BigDecimal("1042"), result.getPrincipal(), "원금 계산 결과가 예상과 일치하지 않습니다.");
         assertEquals(BigDecimal.valueOf(350), result.getCumulativeProfitLoss(), "누적손익 계산 결과가 예상과 일치하지 않습니다.");
-        assertEquals(BigDecimal.valueOf(1343.9999).setScale(4), result.getReferencePrice(), "기준가 계산 결과가 예상과 일치하지 않습니다.");
+        assertEquals(new BigDecimal("1343.57"), result.getReferencePrice(), "기준가 계산 결과가 예상과 일치하지 않습니다.");
 
         // Mock 검증
         verify(dssp, never()).save(any()); // 이 테스트에서는 save가 호출되지 않아야 합니다.
@@ -196,11 +210,11 @@ class DailyStatisticsServiceTest {
 
         // Then: 계산된 모든 필드 검증
         assertEquals(BigDecimal.valueOf(1400), result.getBalance(), "잔고 계산 오류");
-        assertEquals(BigDecimal.valueOf(1041.6667), result.getPrincipal(), "원금 계산 오류");
+        assertEquals(new BigDecimal("1042"), result.getPrincipal(), "원금 계산 오류");
         assertEquals(BigDecimal.valueOf(350), result.getCumulativeProfitLoss(), "누적손익 계산 오류");
-        assertEquals(BigDecimal.valueOf(1343.9999).setScale(4, RoundingMode.HALF_UP), result.getReferencePrice(), "기준가 계산 오류");
-        assertEquals(BigDecimal.valueOf(0.2218).setScale(4, RoundingMode.HALF_UP), result.getDailyPlRate(), "일손익률 계산 오류");
-        assertEquals(BigDecimal.valueOf(34.4000).setScale(4, RoundingMode.HALF_UP), result.getCumulativeProfitLossRate(), "누적손익률 계산 오류");
+        assertEquals(new BigDecimal("1343.57"), result.getReferencePrice(), "기준가 계산 오류");
+        assertEquals(new BigDecimal("22.14273"), result.getDailyPlRate(), "일손익률 계산 오류");
+        assertEquals(new BigDecimal("34.3570"), result.getCumulativeProfitLossRate(), "누적손익률 계산 오류");
     }
 
     @Test
@@ -254,4 +268,189 @@ class DailyStatisticsServiceTest {
             return true;
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 등록 시 날짜순으로 한 번에 계산하고 SM-SCORE와 월간 통계는 한 번씩만 갱신하는지 테스트")
+    void testRegisterDailyStatisticsBulk() {
+        // Given: 날짜가 섞인 요청 데이터 (2개월)
+        Long strategyId = 1L;
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                new DailyStatisticsReqDto(LocalDate.of(2024, 2, 1), BigDecimal.ZERO, BigDecimal.valueOf(-300)),
+                new DailyStatisticsReqDto(LocalDate.of(2024, 1, 30), BigDecimal.valueOf(10000), BigDecimal.valueOf(500)),
+                new DailyStatisticsReqDto(LocalDate.of(2024, 1, 31), BigDecimal.ZERO, BigDecimal.valueOf(200))
+        );
+
+        StrategyEntity strategyEntity = new StrategyEntity();
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dssp.findExistingDates(eq(strategyId), any())).thenReturn(List.of());
+        when(dssp.findLatestBeforeDate(eq(strategyId), any(), any())).thenReturn(List.of());
+        when(dssp.findAllAfterDate(eq(strategyId), any())).thenReturn(List.of());
+
+        // When
+        List<DailyStatisticsEntity> result = dailyStatisticsService.registerDailyStatisticsBulk(strategyId, reqDtos);
+
+        // Then: 날짜순으로 이어서 계산
+        assertEquals(3, result.size());
+        assertEquals(LocalDate.of(2024, 1, 30), result.get(0).getDate());
+        assertEquals(BigDecimal.valueOf(10500), result.get(0).getBalance());
+        assertEquals(BigDecimal.valueOf(10400), result.get(2).getBalance());
+        assertEquals(3, result.get(2).getTradingDays());
+
+        // 한 번에 저장, SM-SCORE 재계산 1회 요청, 월간 통계는 월마다 1회 재구성
+        verify(dssp, times(1)).saveAll(anyList());
+        verify(dssp, never()).save(any());
+        verify(smScoreRecomputeService, times(1)).markDirty();
+        verify(strategyRepository, never()).streamNonZeroKpRatios();
+        verify(monthlyStatisticsService, times(1)).rebuildMonthlyStatisticsFromMonth(strategyId, "2024-01");
+        verify(monthlyStatisticsService, never()).updateMonthlyStatistics(any(), any());
+        verify(strategyLatestStatsService, times(1)).refreshLatestStatistics(strategyId, result.get(2));
+    }
+
+    /**
+     * 저장된 상태의 연속된 일간 데이터 생성 (1/30 입금, 1/31 이익, 2/1 손실)
+     */
+    private List<DailyStatisticsEntity> persistedRows(StrategyEntity strategyEntity) {
+        DailyStatisticsCarry carry = DailyStatisticsCarry.empty();
+        List<DailyStatisticsReqDto> reqDtos = List.of(
+                new DailyStatisticsReqDto(LocalDate.of(2024, 1, 30), BigDecimal.valueOf(10000), BigDecimal.ZERO),
+                new DailyStatisticsReqDto(LocalDate.of(2024, 1, 31), BigDecimal.ZERO, BigDecimal.valueOf(500)),
+                new DailyStatisticsReqDto(LocalDate.of(2024, 2, 1), BigDecimal.ZERO, BigDecimal.valueOf(-300))
+        );
+        long id = 10L;
+        List<DailyStatisticsEntity> rows = new ArrayList<>();
+        for (DailyStatisticsReqDto reqDto : reqDtos) {
+            DailyStatisticsEntity row = DailyStatisticsEngine.calculateNext(carry, reqDto, strategyEntity);
+            row.setDailyStatisticsId(id++);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("중간 일자로 등록하면 월간 통계와 KP-RATIO는 이후 데이터 재계산에서 한 번만 갱신하는지 테스트")
+    void testRegisterDailyStatistics_middleDateUpdatesMonthlyAndKpOnce() {
+        // Given: 1/30, 2/1 데이터 사이에 1/31 등록
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        List<DailyStatisticsEntity> rows = persistedRows(strategyEntity);
+        DailyStatisticsEntity previous = rows.get(0);
+        DailyStatisticsEntity after = rows.get(2);
+        DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(LocalDate.of(2024, 1, 31), BigDecimal.ZERO, BigDecimal.valueOf(200));
+
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dssp.existsByStrategyIdAndDate(strategyId, reqDto.getDate())).thenReturn(false);
+        when(dssp.findLatestBeforeDate(eq(strategyId), eq(reqDto.getDate()), any())).thenReturn(List.of(previous));
+        when(dssp.findOldestAfterDateList(eq(strategyId), eq(reqDto.getDate()), any())).thenReturn(List.of(after));
+        when(dssp.findAllAfterDate(strategyId, after.getDate())).thenReturn(List.of(after));
+
+        // When
+        dailyStatisticsService.registerDailyStatistics(strategyId, reqDto);
+
+        // Then: 이후 데이터는 등록한 데이터까지 진행된 누적 상태로 재계산
+        assertEquals(0, BigDecimal.valueOf(9900).compareTo(after.getBalance()));
+        assertEquals(3, after.getTradingDays());
+
+        // 새 데이터는 계산 후 저장만 하고, 월간 통계 재구성과 KP-RATIO 갱신은 한 번씩
+        verify(dssp, times(1)).save(argThat(saved -> LocalDate.of(2024, 1, 31).equals(saved.getDate())));
+        verify(dssp, times(1)).saveAll(List.of(after));
+        verify(monthlyStatisticsService, never()).updateMonthlyStatistics(any(), any());
+        verify(monthlyStatisticsService, times(1)).rebuildMonthlyStatisticsFromMonth(strategyId, "2024-01");
+        verify(strategyRepository, times(1)).updateKpRatioAndSmScoreByStrategyId(strategyId, after.getKpRatio(), BigDecimal.ZERO);
+        verify(strategyRepository, never()).updateKpRatioByStrategyId(any(), any());
+        verify(strategyLatestStatsService, never()).appendLatestStatistics(any(), any());
+        verify(strategyLatestStatsService, times(1)).refreshLatestStatistics(strategyId, after);
+    }
+
+    @Test
+    @DisplayName("일간 데이터 수정 시 이후 데이터를 삭제하지 않고 기존 행(PK)을 유지한 채 재계산하는지 테스트")
+    void testUpdateDailyData_recalculatesSuffixInPlace() {
+        // Given: 1/31 일손익을 500 -> 200으로 수정
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        List<DailyStatisticsEntity> rows = persistedRows(strategyEntity);
+        DailyStatisticsEntity previous = rows.get(0);
+        DailyStatisticsEntity target = rows.get(1);
+        DailyStatisticsEntity after = rows.get(2);
+        DailyStatisticsReqDto reqDto = new DailyStatisticsReqDto(LocalDate.of(2024, 1, 31), BigDecimal.ZERO, BigDecimal.valueOf(200));
+
+        when(dssp.findById(11L)).thenReturn(Optional.of(target));
+        when(dssp.existsByStrategyIdAndDate(strategyId, reqDto.getDate())).thenReturn(true);
+        when(dssp.findLatestBeforeDate(eq(strategyId), eq(reqDto.getDate()), any())).thenReturn(List.of(previous));
+        when(dssp.findAllAfterDate(strategyId, reqDto.getDate())).thenReturn(List.of(target, after));
+
+        // When
+        dailyStatisticsService.updateDailyData(strategyId, 11L, "trader", false, reqDto);
+
+        // Then: 같은 엔티티(PK)에 재계산 값 반영
+        assertEquals(11L, target.getDailyStatisticsId());
+        assertEquals(12L, after.getDailyStatisticsId());
+        assertEquals(0, BigDecimal.valueOf(10200).compareTo(target.getBalance()));
+        assertEquals(0, BigDecimal.valueOf(9900).compareTo(after.getBalance()));
+        assertEquals(0, BigDecimal.valueOf(-100).compareTo(after.getCumulativeProfitLoss()));
+
+        // 이후 데이터는 삭제/재등록 없이 한 번에 저장, 월간 통계는 기준 월부터 한 번에 재구성
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(dssp, times(1)).findAllAfterDate(any(), any());
+        verify(dssp, times(1)).saveAll(List.of(target, after));
+        verify(monthlyStatisticsService, never()).deleteMonthlyDataFromMonth(any(), any());
+        verify(monthlyStatisticsService, times(1)).rebuildMonthlyStatisticsFromMonth(strategyId, "2024-01");
+        verify(monthlyStatisticsService, never()).updateMonthlyStatistics(any(), any());
+        verify(strategyRepository, times(1)).updateKpRatioAndSmScoreByStrategyId(strategyId, after.getKpRatio(), BigDecimal.ZERO);
+
+        // 최신 통계 스냅샷은 수정한 데이터가 아닌 가장 최근 일자 데이터로 갱신
+        verify(strategyLatestStatsService, times(1)).refreshLatestStatistics(strategyId, after);
+    }
+
+    @Test
+    @DisplayName("일간 데이터 삭제 시 남은 이후 데이터를 기존 행(PK)을 유지한 채 재계산하는지 테스트")
+    void testDeleteAndRecalculate_recalculatesSuffixInPlace() {
+        // Given: 1/31 데이터 삭제
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        List<DailyStatisticsEntity> rows = persistedRows(strategyEntity);
+        DailyStatisticsEntity previous = rows.get(0);
+        DailyStatisticsEntity deleted = rows.get(1);
+        DailyStatisticsEntity after = rows.get(2);
+
+        when(dssp.findAllById(List.of(11L))).thenReturn(List.of(deleted));
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dssp.findPreviousStates(eq(strategyId), eq(deleted.getDate()), any())).thenReturn(new PageImpl<>(List.of(previous)));
+        when(dssp.findAllAfterDate(strategyId, deleted.getDate())).thenReturn(List.of(after));
+
+        // When
+        dailyStatisticsService.deleteAndRecalculate(strategyId, "trader", false, List.of(11L));
+
+        // Then: 남은 데이터는 같은 엔티티(PK)에 재계산 값 반영
+        assertEquals(12L, after.getDailyStatisticsId());
+        assertEquals(0, BigDecimal.valueOf(9700).compareTo(after.getBalance()));
+        assertEquals(2, after.getTradingDays());
+
+        verify(dssp, times(1)).deleteAllById(List.of(11L));
+        verify(dssp, never()).deleteFromDate(any(), any());
+        verify(dssp, times(1)).saveAll(List.of(after));
+        verify(monthlyStatisticsService, times(1)).rebuildMonthlyStatisticsFromMonth(strategyId, "2024-01");
+        verify(strategyLatestStatsService, times(1)).refreshLatestStatistics(strategyId, after);
+    }
+
+    @Test
+    @DisplayName("가장 최근 일자 데이터를 삭제하면 직전 데이터로 최신 통계 스냅샷을 갱신하는지 테스트")
+    void testDeleteAndRecalculate_refreshesLatestStatisticsWithPreviousData() {
+        // Given: 가장 최근 일자(2/1) 데이터 삭제
+        Long strategyId = 1L;
+        StrategyEntity strategyEntity = new StrategyEntity();
+        List<DailyStatisticsEntity> rows = persistedRows(strategyEntity);
+        DailyStatisticsEntity previous = rows.get(1);
+        DailyStatisticsEntity deleted = rows.get(2);
+
+        when(dssp.findAllById(List.of(12L))).thenReturn(List.of(deleted));
+        when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategyEntity));
+        when(dssp.findPreviousStates(eq(strategyId), eq(deleted.getDate()), any())).thenReturn(new PageImpl<>(List.of(previous)));
+        when(dssp.findAllAfterDate(strategyId, deleted.getDate())).thenReturn(List.of());
+
+        // When
+        dailyStatisticsService.deleteAndRecalculate(strategyId, "trader", false, List.of(12L));
+
+        // Then
+        verify(strategyLatestStatsService, times(1)).refreshLatestStatistics(strategyId, previous);
+    }
+}
@@ -7,7 +7,10 @@ import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
 import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
 import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
 import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.common.CsvGenerator;
 import com.sysmatic2.finalbe.strategy.common.ExcelGenerator;
+import com.sysmatic2.finalbe.strategy.common.ExportFormat;
+import jakarta.persistence.EntityManager;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,16 +20,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +54,15 @@ class ExcelGeneratorServiceTest {
   @Mock
   private ExcelGenerator excelGenerator; // ExcelGenerator 모킹
 
+  @Spy
+  private CsvGenerator csvGenerator = new CsvGenerator();
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @InjectMocks
   private ExcelGeneratorService excelGeneratorService;
 
@@ -201,7 +223,10 @@ class ExcelGeneratorServiceTest {
             .thenReturn(mockWorkbook);
 
     // 엑셀 생성 서비스 호출
-    byte[] excelBytes = excelGeneratorService.exportDailyStatisticsToExcel(strategyId, false, pageNumber, pageSize);
+    StreamingResponseBody body = excelGeneratorService.exportDailyStatisticsToExcel(strategyId, false, pageNumber, pageSize, ExportFormat.XLSX);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    byte[] excelBytes = out.toByteArray();
 
     // 검증: 엑셀 바이트 배열이 null이 아니며 길이가 0보다 큼
     assertNotNull(excelBytes, "엑셀 바이트 배열이 null이어서는 안 됩니다.");
@@ -245,7 +270,10 @@ class ExcelGeneratorServiceTest {
             .thenReturn(mockWorkbook);
 
     // 엑셀 생성 서비스 호출
-    byte[] excelBytes = excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize);
+    StreamingResponseBody body = excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    byte[] excelBytes = out.toByteArray();
 
     // 검증: 엑셀 바이트 배열이 null이 아니며 길이가 0보다 큼
     assertNotNull(excelBytes, "엑셀 바이트 배열이 null이어서는 안 됩니다.");
@@ -288,7 +316,10 @@ class ExcelGeneratorServiceTest {
     when(excelGenerator.generateDailyAnalysisIndicatorsExcel(dailyStatistics)).thenReturn(realWorkbook);
 
     // 엑셀 생성 서비스 호출
-    byte[] excelBytes = excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize);
+    StreamingResponseBody body = excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    byte[] excelBytes = out.toByteArray();
 
     // 검증: 엑셀 바이트 배열이 null이 아니며 길이가 0보다 큼
     assertNotNull(excelBytes, "엑셀 바이트 배열이 null이어서는 안 됩니다.");
@@ -328,7 +359,7 @@ class ExcelGeneratorServiceTest {
 
     // 예외 발생 확인
     ExcelFileCreationException exception = assertThrows(ExcelFileCreationException.class, () -> {
-      excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize);
+      excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
     });
 
     assertEquals("Strategy ID 1에 해당하는 월간 통계가 없습니다.", exception.getMessage(), "예외 메시지가 예상과 다릅니다.");
@@ -356,7 +387,7 @@ class ExcelGeneratorServiceTest {
 
     // 예외 발생 확인
     ExcelFileCreationException exception = assertThrows(ExcelFileCreationException.class, () -> {
-      excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize);
+      excelGeneratorService.exportDailyStatisticsToExcel(strategyId, includeAnalysis, pageNumber, pageSize, ExportFormat.XLSX);
     });
 
     assertEquals("Strategy ID 1에 해당하는 일간 통계가 없습니다.", exception.getMessage(), "예외 메시지가 예상과 다릅니다.");
@@ -383,7 +414,7 @@ class ExcelGeneratorServiceTest {
 
     // 예외 발생 확인
     ExcelFileCreationException exception = assertThrows(ExcelFileCreationException.class, () -> {
-      excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize);
+      excelGeneratorService.exportDailyAnalysisIndicatorsToExcel(strategyId, pageNumber, pageSize, ExportFormat.XLSX);
     });
 
     assertEquals("Strategy ID 1에 해당하는 일간 분석 통계가 없습니다.", exception.getMessage(), "예외 메시지가 예상과 다릅니다.");
@@ -392,4 +423,89 @@ class ExcelGeneratorServiceTest {
     verify(dailyStatisticsRepository, times(1))
             .findByStrategyEntityStrategyIdOrderByDateDesc(strategyId, PageRequest.of(pageNumber, pageSize));
   }
+
+  /**
+   * 7. 일간 통계 전체 기간 엑셀 생성 테스트 - 성공 (스트리밍)
+   */
+  @Test
+  @DisplayName("일간 통계 전체 기간 엑셀 생성 성공 테스트 - 읽기 전용 트랜잭션에서 스트림을 읽으며 500행마다 영속성 컨텍스트 비움")
+  void testExportAllDailyStatisticsToExcel_Success() throws Exception {
+    Long strategyId = 1L;
+    List<DailyStatisticsEntity> allStatistics = new ArrayList<>();
+    for (int i = 0; i < 1_200; i++) {
+      DailyStatisticsEntity stat = new DailyStatisticsEntity();
+      stat.setDate(LocalDate.of(2020, 1, 1).plusDays(i));
+      allStatistics.add(stat);
+    }
+
+    when(dailyStatisticsRepository.existsByStrategyEntityStrategyId(strategyId)).thenReturn(true);
+    when(dailyStatisticsRepository.streamByStrategyIdOrderByDateDesc(strategyId)).thenReturn(allStatistics.stream());
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+    // ExcelGenerator Mock: 전달받은 데이터를 모두 순회한 뒤 Workbook 반환
+    List<DailyStatisticsEntity> written = new ArrayList<>();
+    when(excelGenerator.generateDailyStatisticsExcel(any())).thenAnswer(invocation -> {
+      Iterable<DailyStatisticsEntity> statistics = invocation.getArgument(0);
+      statistics.forEach(written::add);
+      Workbook workbook = new XSSFWorkbook();
+      workbook.createSheet("일간 통계");
+      return workbook;
+    });
+
+    // 엑셀 생성 서비스 호출 (본문은 응답을 쓸 때 생성)
+    StreamingResponseBody body = excelGeneratorService.exportAllDailyStatisticsToExcel(strategyId, false, ExportFormat.XLSX);
+    verify(dailyStatisticsRepository, never()).streamByStrategyIdOrderByDateDesc(anyLong());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+
+    // 검증: 전체 행 전달, 500행마다 clear, 읽기 전용 트랜잭션 커밋
+    assertEquals(allStatistics, written);
+    assertTrue(out.size() > 0, "엑셀 바이트 배열의 길이는 0보다 커야 합니다.");
+    verify(entityManager, times(2)).clear();
+    ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager).getTransaction(definition.capture());
+    assertTrue(definition.getValue().isReadOnly());
+    verify(transactionManager).commit(any());
+  }
+
+  /**
+   * 8. 월간 통계 전체 기간 엑셀 생성 테스트 - 실패 (데이터 없음)
+   */
+  @Test
+  @DisplayName("월간 통계 전체 기간 엑셀 생성 실패 테스트 - 데이터 없음 (응답 전에 예외 발생)")
+  void testExportAllMonthlyStatisticsToExcel_NoData() {
+    Long strategyId = 1L;
+    when(monthlyStatisticsRepository.existsByStrategyEntityStrategyId(strategyId)).thenReturn(false);
+
+    ExcelFileCreationException exception = assertThrows(ExcelFileCreationException.class, () -> {
+      excelGeneratorService.exportAllMonthlyStatisticsToExcel(strategyId, ExportFormat.XLSX);
+    });
+
+    assertEquals("Strategy ID 1에 해당하는 월간 통계가 없습니다.", exception.getMessage(), "예외 메시지가 예상과 다릅니다.");
+    verify(monthlyStatisticsRepository, never()).streamByStrategyIdOrderByAnalysisMonthAsc(anyLong());
+  }
+
+  /**
+   * 9. 월간 통계 csv.gz 생성 테스트 - 성공
+   */
+  @Test
+  @DisplayName("월간 통계 csv.gz 생성 성공 테스트 - 엑셀과 같은 헤더, 끝자리 0 없는 숫자, 엑셀 생성기 미사용")
+  void testExportMonthlyStatisticsToCsvGz_Success() throws Exception {
+    Long strategyId = 1L;
+    when(monthlyStatisticsRepository.findByStrategyEntityStrategyIdOrderByAnalysisMonthAsc(strategyId, PageRequest.of(0, 10)))
+            .thenReturn(new PageImpl<>(monthlyStatistics));
+
+    StreamingResponseBody body = excelGeneratorService.exportMonthlyStatisticsToExcel(strategyId, 0, 10, ExportFormat.CSV_GZ);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+
+    String csv;
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    assertEquals("\uFEFF월,원금,입출금,월손익,월손익률,누적손익,누적수익률\r\n"
+            + "2024-04,15000,3000,400,0.04,400,0.04\r\n", csv);
+    verifyNoInteractions(excelGenerator);
+  }
 }
@@ -0,0 +1,117 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.MonthlyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.MonthlyStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class MonthlyStatisticsServiceTest {
+
+    @InjectMocks
+    private MonthlyStatisticsService monthlyStatisticsService;
+
+    @Mock
+    private MonthlyStatisticsRepository monthlyStatisticsRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private DailyStatisticsEntity daily(LocalDate date, long principal, long depWdPrice, long dailyProfitLoss, long referencePrice) {
+        return DailyStatisticsEntity.builder()
+                .date(date)
+                .principal(BigDecimal.valueOf(principal))
+                .depWdPrice(BigDecimal.valueOf(depWdPrice))
+                .dailyProfitLoss(BigDecimal.valueOf(dailyProfitLoss))
+                .referencePrice(BigDecimal.valueOf(referencePrice))
+                .build();
+    }
+
+    @Test
+    @DisplayName("누적 상태가 없는 기존 월간 데이터는 1회만 복원하고 이후에는 일간 데이터를 다시 조회하지 않는지 테스트")
+    void testUpdateMonthlyStatistics_seedsLegacyMonthOnce() {
+        // Given: 누적 상태가 없는 기존 2월 월간 데이터 (2월 일간 데이터 2건 저장됨)
+        Long strategyId = 1L;
+        MonthlyStatisticsEntity february = MonthlyStatisticsEntity.builder()
+                .monthlyStatisticsId(3L)
+                .analysisMonth("2024-02")
+                .build();
+        when(monthlyStatisticsRepository.findByStrategyIdAndAnalysisMonth(strategyId, "2024-02")).thenReturn(Optional.of(february));
+        when(dailyStatisticsRepository.findLastReferencePriceByStrategyIdAndMonth(eq(strategyId), eq("2024-01"), any()))
+                .thenReturn(List.of(BigDecimal.valueOf(1000)));
+        when(dailyStatisticsRepository.findDailyPrincipalsByStrategyIdAndMonth(strategyId, "2024-02"))
+                .thenReturn(new ArrayList<>(List.of(BigDecimal.valueOf(10000), BigDecimal.valueOf(10000))));
+        when(dailyStatisticsRepository.findDailyDepWdAmountsByStrategyIdAndMonth(strategyId, "2024-02"))
+                .thenReturn(new ArrayList<>(List.of(BigDecimal.ZERO, BigDecimal.ZERO)));
+        when(dailyStatisticsRepository.findDailyProfitLossesByStrategyIdAndMonth(strategyId, "2024-02"))
+                .thenReturn(new ArrayList<>(List.of(BigDecimal.valueOf(300), BigDecimal.valueOf(-100))));
+
+        // When: 2월 일간 데이터 2건 추가
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId, daily(LocalDate.of(2024, 2, 5), 10000, 0, 400, 1060));
+        monthlyStatisticsService.updateMonthlyStatistics(strategyId, daily(LocalDate.of(2024, 2, 6), 12000, 2000, -200, 1040));
+
+        // Then: 복원은 1회, 이후에는 누적 상태로 계산
+        verify(dailyStatisticsRepository, times(1)).findDailyPrincipalsByStrategyIdAndMonth(any(), any());
+        verify(dailyStatisticsRepository, times(1)).findDailyDepWdAmountsByStrategyIdAndMonth(any(), any());
+        verify(dailyStatisticsRepository, times(1)).findDailyProfitLossesByStrategyIdAndMonth(any(), any());
+        verify(dailyStatisticsRepository, times(1)).findLastReferencePriceByStrategyIdAndMonth(any(), any(), any());
+
+        assertEquals(4, february.getDailyCount());
+        assertEquals(new BigDecimal("10500.0000"), february.getMonthlyAvgPrincipal());
+        assertEquals(0, BigDecimal.valueOf(2000).compareTo(february.getMonthlyDepWdAmount()));
+        assertEquals(0, BigDecimal.valueOf(400).compareTo(february.getMonthlyProfitLoss()));
+        assertEquals(new BigDecimal("0.0400"), february.getMonthlyReturn());
+        assertEquals(new BigDecimal("0.0400"), february.getMonthlyCumulativeReturn());
+    }
+
+    @Test
+    @DisplayName("기준 월부터 월간 통계를 한 번에 재구성하고 일간 데이터가 없어진 월은 삭제하는지 테스트")
+    void testRebuildMonthlyStatisticsFromMonth() {
+        // Given: 1월, 2월 월간 데이터가 있으나 2월 일간 데이터는 모두 삭제된 상태
+        Long strategyId = 1L;
+        MonthlyStatisticsEntity january = MonthlyStatisticsEntity.builder().monthlyStatisticsId(1L).analysisMonth("2024-01").build();
+        MonthlyStatisticsEntity february = MonthlyStatisticsEntity.builder().monthlyStatisticsId(2L).analysisMonth("2024-02").build();
+        when(monthlyStatisticsRepository.findAllFromMonth(strategyId, "2024-01")).thenReturn(List.of(january, february));
+        when(dailyStatisticsRepository.findAllAfterDate(strategyId, LocalDate.of(2024, 1, 1))).thenReturn(List.of(
+                daily(LocalDate.of(2024, 1, 30), 10000, 10000, 0, 1000),
+                daily(LocalDate.of(2024, 1, 31), 10000, 0, 500, 1050)));
+        when(monthlyStatisticsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<MonthlyStatisticsEntity> result = monthlyStatisticsService.rebuildMonthlyStatisticsFromMonth(strategyId, "2024-01");
+
+        // Then: 1월은 PK를 유지한 채 갱신, 2월은 삭제
+        assertEquals(List.of(january), result);
+        assertEquals(2, january.getDailyCount());
+        assertEquals(0, BigDecimal.valueOf(500).compareTo(january.getMonthlyProfitLoss()));
+        verify(dailyStatisticsRepository, times(1)).findAllAfterDate(any(), any());
+        verify(monthlyStatisticsRepository, times(1)).deleteAll(argThat((Iterable<MonthlyStatisticsEntity> deleted) -> {
+            Iterator<MonthlyStatisticsEntity> iterator = deleted.iterator();
+            return iterator.next() == february && !iterator.hasNext();
+        }));
+        verify(monthlyStatisticsRepository, never()).deleteFromMonth(any(), any());
+    }
+}
@@ -0,0 +1,226 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.DailyStatisticsCalculator;
+import com.sysmatic2.finalbe.strategy.dto.SmScoreRecomputeMetrics;
+import com.sysmatic2.finalbe.strategy.dto.StrategyKpDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SmScoreRecomputeServiceTest {
+
+    @InjectMocks
+    private SmScoreRecomputeService smScoreRecomputeService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private StrategySearchIndexService strategySearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(strategyRepository.streamNonZeroKpRatios()).thenAnswer(invocation -> Stream.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(smScoreRecomputeService);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 여러 요청은 커밋 직전 1회 재계산으로 합쳐진다")
+    void testMarkDirty_coalescedWithinTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When: 같은 트랜잭션에서 5회 요청
+        for (int i = 0; i < 5; i++) {
+            smScoreRecomputeService.markDirty();
+        }
+
+        // Then: 커밋 전에는 재계산하지 않음
+        verify(strategyRepository, never()).streamNonZeroKpRatios();
+
+        // When: 커밋 직전 동기화 실행
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // Then: 1회만 재계산
+        verify(strategyRepository, times(1)).streamNonZeroKpRatios();
+        SmScoreRecomputeMetrics metrics = smScoreRecomputeService.getMetrics();
+        assertEquals(5, metrics.getRequestedCount());
+        assertEquals(1, metrics.getExecutedCount());
+        assertEquals(4, metrics.getCoalescedCount());
+        assertNull(TransactionSynchronizationManager.getResource(smScoreRecomputeService));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 먼저 재계산한 경우 커밋 직전에는 다시 계산하지 않는다")
+    void testFlushPending_skipsBeforeCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        smScoreRecomputeService.markDirty();
+        smScoreRecomputeService.markDirty();
+
+        // When
+        smScoreRecomputeService.flushPending();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+        }
+
+        // Then
+        verify(strategyRepository, times(1)).streamNonZeroKpRatios();
+        assertEquals(1, smScoreRecomputeService.getMetrics().getExecutedCount());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 요청은 대기 시간이 지난 뒤 1회 재계산한다")
+    void testFlushIfQuiet_waitsForQuietPeriod() {
+        // Given: 대기 시간이 긴 경우
+        ReflectionTestUtils.setField(smScoreRecomputeService, "quietPeriodMillis", 60_000L);
+        smScoreRecomputeService.markDirty();
+        smScoreRecomputeService.markDirty();
+        smScoreRecomputeService.markDirty();
+
+        // When
+        smScoreRecomputeService.flushIfQuiet();
+
+        // Then: 아직 대기 중
+        verify(strategyRepository, never()).streamNonZeroKpRatios();
+        assertTrue(smScoreRecomputeService.getMetrics().isPending());
+
+        // When: 대기 시간이 지난 경우
+        ReflectionTestUtils.setField(smScoreRecomputeService, "quietPeriodMillis", 0L);
+        smScoreRecomputeService.flushIfQuiet();
+        smScoreRecomputeService.flushIfQuiet();
+
+        // Then: 1회만 재계산
+        verify(strategyRepository, times(1)).streamNonZeroKpRatios();
+        SmScoreRecomputeMetrics metrics = smScoreRecomputeService.getMetrics();
+        assertFalse(metrics.isPending());
+        assertEquals(3, metrics.getRequestedCount());
+        assertEquals(1, metrics.getExecutedCount());
+        assertEquals(2, metrics.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("SM-SCORE는 페이지 단위가 아닌 전체 전략 기준으로 계산해 한 번에 갱신한다")
+    void testRecomputeNow_globalZScores() {
+        // Given: 1000개를 넘는 전략
+        Random random = new Random(7);
+        List<StrategyKpDto> kpRatios = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            BigDecimal kpRatio = BigDecimal.valueOf(0.01 + random.nextDouble() * (id > 1000 ? 5 : 1)).setScale(4, RoundingMode.HALF_UP);
+            kpRatios.add(new StrategyKpDto(id, kpRatio));
+        }
+        when(strategyRepository.streamNonZeroKpRatios()).thenReturn(kpRatios.stream()
+                .map(dto -> new Object[]{dto.getStrategyId(), dto.getKpRatio()}));
+
+        // When
+        smScoreRecomputeService.recomputeNow();
+
+        // Then: 조회 1회, 갱신 1회
+        ArgumentCaptor<long[]> idsCaptor = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<BigDecimal[]> scoresCaptor = ArgumentCaptor.forClass(BigDecimal[].class);
+        ArgumentCaptor<Integer> sizeCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(strategyRepository, times(1)).streamNonZeroKpRatios();
+        verify(strategyRepository, times(1)).updateSmScoresInBulk(idsCaptor.capture(), scoresCaptor.capture(), sizeCaptor.capture());
+        verify(strategyRepository, never()).updateSmScoreByStrategyId(any(), any());
+
+        // Then: 전체 데이터 기준 계산 결과와 일치
+        Map<Long, BigDecimal> expected = expectedSmScores(kpRatios);
+        long[] ids = idsCaptor.getValue();
+        BigDecimal[] scores = scoresCaptor.getValue();
+        assertEquals(2500, sizeCaptor.getValue());
+        for (int i = 0; i < sizeCaptor.getValue(); i++) {
+            assertEquals(expected.get(ids[i]), scores[i], "전략 " + ids[i] + "의 SM-SCORE가 일치하지 않습니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("전략이 1개인 경우 SM-SCORE는 0이다")
+    void testRecomputeNow_singleStrategy() {
+        // Given
+        when(strategyRepository.streamNonZeroKpRatios()).thenReturn(Stream.<Object[]>of(new Object[]{1L, BigDecimal.ONE}));
+
+        // When
+        smScoreRecomputeService.recomputeNow();
+
+        // Then
+        ArgumentCaptor<long[]> idsCaptor = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<BigDecimal[]> scoresCaptor = ArgumentCaptor.forClass(BigDecimal[].class);
+        verify(strategyRepository).updateSmScoresInBulk(idsCaptor.capture(), scoresCaptor.capture(), eq(1));
+        assertEquals(1L, idsCaptor.getValue()[0]);
+        assertEquals(BigDecimal.ZERO, scoresCaptor.getValue()[0]);
+    }
+
+    @Test
+    @DisplayName("10만 개 전략의 SM-SCORE 계산은 1초 안에 끝난다")
+    void testCalculateSmScores_largeInput() {
+        // Given
+        int size = 100_000;
+        Random random = new Random(11);
+        double[] kpRatios = new double[size];
+        for (int i = 0; i < size; i++) {
+            kpRatios[i] = random.nextDouble() * 3;
+        }
+
+        // When & Then
+        BigDecimal[] smScores = assertTimeout(Duration.ofSeconds(1),
+                () -> DailyStatisticsCalculator.calculateSmScores(kpRatios, size));
+        assertEquals(size, smScores.length);
+    }
+
+    /**
+     * 전체 전략 기준 SM-SCORE (평균/모표준편차를 두 번 순회로 계산한 기대값)
+     */
+    private static Map<Long, BigDecimal> expectedSmScores(List<StrategyKpDto> kpRatios) {
+        BigDecimal size = BigDecimal.valueOf(kpRatios.size());
+        BigDecimal kpMean = kpRatios.stream()
+                .map(StrategyKpDto::getKpRatio)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(size, 10, RoundingMode.HALF_UP);
+        BigDecimal variance = kpRatios.stream()
+                .map(dto -> dto.getKpRatio().subtract(kpMean).pow(2))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(size, 10, RoundingMode.HALF_UP);
+        BigDecimal stdDev = BigDecimal.valueOf(Math.sqrt(variance.doubleValue())).setScale(10, RoundingMode.HALF_UP);
+
+        Map<Long, BigDecimal> smScores = new HashMap<>();
+        for (StrategyKpDto dto : kpRatios) {
+            BigDecimal zScore = dto.getKpRatio().subtract(kpMean).divide(stdDev, 10, RoundingMode.HALF_UP);
+            double normDist = DailyStatisticsCalculator.calculateNormDist(zScore.doubleValue());
+            smScores.put(dto.getStrategyId(), BigDecimal.valueOf(normDist * 100).setScale(2, RoundingMode.HALF_UP));
+        }
+        return smScores;
+    }
+}
@@ -0,0 +1,156 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.member.entity.MemberEntity;
+import com.sysmatic2.finalbe.member.repository.MemberRepository;
+import com.sysmatic2.finalbe.strategy.dto.SmScoreTop5SnapshotMetrics;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import com.sysmatic2.finalbe.strategy.entity.StrategyEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SmScoreTop5SnapshotServiceTest {
+
+    @InjectMocks
+    private SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StrategyLatestStatsRepository strategyLatestStatsRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        // SM-Score 90, 80, 70, 60, 50인 전략 5개
+        List<StrategyEntity> strategies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            StrategyEntity strategy = new StrategyEntity();
+            strategy.setStrategyId(i + 1L);
+            strategy.setStrategyTitle("전략" + (i + 1));
+            strategy.setWriterId("trader");
+            strategy.setSmScore(BigDecimal.valueOf(90 - i * 10));
+            strategies.add(strategy);
+        }
+        MemberEntity member = new MemberEntity();
+        member.setMemberId("trader");
+        member.setNickname("트레이더");
+
+        when(strategyRepository.findByIsApprovedAndIsPosted(eq("Y"), eq("Y"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(strategies));
+        when(memberRepository.findAllById(any())).thenReturn(List.of(member));
+        when(strategyLatestStatsRepository.findAllById(any())).thenReturn(List.of());
+        when(dailyStatisticsRepository.findByStrategyIdsAndDate(any(), any())).thenReturn(List.of());
+    }
+
+    private StrategySearchIndexRow visibleRow(long strategyId, String smScore) {
+        StrategySearchIndexRow row = new StrategySearchIndexRow();
+        row.setStrategyId(strategyId);
+        row.setIsPosted("Y");
+        row.setIsApproved("Y");
+        row.setSmScore(new BigDecimal(smScore));
+        return row;
+    }
+
+    @Test
+    @DisplayName("스냅샷을 한 번 만든 뒤에는 무효화 전까지 DB를 조회하지 않는지 테스트")
+    void testGetTop5_servesSnapshotUntilInvalidated() {
+        // When
+        Map<String, Object> first = smScoreTop5SnapshotService.getTop5();
+        Map<String, Object> second = smScoreTop5SnapshotService.getTop5();
+        smScoreTop5SnapshotService.invalidate();
+        smScoreTop5SnapshotService.getTop5();
+
+        // Then
+        assertEquals(5, ((List<?>) first.get("data")).size());
+        assertSame(first.get("data"), second.get("data"));
+        verify(strategyRepository, times(2)).findByIsApprovedAndIsPosted(eq("Y"), eq("Y"), any(Pageable.class));
+        verify(memberRepository, times(2)).findAllById(any());
+
+        SmScoreTop5SnapshotMetrics metrics = smScoreTop5SnapshotService.getMetrics();
+        assertEquals(3L, metrics.getRequests());
+        assertEquals(2L, metrics.getBuilds());
+        assertEquals(1d / 3, metrics.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("상위 5개 전략이나 5위 이상 점수의 공개 전략이 바뀔 때만 무효화되는지 테스트")
+    void testOnStrategyChanged_invalidatesOnlyWhenTop5CanChange() {
+        // Given
+        smScoreTop5SnapshotService.getTop5();
+
+        // When & Then - 상위 5개 밖의 낮은 점수 전략, 비공개 전략 변경은 무시
+        smScoreTop5SnapshotService.onStrategyChanged(10L, visibleRow(10L, "10"));
+        StrategySearchIndexRow hidden = visibleRow(11L, "99");
+        hidden.setIsPosted("N");
+        smScoreTop5SnapshotService.onStrategyChanged(11L, hidden);
+        smScoreTop5SnapshotService.onStrategyChanged(12L, null);
+        smScoreTop5SnapshotService.getTop5();
+        verify(strategyRepository, times(1)).findByIsApprovedAndIsPosted(eq("Y"), eq("Y"), any(Pageable.class));
+
+        // 5위 이상 점수의 공개 전략
+        smScoreTop5SnapshotService.onStrategyChanged(13L, visibleRow(13L, "55"));
+        smScoreTop5SnapshotService.getTop5();
+        verify(strategyRepository, times(2)).findByIsApprovedAndIsPosted(eq("Y"), eq("Y"), any(Pageable.class));
+
+        // 상위 5개에 포함된 전략 (삭제)
+        smScoreTop5SnapshotService.onStrategyChanged(3L, null);
+        smScoreTop5SnapshotService.getTop5();
+        verify(strategyRepository, times(3)).findByIsApprovedAndIsPosted(eq("Y"), eq("Y"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("상위 5개 전략 작성자의 프로필이 바뀌면 커밋 후에만 무효화되는지 테스트")
+    void testOnMemberChanged_invalidatesAfterCommitForTop5Writer() {
+        // Given
+        smScoreTop5SnapshotService.getTop5();
+
+        // When & Then - 상위 5개 전략 작성자가 아닌 회원은 무시
+        smScoreTop5SnapshotService.onMemberChanged("other");
+        smScoreTop5SnapshotService.getTop5();
+        verify(memberRepository, times(1)).findAllById(any());
+
+        // 작성자 프로필 변경은 커밋 후 무효화
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            smScoreTop5SnapshotService.onMemberChanged("trader");
+            smScoreTop5SnapshotService.getTop5();
+            verify(memberRepository, times(1)).findAllById(any());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        smScoreTop5SnapshotService.getTop5();
+        verify(memberRepository, times(2)).findAllById(any());
+    }
+}
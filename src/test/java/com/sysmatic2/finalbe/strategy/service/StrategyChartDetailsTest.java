@@ -0,0 +1,63 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartResponseDto;
+import com.sysmatic2.finalbe.strategy.dto.DailyStatisticsChartSeries;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StrategyChartDetailsTest {
+
+    @InjectMocks
+    private StrategyService strategyService;
+
+    @Mock
+    private StrategyRepository strategyRepo;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("일간 통계가 없으면 예외 발생")
+    void testGetStrategyChartDetails_noData() {
+        // Given
+        when(strategyRepo.findChartDataByOptions(1L, List.of("balance"), null, null))
+                .thenReturn(new DailyStatisticsChartSeries(List.of("balance"), new LocalDate[0], new BigDecimal[1][0]));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> strategyService.getStrategyChartDetails(1L, List.of("balance"), null, null, null));
+        assertEquals("요청하신 데이터가 존재하지 않습니다. 전략 ID: 1", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("일간 통계가 있으면 날짜순 데이터 반환")
+    void testGetStrategyChartDetails_withData() {
+        // Given
+        LocalDate[] dates = {LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)};
+        BigDecimal[][] values = {{new BigDecimal("100"), new BigDecimal("110")}};
+        when(strategyRepo.findChartDataByOptions(1L, List.of("balance"), null, null))
+                .thenReturn(new DailyStatisticsChartSeries(List.of("balance"), dates, values));
+
+        // When
+        DailyStatisticsChartResponseDto response =
+                strategyService.getStrategyChartDetails(1L, List.of("balance"), null, null, null);
+
+        // Then
+        assertEquals(List.of(new BigDecimal("100"), new BigDecimal("110")), response.getData().get("balance"));
+        assertEquals(2, response.getTotalPoints());
+    }
+}
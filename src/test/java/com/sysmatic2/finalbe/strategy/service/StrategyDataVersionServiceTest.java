@@ -0,0 +1,126 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.dto.StrategyDataVersionDto;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StrategyDataVersionServiceTest {
+
+    @InjectMocks
+    private StrategyDataVersionService strategyDataVersionService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(strategyDataVersionService, "cacheTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(strategyDataVersionService, "maxEntries", 100);
+        when(strategyRepository.findDataVersionByStrategyId(1L)).thenReturn(Optional.of(
+                new StrategyDataVersionDto(1L, 3L, LocalDateTime.of(2024, 2, 1, 9, 0), "Y", "Y", "trader")));
+    }
+
+    @Test
+    @DisplayName("ETag가 현재 버전과 같으면 304, 다르면 ETag/Last-Modified를 설정하고 응답 생성")
+    void checkNotModified_comparesETag() {
+        // Given - 최초 요청
+        MockHttpServletRequest firstRequest = new MockHttpServletRequest("GET", "/api/strategies/1/statistics");
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+
+        // When
+        boolean firstNotModified = strategyDataVersionService.checkNotModified(
+                new ServletWebRequest(firstRequest, firstResponse), 1L, null);
+
+        // Then
+        assertFalse(firstNotModified);
+        String eTag = firstResponse.getHeader("ETag");
+        assertEquals("W/\"1-3\"", eTag);
+        assertNotNull(firstResponse.getHeader("Last-Modified"));
+        assertEquals("private, no-cache", firstResponse.getHeader("Cache-Control"));
+
+        // Given - 같은 ETag로 재요청
+        MockHttpServletRequest secondRequest = new MockHttpServletRequest("GET", "/api/strategies/1/statistics");
+        secondRequest.addHeader("If-None-Match", eTag);
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+
+        // When
+        boolean secondNotModified = strategyDataVersionService.checkNotModified(
+                new ServletWebRequest(secondRequest, secondResponse), 1L, null);
+
+        // Then - 304, 버전은 보관된 값 사용
+        assertTrue(secondNotModified);
+        assertEquals(304, secondResponse.getStatus());
+        verify(strategyRepository, times(1)).findDataVersionByStrategyId(1L);
+    }
+
+    @Test
+    @DisplayName("버전 증가 후에는 이전 ETag로 304가 아닌 새 응답 생성")
+    void increment_invalidatesCachedVersion() {
+        // Given
+        strategyDataVersionService.getVersion(1L);
+        strategyDataVersionService.increment(1L); // 트랜잭션 밖 - 즉시 제거
+        when(strategyRepository.findDataVersionByStrategyId(1L)).thenReturn(Optional.of(
+                new StrategyDataVersionDto(1L, 4L, LocalDateTime.of(2024, 2, 2, 9, 0), "Y", "Y", "trader")));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/strategies/1");
+        request.addHeader("If-None-Match", "W/\"1-3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean notModified = strategyDataVersionService.checkNotModified(new ServletWebRequest(request, response), 1L, null);
+
+        // Then
+        assertFalse(notModified);
+        assertEquals("W/\"1-4\"", response.getHeader("ETag"));
+        verify(strategyRepository).incrementDataVersion(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("전략이 없으면 조건부 조회를 하지 않고 기존 흐름을 따름")
+    void checkNotModified_missingStrategy() {
+        // Given
+        when(strategyRepository.findDataVersionByStrategyId(2L)).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean notModified = strategyDataVersionService.checkNotModified(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/strategies/2"), response), 2L, null);
+
+        // Then
+        assertFalse(notModified);
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("작성자 프로필 변경은 작성자의 전략 전체 버전을 올리고 보관 중인 버전을 비움")
+    void incrementByWriter_clearsCachedVersions() {
+        // Given
+        strategyDataVersionService.getVersion(1L);
+
+        // When - 트랜잭션 밖 - 즉시 제거
+        strategyDataVersionService.incrementByWriter("trader");
+        strategyDataVersionService.getVersion(1L);
+
+        // Then
+        verify(strategyRepository).incrementDataVersionByWriterId(eq("trader"), any(LocalDateTime.class));
+        verify(strategyRepository, times(2)).findDataVersionByStrategyId(1L);
+    }
+}
@@ -0,0 +1,213 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.strategy.common.SparklineSeries;
+import com.sysmatic2.finalbe.strategy.entity.DailyStatisticsEntity;
+import com.sysmatic2.finalbe.strategy.entity.StrategyLatestStatsEntity;
+import com.sysmatic2.finalbe.strategy.repository.DailyStatisticsRepository;
+import com.sysmatic2.finalbe.strategy.repository.StrategyLatestStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StrategyLatestStatsServiceTest {
+
+    @InjectMocks
+    private StrategyLatestStatsService strategyLatestStatsService;
+
+    @Mock
+    private StrategyLatestStatsRepository strategyLatestStatsRepository;
+
+    @Mock
+    private DailyStatisticsRepository dailyStatisticsRepository;
+
+    @Mock
+    private StrategySearchIndexService strategySearchIndexService;
+
+    @Mock
+    private StrategyDataVersionService strategyDataVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private DailyStatisticsEntity latestDaily() {
+        return DailyStatisticsEntity.builder()
+                .dailyStatisticsId(12L)
+                .date(LocalDate.of(2024, 2, 1))
+                .principal(BigDecimal.valueOf(10000))
+                .balance(BigDecimal.valueOf(10200))
+                .referencePrice(BigDecimal.valueOf(1020))
+                .cumulativeProfitLoss(BigDecimal.valueOf(200))
+                .cumulativeProfitLossRate(BigDecimal.valueOf(0.02))
+                .recentOneYearReturn(BigDecimal.valueOf(0.02))
+                .maxDrawdownRate(BigDecimal.valueOf(-0.03))
+                .strategyOperationDays(3)
+                .kpRatio(BigDecimal.ONE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("기존 스냅샷이 있으면 같은 행에 최신 일간 통계 값을 반영하는지 테스트")
+    void testRefreshLatestStatistics_updatesExistingSnapshot() {
+        // Given
+        Long strategyId = 1L;
+        StrategyLatestStatsEntity snapshot = StrategyLatestStatsEntity.builder()
+                .strategyId(strategyId)
+                .dailyStatisticsId(11L)
+                .date(LocalDate.of(2024, 1, 31))
+                .build();
+        when(strategyLatestStatsRepository.findById(strategyId)).thenReturn(Optional.of(snapshot));
+        when(dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(List.of(strategyId)))
+                .thenReturn(Map.of(strategyId, new long[]{0L, 500_000_000L, 200_000_000L}));
+
+        // When
+        strategyLatestStatsService.refreshLatestStatistics(strategyId, latestDaily());
+
+        // Then
+        verify(strategyLatestStatsRepository, times(1)).save(snapshot);
+        assertEquals(12L, snapshot.getDailyStatisticsId());
+        assertEquals(LocalDate.of(2024, 2, 1), snapshot.getDate());
+        assertEquals(BigDecimal.valueOf(0.02), snapshot.getCumulativeProfitLossRate());
+        assertEquals(BigDecimal.valueOf(-0.03), snapshot.getMaxDrawdownRate());
+        assertEquals(3, snapshot.getStrategyOperationDays());
+        assertEquals(3, SparklineSeries.decode(snapshot.getCumulativeProfitLossRateSparkline()).getCount());
+    }
+
+    @Test
+    @DisplayName("가장 최근 일자로 등록된 경우 이력을 다시 조회하지 않고 스파크라인에 값을 이어 붙이는지 테스트")
+    void testAppendLatestStatistics_appendsSparkline() {
+        // Given: 1/30, 1/31 누적 수익률이 반영된 스냅샷
+        Long strategyId = 1L;
+        List<BigDecimal> history = List.of(BigDecimal.ZERO, BigDecimal.valueOf(0.05));
+        StrategyLatestStatsEntity snapshot = StrategyLatestStatsEntity.builder()
+                .strategyId(strategyId)
+                .cumulativeProfitLossRateSparkline(SparklineSeries.of(history).encode())
+                .build();
+        when(strategyLatestStatsRepository.findByIdForUpdate(strategyId)).thenReturn(Optional.of(snapshot));
+
+        // When: 2/1 데이터 추가
+        strategyLatestStatsService.appendLatestStatistics(strategyId, latestDaily());
+
+        // Then: 잠금 조회한 스냅샷에 이어 붙임
+        verify(strategyLatestStatsRepository, never()).findById(any());
+        verify(dailyStatisticsRepository, never()).findCumulativeProfitLossRateSeriesByStrategyIds(any());
+        assertEquals(List.of(new BigDecimal("0.000000"), new BigDecimal("0.050000"), new BigDecimal("0.020000")),
+                SparklineSeries.decodePoints(snapshot.getCumulativeProfitLossRateSparkline()));
+        assertEquals(12L, snapshot.getDailyStatisticsId());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 전략 ID를 PK로 새로 생성하고, 남은 일간 통계가 없으면 삭제하는지 테스트")
+    void testRefreshLatestStatistics_createsAndDeletesSnapshot() {
+        // Given
+        Long strategyId = 1L;
+        when(strategyLatestStatsRepository.findById(strategyId)).thenReturn(Optional.empty());
+        when(dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(List.of(strategyId)))
+                .thenReturn(Map.of(strategyId, new long[]{0L, 200_000_000L}));
+
+        // When: 최신 데이터 등록 후 전체 삭제
+        strategyLatestStatsService.refreshLatestStatistics(strategyId, latestDaily());
+        strategyLatestStatsService.refreshLatestStatistics(strategyId, null);
+
+        // Then
+        verify(strategyLatestStatsRepository, times(1)).save(argThat(snapshot ->
+                strategyId.equals(snapshot.getStrategyId()) && Long.valueOf(12L).equals(snapshot.getDailyStatisticsId())
+                        && SparklineSeries.decode(snapshot.getCumulativeProfitLossRateSparkline()).getCount() == 2));
+        verify(strategyLatestStatsRepository, times(1)).deleteByStrategyId(strategyId);
+    }
+
+    @Test
+    @DisplayName("스파크라인이 없는 스냅샷은 누적 수익률 이력을 전략별로 조회하지 않고 한 번에 조회해 생성하는지 테스트")
+    void testBackfillMissingSnapshots_loadsSeriesInBatch() {
+        // Given: 스파크라인이 없는 스냅샷 3개
+        List<StrategyLatestStatsEntity> snapshots = List.of(
+                StrategyLatestStatsEntity.builder().strategyId(1L).build(),
+                StrategyLatestStatsEntity.builder().strategyId(2L).build(),
+                StrategyLatestStatsEntity.builder().strategyId(3L).build());
+        when(strategyLatestStatsRepository.findSnapshotsWithoutCurrentSparkline(0L, 500)).thenReturn(snapshots);
+        when(dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, new long[]{0L, 100_000_000L},
+                2L, new long[]{0L},
+                3L, new long[0]));
+
+        // When
+        strategyLatestStatsService.backfillMissingSnapshots();
+
+        // Then
+        verify(dailyStatisticsRepository, times(1)).findCumulativeProfitLossRateSeriesByStrategyIds(any());
+        assertEquals(List.of(new BigDecimal("0.000000"), new BigDecimal("0.010000")),
+                SparklineSeries.decodePoints(snapshots.get(0).getCumulativeProfitLossRateSparkline()));
+        assertEquals(1, SparklineSeries.decode(snapshots.get(1).getCumulativeProfitLossRateSparkline()).getCount());
+        assertEquals(List.of(), SparklineSeries.decodePoints(snapshots.get(2).getCumulativeProfitLossRateSparkline()));
+        verify(strategyLatestStatsRepository, times(1)).saveAll(snapshots);
+    }
+
+    @Test
+    @DisplayName("스파크라인 생성은 전략 ID 순으로 500개씩 나눠 묶음마다 트랜잭션 1개로 처리하는지 테스트")
+    void testBackfillMissingSnapshots_processesInChunks() {
+        // Given: 스파크라인이 없는 스냅샷 501개
+        List<StrategyLatestStatsEntity> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            firstChunk.add(StrategyLatestStatsEntity.builder().strategyId(id).build());
+        }
+        List<StrategyLatestStatsEntity> secondChunk = List.of(StrategyLatestStatsEntity.builder().strategyId(501L).build());
+        when(strategyLatestStatsRepository.findSnapshotsWithoutCurrentSparkline(0L, 500)).thenReturn(firstChunk);
+        when(strategyLatestStatsRepository.findSnapshotsWithoutCurrentSparkline(500L, 500)).thenReturn(secondChunk);
+        when(dailyStatisticsRepository.findCumulativeProfitLossRateSeriesByStrategyIds(any())).thenAnswer(invocation -> {
+            Map<Long, long[]> seriesMap = new HashMap<>();
+            for (Long strategyId : invocation.<List<Long>>getArgument(0)) {
+                seriesMap.put(strategyId, new long[]{0L});
+            }
+            return seriesMap;
+        });
+
+        // When
+        strategyLatestStatsService.backfillMissingSnapshots();
+
+        // Then: 스냅샷 생성 1회 + 묶음 2개, 묶음마다 이력 조회와 저장 1회
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(dailyStatisticsRepository, times(2)).findCumulativeProfitLossRateSeriesByStrategyIds(any());
+        verify(dailyStatisticsRepository, times(1)).findCumulativeProfitLossRateSeriesByStrategyIds(List.of(501L));
+        verify(strategyLatestStatsRepository, times(1)).saveAll(firstChunk);
+        verify(strategyLatestStatsRepository, times(1)).saveAll(secondChunk);
+        assertEquals(1, SparklineSeries.decode(secondChunk.get(0).getCumulativeProfitLossRateSparkline()).getCount());
+    }
+
+    @Test
+    @DisplayName("전략 ID 목록의 스냅샷을 PK로 한 번에 조회해 전략 ID별 Map으로 반환하는지 테스트")
+    void testGetLatestStatisticsMap() {
+        // Given
+        StrategyLatestStatsEntity first = StrategyLatestStatsEntity.builder().strategyId(1L).build();
+        StrategyLatestStatsEntity second = StrategyLatestStatsEntity.builder().strategyId(2L).build();
+        when(strategyLatestStatsRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(first, second));
+
+        // When
+        Map<Long, StrategyLatestStatsEntity> result = strategyLatestStatsService.getLatestStatisticsMap(List.of(1L, 2L, 3L));
+
+        // Then: 일간 통계가 없는 전략(3)은 포함되지 않음
+        assertEquals(2, result.size());
+        assertSame(first, result.get(1L));
+        assertSame(second, result.get(2L));
+        verify(strategyLatestStatsRepository, times(1)).findAllById(any());
+    }
+}
@@ -0,0 +1,120 @@
+package com.sysmatic2.finalbe.strategy.service;
+
+import com.sysmatic2.finalbe.common.ListingCountCache;
+import com.sysmatic2.finalbe.strategy.common.StrategySearchIndex;
+import com.sysmatic2.finalbe.strategy.dto.SearchOptionsDto;
+import com.sysmatic2.finalbe.strategy.dto.StrategySearchIndexRow;
+import com.sysmatic2.finalbe.strategy.repository.StrategyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StrategySearchIndexServiceTest {
+
+    @InjectMocks
+    private StrategySearchIndexService strategySearchIndexService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private ListingCountCache listingCountCache;
+
+    @Mock
+    private SmScoreTop5SnapshotService smScoreTop5SnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private StrategySearchIndexRow row(long strategyId, int smScore) {
+        StrategySearchIndexRow row = new StrategySearchIndexRow();
+        row.setStrategyId(strategyId);
+        row.setTradingTypeId(1);
+        row.setTradingCycleId(1);
+        row.setStrategyStatusCode("STRATEGY_OPERATION_UNDER_MANAGEMENT");
+        row.setMinInvestmentAmount("1000만원 이하");
+        row.setStrategyTitle("Strategy " + strategyId);
+        row.setIsPosted("Y");
+        row.setIsApproved("Y");
+        row.setSmScore(BigDecimal.valueOf(smScore));
+        row.setFollowersCount(0L);
+        row.setInvestmentAssetClassesIds(new ArrayList<>(List.of(1)));
+        return row;
+    }
+
+    @Test
+    @DisplayName("전체 재적재 중에 반영된 변경은 재적재가 읽은 데이터로 덮어써지지 않는다")
+    void testRebuild_keepsChangesMadeDuringRebuild() {
+        // Given: 재적재가 전략 1, 2를 읽은 뒤, 교체 전에 전략 2 삭제와 전략 3 등록이 반영됨
+        StrategySearchIndexRow newRow = row(3L, 90);
+        when(strategyRepository.findSearchIndexRows(List.of(2L))).thenReturn(List.of());
+        when(strategyRepository.findSearchIndexRows(List.of(3L))).thenReturn(List.of(newRow));
+        when(strategyRepository.findSearchIndexRows(null)).thenAnswer(invocation -> {
+            List<StrategySearchIndexRow> snapshot = List.of(row(1L, 50), row(2L, 60));
+            strategySearchIndexService.markChanged(2L);
+            strategySearchIndexService.markChanged(3L);
+            return snapshot;
+        });
+
+        // When
+        strategySearchIndexService.scheduledRebuild();
+
+        // Then: 변경이 교체 후 다시 반영됨 (SM-Score 내림차순)
+        StrategySearchIndex index = (StrategySearchIndex) ReflectionTestUtils.getField(strategySearchIndexService, "index");
+        assertArrayEquals(new long[]{3L, 1L}, index.search(new SearchOptionsDto(), 0, 10).strategyIds());
+        verify(smScoreTop5SnapshotService, times(2)).onStrategyChanged(3L, newRow);
+        assertTrue(strategySearchIndexService.supports(new SearchOptionsDto()));
+    }
+
+    @Test
+    @DisplayName("SM-SCORE만 바뀐 경우 인덱스 점수와 상위 5개 위젯만 갱신하고 목록 개수 캐시는 무효화하지 않는다")
+    void testApplySmScores_keepsListingCounts() {
+        // Given
+        when(strategyRepository.findSearchIndexRows(null)).thenReturn(List.of(row(1L, 50), row(2L, 60)));
+        strategySearchIndexService.scheduledRebuild();
+        clearInvocations(listingCountCache, smScoreTop5SnapshotService);
+
+        // When
+        strategySearchIndexService.applySmScores(new long[]{1L, 2L}, new BigDecimal[]{BigDecimal.valueOf(90), BigDecimal.valueOf(10)}, 2);
+
+        // Then
+        StrategySearchIndex index = (StrategySearchIndex) ReflectionTestUtils.getField(strategySearchIndexService, "index");
+        assertArrayEquals(new long[]{1L, 2L}, index.search(new SearchOptionsDto(), 0, 10).strategyIds());
+        verify(smScoreTop5SnapshotService, times(1)).invalidate();
+        verifyNoInteractions(listingCountCache);
+    }
+
+    @Test
+    @DisplayName("커밋 후 반영에 실패해도 예외를 던지지 않는다 (주기적인 전체 재적재에서 맞춤)")
+    void testMarkChanged_refreshFailureIsNotThrown() {
+        // Given
+        when(strategyRepository.findSearchIndexRows(List.of(1L))).thenThrow(new IllegalStateException("db down"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            strategySearchIndexService.markChanged(1L);
+
+            // When & Then
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                assertDoesNotThrow(synchronization::afterCommit);
+                synchronization.afterCompletion(0);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sysmatic2.finalbe.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * N-gram 색인 검색과 DB LIKE '%키워드%' 검색의 검색 시간 비교.
+ * - DB 검색은 전략명 키워드 검색(strategyTitle.containsIgnoreCase)이 만드는 것과 같은 형태의 SQL
+ *   (lower(strategy_title) like ? escape '!')을 인메모리 H2의 10만 행 테이블에 JDBC로 실행합니다.
+ *   (테스트 환경에서는 애플리케이션 컨텍스트를 띄울 수 없으므로 리포지토리 대신 같은 SQL을 직접 실행)
+ * - 네트워크 왕복이 없는 인메모리 DB이므로 실제 MySQL보다 DB 쪽에 유리한 비교입니다.
+ * - 실행: mvn test -Dtest=NGramIndexBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NGramIndexBenchmarkTest {
+    private static final int DOCUMENT_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+    private static final String[] WORDS = {"삼성", "전자", "모멘텀", "추세", "추종", "alpha", "beta", "퀀트", "swing", "단타",
+            "kospi", "선물", "옵션", "gold", "변동성", "돌파", "평균회귀", "나스닥", "레버리지", "시스템"};
+    private static final String[] KEYWORDS = {"삼성전자", "모멘텀", "평균회귀 전략", "kospi", "nasdaq", "돌파", "gold7", "퀀트42"};
+
+    @Test
+    @DisplayName("10만 건 전략명에서 N-gram 색인 검색과 DB LIKE 검색 시간 비교")
+    void benchmarkSearch() throws Exception {
+        // Given
+        Random random = new Random(100_000);
+        Map<Integer, String> documents = new HashMap<>();
+        for (int id = 0; id < DOCUMENT_COUNT; id++) {
+            StringBuilder title = new StringBuilder();
+            int wordCount = 2 + random.nextInt(3);
+            for (int i = 0; i < wordCount; i++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(i + 1 < wordCount && random.nextBoolean() ? " " : "");
+            }
+            title.append(random.nextInt(1000));
+            documents.put(id, title.toString());
+        }
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:ngram_benchmark")) {
+            createStrategyTable(connection, documents);
+            benchmark(connection, documents);
+        }
+    }
+
+    private void benchmark(Connection connection, Map<Integer, String> documents) throws Exception {
+
+        long buildStart = System.nanoTime();
+        NGramIndex<Integer> index = new NGramIndex<>();
+        index.rebuild(documents);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // When
+        long likeNanos = 0;
+        long indexNanos = 0;
+        long matchCount = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+            for (String keyword : KEYWORDS) {
+                long start = System.nanoTime();
+                Set<Integer> expected = searchByLike(connection, keyword);
+                long queried = System.nanoTime();
+                List<Integer> actual = index.search(keyword);
+                long searched = System.nanoTime();
+
+                assertEquals(expected, new HashSet<>(actual), "keyword: " + keyword);
+                if (round >= WARMUP_ROUNDS) {
+                    likeNanos += queried - start;
+                    indexNanos += searched - queried;
+                    matchCount += actual.size();
+                }
+            }
+        }
+
+        // Then
+        int searches = MEASURE_ROUNDS * KEYWORDS.length;
+        System.out.printf("n-gram index build: %d ms (%d documents)%n", buildMillis, DOCUMENT_COUNT);
+        System.out.printf("average matches: %d documents/search%n", matchCount / searches);
+        System.out.printf("DB LIKE (H2): %.3f ms/search%n", likeNanos / 1_000_000.0 / searches);
+        System.out.printf("n-gram index: %.3f ms/search%n", indexNanos / 1_000_000.0 / searches);
+    }
+
+    private static void createStrategyTable(Connection connection, Map<Integer, String> documents) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE strategy (strategy_id INT PRIMARY KEY, strategy_title VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE INDEX idx_strategy_title ON strategy (strategy_title)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO strategy VALUES (?, ?)")) {
+            for (Map.Entry<Integer, String> document : documents.entrySet()) {
+                insert.setInt(1, document.getKey());
+                insert.setString(2, document.getValue());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    // strategyTitle.containsIgnoreCase(keyword)가 만드는 조건: lower(title) like lower('%keyword%') escape '!'
+    private static Set<Integer> searchByLike(Connection connection, String keyword) throws Exception {
+        String pattern = "%" + keyword.toLowerCase(Locale.ROOT)
+                .replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        Set<Integer> result = new HashSet<>();
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT strategy_id FROM strategy WHERE lower(strategy_title) LIKE ? ESCAPE '!'")) {
+            query.setString(1, pattern);
+            try (ResultSet resultSet = query.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getInt(1));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sysmatic2.finalbe.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NGramIndexTest {
+    private static final String[] WORDS = {"삼성", "전자", "모멘텀", "추세", "추종", "alpha", "Beta", "퀀트", "Swing", "단타", "KOSPI", "선물", "옵션", "gold"};
+
+    @Test
+    @DisplayName("임의의 한글/영문 문서와 키워드에서 색인 검색 결과가 부분 문자열 포함(LIKE) 결과와 같은지 테스트")
+    void testSearch_matchesContainsScan() {
+        // Given
+        Random random = new Random(16);
+        NGramIndex<Long> index = new NGramIndex<>();
+        Map<Long, String> documents = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            String title = randomTitle(random);
+            documents.put(id, title);
+            index.put(id, title);
+        }
+
+        // When & Then
+        List<String> keywords = new ArrayList<>(List.of("삼", "성전", "삼성 전", "ALPHA", "ph", "a", "모멘텀 추", "없는키워드", "k", "선물옵"));
+        for (int i = 0; i < 50; i++) {
+            String title = documents.get((long) random.nextInt(2000) + 1);
+            int from = random.nextInt(title.length());
+            keywords.add(title.substring(from, Math.min(title.length(), from + 1 + random.nextInt(5))));
+        }
+        for (String keyword : keywords) {
+            Set<Long> expected = documents.entrySet().stream()
+                    .filter(entry -> entry.getValue().toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT)))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            List<Long> actual = index.search(keyword);
+            assertEquals(expected, new HashSet<>(actual), "keyword: " + keyword);
+            assertEquals(actual.size(), new HashSet<>(actual).size());
+        }
+    }
+
+    @Test
+    @DisplayName("문서 갱신/삭제가 검색 결과에 반영되고, 조합형(NFD) 한글 키워드도 검색되는지 테스트")
+    void testPutRemove_updatesPostings() {
+        // Given
+        NGramIndex<String> index = new NGramIndex<>();
+        index.put("m1", "삼성트레이더");
+        index.put("m2", "퀀트왕");
+
+        // When
+        index.put("m1", "추세매매왕");
+        index.remove("m2");
+        index.put("m3", "삼성전자러버");
+
+        // Then
+        assertEquals(List.of("m3"), index.search("삼성"));
+        assertEquals(List.of("m1"), index.search("왕"));
+        assertEquals(List.of("m1"), index.search(Normalizer.normalize("추세매매", Normalizer.Form.NFD)));
+        assertTrue(index.search("퀀트").isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("검색 결과가 일치 > 앞부분 일치 > 단어 시작 일치 > 포함 순으로 정렬되는지 테스트")
+    void testSearch_ranksByRelevance() {
+        // Given
+        NGramIndex<Integer> index = new NGramIndex<>();
+        index.put(1, "나의 모멘텀");
+        index.put(2, "초모멘텀전략");
+        index.put(3, "모멘텀 전략");
+        index.put(4, "모멘텀");
+        index.put(5, "모멘텀 추세 전략");
+
+        // When
+        List<Integer> result = index.search("모멘텀");
+
+        // Then
+        assertEquals(List.of(4, 3, 5, 1, 2), result);
+    }
+
+    private static String randomTitle(Random random) {
+        int wordCount = 1 + random.nextInt(4);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0 && random.nextBoolean()) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            title.append(random.nextInt(100));
+        }
+        return title.toString();
+    }
+}